@@ -4,13 +4,15 @@ import com.egabi.university.config.jwt.JwtConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableConfigurationProperties(JwtConfig.class)
+@EnableScheduling
 public class UniversityApplication {
     
     public static void main(String[] args) {
         SpringApplication.run(UniversityApplication.class, args);
     }
-    
+
 }
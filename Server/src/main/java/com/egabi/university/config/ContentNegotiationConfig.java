@@ -0,0 +1,43 @@
+package com.egabi.university.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuration of the binary formats negotiated alongside JSON.
+ * <p>
+ * Clients may send and accept {@code application/cbor} or {@code application/x-jackson-smile} on every endpoint
+ * that exchanges JSON. Both converters are built from the Boot-configured {@link Jackson2ObjectMapperBuilder},
+ * so they honor the same {@code spring.jackson.*} settings as the JSON converter.
+ * </p>
+ */
+@Configuration
+public class ContentNegotiationConfig {
+    
+    /**
+     * Bean for reading and writing CBOR bodies.
+     *
+     * @param builder the Boot-configured object mapper builder
+     * @return the CBOR message converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+    
+    /**
+     * Bean for reading and writing Smile bodies.
+     *
+     * @param builder the Boot-configured object mapper builder
+     * @return the Smile message converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,48 @@
+package com.egabi.university.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Configuration class for the schedulers running {@link org.springframework.scheduling.annotation.Scheduled} jobs.
+ * <p>
+ * Revoked tokens and security stamps must reach every instance within seconds, so their refresh jobs get a scheduler
+ * of their own and are never queued behind maintenance jobs such as the archive or the counter repair, which may run
+ * for minutes and hold table locks. Every other job runs on the default scheduler, still configured through the
+ * {@code spring.task.scheduling} properties.
+ * </p>
+ */
+@Configuration
+public class SchedulingConfig {
+    
+    /**
+     * Name of the scheduler of the token revocation and security stamp refresh jobs.
+     */
+    public static final String REVOCATION_SCHEDULER = "revocationScheduler";
+    
+    /**
+     * Bean for the default scheduler, declared explicitly since any other scheduler bean replaces Spring Boot's.
+     *
+     * @param builder the builder configured from the {@code spring.task.scheduling} properties
+     * @return the default ThreadPoolTaskScheduler
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+    
+    /**
+     * Bean for the scheduler of the token revocation and security stamp refresh jobs.
+     *
+     * @return a single-thread ThreadPoolTaskScheduler
+     */
+    @Bean(REVOCATION_SCHEDULER)
+    public ThreadPoolTaskScheduler revocationScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("revocation-");
+        return scheduler;
+    }
+}
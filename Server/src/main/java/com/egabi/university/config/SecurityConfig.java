@@ -1,6 +1,8 @@
 package com.egabi.university.config;
 
 import com.egabi.university.config.jwt.JwtFilter;
+import com.egabi.university.config.ratelimit.RateLimitFilter;
+import com.egabi.university.entity.authentication.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +15,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import static com.egabi.university.util.ApiPaths.AUTH;
+import static com.egabi.university.util.ApiPaths.USERS;
 
 /**
  * Configuration for application-wide security settings.
@@ -23,6 +26,7 @@ import static com.egabi.university.util.ApiPaths.AUTH;
 public class SecurityConfig {
     
     private final JwtFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final AuthenticationProvider authenticationProvider;
     
     /**
@@ -39,13 +43,18 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(AUTH + "/**").permitAll()
+                        // Locking accounts and changing roles rotates security stamps of other users
+                        .requestMatchers(USERS + "/**").hasAuthority(Role.ADMIN.name())
+                        // Actuator operations expose captured queries and recordings and run EXPLAIN ANALYZE
+                        .requestMatchers("/actuator/**").hasAuthority(Role.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authenticationProvider(authenticationProvider)
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtFilter.class);
         
         return http.build();
     }
@@ -0,0 +1,176 @@
+package com.egabi.university.config.accesslog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Encodes {@link AccessLogEntry access log entries} as JSON lines, straight into a byte buffer:
+ * <pre>
+ * {"time":"2025-01-31T09:15:02.123Z","method":"GET","route":"/api/courses/{code}","status":200,"user":42,
+ *  "bytes":512,"total_us":1830,"auth_us":95,"controller_us":210,"db_us":1300,"db_statements":2,
+ *  "serialization_us":140}
+ * </pre>
+ * Times are in microseconds, {@code user} is null for anonymous requests and {@code route} is the matched path
+ * pattern, or null when no handler matched. The date and time up to the second is formatted once per second;
+ * everything else is written without intermediate strings. An encoder is used by the writer thread only.
+ */
+final class AccessLogEncoder {
+    
+    /**
+     * Bytes left in the buffer before encoding an entry, enough for any line.
+     */
+    static final int MAX_LINE_BYTES = 8 * 1024;
+    
+    /**
+     * Characters of the method and route written at most.
+     */
+    private static final int MAX_TEXT_LENGTH = 512;
+    
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    
+    private final byte[] digits = new byte[20];
+    private final byte[] secondPrefix = new byte[19];
+    private long cachedSecond = Long.MIN_VALUE;
+    
+    /**
+     * Appends an entry as a line to a buffer holding at least {@link #MAX_LINE_BYTES} bytes.
+     *
+     * @param entry the entry
+     * @param out   the buffer
+     */
+    void encode(AccessLogEntry entry, ByteBuffer out) {
+        putAscii(out, "{\"time\":\"");
+        putTime(out, entry.timeMillis);
+        putAscii(out, "\",\"method\":");
+        putString(out, entry.method);
+        putAscii(out, ",\"route\":");
+        putString(out, entry.route);
+        putAscii(out, ",\"status\":");
+        putLong(out, entry.status);
+        putAscii(out, ",\"user\":");
+        if (entry.userId < 0)
+            putAscii(out, "null");
+        else
+            putLong(out, entry.userId);
+        putAscii(out, ",\"bytes\":");
+        putLong(out, entry.bytes);
+        putAscii(out, ",\"total_us\":");
+        putLong(out, entry.totalNanos / 1_000);
+        putAscii(out, ",\"auth_us\":");
+        putLong(out, entry.authenticationNanos / 1_000);
+        putAscii(out, ",\"controller_us\":");
+        putLong(out, entry.controllerNanos / 1_000);
+        putAscii(out, ",\"db_us\":");
+        putLong(out, entry.databaseNanos / 1_000);
+        putAscii(out, ",\"db_statements\":");
+        putLong(out, entry.statements);
+        putAscii(out, ",\"serialization_us\":");
+        putLong(out, entry.serializationNanos / 1_000);
+        putAscii(out, "}\n");
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Writes an ISO-8601 UTC timestamp with milliseconds.
+     */
+    private void putTime(ByteBuffer out, long timeMillis) {
+        long second = Math.floorDiv(timeMillis, 1_000);
+        if (second != cachedSecond) {
+            LocalDateTime time = LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+            putPadded(secondPrefix, 0, time.getYear(), 4);
+            secondPrefix[4] = '-';
+            putPadded(secondPrefix, 5, time.getMonthValue(), 2);
+            secondPrefix[7] = '-';
+            putPadded(secondPrefix, 8, time.getDayOfMonth(), 2);
+            secondPrefix[10] = 'T';
+            putPadded(secondPrefix, 11, time.getHour(), 2);
+            secondPrefix[13] = ':';
+            putPadded(secondPrefix, 14, time.getMinute(), 2);
+            secondPrefix[16] = ':';
+            putPadded(secondPrefix, 17, time.getSecond(), 2);
+            cachedSecond = second;
+        }
+        out.put(secondPrefix);
+        out.put((byte) '.');
+        int millis = (int) Math.floorMod(timeMillis, 1_000);
+        out.put((byte) ('0' + millis / 100));
+        out.put((byte) ('0' + millis / 10 % 10));
+        out.put((byte) ('0' + millis % 10));
+        out.put((byte) 'Z');
+    }
+    
+    private static void putPadded(byte[] target, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            target[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+    
+    private void putLong(ByteBuffer out, long value) {
+        if (value < 0) {
+            out.put((byte) '-');
+            if (value == Long.MIN_VALUE) {
+                putAscii(out, "9223372036854775808");
+                return;
+            }
+            value = -value;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        out.put(digits, position, digits.length - position);
+    }
+    
+    private static void putAscii(ByteBuffer out, String text) {
+        for (int i = 0; i < text.length(); i++)
+            out.put((byte) text.charAt(i));
+    }
+    
+    /**
+     * Writes a JSON string in UTF-8, or null, truncated to {@link #MAX_TEXT_LENGTH} characters.
+     */
+    private static void putString(ByteBuffer out, String text) {
+        if (text == null) {
+            putAscii(out, "null");
+            return;
+        }
+        out.put((byte) '"');
+        int length = Math.min(text.length(), MAX_TEXT_LENGTH);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.put((byte) '\\');
+                out.put((byte) c);
+            } else if (c < 0x20) {
+                putAscii(out, "\\u00");
+                out.put(HEX[c >> 4]);
+                out.put(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+        out.put((byte) '"');
+    }
+}
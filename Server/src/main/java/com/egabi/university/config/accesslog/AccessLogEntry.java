@@ -0,0 +1,39 @@
+package com.egabi.university.config.accesslog;
+
+import com.egabi.university.config.timing.RequestTimings;
+
+/**
+ * A slot of the {@link AccessLogRingBuffer}, filled by the request thread and read by the writer thread.
+ * Slots are allocated once with the buffer and overwritten for every request.
+ */
+final class AccessLogEntry {
+    
+    long timeMillis;
+    String method;
+    String route;
+    int status;
+    long userId;
+    long bytes;
+    long totalNanos;
+    long authenticationNanos;
+    long controllerNanos;
+    long databaseNanos;
+    int statements;
+    long serializationNanos;
+    
+    void set(long timeMillis, String method, String route, int status, long bytes, long totalNanos,
+             RequestTimings timings) {
+        this.timeMillis = timeMillis;
+        this.method = method;
+        this.route = route;
+        this.status = status;
+        this.userId = timings.userId();
+        this.bytes = bytes;
+        this.totalNanos = totalNanos;
+        this.authenticationNanos = timings.authenticationNanos();
+        this.controllerNanos = timings.controllerNanos();
+        this.databaseNanos = timings.databaseNanos();
+        this.statements = timings.statements();
+        this.serializationNanos = timings.serializationNanos();
+    }
+}
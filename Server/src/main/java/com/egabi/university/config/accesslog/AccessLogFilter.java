@@ -0,0 +1,119 @@
+package com.egabi.university.config.accesslog;
+
+import com.egabi.university.config.timing.RequestTimings;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * AccessLogFilter is the outermost servlet filter: it collects the {@link RequestTimings} of every request and hands
+ * an entry with its route, status, user, response size and phase timings to the {@link AsyncAccessLogAppender}.
+ * <p>
+ * The route is the path pattern of the matched handler, so the log groups requests by endpoint rather than by URI.
+ * The entry of an asynchronous request, such as an event stream, is logged when the request completes, with the
+ * timings collected until its handler returned.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+    
+    private final AsyncAccessLogAppender appender;
+    private final AccessLogProperties properties;
+    
+    public AccessLogFilter(AsyncAccessLogAppender appender, AccessLogProperties properties) {
+        this.appender = appender;
+        this.properties = properties;
+    }
+    
+    /**
+     * Times the request and logs it once the rest of the chain has completed.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain to continue processing the request
+     * @throws ServletException if an error occurs during filtering
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        RequestTimings timings = RequestTimings.start(System.nanoTime());
+        CountingResponseWrapper countingResponse = new CountingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            timings.stop();
+            if (request.isAsyncStarted())
+                request.getAsyncContext().addListener(new AsyncCompletionListener(request, countingResponse,
+                        timings.copy()));
+            else
+                log(request, countingResponse, timings);
+        }
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private void log(HttpServletRequest request, CountingResponseWrapper response, RequestTimings timings) {
+        appender.append(System.currentTimeMillis(), request.getMethod(),
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), response.getStatus(),
+                response.bytesWritten(), System.nanoTime() - timings.startNanos(), timings);
+    }
+    
+    /**
+     * Logs an asynchronous request once it completes, which also follows a timeout or an error.
+     */
+    private final class AsyncCompletionListener implements AsyncListener {
+        
+        private final HttpServletRequest request;
+        private final CountingResponseWrapper response;
+        private final RequestTimings timings;
+        
+        private AsyncCompletionListener(HttpServletRequest request, CountingResponseWrapper response,
+                                        RequestTimings timings) {
+            this.request = request;
+            this.response = response;
+            this.timings = timings;
+        }
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(request, response, timings);
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.egabi.university.config.accesslog;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the access log.
+ * Every request is written as a JSON line to {@link #file} by a background thread, through a ring buffer of
+ * {@link #bufferSize} entries; requests completing while the buffer is full are dropped rather than waiting.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+    
+    /**
+     * Whether requests are logged.
+     */
+    private boolean enabled = true;
+    
+    /**
+     * File the lines are appended to. Rotate it by copying and truncating.
+     */
+    private String file = "logs/access.log";
+    
+    /**
+     * Number of entries of the ring buffer, rounded up to a power of two.
+     */
+    private int bufferSize = 16_384;
+}
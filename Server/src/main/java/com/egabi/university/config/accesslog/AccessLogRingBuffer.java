@@ -0,0 +1,113 @@
+package com.egabi.university.config.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free ring buffer of preallocated {@link AccessLogEntry} slots, written by any number of request
+ * threads and read by a single writer thread.
+ * <p>
+ * A producer claims the next sequence with a compare-and-set, fills the slot of that sequence and publishes it by
+ * storing the sequence in the slot's published marker. The consumer reads the slot of the next sequence once its
+ * marker matches, then releases it. A producer never waits: when every slot is claimed and not yet released, the
+ * entry is dropped and counted.
+ * </p>
+ */
+final class AccessLogRingBuffer {
+    
+    private final AccessLogEntry[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    
+    /**
+     * Next sequence to read, only written by the consumer.
+     */
+    private volatile long consumed;
+    
+    AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.entries = new AccessLogEntry[size];
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new AccessLogEntry();
+            published.set(i, -1);
+        }
+    }
+    
+    // ================================================================
+    // Producer Methods
+    // ================================================================
+    
+    /**
+     * Claims the next slot.
+     *
+     * @return the sequence of the slot, or -1 if the buffer is full and the entry is dropped
+     */
+    long tryClaim() {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= entries.length) {
+                dropped.increment();
+                return -1;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+    
+    /**
+     * Returns the slot of a claimed sequence, to be filled before it is published.
+     */
+    AccessLogEntry entry(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+    
+    /**
+     * Makes a filled slot visible to the consumer.
+     */
+    void publish(long sequence) {
+        published.setRelease((int) sequence & mask, sequence);
+    }
+    
+    // ================================================================
+    // Consumer Methods
+    // ================================================================
+    
+    /**
+     * Returns the next published slot, to be {@link #release() released} once read.
+     *
+     * @return the slot, or null if the next sequence is not published yet
+     */
+    AccessLogEntry poll() {
+        long next = consumed;
+        int index = (int) next & mask;
+        return published.getAcquire(index) == next ? entries[index] : null;
+    }
+    
+    /**
+     * Hands the slot returned by {@link #poll()} back to the producers.
+     */
+    void release() {
+        consumed = consumed + 1;
+    }
+    
+    // ================================================================
+    // Statistics
+    // ================================================================
+    
+    int capacity() {
+        return entries.length;
+    }
+    
+    long pending() {
+        return claimed.get() - consumed;
+    }
+    
+    long dropped() {
+        return dropped.sum();
+    }
+}
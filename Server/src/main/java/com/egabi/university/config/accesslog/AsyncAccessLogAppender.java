@@ -0,0 +1,168 @@
+package com.egabi.university.config.accesslog;
+
+import com.egabi.university.config.timing.RequestTimings;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends access log entries to a file from a dedicated writer thread.
+ * <p>
+ * Request threads copy their entry into a slot of the {@link AccessLogRingBuffer} and return; they never block on
+ * the file or on each other, and drop the entry when the buffer is full. The writer thread encodes the published
+ * entries into a direct buffer and writes it to the file when it is nearly full or when no entry is pending, then
+ * sleeps briefly while the buffer stays empty. Dropped and pending entries are exported as the
+ * {@code access.log.dropped} counter and the {@code access.log.pending} gauge.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AsyncAccessLogAppender {
+    
+    private static final long MIN_IDLE_NANOS = Duration.ofMillis(1).toNanos();
+    private static final long MAX_IDLE_NANOS = Duration.ofMillis(50).toNanos();
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+    
+    private final AccessLogRingBuffer ringBuffer;
+    private final AccessLogEncoder encoder = new AccessLogEncoder();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private final FileChannel channel;
+    private final Thread writer;
+    
+    private volatile boolean running;
+    
+    public AsyncAccessLogAppender(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.ringBuffer = new AccessLogRingBuffer(properties.getBufferSize());
+        FunctionCounter.builder("access.log.dropped", ringBuffer, AccessLogRingBuffer::dropped)
+                .description("Access log entries dropped because the buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("access.log.pending", ringBuffer, AccessLogRingBuffer::pending)
+                .description("Access log entries waiting to be written")
+                .register(meterRegistry);
+        
+        if (!properties.isEnabled()) {
+            this.channel = null;
+            this.writer = null;
+            return;
+        }
+        this.channel = open(Path.of(properties.getFile()));
+        this.running = true;
+        this.writer = Thread.ofPlatform().name("access-log-writer").daemon().start(this::drain);
+    }
+    
+    /**
+     * Hands an entry to the writer thread, without blocking.
+     *
+     * @param timeMillis the time the request completed
+     * @param method     the HTTP method
+     * @param route      the matched path pattern, or null
+     * @param status     the response status
+     * @param bytes      the bytes of the response body
+     * @param totalNanos the time spent on the request
+     * @param timings    the phase timings of the request
+     * @return false if the log is disabled or the entry was dropped
+     */
+    public boolean append(long timeMillis, String method, String route, int status, long bytes, long totalNanos,
+                          RequestTimings timings) {
+        if (!running)
+            return false;
+        long sequence = ringBuffer.tryClaim();
+        if (sequence < 0)
+            return false;
+        ringBuffer.entry(sequence).set(timeMillis, method, route, status, bytes, totalNanos, timings);
+        ringBuffer.publish(sequence);
+        return true;
+    }
+    
+    /**
+     * Stops the writer thread once the published entries are written, and closes the file.
+     */
+    @PreDestroy
+    public void close() {
+        if (writer == null)
+            return;
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close the access log: {}", e.getMessage());
+        }
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Body of the writer thread: writes the entries as they are published until the appender is closed.
+     */
+    private void drain() {
+        long idleNanos = MIN_IDLE_NANOS;
+        while (true) {
+            AccessLogEntry entry = ringBuffer.poll();
+            if (entry == null) {
+                flush();
+                if (!running)
+                    return;
+                LockSupport.parkNanos(idleNanos);
+                idleNanos = Math.min(MAX_IDLE_NANOS, idleNanos * 2);
+                continue;
+            }
+            idleNanos = MIN_IDLE_NANOS;
+            if (buffer.remaining() < AccessLogEncoder.MAX_LINE_BYTES)
+                flush();
+            encoder.encode(entry, buffer);
+            entry.method = null;
+            entry.route = null;
+            ringBuffer.release();
+        }
+    }
+    
+    /**
+     * Writes the encoded lines to the file. Lines that cannot be written are discarded.
+     */
+    private void flush() {
+        if (buffer.position() == 0)
+            return;
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        } catch (IOException e) {
+            log.warn("Could not write the access log: {}", e.getMessage());
+        } finally {
+            buffer.clear();
+        }
+    }
+    
+    private static FileChannel open(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null)
+                Files.createDirectories(parent);
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the access log " + file, e);
+        }
+    }
+}
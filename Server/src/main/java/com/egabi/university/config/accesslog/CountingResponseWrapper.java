@@ -0,0 +1,114 @@
+package com.egabi.university.config.accesslog;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Response wrapper counting the bytes written to the body. Characters written through the writer are counted as one
+ * byte each, which is exact for the ASCII bodies it is used for; binary and JSON bodies go through the stream.
+ */
+final class CountingResponseWrapper extends HttpServletResponseWrapper {
+    
+    private long bytes;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    
+    CountingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+    
+    long bytesWritten() {
+        return bytes;
+    }
+    
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null)
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        return outputStream;
+    }
+    
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null)
+            writer = new CountingWriter(super.getWriter());
+        return writer;
+    }
+    
+    /**
+     * Output stream counting the bytes written to the response.
+     */
+    private final class CountingOutputStream extends ServletOutputStream {
+        
+        private final ServletOutputStream delegate;
+        
+        private CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            bytes++;
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            bytes += len;
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+        
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+        
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+    
+    /**
+     * Writer counting the characters written to the response.
+     */
+    private final class CountingWriter extends PrintWriter {
+        
+        private CountingWriter(PrintWriter delegate) {
+            super(delegate);
+        }
+        
+        @Override
+        public void write(int c) {
+            super.write(c);
+            bytes++;
+        }
+        
+        @Override
+        public void write(char[] buf, int off, int len) {
+            super.write(buf, off, len);
+            bytes += len;
+        }
+        
+        @Override
+        public void write(String s, int off, int len) {
+            super.write(s, off, len);
+            bytes += len;
+        }
+    }
+}
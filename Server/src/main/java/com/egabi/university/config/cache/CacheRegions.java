@@ -0,0 +1,49 @@
+package com.egabi.university.config.cache;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions.
+ * Every region is created up front by {@link CatalogCacheConfig}, so a mapping that refers to an unknown region
+ * fails at startup instead of silently creating an unbounded cache.
+ */
+public final class CacheRegions {
+    
+    // Entity regions
+    public static final String FACULTY = "catalog.faculty";
+    public static final String DEPARTMENT = "catalog.department";
+    public static final String LEVEL = "catalog.level";
+    public static final String COURSE = "catalog.course";
+    
+    // Collection regions
+    public static final String FACULTY_DEPARTMENTS = "catalog.faculty.departments";
+    public static final String DEPARTMENT_COURSES = "catalog.department.courses";
+    public static final String LEVEL_COURSES = "catalog.level.courses";
+    public static final String COURSE_PREREQUISITES = "catalog.course.prerequisites";
+    
+    // Query regions
+    public static final String CATALOG_QUERIES = "catalog.queries";
+    
+    /**
+     * Regions holding catalog entities and their collections.
+     */
+    public static final List<String> ENTITY_REGIONS = List.of(FACULTY, DEPARTMENT, LEVEL, COURSE,
+            FACULTY_DEPARTMENTS, DEPARTMENT_COURSES, LEVEL_COURSES, COURSE_PREREQUISITES);
+    
+    /**
+     * Regions holding query results, including the Hibernate default one.
+     */
+    public static final List<String> QUERY_REGIONS = List.of(CATALOG_QUERIES,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+    
+    /**
+     * Region holding the last update time of every table, used to invalidate query results.
+     * It must never evict nor expire entries.
+     */
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+    
+    private CacheRegions() {
+    }
+}
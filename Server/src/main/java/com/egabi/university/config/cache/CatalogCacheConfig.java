@@ -0,0 +1,98 @@
+package com.egabi.university.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+/**
+ * Configuration class for the Hibernate second-level and query caches of the catalog entities.
+ * <p>
+ * The regions live in a Caffeine JCache manager owned by the application, each bounded by the size and time to live
+ * set in {@link CatalogCacheProperties}. Hit and miss counts are published through the Hibernate statistics
+ * metrics of actuator ({@code hibernate.second.level.cache.requests} and {@code hibernate.cache.query.requests}).
+ * </p>
+ */
+@Configuration
+public class CatalogCacheConfig {
+    
+    /**
+     * Bean for the JCache manager holding every second-level cache region.
+     *
+     * @param properties the catalog cache properties
+     * @return a CacheManager with all regions created
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager catalogCacheManager(CatalogCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        
+        for (String region : CacheRegions.ENTITY_REGIONS)
+            createRegion(cacheManager, region, properties.getEntities(), properties);
+        for (String region : CacheRegions.QUERY_REGIONS)
+            createRegion(cacheManager, region, properties.getQueries(), properties);
+        
+        // Query results are only valid while the update timestamps are kept, so this region is unbounded
+        createRegion(cacheManager, CacheRegions.UPDATE_TIMESTAMPS, new CatalogCacheProperties.Region(), properties);
+        
+        return cacheManager;
+    }
+    
+    /**
+     * Bean that plugs the cache manager into Hibernate, or disables both caches when the catalog cache is off.
+     *
+     * @param properties   the catalog cache properties
+     * @param cacheManager the JCache manager holding the regions
+     * @return a HibernatePropertiesCustomizer instance
+     */
+    @Bean
+    public HibernatePropertiesCustomizer catalogCacheCustomizer(CatalogCacheProperties properties,
+                                                                CacheManager cacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.isEnabled());
+            if (!properties.isEnabled())
+                return;
+            
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            
+            // Evict the cached collections of the inverse side when a department, level or course changes owner
+            hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        };
+    }
+    
+    /**
+     * Creates a region, applying its override on top of the given defaults.
+     *
+     * @param cacheManager the JCache manager
+     * @param region       the region name
+     * @param defaults     the default settings of the region kind
+     * @param properties   the catalog cache properties holding the overrides
+     */
+    private static void createRegion(CacheManager cacheManager, String region, CatalogCacheProperties.Region defaults,
+                                     CatalogCacheProperties properties) {
+        CatalogCacheProperties.Region override = properties.getRegions()
+                .getOrDefault(region, new CatalogCacheProperties.Region());
+        Long maxSize = override.getMaxSize() != null ? override.getMaxSize() : defaults.getMaxSize();
+        Duration ttl = override.getTtl() != null ? override.getTtl() : defaults.getTtl();
+        
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(maxSize != null ? OptionalLong.of(maxSize) : OptionalLong.empty());
+        configuration.setExpireAfterWrite(ttl != null ? OptionalLong.of(ttl.toNanos()) : OptionalLong.empty());
+        
+        if (cacheManager.getCache(region) == null)
+            cacheManager.createCache(region, configuration);
+    }
+}
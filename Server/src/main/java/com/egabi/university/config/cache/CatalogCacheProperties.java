@@ -0,0 +1,61 @@
+package com.egabi.university.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for the catalog second-level cache.
+ * Entity and query regions share a default size and time to live, which can be overridden per region,
+ * e.g. {@code catalog.cache.regions[catalog.course].max-size=50000}.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "catalog.cache")
+public class CatalogCacheProperties {
+    
+    /**
+     * Whether the second-level and query caches are enabled.
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Default settings of the entity and collection regions.
+     */
+    private Region entities = new Region(10_000L, Duration.ofHours(1));
+    
+    /**
+     * Default settings of the query result regions.
+     */
+    private Region queries = new Region(1_000L, Duration.ofMinutes(10));
+    
+    /**
+     * Per-region overrides by region name. Unset values fall back to the defaults of the region kind.
+     */
+    private Map<String, Region> regions = new HashMap<>();
+    
+    /**
+     * Size and time to live of a cache region.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        
+        /**
+         * Maximum number of entries kept in the region.
+         */
+        private Long maxSize;
+        
+        /**
+         * Time after which an entry is evicted since it was written.
+         */
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,129 @@
+package com.egabi.university.config.jfr;
+
+import org.springframework.data.domain.Slice;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Extracts the entity IDs and row counts carried by the custom events. Only called when an event is committed, so
+ * while a recording is running and the call exceeded the threshold.
+ */
+final class EventAttributes {
+    
+    /**
+     * Index of the parameter holding the ID or code of each method, -1 if none. Parameters are found by name, which
+     * the compiler keeps, so values such as passwords or emails are never recorded.
+     */
+    private static final ClassValue<Map<Method, Integer>> KEY_PARAMETERS = new ClassValue<>() {
+        @Override
+        protected Map<Method, Integer> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
+    /**
+     * {@code getId()} accessor of each class, or null if it has none.
+     */
+    private static final ClassValue<MethodHandle> ID_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Method getter = type.getMethod("getId");
+                return MethodHandles.publicLookup().unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+    
+    private EventAttributes() {
+    }
+    
+    /**
+     * Returns the ID or code a call was made for: the first argument whose parameter is named {@code id},
+     * {@code code}, or ends with {@code Id}, {@code Ids} or {@code Code}.
+     *
+     * @param method    the called method
+     * @param arguments the arguments of the call
+     * @return the ID as text, or null if the method takes none
+     */
+    static String keyOf(Method method, Object[] arguments) {
+        int index = KEY_PARAMETERS.get(method.getDeclaringClass()).computeIfAbsent(method, EventAttributes::keyIndex);
+        return index < 0 || index >= arguments.length || arguments[index] == null
+                ? null : String.valueOf(arguments[index]);
+    }
+    
+    /**
+     * Returns the ID of an object: itself for a number or text, the result of its {@code getId()} otherwise.
+     *
+     * @param value the object
+     * @return the ID as text, or null if it has none
+     */
+    static String idOf(Object value) {
+        if (value == null)
+            return null;
+        if (value instanceof Number || value instanceof CharSequence)
+            return value.toString();
+        MethodHandle accessor = ID_ACCESSORS.get(value.getClass());
+        if (accessor == null)
+            return null;
+        try {
+            Object id = accessor.invokeExact(value);
+            return id != null ? id.toString() : null;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Returns the number of rows a repository call returned.
+     *
+     * @param result the result of the call
+     * @return the entities returned, the value of a numeric result, 1 or 0 for a boolean or an optional,
+     * -1 if unknown
+     */
+    static long rowsOf(Object result) {
+        if (result instanceof Collection<?> collection)
+            return collection.size();
+        if (result instanceof Slice<?> slice)
+            return slice.getNumberOfElements();
+        if (result instanceof Optional<?> optional)
+            return optional.isPresent() ? 1 : 0;
+        if (result instanceof Number number)
+            return number.longValue();
+        if (result instanceof Boolean found)
+            return found ? 1 : 0;
+        if (result instanceof int[] counts)
+            return counts.length;
+        return result == null ? -1 : 1;
+    }
+    
+    /**
+     * Returns the number of elements a mapper converted.
+     *
+     * @param source the first argument of the mapper
+     * @return the size of a collection, 1 otherwise
+     */
+    static long elementsOf(Object source) {
+        return source instanceof Collection<?> collection ? collection.size() : 1;
+    }
+    
+    private static int keyIndex(Method method) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            String name = parameters[i].getName();
+            if (name.equals("id") || name.equals("code") || name.endsWith("Id") || name.endsWith("Ids")
+                    || name.endsWith("Code"))
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.egabi.university.config.jfr;
+
+import com.egabi.university.config.jfr.JfrEventInterceptor.Kind;
+import com.egabi.university.config.servertiming.ServerTimingConfig;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Configuration class applying the {@link JfrEventInterceptor} to the validation service, the repositories and the
+ * mappers, the same calls the {@code Server-Timing} header breaks a request into, unless {@code jfr.events-enabled}
+ * is false. The JWT events are emitted by the JWT filter itself.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jfr", name = "events-enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor validationEventAdvisor() {
+        return eventAdvisor(ServerTimingConfig.VALIDATION_POINTCUT, Kind.VALIDATION);
+    }
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryEventAdvisor() {
+        return eventAdvisor(ServerTimingConfig.REPOSITORY_POINTCUT, Kind.REPOSITORY);
+    }
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor mappingEventAdvisor() {
+        return eventAdvisor(ServerTimingConfig.MAPPING_POINTCUT, Kind.MAPPING);
+    }
+    
+    private static Advisor eventAdvisor(String expression, Kind kind) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(expression);
+        return new DefaultPointcutAdvisor(pointcut, new JfrEventInterceptor(kind));
+    }
+}
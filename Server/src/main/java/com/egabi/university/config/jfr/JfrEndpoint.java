@@ -0,0 +1,75 @@
+package com.egabi.university.config.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Actuator endpoint controlling JDK Flight Recorder recordings at {@code /actuator/jfr}.
+ * Writing starts a recording for an optional {@code duration}, such as {@code 30s}; deleting stops it; reading
+ * returns its status, and reading {@code /actuator/jfr/{id}} downloads it, as a snapshot while it runs.
+ * Open the file with JDK Mission Control or {@code jfr print --categories University}.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+    
+    private final JfrRecorder jfrRecorder;
+    
+    /**
+     * Returns the status of the last recording.
+     *
+     * @return the status, or null (404) if no recording was started
+     */
+    @ReadOperation
+    public JfrRecorder.RecordingStatus status() {
+        return jfrRecorder.status();
+    }
+    
+    /**
+     * Downloads the last recording.
+     *
+     * @param id the ID of the recording
+     * @return the recording file, or null (404) if it is not the last recording or has no data
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource download(@Selector long id) {
+        JfrRecorder.RecordingStatus status = jfrRecorder.status();
+        if (status == null || status.id() != id)
+            return null;
+        Path file = jfrRecorder.recordingFile();
+        return file != null ? new FileSystemResource(file) : null;
+    }
+    
+    /**
+     * Starts a recording.
+     *
+     * @param duration the length of the recording, {@code jfr.default-duration} if not given
+     * @return the status of the recording
+     */
+    @WriteOperation
+    public JfrRecorder.RecordingStatus start(@Nullable Duration duration) {
+        return jfrRecorder.start(duration);
+    }
+    
+    /**
+     * Stops the running recording, keeping it for download.
+     *
+     * @return the status of the recording, or null (404) if no recording was started
+     */
+    @DeleteOperation
+    public JfrRecorder.RecordingStatus stop() {
+        return jfrRecorder.stop();
+    }
+}
@@ -0,0 +1,130 @@
+package com.egabi.university.config.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.lang.NonNull;
+
+/**
+ * Emits a JDK Flight Recorder event around every call of the validation service, a repository or a mapper.
+ * <p>
+ * While no recording enables the event, a call costs the creation of an event the JIT eliminates and an enabled
+ * check. Its attributes, such as the entity ID or the rows returned, are only computed for the events committed.
+ * </p>
+ */
+public class JfrEventInterceptor implements MethodInterceptor {
+    
+    /**
+     * Kind of calls an interceptor is applied to, one per event type.
+     */
+    public enum Kind {
+        VALIDATION, REPOSITORY, MAPPING
+    }
+    
+    private static final String APPLICATION_PACKAGE = "com.egabi.university.";
+    
+    private final Kind kind;
+    
+    public JfrEventInterceptor(Kind kind) {
+        this.kind = kind;
+    }
+    
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        return switch (kind) {
+            case VALIDATION -> validation(invocation);
+            case REPOSITORY -> repositoryCall(invocation);
+            case MAPPING -> mapping(invocation);
+        };
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static Object validation(MethodInvocation invocation) throws Throwable {
+        ValidationEvent event = new ValidationEvent();
+        if (!event.isEnabled())
+            return invocation.proceed();
+        
+        event.begin();
+        boolean passed = false;
+        try {
+            Object result = invocation.proceed();
+            passed = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.check = invocation.getMethod().getName();
+                event.entityId = EventAttributes.keyOf(invocation.getMethod(), invocation.getArguments());
+                event.passed = passed;
+                event.commit();
+            }
+        }
+    }
+    
+    private static Object repositoryCall(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled())
+            return invocation.proceed();
+        
+        event.begin();
+        Object result = null;
+        boolean succeeded = false;
+        try {
+            result = invocation.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryName(invocation);
+                event.method = invocation.getMethod().getName();
+                event.entityId = EventAttributes.keyOf(invocation.getMethod(), invocation.getArguments());
+                event.rows = succeeded ? EventAttributes.rowsOf(result) : -1;
+                event.succeeded = succeeded;
+                event.commit();
+            }
+        }
+    }
+    
+    private static Object mapping(MethodInvocation invocation) throws Throwable {
+        MappingEvent event = new MappingEvent();
+        if (!event.isEnabled())
+            return invocation.proceed();
+        
+        event.begin();
+        try {
+            return invocation.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object[] arguments = invocation.getArguments();
+                Object source = arguments.length > 0 ? arguments[0] : null;
+                event.mapper = AopUtils.getTargetClass(invocation.getThis()).getSimpleName();
+                event.method = invocation.getMethod().getName();
+                event.entityId = EventAttributes.idOf(source);
+                event.elements = EventAttributes.elementsOf(source);
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Returns the simple name of the repository interface declared by the application, rather than the name of the
+     * Spring Data proxy or implementation.
+     */
+    private static String repositoryName(MethodInvocation invocation) {
+        Class<?> declaringClass = invocation.getMethod().getDeclaringClass();
+        if (declaringClass.getName().startsWith(APPLICATION_PACKAGE))
+            return declaringClass.getSimpleName();
+        Object target = invocation.getThis();
+        if (target == null)
+            return declaringClass.getSimpleName();
+        for (Class<?> type : target.getClass().getInterfaces())
+            if (type.getName().startsWith(APPLICATION_PACKAGE))
+                return type.getSimpleName();
+        return AopUtils.getTargetClass(target).getSimpleName();
+    }
+}
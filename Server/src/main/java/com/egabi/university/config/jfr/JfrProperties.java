@@ -0,0 +1,53 @@
+package com.egabi.university.config.jfr;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the custom JDK Flight Recorder events and the recordings started through the
+ * {@code jfr} actuator endpoint.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "jfr")
+public class JfrProperties {
+    
+    /**
+     * Whether the validation service, the repositories and the mappers emit events. Read at startup. Events cost a
+     * few nanoseconds while no recording is running.
+     */
+    private boolean eventsEnabled = true;
+    
+    /**
+     * Length of a recording started without a duration.
+     */
+    private Duration defaultDuration = Duration.ofMinutes(1);
+    
+    /**
+     * Longest recording that can be started. Longer durations are shortened to it.
+     */
+    private Duration maxDuration = Duration.ofMinutes(10);
+    
+    /**
+     * Size from which the oldest data of a recording is discarded, in megabytes.
+     */
+    private long maxSizeMb = 100;
+    
+    /**
+     * JFR configuration of the JDK events, {@code default} (about 1% overhead) or {@code profile} (about 2%).
+     */
+    private String settings = "default";
+    
+    /**
+     * Duration from which the custom events are recorded. 0 records every call.
+     */
+    private Duration threshold = Duration.ZERO;
+    
+    /**
+     * Directory holding the recording file. Defaults to a directory under {@code java.io.tmpdir}.
+     */
+    private String directory = System.getProperty("java.io.tmpdir") + "/university-jfr";
+}
@@ -0,0 +1,187 @@
+package com.egabi.university.config.jfr;
+
+import com.egabi.university.exception.ConflictException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs one JDK Flight Recorder recording at a time, with the JDK events of the configured settings and the custom
+ * university events.
+ * <p>
+ * Recordings are bounded: they stop by themselves after their duration, at most {@code jfr.max-duration}, and keep at
+ * most {@code jfr.max-size-mb} of data. A stopped recording is written to {@code jfr.directory}, replacing the
+ * previous one; a running recording can be downloaded as a snapshot of what it holds so far.
+ * </p>
+ */
+@Slf4j
+@Component
+public class JfrRecorder {
+    
+    private static final String FILE_NAME = "university.jfr";
+    private static final String SNAPSHOT_FILE_NAME = "university-snapshot.jfr";
+    private static final List<Class<? extends Event>> EVENTS = List.of(JwtVerificationEvent.class,
+            PrincipalLoadEvent.class, ValidationEvent.class, RepositoryCallEvent.class, MappingEvent.class);
+    /**
+     * JDK events carrying the environment, system properties, JVM arguments or command lines, where secrets such as
+     * {@code JWT_SECRET} live. They are never recorded, whatever the settings.
+     */
+    static final List<String> SENSITIVE_EVENTS = List.of("jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty", "jdk.InitialSecurityProperty", "jdk.JVMInformation", "jdk.SystemProcess");
+    
+    private final JfrProperties properties;
+    private final Path directory;
+    
+    private Recording recording;
+    
+    public JfrRecorder(JfrProperties properties) {
+        this.properties = properties;
+        this.directory = Path.of(properties.getDirectory());
+    }
+    
+    /**
+     * Starts a recording.
+     *
+     * @param duration the length of the recording, {@code jfr.default-duration} if null and at most
+     *                 {@code jfr.max-duration}
+     * @return the status of the recording
+     * @throws ConflictException if a recording is running
+     */
+    public synchronized RecordingStatus start(@Nullable Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING)
+            throw new ConflictException("A recording is already running", "JFR_RECORDING_RUNNING");
+        
+        Duration length = duration == null || duration.isNegative() || duration.isZero()
+                ? properties.getDefaultDuration() : duration;
+        if (length.compareTo(properties.getMaxDuration()) > 0)
+            length = properties.getMaxDuration();
+        
+        close();
+        Recording newRecording = new Recording(settings());
+        for (Class<? extends Event> event : EVENTS)
+            newRecording.enable(event).withThreshold(properties.getThreshold());
+        newRecording.setName("university");
+        newRecording.setToDisk(true);
+        newRecording.setDuration(length);
+        newRecording.setMaxSize(properties.getMaxSizeMb() * 1024 * 1024);
+        try {
+            Files.createDirectories(directory);
+            newRecording.setDestination(directory.resolve(FILE_NAME));
+        } catch (IOException e) {
+            newRecording.close();
+            throw new UncheckedIOException("Could not prepare the recording directory " + directory, e);
+        }
+        newRecording.start();
+        recording = newRecording;
+        log.info("Started JFR recording {} for {}", recording.getId(), length);
+        return status();
+    }
+    
+    /**
+     * Stops the running recording and writes it to its file.
+     *
+     * @return the status of the recording, or null if no recording was started
+     */
+    public synchronized RecordingStatus stop() {
+        if (recording == null)
+            return null;
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped JFR recording {}", recording.getId());
+        }
+        return status();
+    }
+    
+    /**
+     * Returns the status of the last recording.
+     *
+     * @return the status, or null if no recording was started
+     */
+    public synchronized RecordingStatus status() {
+        if (recording == null)
+            return null;
+        return new RecordingStatus(recording.getId(), recording.getState().name(), recording.getStartTime(),
+                recording.getStopTime(), recording.getDuration(), recording.getSize());
+    }
+    
+    /**
+     * Returns the file of the last recording: a snapshot of what it holds so far if it is running, or the file it was
+     * written to once stopped.
+     *
+     * @return the file, or null if no recording was started or it was closed without data
+     */
+    public synchronized Path recordingFile() {
+        if (recording == null)
+            return null;
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                Path snapshot = directory.resolve(SNAPSHOT_FILE_NAME);
+                recording.dump(snapshot);
+                return snapshot;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump the running recording", e);
+        }
+        Path file = recording.getDestination();
+        return file != null && Files.exists(file) ? file : null;
+    }
+    
+    /**
+     * Stops and discards the last recording, keeping its file.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Returns the configured settings with the sensitive events disabled.
+     */
+    private Map<String, String> settings() {
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration(properties.getSettings()).getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Unknown JFR settings " + properties.getSettings(), e);
+        }
+        for (String event : SENSITIVE_EVENTS)
+            settings.put(event + "#enabled", "false");
+        return settings;
+    }
+    
+    /**
+     * Status of a recording.
+     *
+     * @param id       the ID of the recording
+     * @param state    the state, e.g. {@code RUNNING} or {@code STOPPED}
+     * @param start    when the recording started
+     * @param stop     when the recording stopped, or null while it runs
+     * @param duration the length of the recording
+     * @param bytes    the bytes recorded so far
+     */
+    public record RecordingStatus(long id, String state, Instant start, Instant stop, Duration duration, long bytes) {
+    }
+}
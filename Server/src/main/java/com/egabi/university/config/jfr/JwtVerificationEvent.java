@@ -0,0 +1,34 @@
+package com.egabi.university.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Verification of the bearer token of a request, covering its signature, its revocation and its security stamp, or
+ * the load of its user when the token does not carry its claims.
+ */
+@Name("com.egabi.university.JwtVerification")
+@Label("JWT Verification")
+@Category({"University", "Security"})
+@Description("Verification of the bearer token of a request")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+    
+    @Label("Token ID")
+    public String tokenId;
+    
+    @Label("User ID")
+    @Description("ID of the authenticated user, 0 if the request was not authenticated")
+    public long userId;
+    
+    @Label("Claims Only")
+    @Description("Whether the user was built from the token claims without being loaded")
+    public boolean claimsOnly;
+    
+    @Label("Authenticated")
+    public boolean authenticated;
+}
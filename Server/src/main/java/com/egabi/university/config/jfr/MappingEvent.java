@@ -0,0 +1,33 @@
+package com.egabi.university.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * MapStruct conversion between entities and DTOs.
+ */
+@Name("com.egabi.university.Mapping")
+@Label("Mapping")
+@Category({"University", "Mapping"})
+@Description("MapStruct conversion between entities and DTOs")
+@StackTrace(false)
+public class MappingEvent extends Event {
+    
+    @Label("Mapper")
+    public String mapper;
+    
+    @Label("Method")
+    public String method;
+    
+    @Label("Entity ID")
+    @Description("ID of the converted object, if it has one")
+    public String entityId;
+    
+    @Label("Elements")
+    @Description("Elements converted, 1 for a single object")
+    public long elements;
+}
@@ -0,0 +1,23 @@
+package com.egabi.university.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Load of the authenticated user from the database, for tokens that do not carry the user's claims.
+ */
+@Name("com.egabi.university.PrincipalLoad")
+@Label("Principal Load")
+@Category({"University", "Security"})
+@Description("Load of the authenticated user from the database")
+@StackTrace(false)
+public class PrincipalLoadEvent extends Event {
+    
+    @Label("User ID")
+    @Description("ID of the loaded user, 0 if it was not found")
+    public long userId;
+}
@@ -0,0 +1,36 @@
+package com.egabi.university.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Call of a repository, with the rows it returned.
+ */
+@Name("com.egabi.university.RepositoryCall")
+@Label("Repository Call")
+@Category({"University", "Persistence"})
+@Description("Call of a repository")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+    
+    @Label("Repository")
+    public String repository;
+    
+    @Label("Method")
+    public String method;
+    
+    @Label("Entity ID")
+    @Description("ID or code the call was made for, if any")
+    public String entityId;
+    
+    @Label("Rows")
+    @Description("Entities returned, the count or updated rows of numeric results, -1 if unknown")
+    public long rows;
+    
+    @Label("Succeeded")
+    public boolean succeeded;
+}
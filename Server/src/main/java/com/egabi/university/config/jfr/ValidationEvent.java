@@ -0,0 +1,30 @@
+package com.egabi.university.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Call of the validation service, e.g. {@code getCourseByCodeOrThrow}.
+ */
+@Name("com.egabi.university.Validation")
+@Label("Validation")
+@Category({"University", "Validation"})
+@Description("Call of the validation service")
+@StackTrace(false)
+public class ValidationEvent extends Event {
+    
+    @Label("Check")
+    public String check;
+    
+    @Label("Entity ID")
+    @Description("ID or code the check was made for, if any")
+    public String entityId;
+    
+    @Label("Passed")
+    @Description("Whether the check returned without throwing")
+    public boolean passed;
+}
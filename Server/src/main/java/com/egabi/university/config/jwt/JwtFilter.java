@@ -1,13 +1,20 @@
 package com.egabi.university.config.jwt;
 
+import com.egabi.university.config.jfr.JwtVerificationEvent;
+import com.egabi.university.config.jfr.PrincipalLoadEvent;
+import com.egabi.university.config.timing.RequestTimings;
+import com.egabi.university.entity.authentication.Role;
 import com.egabi.university.entity.authentication.User;
 import com.egabi.university.service.authentication.JwtService;
 import com.egabi.university.service.authentication.UserService;
+import com.egabi.university.service.authentication.revocation.SecurityStampService;
+import com.egabi.university.service.authentication.revocation.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,13 +28,33 @@ import java.io.IOException;
  * JwtFilter is a Spring Security filter that processes JWT tokens from incoming HTTP requests.
  * It extracts the JWT from the Authorization header, validates it, and sets the authentication
  * in the security context if the token is valid.
+ * <p>
+ * With {@code jwt.claims-only} enabled, tokens carrying the user ID, role and security stamp authenticate the request
+ * from their verified claims alone, without loading the user; the stamp is checked against the in-memory
+ * {@link SecurityStampService} so a locked user or a changed role takes effect before the token expires.
+ * Tokens without these claims still load the user.
+ * </p>
  */
 @Component
-@RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final SecurityStampService securityStampService;
+    private final boolean claimsOnly;
+    
+    public JwtFilter(JwtService jwtService,
+                     UserService userService,
+                     TokenRevocationService tokenRevocationService,
+                     SecurityStampService securityStampService,
+                     @Value("${jwt.claims-only:true}") boolean claimsOnly) {
+        this.jwtService = jwtService;
+        this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.securityStampService = securityStampService;
+        this.claimsOnly = claimsOnly;
+    }
     
     /**
      * This method is called for each HTTP request to filter and authenticate the request
@@ -47,8 +74,6 @@ public class JwtFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
         
         // Validate that the Authorization header is present and starts with "Bearer "
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -56,16 +81,60 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
         
-        // Extract the JWT from the Authorization header
-        jwt = authHeader.substring(7);
+        // Authenticate from the JWT of the Authorization header, timed as the authentication phase of the request
+        // and recorded as a flight recorder event
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            authenticate(request, authHeader.substring(7), event);
+        } finally {
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null)
+                timings.addAuthentication(System.nanoTime() - start);
+            event.commit();
+        }
         
-        // Extract the userEmail from the JWT
-        userEmail = jwtService.extractUsername(jwt);
+        // Continue the filter chain to the next filter or resource
+        filterChain.doFilter(request, response);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Verifies a JWT and sets the authentication in the security context if the token is valid and not revoked.
+     *
+     * @param request the HTTP request
+     * @param jwt     the JWT of the Authorization header
+     * @param event   the flight recorder event describing the verification
+     */
+    private void authenticate(HttpServletRequest request, String jwt, JwtVerificationEvent event) {
+        // Verify the JWT once, reusing the claims verified by the rate limit filter, and extract the userEmail
+        final Claims claims = verifiedClaims(request, jwt);
+        final String userEmail = claims.getSubject();
+        event.tokenId = claims.getId();
+        
+        // Ignore revoked tokens, checked in memory before the user is loaded
+        if (tokenRevocationService.isRevoked(claims.getId()))
+            return;
         
         // If the userEmail is not null and there is no authentication in the security context,
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            User user = (User) userService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, user)) {
+            // Build the user from the claims when possible, otherwise load it
+            User user = claimsOnly ? userFromClaims(claims) : null;
+            boolean valid;
+            if (user != null) {
+                event.claimsOnly = true;
+                valid = securityStampService.isCurrent(user.getId(),
+                        claims.get(JwtService.SECURITY_STAMP_CLAIM, Long.class));
+            } else {
+                // The signature and expiration are already verified, only the subject is left to match
+                user = loadUser(userEmail);
+                valid = userEmail.equals(user.getUsername());
+            }
+            if (valid) {
                 // Create an authentication token with user details
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         user, null, user.getAuthorities());
@@ -75,10 +144,60 @@ public class JwtFilter extends OncePerRequestFilter {
                 
                 // Set the authentication in the security context
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                event.userId = user.getId() != null ? user.getId() : 0;
+                event.authenticated = true;
             }
         }
+    }
+    
+    /**
+     * Returns the verified claims of a JWT, kept in the request by the filter that verified it first.
+     *
+     * @param request the HTTP request
+     * @param jwt     the JWT of the Authorization header
+     * @return the verified claims of the token
+     */
+    private Claims verifiedClaims(HttpServletRequest request, String jwt) {
+        if (request.getAttribute(JwtService.CLAIMS_ATTRIBUTE) instanceof Claims claims)
+            return claims;
+        return jwtService.extractAllClaims(jwt);
+    }
+    
+    /**
+     * Loads the user of a token that does not carry its claims, recorded as a flight recorder event.
+     *
+     * @param userEmail the subject of the token
+     * @return the user
+     */
+    private User loadUser(String userEmail) {
+        PrincipalLoadEvent event = new PrincipalLoadEvent();
+        event.begin();
+        try {
+            User user = (User) userService.loadUserByUsername(userEmail);
+            event.userId = user.getId() != null ? user.getId() : 0;
+            return user;
+        } finally {
+            event.commit();
+        }
+    }
+    
+    /**
+     * Builds the authenticated user from the verified claims of a token.
+     *
+     * @param claims the verified claims
+     * @return the user, or null if the token does not carry the user ID, role and security stamp
+     */
+    private static User userFromClaims(Claims claims) {
+        Long userId = claims.get(JwtService.USER_ID_CLAIM, Long.class);
+        String role = claims.get(JwtService.ROLE_CLAIM, String.class);
+        if (userId == null || role == null || claims.get(JwtService.SECURITY_STAMP_CLAIM) == null)
+            return null;
         
-        // Continue the filter chain to the next filter or resource
-        filterChain.doFilter(request, response);
+        return User.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .role(Role.valueOf(role))
+                .enabled(true)
+                .build();
     }
 }
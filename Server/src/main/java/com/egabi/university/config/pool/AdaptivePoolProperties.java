@@ -0,0 +1,66 @@
+package com.egabi.university.config.pool;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the adaptive sizing of the connection pools.
+ * The maximum size of every HikariCP pool is kept between {@link #minSize} and {@link #maxSize}, growing while
+ * requests wait for connections and the database keeps up, and shrinking when the database slows down or the pool
+ * stays mostly idle.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "adaptive-pool")
+public class AdaptivePoolProperties {
+    
+    /**
+     * Whether the maximum pool size is adjusted. The configured HikariCP size is used otherwise.
+     */
+    private boolean enabled = false;
+    
+    /**
+     * Lowest maximum pool size the controller shrinks to.
+     */
+    private int minSize = 5;
+    
+    /**
+     * Highest maximum pool size the controller grows to. Should stay below the connections the database accepts,
+     * divided by the number of application instances.
+     */
+    private int maxSize = 30;
+    
+    /**
+     * Interval between two adjustments. Wait time and database latency are averaged over it.
+     */
+    private Duration interval = Duration.ofSeconds(5);
+    
+    /**
+     * Mean connection acquisition time above which the pool grows.
+     */
+    private Duration targetWait = Duration.ofMillis(10);
+    
+    /**
+     * Ratio of the mean statement latency to its baseline above which the database is considered saturated,
+     * so the pool shrinks instead of growing.
+     */
+    private double latencyTolerance = 1.5;
+    
+    /**
+     * Connections added when the pool grows.
+     */
+    private int increaseStep = 2;
+    
+    /**
+     * Connections removed when the pool shrinks.
+     */
+    private int decreaseStep = 1;
+    
+    /**
+     * Consecutive intervals with less than half of the pool in use after which the pool shrinks.
+     */
+    private int idleIntervals = 12;
+}
@@ -0,0 +1,155 @@
+package com.egabi.university.config.pool;
+
+import com.egabi.university.config.pool.PoolSizePolicy.PoolSample;
+import com.egabi.university.config.querylog.SlowQueryLog;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adjusts the maximum size of every HikariCP pool within the bounds of {@link AdaptivePoolProperties}, as decided by
+ * a {@link PoolSizePolicy}.
+ * <p>
+ * Every {@code adaptive-pool.interval}, the mean acquisition time is read from the {@code hikaricp.connections.acquire}
+ * timer of the pool and the mean statement latency from the {@link SlowQueryLog}, which aggregates the statements of
+ * every data source. The new size is applied through the pool's {@link HikariConfigMXBean}: a larger pool opens
+ * connections on demand, while a smaller one retires its idle connections above the minimum idle once they exceed the
+ * idle timeout. Every resize is counted by the {@code hikaricp.connections.resizes} counter, tagged with the pool and
+ * the direction, and {@code hikaricp.connections.max} reflects the current size.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AdaptivePoolSizeController {
+    
+    static final String ACQUIRE_METRIC = "hikaricp.connections.acquire";
+    static final String RESIZE_METRIC = "hikaricp.connections.resizes";
+    
+    private final SlowQueryLog slowQueryLog;
+    private final MeterRegistry meterRegistry;
+    private final AdaptivePoolProperties properties;
+    private final List<PoolState> pools = new ArrayList<>();
+    
+    private SlowQueryLog.ExecutionTotals lastExecutions;
+    
+    public AdaptivePoolSizeController(List<DataSource> dataSources, SlowQueryLog slowQueryLog,
+                                      MeterRegistry meterRegistry, AdaptivePoolProperties properties) {
+        this.slowQueryLog = slowQueryLog;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        for (DataSource dataSource : dataSources) {
+            HikariDataSource hikari = unwrap(dataSource);
+            if (hikari != null)
+                pools.add(new PoolState(hikari, new PoolSizePolicy(properties)));
+        }
+        this.lastExecutions = slowQueryLog.executionTotals();
+    }
+    
+    /**
+     * Adjusts the pools, if adaptive sizing is enabled.
+     */
+    @Scheduled(initialDelayString = "${adaptive-pool.interval:PT5S}", fixedDelayString = "${adaptive-pool.interval:PT5S}")
+    public void scheduledAdjust() {
+        if (properties.isEnabled())
+            adjust();
+    }
+    
+    /**
+     * Samples every started pool over the interval since the last call and applies its new maximum size.
+     */
+    public synchronized void adjust() {
+        SlowQueryLog.ExecutionTotals executions = slowQueryLog.executionTotals();
+        double latencyMillis = meanMillis(executions.count() - lastExecutions.count(),
+                executions.totalNanos() - lastExecutions.totalNanos());
+        lastExecutions = executions;
+        
+        for (PoolState pool : pools)
+            pool.adjust(latencyMillis);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Returns the HikariCP pool behind a data source, possibly wrapped by the slow query log proxy.
+     *
+     * @return the pool, or null if the data source is not a HikariCP pool
+     */
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Returns a mean in milliseconds, or NaN if nothing was observed or the totals were reset.
+     */
+    private static double meanMillis(long count, double totalNanos) {
+        return count <= 0 || totalNanos < 0 ? Double.NaN : totalNanos / count / 1e6;
+    }
+    
+    /**
+     * A pool with its policy and the acquisition totals at the previous adjustment.
+     */
+    private final class PoolState {
+        
+        private final HikariDataSource dataSource;
+        private final PoolSizePolicy policy;
+        private long lastAcquireCount;
+        private double lastAcquireNanos;
+        
+        private PoolState(HikariDataSource dataSource, PoolSizePolicy policy) {
+            this.dataSource = dataSource;
+            this.policy = policy;
+        }
+        
+        private void adjust(double latencyMillis) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+            if (pool == null)
+                return;
+            
+            String name = config.getPoolName();
+            double meanWaitMillis = 0;
+            Timer acquire = meterRegistry.find(ACQUIRE_METRIC).tag("pool", name).timer();
+            if (acquire != null) {
+                long count = acquire.count();
+                double totalNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+                double mean = meanMillis(count - lastAcquireCount, totalNanos - lastAcquireNanos);
+                meanWaitMillis = Double.isNaN(mean) ? 0 : mean;
+                lastAcquireCount = count;
+                lastAcquireNanos = totalNanos;
+            }
+            
+            int current = config.getMaximumPoolSize();
+            int awaiting = pool.getThreadsAwaitingConnection();
+            int active = pool.getActiveConnections();
+            int next = policy.nextSize(current, new PoolSample(meanWaitMillis, awaiting, active, latencyMillis));
+            if (next == current)
+                return;
+            
+            if (config.getMinimumIdle() > next)
+                config.setMinimumIdle(next);
+            config.setMaximumPoolSize(next);
+            meterRegistry.counter(RESIZE_METRIC, "pool", name, "direction", next > current ? "grow" : "shrink")
+                    .increment();
+            log.info("Resized pool {} from {} to {} connections (wait {} ms, {} waiting, {} active, latency {} ms, "
+                            + "baseline {} ms)", name, current, next, String.format("%.1f", meanWaitMillis), awaiting,
+                    active, String.format("%.2f", latencyMillis), String.format("%.2f", policy.baselineLatencyMillis()));
+        }
+    }
+}
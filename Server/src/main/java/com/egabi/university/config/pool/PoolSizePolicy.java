@@ -0,0 +1,95 @@
+package com.egabi.university.config.pool;
+
+/**
+ * Decides the maximum size of a connection pool from what was observed over the last interval.
+ * <p>
+ * The pool grows by {@code increaseStep} while requests wait longer than the target for a connection, as long as the
+ * mean statement latency stays within {@code latencyTolerance} of its baseline: the database still has capacity and
+ * the wait is spent in the pool. When the latency rises above the tolerance while requests wait, more connections
+ * would only queue inside the database, so the pool shrinks by {@code decreaseStep}. A pool that stays less than half
+ * used for {@code idleIntervals} also shrinks by {@code decreaseStep}.
+ * </p>
+ * <p>
+ * The baseline is the lowest latency observed, raised by 5% per interval so it follows a lasting change of the
+ * workload. A policy holds the state of a single pool and is not thread-safe.
+ * </p>
+ */
+final class PoolSizePolicy {
+    
+    private static final double BASELINE_DRIFT = 1.05;
+    
+    private final AdaptivePoolProperties properties;
+    private final double targetWaitMillis;
+    
+    private double baselineLatencyMillis = Double.NaN;
+    private int idleIntervals;
+    
+    PoolSizePolicy(AdaptivePoolProperties properties) {
+        this.properties = properties;
+        this.targetWaitMillis = properties.getTargetWait().toNanos() / 1e6;
+    }
+    
+    /**
+     * Returns the maximum pool size for the next interval.
+     *
+     * @param current the current maximum pool size
+     * @param sample  what was observed over the last interval
+     * @return the new maximum pool size, within the configured bounds
+     */
+    int nextSize(int current, PoolSample sample) {
+        int size = clamp(current);
+        boolean degraded = updateBaseline(sample.latencyMillis());
+        boolean waiting = sample.meanWaitMillis() > targetWaitMillis || sample.awaiting() > 0;
+        
+        if (waiting) {
+            idleIntervals = 0;
+            return degraded ? clamp(size - properties.getDecreaseStep()) : clamp(size + properties.getIncreaseStep());
+        }
+        if (sample.active() * 2 >= size) {
+            idleIntervals = 0;
+            return size;
+        }
+        if (++idleIntervals < properties.getIdleIntervals())
+            return size;
+        idleIntervals = 0;
+        return clamp(size - properties.getDecreaseStep());
+    }
+    
+    /**
+     * Returns the current latency baseline.
+     *
+     * @return the baseline in milliseconds, or NaN before any statement was observed
+     */
+    double baselineLatencyMillis() {
+        return baselineLatencyMillis;
+    }
+    
+    /**
+     * Folds a latency into the baseline.
+     *
+     * @param latencyMillis the mean statement latency, NaN if no statement completed
+     * @return whether the latency is above the tolerance of the baseline
+     */
+    private boolean updateBaseline(double latencyMillis) {
+        if (Double.isNaN(latencyMillis))
+            return false;
+        double baseline = baselineLatencyMillis;
+        baselineLatencyMillis = Double.isNaN(baseline) ? latencyMillis : Math.min(latencyMillis, baseline * BASELINE_DRIFT);
+        return !Double.isNaN(baseline) && latencyMillis > baseline * properties.getLatencyTolerance();
+    }
+    
+    private int clamp(int size) {
+        return Math.max(properties.getMinSize(), Math.min(properties.getMaxSize(), size));
+    }
+    
+    /**
+     * What was observed on a pool over an interval.
+     *
+     * @param meanWaitMillis the mean connection acquisition time, in milliseconds
+     * @param awaiting       the threads waiting for a connection at the end of the interval
+     * @param active         the connections in use at the end of the interval
+     * @param latencyMillis  the mean statement latency, in milliseconds, or NaN if no statement completed
+     */
+    record PoolSample(double meanWaitMillis, int awaiting, int active, double latencyMillis) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.egabi.university.config.querylog;
+
+import com.egabi.university.config.timing.RequestTimingQueryListener;
+import net.ttddyy.dsproxy.proxy.NanoTimeStopwatchFactory;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class wrapping the data source in a proxy that reports every statement to the {@link SlowQueryLog},
+ * and to the {@link com.egabi.university.config.timing.RequestTimings} of the request that issued it.
+ */
+@Configuration
+public class SlowQueryConfig {
+    
+    /**
+     * Wraps every data source bean once it is initialized, unless {@code slow-query.enabled} is false.
+     * The log and its properties are resolved when the data source is wrapped, so this post-processor can be created
+     * before them.
+     *
+     * @param slowQueryLog the slow query log
+     * @param properties   the slow query log settings
+     * @return the data source post-processor
+     */
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog,
+                                                                     ObjectProvider<SlowQueryProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                        || !properties.getObject().isEnabled())
+                    return bean;
+                return wrap(beanName, dataSource, slowQueryLog.getObject(), properties.getObject());
+            }
+        };
+    }
+    
+    /**
+     * Wraps a data source with a proxy timing statements in nanoseconds.
+     *
+     * @param name         the name of the data source
+     * @param dataSource   the data source to wrap
+     * @param slowQueryLog the slow query log
+     * @param properties   the slow query log settings
+     * @return the proxy data source
+     */
+    static ProxyDataSource wrap(String name, DataSource dataSource, SlowQueryLog slowQueryLog,
+                                SlowQueryProperties properties) {
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(name, dataSource)
+                .listener(slowQueryLog)
+                .listener(new RequestTimingQueryListener());
+        if (properties.isCountSelectedRows())
+            builder.proxyResultSet().methodListener(slowQueryLog);
+        
+        ProxyDataSource proxy = builder.build();
+        proxy.setProxyConfig(ProxyConfig.Builder.from(proxy.getProxyConfig())
+                .stopwatchFactory(new NanoTimeStopwatchFactory())
+                .build());
+        return proxy;
+    }
+}
@@ -0,0 +1,72 @@
+package com.egabi.university.config.querylog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing the slow query log at {@code /actuator/slowqueries}.
+ * Reading lists the fingerprints with the highest total time, the recent slow statements and the last plans;
+ * writing explains the worst slow queries at once; deleting resets the log.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+    
+    private static final int DEFAULT_LIMIT = 20;
+    
+    private final SlowQueryLog slowQueryLog;
+    private final SlowQueryExplainer slowQueryExplainer;
+    private final SlowQueryProperties properties;
+    
+    /**
+     * Reports the slow query log.
+     *
+     * @param limit the maximum number of fingerprints, 20 when not given
+     * @return the slow query report
+     */
+    @ReadOperation
+    public SlowQueryReport report(@Nullable Integer limit) {
+        return new SlowQueryReport(properties.getThreshold().toMillis(),
+                slowQueryLog.topByTotalTime(limit != null && limit > 0 ? limit : DEFAULT_LIMIT),
+                slowQueryLog.slowQueries(), slowQueryExplainer.lastPlans());
+    }
+    
+    /**
+     * Explains the worst slow queries now.
+     *
+     * @return the plans, highest total time first
+     */
+    @WriteOperation
+    public List<SlowQueryExplainer.ExplainedPlan> explain() {
+        return slowQueryExplainer.explain();
+    }
+    
+    /**
+     * Drops every aggregate and captured statement.
+     */
+    @DeleteOperation
+    public void reset() {
+        slowQueryLog.reset();
+    }
+    
+    /**
+     * Body of the endpoint.
+     *
+     * @param thresholdMillis the execution time from which a statement is captured, in milliseconds
+     * @param fingerprints    the fingerprints with the highest total time
+     * @param slowQueries     the most recent slow statements, most recent first
+     * @param plans           the plans of the last dump
+     */
+    public record SlowQueryReport(long thresholdMillis, List<SlowQueryLog.FingerprintSummary> fingerprints,
+                                  List<SlowQueryLog.SlowQuery> slowQueries,
+                                  List<SlowQueryExplainer.ExplainedPlan> plans) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.egabi.university.config.querylog;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs {@code EXPLAIN (ANALYZE, BUFFERS)} on the worst execution of the slowest query fingerprints and logs the plans.
+ * <p>
+ * Only queries are explained, since {@code ANALYZE} executes the statement: each runs in a read-only transaction
+ * that is rolled back, with {@code slow-query.explain.timeout} as its statement timeout, on the data source behind
+ * the proxy so it is not itself recorded. Dumps run every {@code slow-query.explain.interval} when
+ * {@code slow-query.explain.enabled} is set, and on demand through the {@code slowqueries} endpoint.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SlowQueryExplainer {
+    
+    private final DataSource dataSource;
+    private final SlowQueryLog slowQueryLog;
+    private final SlowQueryProperties properties;
+    
+    private volatile List<ExplainedPlan> lastPlans = List.of();
+    
+    public SlowQueryExplainer(DataSource dataSource, SlowQueryLog slowQueryLog, SlowQueryProperties properties) {
+        this.dataSource = dataSource instanceof ProxyDataSource proxy ? proxy.getDataSource() : dataSource;
+        this.slowQueryLog = slowQueryLog;
+        this.properties = properties;
+    }
+    
+    /**
+     * Returns the plans of the last dump.
+     *
+     * @return the plans of the last dump, highest total time first
+     */
+    public List<ExplainedPlan> lastPlans() {
+        return lastPlans;
+    }
+    
+    /**
+     * Dumps the plans of the worst slow queries, if periodic dumps are enabled.
+     */
+    @Scheduled(initialDelayString = "${slow-query.explain.interval:PT15M}",
+            fixedDelayString = "${slow-query.explain.interval:PT15M}")
+    public void scheduledExplain() {
+        if (properties.getExplain().isEnabled())
+            explain();
+    }
+    
+    /**
+     * Explains the worst execution of the slowest query fingerprints and logs the plans.
+     *
+     * @return the plans, highest total time first
+     */
+    public synchronized List<ExplainedPlan> explain() {
+        List<ExplainedPlan> plans = new ArrayList<>();
+        for (SlowQueryLog.Sample sample : slowQueryLog.worstSamples(properties.getExplain().getTop())) {
+            if (!isQuery(sample.fingerprint()))
+                continue;
+            try {
+                String plan = explain(sample);
+                plans.add(new ExplainedPlan(Instant.now(), sample.fingerprint(), sample.elapsedNanos() / 1e6, plan));
+                log.info("Plan of slow query {}:\n{}", sample.fingerprint(), plan);
+            } catch (SQLException e) {
+                log.warn("Could not explain slow query {}: {}", sample.fingerprint(), e.getMessage());
+            }
+        }
+        lastPlans = List.copyOf(plans);
+        return lastPlans;
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static boolean isQuery(String fingerprint) {
+        return fingerprint.startsWith("select ") || fingerprint.startsWith("with ");
+    }
+    
+    private String explain(SlowQueryLog.Sample sample) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET TRANSACTION READ ONLY");
+                    statement.execute("SET LOCAL statement_timeout = " + properties.getExplain().getTimeout().toMillis());
+                }
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "EXPLAIN (ANALYZE, BUFFERS) " + sample.sql())) {
+                    List<Object> parameters = sample.parameters();
+                    for (int i = 0; i < parameters.size(); i++)
+                        statement.setObject(i + 1, parameters.get(i));
+                    StringBuilder plan = new StringBuilder();
+                    try (ResultSet rows = statement.executeQuery()) {
+                        while (rows.next())
+                            plan.append(rows.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+    
+    /**
+     * Plan of a slow query.
+     *
+     * @param at                 when the plan was captured
+     * @param fingerprint        the normalized statement
+     * @param worstElapsedMillis the execution time of the explained execution when it was captured, in milliseconds
+     * @param plan               the output of {@code EXPLAIN (ANALYZE, BUFFERS)}
+     */
+    public record ExplainedPlan(Instant at, String fingerprint, double worstElapsedMillis, String plan) {
+    }
+}
@@ -0,0 +1,373 @@
+package com.egabi.university.config.querylog;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates every statement executed through the data source under its {@link SqlFingerprint}, and captures the
+ * statements slower than {@code slow-query.threshold} together with the service method that issued them.
+ * <p>
+ * Per fingerprint, the number of executions and errors, the total and maximum execution time and the affected rows
+ * are kept. The fingerprint of a statement is computed once per distinct SQL string, which Hibernate reuses for the
+ * same query, so the common path is a map lookup and a few atomic additions. Capturing a slow statement walks the
+ * stack to find its caller, which is only done above the threshold.
+ * </p>
+ * <p>
+ * Bound parameters are kept only for the worst execution of each fingerprint, so it can be explained later; they are
+ * never exposed by the endpoint.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SlowQueryLog implements QueryExecutionListener, MethodExecutionListener {
+    
+    /**
+     * Fingerprint under which statements are aggregated once {@code slow-query.max-fingerprints} is reached.
+     */
+    static final String OTHER_FINGERPRINT = "(other)";
+    
+    private static final String APPLICATION_PACKAGE = "com.egabi.university.";
+    private static final String SERVICE_PACKAGE = APPLICATION_PACKAGE + "service.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    
+    private final SlowQueryProperties properties;
+    private final long thresholdNanos;
+    
+    private final ConcurrentHashMap<String, QueryStats> statsByFingerprint = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, QueryStats> statsBySql = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> captured = new ArrayDeque<>();
+    
+    /**
+     * Statistics of the last query executed on each thread, credited with the rows read from its result.
+     */
+    private final ThreadLocal<QueryStats> lastQuery = new ThreadLocal<>();
+    
+    public SlowQueryLog(SlowQueryProperties properties) {
+        this.properties = properties;
+        this.thresholdNanos = properties.getThreshold().toNanos();
+    }
+    
+    // ================================================================
+    // Listener Methods
+    // ================================================================
+    
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+    
+    /**
+     * Aggregates an executed statement and captures it if it was slow. Elapsed times are in nanoseconds, since the
+     * proxy is configured with a nano time stopwatch.
+     */
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty())
+            return;
+        
+        long elapsed = execInfo.getElapsedTime();
+        long rows = affectedRows(execInfo.getResult());
+        QueryInfo query = queryInfoList.get(0);
+        QueryStats stats = statsFor(query.getQuery());
+        stats.record(elapsed, rows, execInfo.isSuccess());
+        if (execInfo.getResult() instanceof ResultSet)
+            lastQuery.set(stats);
+        
+        if (elapsed >= thresholdNanos)
+            capture(stats, query, elapsed, rows, execInfo.isSuccess());
+    }
+    
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+    
+    /**
+     * Credits the rows read from a query result to the last query of the thread.
+     * Only called when result sets are proxied, see {@link SlowQueryProperties#isCountSelectedRows()}.
+     */
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            QueryStats stats = lastQuery.get();
+            if (stats != null)
+                stats.rows.increment();
+        }
+    }
+    
+    // ================================================================
+    // Report Methods
+    // ================================================================
+    
+    /**
+     * Returns the fingerprints with the highest total execution time.
+     *
+     * @param limit the maximum number of fingerprints
+     * @return the fingerprint summaries, highest total time first
+     */
+    public List<FingerprintSummary> topByTotalTime(int limit) {
+        return statsByFingerprint.values().stream()
+                .map(QueryStats::summary)
+                .sorted(Comparator.comparingDouble(FingerprintSummary::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+    
+    /**
+     * Returns the most recent slow statements.
+     *
+     * @return the slow statements, most recent first
+     */
+    public List<SlowQuery> slowQueries() {
+        synchronized (captured) {
+            return new ArrayList<>(captured);
+        }
+    }
+    
+    /**
+     * Returns the worst execution of the slow fingerprints with the highest total execution time.
+     *
+     * @param limit the maximum number of samples
+     * @return the worst execution of each fingerprint, highest total time first
+     */
+    List<Sample> worstSamples(int limit) {
+        return statsByFingerprint.values().stream()
+                .filter(stats -> stats.worst != null)
+                .sorted(Comparator.comparingLong((QueryStats stats) -> stats.totalNanos.sum()).reversed())
+                .limit(limit)
+                .map(stats -> stats.worst)
+                .toList();
+    }
+    
+    /**
+     * Returns the number of statements executed and their total execution time, over every fingerprint.
+     * Both decrease when the log is {@link #reset()}.
+     *
+     * @return the execution totals
+     */
+    public ExecutionTotals executionTotals() {
+        long count = 0;
+        long totalNanos = 0;
+        for (QueryStats stats : statsByFingerprint.values()) {
+            count += stats.count.sum();
+            totalNanos += stats.totalNanos.sum();
+        }
+        return new ExecutionTotals(count, totalNanos);
+    }
+    
+    /**
+     * Drops every aggregate and captured statement.
+     */
+    public void reset() {
+        statsBySql.clear();
+        statsByFingerprint.clear();
+        synchronized (captured) {
+            captured.clear();
+        }
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Returns the statistics of a statement, fingerprinting it on first use.
+     *
+     * @param sql the statement
+     * @return the statistics of its fingerprint
+     */
+    private QueryStats statsFor(String sql) {
+        QueryStats stats = statsBySql.get(sql);
+        if (stats != null)
+            return stats;
+        
+        String fingerprint = SqlFingerprint.of(sql);
+        if (statsByFingerprint.size() >= properties.getMaxFingerprints() && !statsByFingerprint.containsKey(fingerprint))
+            fingerprint = OTHER_FINGERPRINT;
+        stats = statsByFingerprint.computeIfAbsent(fingerprint, QueryStats::new);
+        if (statsBySql.size() < properties.getMaxFingerprints() * 2)
+            statsBySql.put(sql, stats);
+        return stats;
+    }
+    
+    /**
+     * Captures a slow statement with its caller, and keeps it as the worst execution of its fingerprint if it is.
+     */
+    private void capture(QueryStats stats, QueryInfo query, long elapsed, long rows, boolean success) {
+        String caller = findCaller();
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), stats.fingerprint, query.getQuery(), elapsed / 1e6, rows,
+                caller, success);
+        synchronized (captured) {
+            captured.addFirst(slowQuery);
+            while (captured.size() > properties.getMaxCaptured())
+                captured.removeLast();
+        }
+        
+        Sample worst = stats.worst;
+        if (worst == null || elapsed > worst.elapsedNanos())
+            stats.worst = new Sample(stats.fingerprint, query.getQuery(), parametersOf(query), elapsed);
+        
+        log.warn("Slow query took {} ms in {}: {}", String.format("%.1f", elapsed / 1e6), caller, stats.fingerprint);
+    }
+    
+    /**
+     * Finds the service method that issued the current statement, or the closest application method if the statement
+     * was issued outside a service, e.g. by a filter or a flush at commit.
+     *
+     * @return the simple class name and method name of the caller, or {@code unknown}
+     */
+    private static String findCaller() {
+        return STACK_WALKER.walk(frames -> {
+            StackWalker.StackFrame application = null;
+            for (Iterator<StackWalker.StackFrame> it = frames.iterator(); it.hasNext(); ) {
+                StackWalker.StackFrame frame = it.next();
+                String className = frame.getClassName();
+                if (!className.startsWith(APPLICATION_PACKAGE) || className.equals(SlowQueryLog.class.getName())
+                        || className.contains("$"))
+                    continue;
+                if (className.startsWith(SERVICE_PACKAGE))
+                    return describe(frame);
+                if (application == null)
+                    application = frame;
+            }
+            return application != null ? describe(application) : "unknown";
+        });
+    }
+    
+    private static String describe(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+    }
+    
+    /**
+     * Returns the values bound to a statement, by parameter index.
+     */
+    private static List<Object> parametersOf(QueryInfo query) {
+        if (query.getParametersList().isEmpty())
+            return List.of();
+        
+        SortedMap<Integer, Object> values = new TreeMap<>();
+        for (ParameterSetOperation operation : query.getParametersList().get(0)) {
+            Object[] args = operation.getArgs();
+            if (args.length < 1 || !(args[0] instanceof Integer index))
+                continue;
+            values.put(index, ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2
+                    ? null : args[1]);
+        }
+        return new ArrayList<>(values.values());
+    }
+    
+    /**
+     * Returns the rows affected by an update or a batch, or 0 for queries, whose rows are counted as they are read.
+     */
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer count)
+            return Math.max(0, count);
+        if (result instanceof Long count)
+            return Math.max(0, count);
+        if (result instanceof int[] counts)
+            return Arrays.stream(counts).filter(count -> count > 0).asLongStream().sum();
+        if (result instanceof long[] counts)
+            return Arrays.stream(counts).filter(count -> count > 0).sum();
+        return 0;
+    }
+    
+    /**
+     * Aggregated statistics of a fingerprint.
+     */
+    private static final class QueryStats {
+        
+        private final String fingerprint;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder rows = new LongAdder();
+        private volatile Sample worst;
+        
+        private QueryStats(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+        
+        private void record(long elapsed, long affectedRows, boolean success) {
+            count.increment();
+            totalNanos.add(elapsed);
+            if (elapsed > maxNanos.get())
+                maxNanos.accumulateAndGet(elapsed, Math::max);
+            if (affectedRows > 0)
+                rows.add(affectedRows);
+            if (!success)
+                errors.increment();
+        }
+        
+        private FingerprintSummary summary() {
+            long executions = count.sum();
+            double total = totalNanos.sum() / 1e6;
+            return new FingerprintSummary(fingerprint, executions, errors.sum(), total,
+                    executions == 0 ? 0 : total / executions, maxNanos.get() / 1e6, rows.sum());
+        }
+    }
+    
+    /**
+     * Aggregated statistics of a fingerprint.
+     *
+     * @param fingerprint the normalized statement
+     * @param count       the number of executions
+     * @param errors      the number of executions that failed
+     * @param totalMillis the total execution time, in milliseconds
+     * @param meanMillis  the mean execution time, in milliseconds
+     * @param maxMillis   the maximum execution time, in milliseconds
+     * @param rows        the rows affected, or read when counted
+     */
+    public record FingerprintSummary(String fingerprint, long count, long errors, double totalMillis,
+                                     double meanMillis, double maxMillis, long rows) {
+    }
+    
+    /**
+     * Statements executed through the data source.
+     *
+     * @param count      the number of executions
+     * @param totalNanos the total execution time, in nanoseconds
+     */
+    public record ExecutionTotals(long count, long totalNanos) {
+    }
+    
+    /**
+     * A statement that took longer than the threshold.
+     *
+     * @param at            when the statement completed
+     * @param fingerprint   the normalized statement
+     * @param sql           the statement as executed, without its parameter values
+     * @param elapsedMillis the execution time, in milliseconds
+     * @param rows          the rows affected, 0 for queries
+     * @param caller        the service method that issued the statement
+     * @param success       whether the statement succeeded
+     */
+    public record SlowQuery(Instant at, String fingerprint, String sql, double elapsedMillis, long rows,
+                            String caller, boolean success) {
+    }
+    
+    /**
+     * The worst execution of a fingerprint, kept to explain it.
+     *
+     * @param fingerprint  the normalized statement
+     * @param sql          the statement as executed
+     * @param parameters   the bound values, by parameter index
+     * @param elapsedNanos the execution time, in nanoseconds
+     */
+    record Sample(String fingerprint, String sql, List<Object> parameters, long elapsedNanos) {
+    }
+}
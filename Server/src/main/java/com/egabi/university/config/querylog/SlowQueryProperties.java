@@ -0,0 +1,76 @@
+package com.egabi.university.config.querylog;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the slow query log.
+ * Every statement is aggregated under its fingerprint; statements slower than {@link #threshold} are also captured
+ * with the service method that issued them.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "slow-query")
+public class SlowQueryProperties {
+    
+    /**
+     * Whether the data source is wrapped to record statements.
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Execution time from which a statement is captured as slow.
+     */
+    private Duration threshold = Duration.ofMillis(200);
+    
+    /**
+     * Maximum number of fingerprints aggregated. Statements with a new fingerprint beyond it are aggregated together.
+     */
+    private int maxFingerprints = 5_000;
+    
+    /**
+     * Number of most recent slow statements kept.
+     */
+    private int maxCaptured = 200;
+    
+    /**
+     * Whether the rows read from query results are counted. Requires proxying every result set, which costs a few
+     * hundred nanoseconds per row and column read, so only update counts are recorded by default.
+     */
+    private boolean countSelectedRows = false;
+    
+    /**
+     * Periodic {@code EXPLAIN (ANALYZE)} of the worst slow queries.
+     */
+    private Explain explain = new Explain();
+    
+    /**
+     * Settings of the periodic query plan dumps.
+     */
+    @Data
+    public static class Explain {
+        
+        /**
+         * Whether the plans of the worst slow queries are dumped periodically.
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Interval between two dumps.
+         */
+        private Duration interval = Duration.ofMinutes(15);
+        
+        /**
+         * Number of fingerprints explained per dump, by total execution time.
+         */
+        private int top = 5;
+        
+        /**
+         * Statement timeout of a single {@code EXPLAIN (ANALYZE)}, which executes the query.
+         */
+        private Duration timeout = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,123 @@
+package com.egabi.university.config.querylog;
+
+/**
+ * Normalizes SQL statements into fingerprints, so statements differing only in their literal values are aggregated
+ * together.
+ * <p>
+ * Comments are dropped, whitespace is collapsed and letters outside quoted identifiers are lower-cased. String and
+ * numeric literals and positional parameters become {@code ?}, and a parenthesized list made only of {@code ?}
+ * becomes {@code (?+)}, so {@code IN} lists of any length share a fingerprint.
+ * </p>
+ */
+public final class SqlFingerprint {
+    
+    private SqlFingerprint() {
+    }
+    
+    /**
+     * Returns the fingerprint of a statement.
+     *
+     * @param sql the statement
+     * @return the fingerprint of the statement
+     */
+    public static String of(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                // Line comment
+                while (i < length && sql.charAt(i) != '\n')
+                    i++;
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                // Block comment
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i)))
+                    i++;
+                if (!out.isEmpty() && out.charAt(out.length() - 1) != ' ')
+                    out.append(' ');
+            } else if (c == '\'') {
+                // String literal, with '' as an escaped quote
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+            } else if (c == '"') {
+                // Quoted identifier, kept as is
+                int end = sql.indexOf('"', i + 1);
+                end = end < 0 ? length : end + 1;
+                out.append(sql, i, end);
+                i = end;
+            } else if ((Character.isDigit(c) || c == '$' && i + 1 < length && Character.isDigit(sql.charAt(i + 1)))
+                    && !endsWithIdentifier(out)) {
+                // Numeric literal or positional parameter
+                i++;
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.'))
+                    i++;
+                out.append('?');
+            } else if (c == ')') {
+                i++;
+                collapsePlaceholderList(out);
+                out.append(')');
+            } else {
+                out.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+        int end = out.length();
+        while (end > 0 && (out.charAt(end - 1) == ' ' || out.charAt(end - 1) == ';'))
+            end--;
+        out.setLength(end);
+        return out.toString();
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Checks whether the output ends with part of an identifier, so a digit continues it rather than starting a
+     * numeric literal, as in {@code c1_0}.
+     */
+    private static boolean endsWithIdentifier(StringBuilder out) {
+        if (out.isEmpty())
+            return false;
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$' || last == '.' || last == '"';
+    }
+    
+    /**
+     * Replaces a trailing {@code (?, ?, ...} by {@code (?+} before the closing parenthesis is appended.
+     */
+    private static void collapsePlaceholderList(StringBuilder out) {
+        int i = out.length() - 1;
+        boolean placeholder = false;
+        while (i >= 0) {
+            char c = out.charAt(i);
+            if (c == '?') {
+                placeholder = true;
+            } else if (c == '(') {
+                break;
+            } else if (c != ',' && c != ' ' && c != '+') {
+                return;
+            }
+            i--;
+        }
+        if (i < 0 || !placeholder)
+            return;
+        out.setLength(i + 1);
+        out.append("?+");
+    }
+}
@@ -0,0 +1,154 @@
+package com.egabi.university.config.ratelimit;
+
+import com.egabi.university.config.ratelimit.RateLimiter.ClientType;
+import com.egabi.university.exception.ApiError;
+import com.egabi.university.service.authentication.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitFilter is a Spring Security filter that limits the request rate of every client.
+ * It runs before {@link com.egabi.university.config.jwt.JwtFilter}, so a throttled client is answered with
+ * {@code 429 Too Many Requests} and a {@code Retry-After} header before its user is loaded.
+ * Clients are identified by the user ID of a valid token, or by their IP address otherwise; the verified claims
+ * are kept in the {@link JwtService#CLAIMS_ATTRIBUTE} request attribute so {@code JwtFilter} does not verify the
+ * token again.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+    private final List<RouteCost> routes;
+    
+    /**
+     * A route with its compiled path pattern.
+     *
+     * @param method  the HTTP method, or {@code null} for any method
+     * @param pattern the path pattern
+     * @param cost    the number of tokens taken by a request of the route
+     */
+    private record RouteCost(String method, PathPattern pattern, long cost) {
+    }
+    
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, JwtService jwtService,
+                           ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.jwtService = jwtService;
+        this.objectMapper = objectMapper;
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new RouteCost(route.getMethod(), PathPatternParser.defaultInstance.parse(route.getPattern()),
+                        route.getCost()))
+                .toList();
+    }
+    
+    /**
+     * Takes the cost of the request from the bucket of its client, and rejects the request if the bucket is empty.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain to continue processing the request
+     * @throws ServletException if an error occurs during filtering
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        // Identify the client by the user ID of its token, falling back to its IP address
+        long cost = costOf(request);
+        Long userId = extractUserId(request);
+        long wait = userId != null
+                ? rateLimiter.tryAcquire(ClientType.USER, userId.toString(), cost)
+                : rateLimiter.tryAcquire(ClientType.IP, request.getRemoteAddr(), cost);
+        
+        if (wait == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        // Reject the request with the time left until the bucket holds enough tokens
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+        ApiError apiError = new ApiError(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Too many requests, retry in " + retryAfter + " seconds",
+                request.getRequestURI(),
+                "RATE_LIMIT_EXCEEDED",
+                LocalDateTime.now()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiError);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Returns the user ID of the bearer token of a request, if the token is valid, and keeps its verified claims
+     * in the request for {@code JwtFilter}.
+     *
+     * @param request the HTTP request
+     * @return the user ID of the token, or {@code null} if there is no valid token carrying one
+     */
+    private Long extractUserId(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer "))
+            return null;
+        try {
+            Claims claims = jwtService.extractAllClaims(authHeader.substring(7));
+            request.setAttribute(JwtService.CLAIMS_ATTRIBUTE, claims);
+            return claims.get(JwtService.USER_ID_CLAIM, Long.class);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Returns the cost of the first route matching a request.
+     *
+     * @param request the HTTP request
+     * @return the number of tokens the request costs
+     */
+    private long costOf(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RouteCost route : routes)
+            if ((route.method() == null || route.method().equalsIgnoreCase(request.getMethod()))
+                    && route.pattern().matches(path))
+                return route.cost();
+        return properties.getDefaultCost();
+    }
+}
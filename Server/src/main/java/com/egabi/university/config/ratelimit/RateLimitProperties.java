@@ -0,0 +1,88 @@
+package com.egabi.university.config.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration class for request rate limiting.
+ * Every client, identified by the user ID of its token or by its IP address, gets a token bucket;
+ * each request takes the cost of the first matching route, or {@link #defaultCost} when none matches.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    
+    /**
+     * Whether requests are rate limited.
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Maximum number of tokens of a bucket, i.e. the burst a client may send at once.
+     */
+    private long capacity = 100;
+    
+    /**
+     * Number of tokens added back to a bucket every second.
+     */
+    private long refillPerSecond = 20;
+    
+    /**
+     * Maximum number of buckets kept in memory. Once reached, clients without a bucket share a single one.
+     */
+    private int maxBuckets = 100_000;
+    
+    /**
+     * Interval between two sweeps of the buckets that have refilled completely.
+     */
+    private Duration sweepInterval = Duration.ofSeconds(30);
+    
+    /**
+     * Cost of a request that matches no route.
+     */
+    private long defaultCost = 1;
+    
+    /**
+     * Route costs, checked in order.
+     */
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("GET", "/api/enrollments/stream", 25),
+            new Route("GET", "/api/faculties/*/degree-audits", 25),
+            new Route("GET", "/api/faculties/tree", 10),
+            new Route("GET", "/api/enrollments", 5),
+            new Route("GET", "/api/terms/*/enrollments", 5),
+            new Route("GET", "/api/faculties/*/students", 5)
+    ));
+    
+    /**
+     * Cost of the requests matching an HTTP method and a path pattern.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        
+        /**
+         * HTTP method of the route, or {@code null} for any method.
+         */
+        private String method;
+        
+        /**
+         * Path pattern of the route, e.g. {@code /api/enrollments/stream}.
+         */
+        private String pattern;
+        
+        /**
+         * Number of tokens taken by a request of the route.
+         */
+        private long cost;
+    }
+}
@@ -0,0 +1,101 @@
+package com.egabi.university.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a {@link TokenBucket} per client and decides whether a request may proceed.
+ * <p>
+ * Buckets that have refilled completely are swept periodically, since a new bucket would behave the same.
+ * The number of buckets is bounded by {@link RateLimitProperties#getMaxBuckets()}: once reached, clients without
+ * a bucket share a single overflow bucket until the next sweep frees room. A request racing with the sweep may be
+ * taken from a bucket that is being dropped, which at worst grants its client one extra burst.
+ * </p>
+ */
+@Component
+public class RateLimiter {
+    
+    /**
+     * Kind of client a bucket belongs to.
+     */
+    public enum ClientType {
+        USER, IP
+    }
+    
+    private final RateLimitProperties properties;
+    private final long nanosPerToken;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+    
+    private final Counter[] allowed = new Counter[ClientType.values().length];
+    private final Counter[] rejected = new Counter[ClientType.values().length];
+    private final Counter overflowed;
+    private final Counter swept;
+    
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / Math.max(1, properties.getRefillPerSecond());
+        this.overflow = new TokenBucket(properties.getCapacity(), nanosPerToken, System.nanoTime());
+        
+        for (ClientType type : ClientType.values()) {
+            String client = type.name().toLowerCase();
+            allowed[type.ordinal()] = Counter.builder("rate_limit.requests")
+                    .tag("client", client).tag("outcome", "allowed").register(meterRegistry);
+            rejected[type.ordinal()] = Counter.builder("rate_limit.requests")
+                    .tag("client", client).tag("outcome", "rejected").register(meterRegistry);
+        }
+        overflowed = Counter.builder("rate_limit.overflow")
+                .description("Requests counted against the shared bucket because the bucket limit was reached")
+                .register(meterRegistry);
+        swept = Counter.builder("rate_limit.buckets.swept").register(meterRegistry);
+        Gauge.builder("rate_limit.buckets", buckets, ConcurrentHashMap::size).register(meterRegistry);
+    }
+    
+    /**
+     * Takes the cost of a request from the bucket of its client.
+     *
+     * @param type the kind of client
+     * @param id   the user or IP address of the client
+     * @param cost the number of tokens the request costs
+     * @return {@code 0} if the request may proceed, otherwise the nanoseconds to wait before retrying
+     */
+    public long tryAcquire(ClientType type, String id, long cost) {
+        long now = System.nanoTime();
+        String key = type == ClientType.USER ? "u:" + id : "i:" + id;
+        
+        // Reuse the bucket of the client, or create one while there is room
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() < properties.getMaxBuckets()) {
+                bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(properties.getCapacity(), nanosPerToken, now));
+            } else {
+                bucket = overflow;
+                overflowed.increment();
+            }
+        }
+        
+        long wait = bucket.tryConsume(Math.min(cost, properties.getCapacity()), now);
+        if (wait == 0)
+            allowed[type.ordinal()].increment();
+        else
+            rejected[type.ordinal()].increment();
+        return wait;
+    }
+    
+    /**
+     * Drops the buckets that have refilled completely.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:PT30S}")
+    public void sweep() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        swept.increment(Math.max(0, before - buckets.size()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.egabi.university.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * Instead of a token count and a refill timestamp, the bucket keeps a single value: the time at which it will be full
+ * again. The available tokens follow from the distance between that time and now, so taking tokens is a single
+ * compare-and-set and no background refill is needed. A bucket whose full time has passed holds no state worth
+ * keeping and can be dropped.
+ * </p>
+ */
+public final class TokenBucket {
+    
+    private final long capacity;
+    private final long nanosPerToken;
+    
+    /**
+     * Time, in {@link System#nanoTime()} units, at which the bucket holds {@link #capacity} tokens again.
+     */
+    private final AtomicLong fullAt;
+    
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity      the maximum number of tokens, i.e. the allowed burst
+     * @param nanosPerToken the time needed to refill one token
+     * @param now           the current time in nanoseconds
+     */
+    public TokenBucket(long capacity, long nanosPerToken, long now) {
+        this.capacity = capacity;
+        this.nanosPerToken = nanosPerToken;
+        this.fullAt = new AtomicLong(now);
+    }
+    
+    /**
+     * Takes tokens from the bucket if enough are available.
+     *
+     * @param cost the number of tokens to take
+     * @param now  the current time in nanoseconds
+     * @return {@code 0} if the tokens were taken, otherwise the nanoseconds to wait until they are available
+     */
+    public long tryConsume(long cost, long now) {
+        long limit = now + capacity * nanosPerToken;
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + cost * nanosPerToken;
+            if (next > limit)
+                return next - limit;
+            if (fullAt.compareAndSet(current, next))
+                return 0;
+        }
+    }
+    
+    /**
+     * Returns the number of tokens currently available.
+     *
+     * @param now the current time in nanoseconds
+     * @return the available tokens
+     */
+    public long available(long now) {
+        return capacity - (Math.max(0, fullAt.get() - now) + nanosPerToken - 1) / nanosPerToken;
+    }
+    
+    /**
+     * Checks whether the bucket has refilled completely, so dropping it loses nothing.
+     *
+     * @param now the current time in nanoseconds
+     * @return true if the bucket is full
+     */
+    public boolean isFull(long now) {
+        return fullAt.get() - now <= 0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.egabi.university.config.servertiming;
+
+import com.egabi.university.config.timing.RequestPhaseInterceptor;
+import com.egabi.university.config.timing.RequestTimings.Phase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Configuration class for the {@code Server-Timing} header, registered only when {@code server-timing.enabled} is
+ * set, so environments without the header pay nothing for it.
+ * <p>
+ * Times the validation service, the repositories and the mappers with a {@link RequestPhaseInterceptor} each,
+ * replaces the JSON converter with the {@link ServerTimingJsonConverter} and adds the {@link ServerTimingFilter}.
+ * Authentication and database time are always collected, by the JWT filter and the data source proxy.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig {
+    
+    /**
+     * Calls timed as validation.
+     */
+    public static final String VALIDATION_POINTCUT = "execution(public * com.egabi.university.service.validation..*(..))";
+    
+    /**
+     * Calls timed as repository access, including the methods Spring Data repositories inherit.
+     */
+    public static final String REPOSITORY_POINTCUT = "execution(public * com.egabi.university.repository..*(..))"
+            + " || execution(public * org.springframework.data.repository.Repository+.*(..))";
+    
+    /**
+     * Calls timed as mapping.
+     */
+    public static final String MAPPING_POINTCUT = "execution(public * com.egabi.university.mapper..*(..))";
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor validationTimingAdvisor() {
+        return phaseAdvisor(VALIDATION_POINTCUT, Phase.VALIDATION);
+    }
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryTimingAdvisor() {
+        return phaseAdvisor(REPOSITORY_POINTCUT, Phase.REPOSITORY);
+    }
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor mappingTimingAdvisor() {
+        return phaseAdvisor(MAPPING_POINTCUT, Phase.MAPPING);
+    }
+    
+    /**
+     * Bean adding the header to every response.
+     *
+     * @return the Server-Timing filter
+     */
+    @Bean
+    public ServerTimingFilter serverTimingFilter() {
+        return new ServerTimingFilter();
+    }
+    
+    /**
+     * Bean replacing the Boot-configured JSON converter with one timing the writing of bodies.
+     *
+     * @param objectMapper the Boot-configured object mapper
+     * @return the JSON converter
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter serverTimingJsonConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJsonConverter(objectMapper);
+    }
+    
+    private static Advisor phaseAdvisor(String expression, Phase phase) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(expression);
+        return new DefaultPointcutAdvisor(pointcut, new RequestPhaseInterceptor(phase));
+    }
+}
@@ -0,0 +1,89 @@
+package com.egabi.university.config.servertiming;
+
+import com.egabi.university.config.timing.RequestTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ServerTimingFilter adds the {@code Server-Timing} header to every response, just before the response is committed,
+ * so it covers everything up to the writing of the body.
+ * <p>
+ * It runs right inside the {@link com.egabi.university.config.accesslog.AccessLogFilter} and reuses the
+ * {@link RequestTimings} it collects, or collects them itself when the access log is disabled. Responses committed
+ * by the container after the chain, e.g. without a body, get the header when the chain returns.
+ * </p>
+ */
+public class ServerTimingFilter extends OncePerRequestFilter implements Ordered {
+    
+    /**
+     * Adds the header to a request.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain to continue processing the request
+     * @throws ServletException if an error occurs during filtering
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        RequestTimings timings = RequestTimings.current();
+        boolean started = timings == null;
+        if (started)
+            timings = RequestTimings.start(System.nanoTime());
+        
+        ServerTimingResponseWrapper timedResponse = new ServerTimingResponseWrapper(response, timings);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.writeHeader();
+            if (started)
+                timings.stop();
+        }
+    }
+    
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+    
+    /**
+     * Writes the header once, when the response is about to be committed or when the chain returns, whichever
+     * comes first. The timings are not read afterward, since the thread may move on to another request.
+     */
+    private static final class ServerTimingResponseWrapper extends OnCommittedResponseWrapper {
+        
+        private final RequestTimings timings;
+        private boolean written;
+        
+        private ServerTimingResponseWrapper(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+        
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+        
+        private void writeHeader() {
+            if (written)
+                return;
+            written = true;
+            if (!isCommitted())
+                setHeader(ServerTimingHeader.NAME, ServerTimingHeader.format(timings, System.nanoTime()));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.egabi.university.config.servertiming;
+
+import com.egabi.university.config.timing.RequestTimings;
+import com.egabi.university.config.timing.RequestTimings.Phase;
+
+/**
+ * Formats the {@link RequestTimings} of a request as a {@code Server-Timing} header, in milliseconds:
+ * <pre>
+ * auth;dur=0.095, validation;dur=1.210, repository;dur=3.870, db;dur=3.402, mapping;dur=0.061, json;dur=0.143,
+ * total;dur=5.517
+ * </pre>
+ * Phases overlap: {@code validation} includes the repository calls it makes, {@code repository} the statements
+ * counted by {@code db}, and {@code total} is the time until the headers were written.
+ */
+final class ServerTimingHeader {
+    
+    static final String NAME = "Server-Timing";
+    
+    private ServerTimingHeader() {
+    }
+    
+    /**
+     * Formats the timings of a request.
+     *
+     * @param timings the timings
+     * @param now     the current {@link System#nanoTime()}
+     * @return the header value
+     */
+    static String format(RequestTimings timings, long now) {
+        StringBuilder header = new StringBuilder(160);
+        append(header, "auth", timings.authenticationNanos());
+        append(header, "validation", timings.phaseNanos(Phase.VALIDATION));
+        append(header, "repository", timings.phaseNanos(Phase.REPOSITORY));
+        append(header, "db", timings.databaseNanos());
+        append(header, "mapping", timings.phaseNanos(Phase.MAPPING));
+        append(header, "json", timings.jsonNanos());
+        append(header, "total", now - timings.startNanos());
+        return header.toString();
+    }
+    
+    /**
+     * Appends a metric with its duration in milliseconds and three decimals, without going through a double.
+     */
+    private static void append(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty())
+            header.append(", ");
+        long micros = Math.max(0, nanos) / 1_000;
+        long fraction = micros % 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        if (fraction < 100)
+            header.append('0');
+        if (fraction < 10)
+            header.append('0');
+        header.append(fraction);
+    }
+}
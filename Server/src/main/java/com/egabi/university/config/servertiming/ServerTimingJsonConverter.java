@@ -0,0 +1,60 @@
+package com.egabi.university.config.servertiming;
+
+import com.egabi.university.config.timing.RequestTimings;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter timing the writing of response bodies for the {@code Server-Timing} header.
+ * <p>
+ * Within a request, the body is serialized into memory first and timed as the {@code json} phase, then copied to the
+ * response; the header is written when the copy commits the response, so it includes the JSON writing. Outside a
+ * request, e.g. for events sent on an open stream, bodies are written directly.
+ * </p>
+ */
+public class ServerTimingJsonConverter extends MappingJackson2HttpMessageConverter {
+    
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    
+    public ServerTimingJsonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+    
+    @Override
+    protected void writeInternal(@NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        
+        long start = System.nanoTime();
+        FastByteArrayOutputStream body = new FastByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            @NonNull
+            public OutputStream getBody() {
+                return body;
+            }
+            
+            @Override
+            @NonNull
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        timings.addJsonWriting(System.nanoTime() - start);
+        body.writeTo(outputMessage.getBody());
+    }
+}
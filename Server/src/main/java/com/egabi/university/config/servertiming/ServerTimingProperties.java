@@ -0,0 +1,22 @@
+package com.egabi.university.config.servertiming;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the {@code Server-Timing} response header.
+ * The header exposes how long each layer took to every client, so it is meant for development and staging
+ * environments, e.g. with {@code SERVER_TIMING_ENABLED=true}.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingProperties {
+    
+    /**
+     * Whether responses carry the header. Read at startup: when disabled, none of the timing interceptors,
+     * filter or JSON converter are registered.
+     */
+    private boolean enabled = false;
+}
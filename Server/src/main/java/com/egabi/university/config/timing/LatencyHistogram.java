@@ -0,0 +1,183 @@
+package com.egabi.university.config.timing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so a recorded latency is off by at most
+ * 1/{@value #SUB_BUCKETS} of its value; latencies above 2^{@value #MAX_EXPONENT} ns (about 2 minutes) are clamped.
+ * Recording is a bucket index computation and a single atomic increment, with no allocation.
+ * </p>
+ * <p>
+ * Percentiles are computed over a sliding window made of two alternating bucket arrays: each covers one window of
+ * the clock passed to {@link #record}, and the array of the window before last is drained by the first recording of
+ * a new window. Draining moves its counts into the totals kept since startup, where the latency of each call is
+ * estimated by the middle of its bucket, so the total latency is as precise as the buckets.
+ * </p>
+ */
+final class LatencyHistogram {
+    
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 37;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+    
+    private final int windowShift;
+    private final AtomicLongArray[] windows = {new AtomicLongArray(BUCKETS), new AtomicLongArray(BUCKETS)};
+    private final AtomicLong[] windowIds = {new AtomicLong(-1), new AtomicLong(-1)};
+    private final AtomicLong drainedCount = new AtomicLong();
+    private final DoubleAdder drainedNanos = new DoubleAdder();
+    private final AtomicLong lastCount = new AtomicLong();
+    
+    /**
+     * @param windowNanos the length of a window, rounded up to a power of two nanoseconds
+     */
+    LatencyHistogram(long windowNanos) {
+        this.windowShift = 64 - Long.numberOfLeadingZeros(Math.max(1, windowNanos - 1));
+    }
+    
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     * @param now   the current {@link System#nanoTime()}, which selects the window
+     */
+    void record(long nanos, long now) {
+        long windowId = now >> windowShift;
+        int slot = (int) (windowId & 1);
+        AtomicLongArray buckets = windows[slot];
+        long current = windowIds[slot].get();
+        if (current < windowId && windowIds[slot].compareAndSet(current, windowId))
+            drain(buckets);
+        buckets.getAndIncrement(indexOf(nanos));
+    }
+    
+    /**
+     * Returns the number of latencies recorded since startup.
+     * Never decreases, even while a window is being drained.
+     *
+     * @return the number of recorded latencies
+     */
+    long count() {
+        long count = drainedCount.get();
+        for (AtomicLongArray buckets : windows)
+            for (int i = 0; i < BUCKETS; i++)
+                count += buckets.get(i);
+        return lastCount.accumulateAndGet(count, Math::max);
+    }
+    
+    /**
+     * Returns the sum of the latencies recorded since startup, each estimated by the middle of its bucket.
+     *
+     * @return the total latency in nanoseconds
+     */
+    double totalNanos() {
+        double total = drainedNanos.sum();
+        for (AtomicLongArray buckets : windows)
+            for (int i = 0; i < BUCKETS; i++)
+                total += buckets.get(i) * middleValueOf(i);
+        return total;
+    }
+    
+    /**
+     * Returns a percentile of the latencies recorded in the current and the previous window.
+     *
+     * @param percentile the percentile, between 0 and 1; 1 gives the maximum
+     * @param now        the current {@link System#nanoTime()}
+     * @return the highest latency of the bucket holding the percentile, in nanoseconds, or 0 if nothing was recorded
+     */
+    long percentile(double percentile, long now) {
+        long windowId = now >> windowShift;
+        long[] merged = new long[BUCKETS];
+        long total = 0;
+        for (int slot = 0; slot < 2; slot++) {
+            long id = windowIds[slot].get();
+            if (id != windowId && id != windowId - 1)
+                continue;
+            for (int i = 0; i < BUCKETS; i++) {
+                long bucket = windows[slot].get(i);
+                merged[i] += bucket;
+                total += bucket;
+            }
+        }
+        if (total == 0)
+            return 0;
+        
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += merged[i];
+            if (seen >= rank)
+                return highestValueOf(i);
+        }
+        return highestValueOf(BUCKETS - 1);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Moves the counts of a window into the totals kept since startup and clears it. Calls recorded into the window
+     * while it is drained are either moved or kept in it, never lost.
+     *
+     * @param buckets the buckets of the window
+     */
+    private void drain(AtomicLongArray buckets) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucket = buckets.getAndSet(i, 0);
+            if (bucket != 0) {
+                drainedNanos.add(bucket * middleValueOf(i));
+                drainedCount.addAndGet(bucket);
+            }
+        }
+    }
+    
+    /**
+     * Returns the bucket of a latency: values below {@value #SUB_BUCKETS} get a bucket each, larger ones fall into
+     * one of the {@value #SUB_BUCKETS} linear sub-buckets of their power of two.
+     *
+     * @param nanos the latency
+     * @return the index of its bucket
+     */
+    static int indexOf(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+    
+    /**
+     * Returns the highest latency that falls into a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the highest latency of the bucket
+     */
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+    
+    /**
+     * Returns the middle of the latencies that fall into a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the middle latency of the bucket
+     */
+    static double middleValueOf(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        long width = 1L << (index / SUB_BUCKETS - 1);
+        return highestValueOf(index) - (width - 1) / 2.0;
+    }
+}
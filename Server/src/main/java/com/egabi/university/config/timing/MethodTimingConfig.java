@@ -0,0 +1,40 @@
+package com.egabi.university.config.timing;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Configuration class applying the {@link MethodTimingInterceptor} to the public methods of the academic services,
+ * the validation service and the mappers.
+ */
+@Configuration
+public class MethodTimingConfig {
+    
+    /**
+     * Calls that are timed.
+     */
+    public static final String POINTCUT = "execution(public * com.egabi.university.service.academic..*(..))"
+            + " || execution(public * com.egabi.university.service.validation..*(..))"
+            + " || execution(public * com.egabi.university.mapper..*(..))";
+    
+    /**
+     * Advisor picked up by the auto-proxy creator. It is created before most beans, so it resolves the
+     * {@link MethodTimings} lazily instead of pulling the meter registry in early.
+     *
+     * @param methodTimings the timings, resolved on the first timed call
+     * @return the method timing advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor methodTimingAdvisor(ObjectProvider<MethodTimings> methodTimings) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(POINTCUT);
+        return new DefaultPointcutAdvisor(pointcut, new MethodTimingInterceptor(methodTimings::getObject));
+    }
+}
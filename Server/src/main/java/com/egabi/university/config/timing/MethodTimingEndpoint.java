@@ -0,0 +1,56 @@
+package com.egabi.university.config.timing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the slowest timed methods by p99 latency, at {@code /actuator/methodtimings}.
+ * A write operation switches the timing on or off at runtime.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "methodtimings")
+public class MethodTimingEndpoint {
+    
+    private final MethodTimings methodTimings;
+    private final MethodTimingProperties properties;
+    
+    /**
+     * Lists the slowest methods.
+     *
+     * @param limit the maximum number of methods, {@code method-timing.top-n} when not given
+     * @return whether timing is enabled and the slowest methods, slowest first
+     */
+    @ReadOperation
+    public MethodTimingReport slowest(@Nullable Integer limit) {
+        int n = limit != null && limit > 0 ? limit : properties.getTopN();
+        return new MethodTimingReport(methodTimings.isEnabled(), methodTimings.slowest(n));
+    }
+    
+    /**
+     * Switches the timing of method calls on or off.
+     *
+     * @param enabled whether method calls are timed
+     * @return whether timing is enabled and the slowest methods, slowest first
+     */
+    @WriteOperation
+    public MethodTimingReport toggle(boolean enabled) {
+        methodTimings.setEnabled(enabled);
+        return slowest(null);
+    }
+    
+    /**
+     * Body of the endpoint.
+     *
+     * @param enabled whether method calls are timed
+     * @param methods the slowest methods, slowest first
+     */
+    public record MethodTimingReport(boolean enabled, List<MethodTimings.MethodLatency> methods) {
+    }
+}
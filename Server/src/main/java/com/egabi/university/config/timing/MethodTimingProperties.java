@@ -0,0 +1,34 @@
+package com.egabi.university.config.timing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the latency timers recorded around the academic services, the validation service
+ * and the mappers.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "method-timing")
+public class MethodTimingProperties {
+    
+    /**
+     * Whether method calls are timed at startup. Can be switched at runtime through the {@code methodtimings}
+     * actuator endpoint.
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Number of methods listed by the actuator endpoint when no limit is given.
+     */
+    private int topN = 10;
+    
+    /**
+     * Length of a percentile window, rounded up to a power of two nanoseconds (about 69 seconds for one minute).
+     * Percentiles cover the current and the previous window, so between one and two windows of calls.
+     */
+    private Duration percentileWindow = Duration.ofMinutes(1);
+}
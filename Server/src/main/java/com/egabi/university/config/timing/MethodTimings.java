@@ -0,0 +1,177 @@
+package com.egabi.university.config.timing;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds a {@link LatencyHistogram} per outcome for every timed method.
+ * <p>
+ * Histograms are exported through Micrometer as the {@code method.timed} timer and the {@code method.timed.p99}
+ * gauge, tagged with the class, the method and the outcome. They are created on the first call of a method, or on
+ * its first failure for the error outcome, and looked up by {@link Method} afterwards.
+ * </p>
+ */
+@Component
+public class MethodTimings {
+    
+    static final String METRIC_NAME = "method.timed";
+    private static final double P99 = 0.99;
+    
+    private final MeterRegistry meterRegistry;
+    private final long windowNanos;
+    private final ConcurrentHashMap<Method, MethodTimer> timers = new ConcurrentHashMap<>();
+    
+    private volatile boolean enabled;
+    
+    public MethodTimings(MeterRegistry meterRegistry, MethodTimingProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.windowNanos = properties.getPercentileWindow().toNanos();
+        this.enabled = properties.isEnabled();
+    }
+    
+    /**
+     * Checks whether method calls are currently timed.
+     *
+     * @return true if method calls are timed
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Switches the timing of method calls on or off. Latencies already recorded are kept.
+     *
+     * @param enabled whether method calls are timed
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    /**
+     * Returns the timer of a method, registering it on its first call.
+     *
+     * @param method the timed method
+     * @param target the bean the method is called on
+     * @return the timer of the method
+     */
+    public MethodTimer timerFor(Method method, Object target) {
+        MethodTimer timer = timers.get(method);
+        return timer != null ? timer : timers.computeIfAbsent(method,
+                m -> new MethodTimer(AopUtils.getTargetClass(target).getSimpleName(), m.getName()));
+    }
+    
+    /**
+     * Returns the slowest methods by p99 latency over the current window.
+     *
+     * @param limit the maximum number of methods to return
+     * @return the slowest methods, slowest first
+     */
+    public List<MethodLatency> slowest(int limit) {
+        long now = System.nanoTime();
+        List<MethodLatency> latencies = new ArrayList<>();
+        for (MethodTimer timer : timers.values()) {
+            addLatency(latencies, timer, "success", timer.success, now);
+            addLatency(latencies, timer, "error", timer.error, now);
+        }
+        latencies.sort(Comparator.comparingDouble(MethodLatency::p99Millis).reversed());
+        return latencies.subList(0, Math.min(limit, latencies.size()));
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private LatencyHistogram register(String className, String methodName, String outcome) {
+        LatencyHistogram histogram = new LatencyHistogram(windowNanos);
+        Tags tags = Tags.of("class", className, "method", methodName, "outcome", outcome);
+        FunctionTimer.builder(METRIC_NAME, histogram, LatencyHistogram::count, LatencyHistogram::totalNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Latency of service, validation and mapper method calls")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".p99", histogram, h -> h.percentile(P99, System.nanoTime()) / 1e9)
+                .description("p99 latency of service, validation and mapper method calls over the recent window")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(meterRegistry);
+        return histogram;
+    }
+    
+    private static void addLatency(List<MethodLatency> latencies, MethodTimer timer, String outcome,
+                                   LatencyHistogram histogram, long now) {
+        if (histogram == null || histogram.count() == 0)
+            return;
+        
+        long count = histogram.count();
+        latencies.add(new MethodLatency(timer.className + "." + timer.methodName, outcome, count,
+                histogram.percentile(P99, now) / 1e6, histogram.totalNanos() / count / 1e6,
+                histogram.percentile(1, now) / 1e6));
+    }
+    
+    /**
+     * Timer of a single method, recording calls that returned and calls that threw separately.
+     */
+    public final class MethodTimer {
+        
+        private final String className;
+        private final String methodName;
+        private final LatencyHistogram success;
+        private volatile LatencyHistogram error;
+        
+        private MethodTimer(String className, String methodName) {
+            this.className = className;
+            this.methodName = methodName;
+            this.success = register(className, methodName, "success");
+        }
+        
+        /**
+         * Records the latency of a call.
+         *
+         * @param nanos     the latency in nanoseconds
+         * @param now       the current {@link System#nanoTime()}
+         * @param succeeded whether the call returned
+         */
+        public void record(long nanos, long now, boolean succeeded) {
+            (succeeded ? success : error()).record(nanos, now);
+        }
+        
+        private LatencyHistogram error() {
+            LatencyHistogram histogram = error;
+            if (histogram == null) {
+                synchronized (this) {
+                    histogram = error;
+                    if (histogram == null) {
+                        histogram = register(className, methodName, "error");
+                        error = histogram;
+                    }
+                }
+            }
+            return histogram;
+        }
+    }
+    
+    /**
+     * Latency summary of a method and outcome.
+     *
+     * @param method     the class and method name
+     * @param outcome    {@code success} or {@code error}
+     * @param count      the number of calls recorded since startup
+     * @param p99Millis  the p99 latency over the recent window, in milliseconds
+     * @param meanMillis the mean latency since startup, in milliseconds
+     * @param maxMillis  the maximum latency over the recent window, in milliseconds
+     */
+    public record MethodLatency(String method, String outcome, long count, double p99Millis, double meanMillis,
+                                double maxMillis) {
+    }
+}
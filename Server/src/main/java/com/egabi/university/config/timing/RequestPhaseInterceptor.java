@@ -0,0 +1,41 @@
+package com.egabi.university.config.timing;
+
+import com.egabi.university.config.timing.RequestTimings.Phase;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.lang.NonNull;
+
+/**
+ * Adds the time of the outermost calls of a {@link Phase} to the {@link RequestTimings} of the current request.
+ * Nested calls of the same phase and calls outside a request only cost a thread-local lookup.
+ */
+public class RequestPhaseInterceptor implements MethodInterceptor {
+    
+    private final Phase phase;
+    
+    public RequestPhaseInterceptor(Phase phase) {
+        this.phase = phase;
+    }
+    
+    /**
+     * Times a call if it is the outermost of its phase in the current request.
+     *
+     * @param invocation the intercepted call
+     * @return the result of the call
+     * @throws Throwable whatever the call throws
+     */
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null)
+            return invocation.proceed();
+        
+        boolean outermost = timings.enter(phase);
+        long start = outermost ? System.nanoTime() : 0;
+        try {
+            return invocation.proceed();
+        } finally {
+            timings.exit(phase, outermost ? System.nanoTime() - start : 0);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.egabi.university.config.timing;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class registering the {@link RequestTimingInterceptor} on every handler.
+ */
+@Configuration
+public class RequestTimingConfig implements WebMvcConfigurer {
+    
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingInterceptor());
+    }
+}
@@ -0,0 +1,48 @@
+package com.egabi.university.config.timing;
+
+import com.egabi.university.entity.authentication.User;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Marks the start and the completion of the handler in the {@link RequestTimings} of the request, and records the
+ * authenticated user. The handler of an asynchronous request completes when its concurrent handling starts.
+ */
+public class RequestTimingInterceptor implements AsyncHandlerInterceptor {
+    
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof User user && user.getId() != null)
+                timings.setUserId(user.getId());
+            timings.handlerStarted(System.nanoTime());
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+                                               @NonNull HttpServletResponse response, @NonNull Object handler) {
+        completeHandler();
+    }
+    
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception ex) {
+        completeHandler();
+    }
+    
+    private static void completeHandler() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null)
+            timings.handlerCompleted(System.nanoTime());
+    }
+}
@@ -0,0 +1,25 @@
+package com.egabi.university.config.timing;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Adds the execution time of every statement to the {@link RequestTimings} of the request that issued it.
+ * Registered on the data source proxy, whose elapsed times are in nanoseconds.
+ */
+public class RequestTimingQueryListener implements QueryExecutionListener {
+    
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+    
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null)
+            timings.addStatement(execInfo.getElapsedTime());
+    }
+}
@@ -0,0 +1,238 @@
+package com.egabi.university.config.timing;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Time spent by the current request in each of its phases: authentication, controller, database and serialization,
+ * and in the validation service, the repositories, the mappers and JSON writing.
+ * <p>
+ * A single instance is kept per thread and reset at the start of every request, so recording a phase allocates
+ * nothing. Timings are only collected between {@link #start(long)} and {@link #stop()}, called by the outermost filter;
+ * {@link #current()} returns {@code null} outside a request, so the recording sites skip their work.
+ * </p>
+ * <p>
+ * The handler time is split at the point its response body starts being written: the controller time comes before,
+ * the serialization time after, and the statements executed in each are counted as database time only.
+ * </p>
+ * <p>
+ * Each {@link Phase} counts the time of its outermost calls only, so a mapper calling another mapper is not counted
+ * twice; phases may overlap each other, e.g. the repository calls made by the validation service.
+ * </p>
+ */
+public final class RequestTimings {
+    
+    /**
+     * User ID recorded for an anonymous request.
+     */
+    public static final long ANONYMOUS = -1;
+    
+    /**
+     * Layers of the application timed by {@link RequestPhaseInterceptor}.
+     */
+    public enum Phase {
+        VALIDATION, REPOSITORY, MAPPING
+    }
+    
+    private static final ThreadLocal<RequestTimings> THREAD_TIMINGS = ThreadLocal.withInitial(RequestTimings::new);
+    
+    private boolean active;
+    private long startNanos;
+    private long authenticationNanos;
+    private long databaseNanos;
+    private int statements;
+    private long handlerStartNanos;
+    private long handlerDatabaseNanos;
+    private long bodyWriteStartNanos;
+    private long bodyWriteDatabaseNanos;
+    private long controllerNanos;
+    private long serializationNanos;
+    private long jsonNanos;
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private final int[] phaseDepths = new int[Phase.values().length];
+    private long userId;
+    
+    private RequestTimings() {
+    }
+    
+    /**
+     * Starts collecting the timings of a request on the current thread.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return the reset timings of the thread
+     */
+    public static RequestTimings start(long now) {
+        RequestTimings timings = THREAD_TIMINGS.get();
+        timings.active = true;
+        timings.startNanos = now;
+        timings.authenticationNanos = 0;
+        timings.databaseNanos = 0;
+        timings.statements = 0;
+        timings.handlerStartNanos = 0;
+        timings.handlerDatabaseNanos = 0;
+        timings.bodyWriteStartNanos = 0;
+        timings.bodyWriteDatabaseNanos = 0;
+        timings.controllerNanos = 0;
+        timings.serializationNanos = 0;
+        timings.jsonNanos = 0;
+        Arrays.fill(timings.phaseNanos, 0);
+        Arrays.fill(timings.phaseDepths, 0);
+        timings.userId = ANONYMOUS;
+        return timings;
+    }
+    
+    /**
+     * Returns the timings of the request running on the current thread.
+     *
+     * @return the timings, or {@code null} outside a request
+     */
+    @Nullable
+    public static RequestTimings current() {
+        RequestTimings timings = THREAD_TIMINGS.get();
+        return timings.active ? timings : null;
+    }
+    
+    /**
+     * Stops collecting timings on the current thread.
+     */
+    public void stop() {
+        active = false;
+    }
+    
+    /**
+     * Returns a detached copy, for a request completing on another thread.
+     *
+     * @return the copy, which is not bound to any thread
+     */
+    public RequestTimings copy() {
+        RequestTimings copy = new RequestTimings();
+        copy.startNanos = startNanos;
+        copy.authenticationNanos = authenticationNanos;
+        copy.databaseNanos = databaseNanos;
+        copy.statements = statements;
+        copy.handlerStartNanos = handlerStartNanos;
+        copy.handlerDatabaseNanos = handlerDatabaseNanos;
+        copy.bodyWriteStartNanos = bodyWriteStartNanos;
+        copy.bodyWriteDatabaseNanos = bodyWriteDatabaseNanos;
+        copy.controllerNanos = controllerNanos;
+        copy.serializationNanos = serializationNanos;
+        copy.jsonNanos = jsonNanos;
+        System.arraycopy(phaseNanos, 0, copy.phaseNanos, 0, phaseNanos.length);
+        copy.userId = userId;
+        return copy;
+    }
+    
+    // ================================================================
+    // Recording Methods
+    // ================================================================
+    
+    public void addAuthentication(long nanos) {
+        authenticationNanos += nanos;
+    }
+    
+    public void addStatement(long nanos) {
+        databaseNanos += nanos;
+        statements++;
+    }
+    
+    public void handlerStarted(long now) {
+        handlerStartNanos = now;
+        handlerDatabaseNanos = databaseNanos;
+        bodyWriteStartNanos = 0;
+    }
+    
+    public void bodyWriteStarted(long now) {
+        bodyWriteStartNanos = now;
+        bodyWriteDatabaseNanos = databaseNanos;
+    }
+    
+    /**
+     * Splits the time spent since {@link #handlerStarted(long)} into controller and serialization time, leaving out
+     * the statements executed in each, e.g. lazy loads while the body is written.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    public void handlerCompleted(long now) {
+        if (handlerStartNanos == 0)
+            return;
+        if (bodyWriteStartNanos != 0) {
+            controllerNanos += Math.max(0, bodyWriteStartNanos - handlerStartNanos
+                    - (bodyWriteDatabaseNanos - handlerDatabaseNanos));
+            serializationNanos += Math.max(0, now - bodyWriteStartNanos - (databaseNanos - bodyWriteDatabaseNanos));
+        } else {
+            controllerNanos += Math.max(0, now - handlerStartNanos - (databaseNanos - handlerDatabaseNanos));
+        }
+        handlerStartNanos = 0;
+        bodyWriteStartNanos = 0;
+    }
+    
+    public void addJsonWriting(long nanos) {
+        jsonNanos += nanos;
+    }
+    
+    /**
+     * Enters a call of a phase.
+     *
+     * @param phase the phase
+     * @return whether the call is the outermost of its phase, and must be timed
+     */
+    public boolean enter(Phase phase) {
+        return phaseDepths[phase.ordinal()]++ == 0;
+    }
+    
+    /**
+     * Leaves a call of a phase.
+     *
+     * @param phase the phase
+     * @param nanos the time of the call if it was the outermost, 0 otherwise
+     */
+    public void exit(Phase phase, long nanos) {
+        phaseDepths[phase.ordinal()]--;
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+    
+    public void setUserId(long userId) {
+        this.userId = userId;
+    }
+    
+    // ================================================================
+    // Accessors
+    // ================================================================
+    
+    public long startNanos() {
+        return startNanos;
+    }
+    
+    public long authenticationNanos() {
+        return authenticationNanos;
+    }
+    
+    public long databaseNanos() {
+        return databaseNanos;
+    }
+    
+    public int statements() {
+        return statements;
+    }
+    
+    public long controllerNanos() {
+        return controllerNanos;
+    }
+    
+    public long serializationNanos() {
+        return serializationNanos;
+    }
+    
+    public long jsonNanos() {
+        return jsonNanos;
+    }
+    
+    public long phaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+    
+    public long userId() {
+        return userId;
+    }
+}
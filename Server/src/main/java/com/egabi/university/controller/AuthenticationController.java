@@ -1,14 +1,18 @@
 package com.egabi.university.controller;
 
 import com.egabi.university.dto.authentication.request.AuthenticationRequest;
+import com.egabi.university.dto.authentication.request.RefreshTokenRequest;
 import com.egabi.university.dto.authentication.request.RegistrationRequest;
 import com.egabi.university.dto.authentication.response.AuthenticationResponse;
 import com.egabi.university.service.authentication.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -43,11 +47,44 @@ public class AuthenticationController {
      * Accepts an AuthenticationRequest object and returns an AuthenticationResponse.
      *
      * @param authenticationRequest the request containing user authentication details
+     * @param request               the HTTP request, used to throttle failed attempts per client IP address
      * @return ResponseEntity containing the authentication response
      */
     @PostMapping("/authenticate")
     public ResponseEntity<AuthenticationResponse> authenticate(
-            @RequestBody AuthenticationRequest authenticationRequest) {
-        return ResponseEntity.ok(authenticationService.authenticate(authenticationRequest));
+            @RequestBody AuthenticationRequest authenticationRequest, HttpServletRequest request) {
+        return ResponseEntity.ok(authenticationService.authenticate(authenticationRequest, request.getRemoteAddr()));
+    }
+    
+    /**
+     * Endpoint for refreshing the tokens of a session.
+     * Accepts a RefreshTokenRequest object and returns an AuthenticationResponse with a new pair of tokens.
+     *
+     * @param refreshTokenRequest the request containing the refresh token
+     * @return ResponseEntity containing the authentication response
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(
+            @RequestBody @Valid RefreshTokenRequest refreshTokenRequest) {
+        return ResponseEntity.ok(authenticationService.refresh(refreshTokenRequest));
+    }
+    
+    /**
+     * Endpoint for logging out a session.
+     * Revokes the refresh token family and the access token sent in the Authorization header, if any.
+     *
+     * @param refreshTokenRequest the request containing the refresh token
+     * @param authorization       the Authorization header, if any
+     * @return ResponseEntity with no content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestBody @Valid RefreshTokenRequest refreshTokenRequest,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authenticationService.logout(refreshTokenRequest, accessToken);
+        return ResponseEntity.noContent().build();
     }
 }
@@ -1,13 +1,18 @@
 package com.egabi.university.controller;
 
 import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.MultiGetDTO;
 import com.egabi.university.service.academic.CourseService;
+import com.egabi.university.service.academic.FieldProjectionService;
+import com.egabi.university.service.academic.PrerequisiteService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.egabi.university.util.ApiPaths.COURSES;
 
@@ -22,6 +27,12 @@ import static com.egabi.university.util.ApiPaths.COURSES;
 public class CourseController {
     
     private final CourseService courseService;
+    private final PrerequisiteService prerequisiteService;
+    private final FieldProjectionService fieldProjectionService;
+    
+    // ================================================================
+    // CRUD Endpoints
+    // ================================================================
     
     /**
      * Retrieves all courses.
@@ -33,6 +44,29 @@ public class CourseController {
         return ResponseEntity.ok(courseService.getAllCourses());
     }
     
+    /**
+     * Retrieves several courses by their codes with a single query.
+     *
+     * @param codes comma-separated codes, e.g. {@code ?codes=CS101,CS102}
+     * @return the courses found, in request order, and the codes that matched none
+     */
+    @GetMapping(params = "codes")
+    public ResponseEntity<MultiGetDTO<CourseDTO, String>> getCoursesByCodes(@RequestParam List<String> codes) {
+        return ResponseEntity.ok(courseService.getCoursesByCodes(codes));
+    }
+    
+    /**
+     * Retrieves the requested fields of all courses.
+     * Only the columns and joins the requested fields need are queried.
+     *
+     * @param fields comma-separated names of CourseDTO fields, e.g. {@code ?fields=code,name}
+     * @return List of maps of field name to value
+     */
+    @GetMapping(params = {"fields", "!codes"})
+    public ResponseEntity<List<Map<String, Object>>> getCourses(@RequestParam Set<String> fields) {
+        return ResponseEntity.ok(fieldProjectionService.getCourses(fields));
+    }
+    
     
     /**
      * Retrieves a course by its code.
@@ -45,6 +79,18 @@ public class CourseController {
         return ResponseEntity.ok(courseService.getCourseByCode(code));
     }
     
+    /**
+     * Retrieves the requested fields of a course.
+     *
+     * @param code   the code of the course
+     * @param fields comma-separated names of CourseDTO fields
+     * @return Map of field name to value
+     */
+    @GetMapping(value = "/{code}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getCourseByCode(@PathVariable String code, @RequestParam Set<String> fields) {
+        return ResponseEntity.ok(fieldProjectionService.getCourseByCode(code, fields));
+    }
+    
     /**
      * Creates a new course.
      *
@@ -82,4 +128,32 @@ public class CourseController {
         courseService.deleteCourse(code);
         return ResponseEntity.noContent().build();
     }
+    
+    // ================================================================
+    // Business Logic Endpoints
+    // ================================================================
+    
+    /**
+     * Retrieves the direct prerequisites of a course.
+     *
+     * @param code the code of the course
+     * @return List of prerequisite course codes
+     */
+    @GetMapping("/{code}/prerequisites")
+    public ResponseEntity<List<String>> getPrerequisites(@PathVariable String code) {
+        return ResponseEntity.ok(prerequisiteService.getPrerequisites(code));
+    }
+    
+    /**
+     * Replaces the direct prerequisites of a course.
+     *
+     * @param code              the code of the course
+     * @param prerequisiteCodes the codes of the new prerequisite courses
+     * @return ResponseEntity with the updated list of prerequisite course codes
+     */
+    @PutMapping("/{code}/prerequisites")
+    public ResponseEntity<List<String>> updatePrerequisites(@PathVariable String code,
+                                                            @RequestBody List<String> prerequisiteCodes) {
+        return ResponseEntity.ok(prerequisiteService.updatePrerequisites(code, prerequisiteCodes));
+    }
 }
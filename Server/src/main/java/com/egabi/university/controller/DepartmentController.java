@@ -1,9 +1,12 @@
 package com.egabi.university.controller;
 
 import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.DegreeRequirementDTO;
 import com.egabi.university.dto.DepartmentDTO;
 import com.egabi.university.service.academic.CourseService;
+import com.egabi.university.service.academic.DegreeAuditService;
 import com.egabi.university.service.academic.DepartmentService;
+import com.egabi.university.service.academic.StudentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +28,8 @@ public class DepartmentController {
     
     private final DepartmentService departmentService;
     private final CourseService courseService;
+    private final StudentService studentService;
+    private final DegreeAuditService degreeAuditService;
     
     // ================================================================
     // CRUD Endpoints
@@ -114,4 +119,58 @@ public class DepartmentController {
     public ResponseEntity<Long> countCoursesByDepartmentId(@PathVariable Long departmentId) {
         return ResponseEntity.ok(courseService.countCoursesByDepartmentId(departmentId));
     }
+    
+    // Student-related endpoints
+    
+    /**
+     * Counts all students in a specific department.
+     *
+     * @param departmentId the ID of the department
+     * @return Count of students in the specified department
+     */
+    @GetMapping("/{departmentId}/students/count")
+    public ResponseEntity<Long> countStudentsByDepartmentId(@PathVariable Long departmentId) {
+        return ResponseEntity.ok(studentService.countStudentsByDepartmentId(departmentId));
+    }
+    
+    // Degree requirement endpoints
+    
+    /**
+     * Retrieves all degree requirements of a department.
+     *
+     * @param departmentId the ID of the department
+     * @return List of DegreeRequirementDTO of the department
+     */
+    @GetMapping("/{departmentId}/requirements")
+    public ResponseEntity<List<DegreeRequirementDTO>> getRequirementsByDepartmentId(@PathVariable Long departmentId) {
+        return ResponseEntity.ok(degreeAuditService.getRequirementsByDepartmentId(departmentId));
+    }
+    
+    /**
+     * Creates a new degree requirement for a department.
+     *
+     * @param departmentId   the ID of the department
+     * @param requirementDTO the DegreeRequirementDTO containing the details of the requirement to create
+     * @return ResponseEntity with the created DegreeRequirementDTO and location URI
+     */
+    @PostMapping("/{departmentId}/requirements")
+    public ResponseEntity<DegreeRequirementDTO> createRequirement(@PathVariable Long departmentId,
+                                                                  @RequestBody DegreeRequirementDTO requirementDTO) {
+        DegreeRequirementDTO createdRequirement = degreeAuditService.createRequirement(departmentId, requirementDTO);
+        URI location = URI.create(DEPARTMENTS + "/" + departmentId + "/requirements/" + createdRequirement.getId());
+        return ResponseEntity.created(location).body(createdRequirement);
+    }
+    
+    /**
+     * Deletes a degree requirement of a department.
+     *
+     * @param departmentId  the ID of the department
+     * @param requirementId the ID of the requirement to delete
+     * @return ResponseEntity with no content status
+     */
+    @DeleteMapping("/{departmentId}/requirements/{requirementId}")
+    public ResponseEntity<Void> deleteRequirement(@PathVariable Long departmentId, @PathVariable Long requirementId) {
+        degreeAuditService.deleteRequirement(departmentId, requirementId);
+        return ResponseEntity.noContent().build();
+    }
 }
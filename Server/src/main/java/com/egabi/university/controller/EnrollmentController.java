@@ -2,9 +2,12 @@ package com.egabi.university.controller;
 
 import com.egabi.university.dto.EnrollmentDTO;
 import com.egabi.university.service.academic.EnrollmentService;
+import com.egabi.university.service.academic.EnrollmentStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 import java.util.List;
@@ -22,6 +25,7 @@ import static com.egabi.university.util.ApiPaths.ENROLLMENTS;
 public class EnrollmentController {
     
     private final EnrollmentService enrollmentService;
+    private final EnrollmentStreamService enrollmentStreamService;
     
     /**
      * Retrieves all enrollments.
@@ -33,6 +37,24 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollmentService.getAllEnrollments());
     }
     
+    /**
+     * Streams committed enrollment changes as Server-Sent Events.
+     * Events are named {@code created}, {@code updated} or {@code deleted}; a {@code reset} event tells the client
+     * that changes were missed and the data should be reloaded.
+     *
+     * @param courseCode  optional course code filter
+     * @param studentId   optional student ID filter
+     * @param lastEventId the id of the last received event, sent by reconnecting clients
+     * @return the event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEnrollments(
+            @RequestParam(required = false) String courseCode,
+            @RequestParam(required = false) Long studentId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return ResponseEntity.ok(enrollmentStreamService.subscribe(courseCode, studentId, lastEventId));
+    }
+    
     /**
      * Retrieves an enrollment by student ID and course code.
      *
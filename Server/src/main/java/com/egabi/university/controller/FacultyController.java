@@ -1,17 +1,25 @@
 package com.egabi.university.controller;
 
+import com.egabi.university.dto.DegreeAuditDTO;
 import com.egabi.university.dto.DepartmentDTO;
 import com.egabi.university.dto.FacultyDTO;
+import com.egabi.university.dto.FacultyTreeDTO;
 import com.egabi.university.dto.StudentDTO;
+import com.egabi.university.service.academic.CatalogTreeService;
+import com.egabi.university.service.academic.DegreeAuditService;
 import com.egabi.university.service.academic.DepartmentService;
 import com.egabi.university.service.academic.FacultyService;
 import com.egabi.university.service.academic.StudentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.egabi.university.util.ApiPaths.FACULTIES;
 
@@ -25,9 +33,18 @@ import static com.egabi.university.util.ApiPaths.FACULTIES;
 @RequiredArgsConstructor
 public class FacultyController {
     
+    /**
+     * Number of streamed audits between two flushes, at most one audit slice so clients receive every slice
+     * as soon as it is computed.
+     */
+    private static final int AUDIT_FLUSH_LINES = 256;
+    
     private final FacultyService facultyService;
     private final DepartmentService departmentService;
     private final StudentService studentService;
+    private final DegreeAuditService degreeAuditService;
+    private final CatalogTreeService catalogTreeService;
+    private final ObjectMapper objectMapper;
     
     // ================================================================
     // CRUD Endpoints
@@ -96,6 +113,29 @@ public class FacultyController {
     // Business Logic Endpoints
     // ================================================================
     
+    // Catalog tree endpoints
+    
+    /**
+     * Retrieves the whole academic catalog as a tree of faculties, levels, departments and courses.
+     *
+     * @return List of FacultyTreeDTO
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<List<FacultyTreeDTO>> getCatalogTree() {
+        return ResponseEntity.ok(catalogTreeService.getCatalogTree());
+    }
+    
+    /**
+     * Retrieves the catalog tree of a faculty by its ID.
+     *
+     * @param facultyId the ID of the faculty
+     * @return FacultyTreeDTO of the faculty
+     */
+    @GetMapping("/{facultyId}/tree")
+    public ResponseEntity<FacultyTreeDTO> getFacultyTree(@PathVariable Long facultyId) {
+        return ResponseEntity.ok(catalogTreeService.getFacultyTree(facultyId));
+    }
+    
     // Department-related endpoints
     
     /**
@@ -143,4 +183,28 @@ public class FacultyController {
     public ResponseEntity<Long> countStudentsByFacultyId(@PathVariable Long facultyId) {
         return ResponseEntity.ok(studentService.countStudentsByFacultyId(facultyId));
     }
+    
+    /**
+     * Audits every student of a faculty in parallel.
+     * Results are streamed as newline-delimited JSON while they are computed, flushed every
+     * {@value #AUDIT_FLUSH_LINES} lines.
+     *
+     * @param facultyId the ID of the faculty
+     * @return a stream of DegreeAuditDTOs, one JSON document per line
+     */
+    @GetMapping(value = "/{facultyId}/degree-audits", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> auditFaculty(@PathVariable Long facultyId) {
+        Stream<DegreeAuditDTO> audits = degreeAuditService.auditFaculty(facultyId);
+        StreamingResponseBody body = out -> {
+            int lines = 0;
+            for (DegreeAuditDTO audit : (Iterable<DegreeAuditDTO>) audits::iterator) {
+                out.write(objectMapper.writeValueAsBytes(audit));
+                out.write('\n');
+                if (++lines % AUDIT_FLUSH_LINES == 0)
+                    out.flush();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
@@ -1,6 +1,8 @@
 package com.egabi.university.controller;
 
 import com.egabi.university.dto.InstructorDTO;
+import com.egabi.university.dto.MultiGetDTO;
+import com.egabi.university.service.academic.FieldProjectionService;
 import com.egabi.university.service.academic.InstructorService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +10,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.egabi.university.util.ApiPaths.INSTRUCTORS;
 
@@ -22,6 +26,7 @@ import static com.egabi.university.util.ApiPaths.INSTRUCTORS;
 public class InstructorController {
     
     private final InstructorService instructorService;
+    private final FieldProjectionService fieldProjectionService;
     
     /**
      * Retrieves all instructors.
@@ -33,6 +38,29 @@ public class InstructorController {
         return ResponseEntity.ok(instructorService.getAllInstructors());
     }
     
+    /**
+     * Retrieves several instructors by their IDs with a single query.
+     *
+     * @param ids comma-separated IDs, e.g. {@code ?ids=1,2,3}
+     * @return the instructors found, in request order, and the IDs that matched none
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetDTO<InstructorDTO, Long>> getInstructorsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(instructorService.getInstructorsByIds(ids));
+    }
+    
+    /**
+     * Retrieves the requested fields of all instructors.
+     * Only the columns and joins the requested fields need are queried.
+     *
+     * @param fields comma-separated names of InstructorDTO fields, e.g. {@code ?fields=id,firstName,lastName}
+     * @return List of maps of field name to value
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<List<Map<String, Object>>> getInstructors(@RequestParam Set<String> fields) {
+        return ResponseEntity.ok(fieldProjectionService.getInstructors(fields));
+    }
+    
     /**
      * Retrieves an instructor by its ID.
      *
@@ -44,6 +72,18 @@ public class InstructorController {
         return ResponseEntity.ok(instructorService.getInstructorById(instructorId));
     }
     
+    /**
+     * Retrieves the requested fields of a instructor.
+     *
+     * @param instructorId the ID of the instructor
+     * @param fields       comma-separated names of InstructorDTO fields
+     * @return Map of field name to value
+     */
+    @GetMapping(value = "/{instructorId}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getInstructorById(@PathVariable Long instructorId, @RequestParam Set<String> fields) {
+        return ResponseEntity.ok(fieldProjectionService.getInstructorById(instructorId, fields));
+    }
+    
     /**
      * Creates a new instructor.
      *
@@ -1,13 +1,23 @@
 package com.egabi.university.controller;
 
+import com.egabi.university.dto.ArchivedStudentDTO;
+import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.DegreeAuditDTO;
+import com.egabi.university.dto.MultiGetDTO;
 import com.egabi.university.dto.StudentDTO;
+import com.egabi.university.service.academic.DegreeAuditService;
+import com.egabi.university.service.academic.FieldProjectionService;
+import com.egabi.university.service.academic.PrerequisiteService;
 import com.egabi.university.service.academic.StudentService;
+import com.egabi.university.service.archive.StudentArchiveService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.egabi.university.util.ApiPaths.STUDENTS;
 
@@ -22,6 +32,14 @@ import static com.egabi.university.util.ApiPaths.STUDENTS;
 public class StudentController {
     
     private final StudentService studentService;
+    private final FieldProjectionService fieldProjectionService;
+    private final PrerequisiteService prerequisiteService;
+    private final DegreeAuditService degreeAuditService;
+    private final StudentArchiveService studentArchiveService;
+    
+    // ================================================================
+    // CRUD Endpoints
+    // ================================================================
     
     /**
      * Retrieves all students.
@@ -33,6 +51,29 @@ public class StudentController {
         return ResponseEntity.ok(studentService.getAllStudents());
     }
     
+    /**
+     * Retrieves several students by their IDs with a single query.
+     *
+     * @param ids comma-separated IDs, e.g. {@code ?ids=1,2,3}
+     * @return the students found, in request order, and the IDs that matched none
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetDTO<StudentDTO, Long>> getStudentsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(studentService.getStudentsByIds(ids));
+    }
+    
+    /**
+     * Retrieves the requested fields of all students.
+     * Only the columns and joins the requested fields need are queried.
+     *
+     * @param fields comma-separated names of StudentDTO fields, e.g. {@code ?fields=id,firstName,lastName}
+     * @return List of maps of field name to value
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<List<Map<String, Object>>> getStudents(@RequestParam Set<String> fields) {
+        return ResponseEntity.ok(fieldProjectionService.getStudents(fields));
+    }
+    
     /**
      * Retrieves a student by ID.
      *
@@ -44,6 +85,18 @@ public class StudentController {
         return ResponseEntity.ok(studentService.getStudentById(studentId));
     }
     
+    /**
+     * Retrieves the requested fields of a student.
+     *
+     * @param studentId the ID of the student
+     * @param fields    comma-separated names of StudentDTO fields
+     * @return Map of field name to value
+     */
+    @GetMapping(value = "/{studentId}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getStudentById(@PathVariable Long studentId, @RequestParam Set<String> fields) {
+        return ResponseEntity.ok(fieldProjectionService.getStudentById(studentId, fields));
+    }
+    
     /**
      * Creates a new student.
      *
@@ -81,4 +134,52 @@ public class StudentController {
         studentService.deleteStudent(studentId);
         return ResponseEntity.noContent().build();
     }
+    
+    // ================================================================
+    // Business Logic Endpoints
+    // ================================================================
+    
+    /**
+     * Retrieves all courses the student has not passed yet and whose prerequisites they have all passed.
+     *
+     * @param studentId the ID of the student.
+     * @return ResponseEntity containing a list of eligible CourseDTOs.
+     */
+    @GetMapping("/{studentId}/eligible-courses")
+    public ResponseEntity<List<CourseDTO>> getEligibleCourses(@PathVariable Long studentId) {
+        return ResponseEntity.ok(prerequisiteService.getEligibleCourses(studentId));
+    }
+    
+    /**
+     * Audits what the student still lacks to graduate.
+     *
+     * @param studentId the ID of the student.
+     * @return ResponseEntity containing the DegreeAuditDTO.
+     */
+    @GetMapping("/{studentId}/degree-audit")
+    public ResponseEntity<DegreeAuditDTO> getDegreeAudit(@PathVariable Long studentId) {
+        return ResponseEntity.ok(degreeAuditService.auditStudent(studentId));
+    }
+    
+    /**
+     * Marks a student who meets every degree requirement as graduated.
+     *
+     * @param studentId the ID of the student.
+     * @return ResponseEntity containing the updated StudentDTO.
+     */
+    @PostMapping("/{studentId}/graduation")
+    public ResponseEntity<StudentDTO> graduateStudent(@PathVariable Long studentId) {
+        return ResponseEntity.ok(studentArchiveService.graduateStudent(studentId));
+    }
+    
+    /**
+     * Retrieves an archived student with their archived enrollments.
+     *
+     * @param studentId the ID of the archived student.
+     * @return ResponseEntity containing the ArchivedStudentDTO.
+     */
+    @GetMapping("/archived/{studentId}")
+    public ResponseEntity<ArchivedStudentDTO> getArchivedStudent(@PathVariable Long studentId) {
+        return ResponseEntity.ok(studentArchiveService.getArchivedStudent(studentId));
+    }
 }
@@ -0,0 +1,94 @@
+package com.egabi.university.controller;
+
+import com.egabi.university.dto.EnrollmentDTO;
+import com.egabi.university.dto.TermDTO;
+import com.egabi.university.entity.Term;
+import com.egabi.university.service.academic.EnrollmentService;
+import com.egabi.university.service.academic.TermService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+import static com.egabi.university.util.ApiPaths.TERMS;
+
+/**
+ * REST Controller for managing academic terms.
+ * Provides endpoints to list, create and close terms, and to read the enrollments of any term.
+ */
+@RestController
+@RequestMapping(TERMS)
+@RequiredArgsConstructor
+public class TermController {
+    
+    private final TermService termService;
+    private final EnrollmentService enrollmentService;
+    
+    // ================================================================
+    // CRUD Endpoints
+    // ================================================================
+    
+    /**
+     * Retrieves all terms, the most recent first.
+     *
+     * @return ResponseEntity containing a list of TermDTOs.
+     */
+    @GetMapping
+    public ResponseEntity<List<TermDTO>> getAllTerms() {
+        return ResponseEntity.ok(termService.getAllTerms());
+    }
+    
+    /**
+     * Creates a new open term.
+     *
+     * @param termDTO the TermDTO containing the code and dates of the term.
+     * @return ResponseEntity containing the created TermDTO and the URI of the new resource.
+     */
+    @PostMapping
+    public ResponseEntity<TermDTO> createTerm(@RequestBody TermDTO termDTO) {
+        TermDTO createdTerm = termService.createTerm(termDTO);
+        URI location = URI.create(TERMS + "/" + createdTerm.getId());
+        return ResponseEntity.created(location).body(createdTerm);
+    }
+    
+    // ================================================================
+    // Business Logic Endpoints
+    // ================================================================
+    
+    /**
+     * Retrieves the current term.
+     *
+     * @return ResponseEntity containing the TermDTO of the current term.
+     */
+    @GetMapping("/current")
+    public ResponseEntity<TermDTO> getCurrentTerm() {
+        return ResponseEntity.ok(termService.getCurrentTerm());
+    }
+    
+    /**
+     * Closes an open term.
+     *
+     * @param termId the ID of the term.
+     * @param status {@code FROZEN} to make its enrollments read-only, {@code DETACHED} to detach them once they
+     *               are all archived.
+     * @return ResponseEntity containing the closed TermDTO.
+     */
+    @PostMapping("/{termId}/close")
+    public ResponseEntity<TermDTO> closeTerm(@PathVariable Long termId,
+                                             @RequestParam(defaultValue = "FROZEN") Term.Status status) {
+        return ResponseEntity.ok(termService.closeTerm(termId, status));
+    }
+    
+    /**
+     * Retrieves all enrollments of a term.
+     *
+     * @param termId the ID of the term.
+     * @return ResponseEntity containing a list of EnrollmentDTOs.
+     */
+    @GetMapping("/{termId}/enrollments")
+    public ResponseEntity<List<EnrollmentDTO>> getEnrollmentsByTermId(@PathVariable Long termId) {
+        return ResponseEntity.ok(enrollmentService.getEnrollmentsByTermId(termId));
+    }
+}
@@ -0,0 +1,63 @@
+package com.egabi.university.controller;
+
+import com.egabi.university.entity.authentication.Role;
+import com.egabi.university.service.authentication.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static com.egabi.university.util.ApiPaths.USERS;
+
+/**
+ * REST Controller for managing the access of user accounts.
+ * Provides admin endpoints to lock and unlock accounts and to change their roles, each of which rejects the
+ * access tokens issued to the account before the change.
+ */
+@RestController
+@RequestMapping(USERS)
+@RequiredArgsConstructor
+public class UserController {
+    
+    private final UserService userService;
+    
+    // ================================================================
+    // Business Logic Endpoints
+    // ================================================================
+    
+    /**
+     * Locks a user account.
+     *
+     * @param userId the ID of the user.
+     * @return ResponseEntity with no content.
+     */
+    @PostMapping("/{userId}/lock")
+    public ResponseEntity<Void> lockUser(@PathVariable Long userId) {
+        userService.lockUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Unlocks a user account.
+     *
+     * @param userId the ID of the user.
+     * @return ResponseEntity with no content.
+     */
+    @PostMapping("/{userId}/unlock")
+    public ResponseEntity<Void> unlockUser(@PathVariable Long userId) {
+        userService.unlockUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Changes the role of a user.
+     *
+     * @param userId the ID of the user.
+     * @param role   the new role of the user.
+     * @return ResponseEntity with no content.
+     */
+    @PutMapping("/{userId}/role")
+    public ResponseEntity<Void> changeRole(@PathVariable Long userId, @RequestParam Role role) {
+        userService.changeRole(userId, role);
+        return ResponseEntity.noContent().build();
+    }
+}
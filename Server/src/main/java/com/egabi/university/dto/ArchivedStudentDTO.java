@@ -0,0 +1,32 @@
+package com.egabi.university.dto;
+
+import com.egabi.university.entity.ArchivedStudent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for @{@link ArchivedStudent}.
+ * Carries an archived student together with their archived enrollments.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedStudentDTO {
+    private Long id;
+    private Long userId;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+    private LocalDate dateOfBirth;
+    private String gender;
+    private Long departmentId;
+    private Long levelId;
+    private LocalDate graduationDate;
+    private Instant archivedAt;
+    private List<EnrollmentDTO> enrollments;
+}
@@ -0,0 +1,22 @@
+package com.egabi.university.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a course with the IDs of its instructors.
+ * Used as a leaf of {@link FacultyTreeDTO}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseTreeDTO {
+    private String code;
+    private String name;
+    private Integer credits;
+    private Long levelId;
+    private List<Long> instructorIds;
+}
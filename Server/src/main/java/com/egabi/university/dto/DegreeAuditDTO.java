@@ -0,0 +1,25 @@
+package com.egabi.university.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the result of a student's degree audit.
+ * Lists what the student still lacks to meet the requirements of their department and level.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DegreeAuditDTO {
+    private Long studentId;
+    private Long departmentId;
+    private Long levelId;
+    private Integer earnedCredits;
+    private Integer requiredCredits;
+    private Integer missingCredits;
+    private List<String> missingCourseCodes;
+    private boolean complete;
+}
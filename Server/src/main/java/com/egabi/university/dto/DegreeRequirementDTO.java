@@ -0,0 +1,22 @@
+package com.egabi.university.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for DegreeRequirement Entity.
+ * Used to transfer degree requirement data between layers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DegreeRequirementDTO {
+    private Long id;
+    private Long departmentId;
+    private Long levelId;
+    private Integer minimumCredits;
+    private List<String> requiredCourseCodes;
+}
@@ -0,0 +1,20 @@
+package com.egabi.university.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a department with its courses.
+ * Used as a node of {@link FacultyTreeDTO}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentTreeDTO {
+    private Long id;
+    private String name;
+    private List<CourseTreeDTO> courses;
+}
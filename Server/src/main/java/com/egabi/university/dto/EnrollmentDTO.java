@@ -15,4 +15,5 @@ public class EnrollmentDTO {
     private Long studentId;
     private String courseCode;
     private Double grade;
+    private Long termId;
 }
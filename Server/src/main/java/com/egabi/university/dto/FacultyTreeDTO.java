@@ -0,0 +1,21 @@
+package com.egabi.university.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a faculty with its levels, departments and courses.
+ * Used to return the academic catalog as a single tree.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacultyTreeDTO {
+    private Long id;
+    private String name;
+    private List<LevelDTO> levels;
+    private List<DepartmentTreeDTO> departments;
+}
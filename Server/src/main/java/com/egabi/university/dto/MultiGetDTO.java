@@ -0,0 +1,48 @@
+package com.egabi.university.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Data Transfer Object for multi-get responses.
+ * Holds the items found for the requested keys, in request order, and the keys that matched nothing.
+ *
+ * @param <T> the item type
+ * @param <K> the key type
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiGetDTO<T, K> {
+    private List<T> items;
+    private List<K> missing;
+    
+    /**
+     * Orders the found items by the requested keys and collects the keys that were not found.
+     *
+     * @param keys  the requested keys, without duplicates
+     * @param found the items found, in any order
+     * @param keyOf extracts the key of an item
+     * @return the multi-get result
+     */
+    public static <T, K> MultiGetDTO<T, K> of(Collection<K> keys, List<T> found, Function<T, K> keyOf) {
+        Map<K, T> byKey = new HashMap<>();
+        for (T item : found)
+            byKey.put(keyOf.apply(item), item);
+        
+        List<T> items = new ArrayList<>(found.size());
+        List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            T item = byKey.get(key);
+            if (item != null)
+                items.add(item);
+            else
+                missing.add(key);
+        }
+        return new MultiGetDTO<>(items, missing);
+    }
+}
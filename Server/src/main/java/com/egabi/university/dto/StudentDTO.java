@@ -28,4 +28,5 @@ public class StudentDTO {
     private String departmentName;
     private Long levelId;
     private String levelName;
+    private LocalDate graduationDate;
 }
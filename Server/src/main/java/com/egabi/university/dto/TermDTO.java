@@ -0,0 +1,23 @@
+package com.egabi.university.dto;
+
+import com.egabi.university.entity.Term;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for @{@link Term}.
+ * Used to transfer term data between layers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TermDTO {
+    private Long id;
+    private String code;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Term.Status status;
+}
@@ -6,8 +6,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * Represents a response containing an authentication token.
- * This token is typically used for subsequent requests to access protected resources.
+ * Represents a response containing an authentication token and a refresh token.
+ * The short-lived authentication token is used for subsequent requests to access protected resources;
+ * the refresh token is exchanged for a new pair of tokens once it expires.
  */
 @Data
 @Builder
@@ -17,4 +18,6 @@ public class AuthenticationResponse {
     
     private String token;
     
+    private String refreshToken;
+
 }
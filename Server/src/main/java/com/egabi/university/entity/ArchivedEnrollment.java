@@ -0,0 +1,24 @@
+package com.egabi.university.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Represents an enrollment of an archived student.
+ * The composite key is the same as the one of the live {@link Enrollment} it was copied from.
+ */
+@Entity
+@Table(name = "enrollment_archive")
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ArchivedEnrollment {
+    
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private EnrollmentId id;
+    
+    private Double grade;
+}
@@ -0,0 +1,54 @@
+package com.egabi.university.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Represents a graduated student moved out of the live student table.
+ * Archived rows keep the IDs of their user, department and level without foreign keys,
+ * so they never block changes to the live catalog.
+ */
+@Entity
+@Table(name = "student_archive")
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ArchivedStudent {
+    
+    @Id
+    @EqualsAndHashCode.Include
+    private Long id;
+    
+    private Long userId;
+    
+    @Column(nullable = false)
+    private String firstName;
+    
+    @Column(nullable = false)
+    private String lastName;
+    
+    @Column(nullable = false)
+    private String phoneNumber;
+    
+    @Column(nullable = false)
+    private LocalDate dateOfBirth;
+    
+    private String gender;
+    
+    @Column(nullable = false)
+    private Long departmentId;
+    
+    @Column(nullable = false)
+    private Long levelId;
+    
+    @Column(nullable = false)
+    private LocalDate graduationDate;
+    
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
@@ -1,7 +1,10 @@
 package com.egabi.university.entity;
 
+import com.egabi.university.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -9,9 +12,11 @@ import java.util.List;
 /**
  * Represents a course in the university system.
  * Each course has a unique code, a name, credits, and is associated with a level and department.
- * It can have multiple enrollments and instructors.
+ * It can have multiple enrollments and instructors, and may require other courses as prerequisites.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE)
 @Builder
 @Data
 @AllArgsConstructor
@@ -44,4 +49,15 @@ public class Course {
     
     @ManyToMany(mappedBy = "courses")
     private List<Instructor> instructors = new ArrayList<>();
+    
+    // Course <-> Course (prerequisites, many-to-many)
+    @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE_PREREQUISITES)
+    @JoinTable(
+            name = "course_prerequisite",
+            joinColumns = @JoinColumn(name = "course_code"),
+            inverseJoinColumns = @JoinColumn(name = "prerequisite_code")
+    )
+    @Builder.Default
+    private List<Course> prerequisites = new ArrayList<>();
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.egabi.university.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a graduation requirement of a department.
+ * Each requirement defines the minimum credits and the courses a student of the department must pass.
+ * A requirement bound to a level only applies to students of that level; without a level it applies to all of them.
+ */
+@Entity
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class DegreeRequirement {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "department_id", nullable = false)
+    private Department department;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "level_id")
+    private Level level;
+    
+    @Column(nullable = false)
+    private Integer minimumCredits;
+    
+    @ManyToMany
+    @JoinTable(
+            name = "degree_requirement_course",
+            joinColumns = @JoinColumn(name = "requirement_id"),
+            inverseJoinColumns = @JoinColumn(name = "course_code")
+    )
+    @Builder.Default
+    private List<Course> requiredCourses = new ArrayList<>();
+}
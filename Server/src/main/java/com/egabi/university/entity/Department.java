@@ -1,10 +1,13 @@
 package com.egabi.university.entity;
 
+import com.egabi.university.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -16,6 +19,8 @@ import java.util.List;
  * It can have multiple students and courses.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEPARTMENT)
 @Builder
 @Data
 @AllArgsConstructor
@@ -37,6 +42,7 @@ public class Department {
     private List<Student> students;
     
     @OneToMany(mappedBy = "department")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEPARTMENT_COURSES)
     private List<Course> courses;
     
 }
@@ -4,8 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 /**
- * Represents an enrollment of a student in a course.
- * Each enrollment has a composite key consisting of student ID and course code.
+ * Represents an enrollment of a student in a course during a term.
+ * Each enrollment has a composite key consisting of student ID, course code and term ID.
  * It also contains the student's grade for the course.
  */
 @Entity
@@ -28,6 +28,11 @@ public class Enrollment {
     @JoinColumn(name = "course_code", nullable = false)
     private Course course;
     
+    @ManyToOne
+    @MapsId("termId")
+    @JoinColumn(name = "term_id", nullable = false)
+    private Term term;
+    
     @EqualsAndHashCode.Include
     private Double grade;
 }
\ No newline at end of file
@@ -8,7 +8,7 @@ import java.io.Serializable;
 
 /**
  * Represents the composite key for the Enrollment entity.
- * It consists of a student ID and a course code.
+ * It consists of a student ID, a course code and the ID of the term the course was taken in.
  */
 @Embeddable
 @Data
@@ -16,9 +16,11 @@ import java.io.Serializable;
 public class EnrollmentId implements Serializable {
     private Long studentId;
     private String courseCode;
+    private Long termId;
     
-    public EnrollmentId(Long studentId, String courseCode) {
+    public EnrollmentId(Long studentId, String courseCode, Long termId) {
         this.studentId = studentId;
         this.courseCode = courseCode;
+        this.termId = termId;
     }
 }
@@ -0,0 +1,43 @@
+package com.egabi.university.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * Represents one shard of a denormalized counter, such as the number of students in a faculty.
+ * A counter is split into several shard rows so concurrent updates rarely wait on the same row lock;
+ * its value is the sum of its shards.
+ */
+@Entity
+@Table(name = "entity_counter")
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class EntityCounter {
+    
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private EntityCounterId id;
+    
+    @Column(nullable = false)
+    private Long total;
+    
+    /**
+     * The quantities that are counted.
+     */
+    public enum Counter {
+        /**
+         * Students in a faculty, owned by the faculty.
+         */
+        FACULTY_STUDENTS,
+        /**
+         * Students in a department, owned by the department.
+         */
+        DEPARTMENT_STUDENTS
+    }
+}
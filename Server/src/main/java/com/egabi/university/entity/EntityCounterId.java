@@ -0,0 +1,33 @@
+package com.egabi.university.entity;
+
+import com.egabi.university.entity.EntityCounter.Counter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Represents the composite key for the EntityCounter entity.
+ * It consists of the counter, the ID of the entity owning it and the shard number.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityCounterId implements Serializable {
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Counter counter;
+    
+    @Column(nullable = false)
+    private Long ownerId;
+    
+    @Column(nullable = false)
+    private Integer shard;
+}
@@ -1,7 +1,10 @@
 package com.egabi.university.entity;
 
+import com.egabi.university.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,6 +14,8 @@ import java.util.List;
  * Each faculty has a unique ID and a name, and can have multiple departments.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.FACULTY)
 @Data
 @Builder
 @AllArgsConstructor
@@ -26,5 +31,6 @@ public class Faculty {
     private String name;
     
     @OneToMany(mappedBy = "faculty", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.FACULTY_DEPARTMENTS)
     private List<Department> departments = new ArrayList<>();
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.egabi.university.entity;
 
+import com.egabi.university.config.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -13,6 +16,8 @@ import java.util.List;
  * Each level is associated with a faculty and can have multiple students and courses.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEVEL)
 @Builder
 @Data
 @AllArgsConstructor
@@ -37,6 +42,7 @@ public class Level {
     private List<Student> students = new ArrayList<>();
     
     @OneToMany(mappedBy = "level")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LEVEL_COURSES)
     private List<Course> courses = new ArrayList<>();
     
 }
@@ -0,0 +1,26 @@
+package com.egabi.university.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Represents the delivery position of an outbox subscriber.
+ * The cursor holds the ID of the last outbox record the subscriber has processed.
+ */
+@Entity
+@Table(name = "outbox_cursor")
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OutboxCursor {
+    
+    @Id
+    @Column(nullable = false, length = 100)
+    @EqualsAndHashCode.Include
+    private String subscriberName;
+    
+    @Column(nullable = false)
+    private Long lastRecordId;
+}
@@ -0,0 +1,57 @@
+package com.egabi.university.entity;
+
+import com.egabi.university.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Represents a change of an academic entity, written to the outbox in the same transaction as the change itself.
+ * Records are ordered by their ID and delivered to in-process subscribers by the outbox relay.
+ */
+@Entity
+@Table(name = "outbox", indexes = @Index(name = "idx_outbox_created_at", columnList = "createdAt"))
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OutboxRecord {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private AggregateType aggregateType;
+    
+    @Column(nullable = false, length = 64)
+    private String aggregateId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeType changeType;
+    
+    @Column(nullable = false)
+    private Instant createdAt;
+    
+    /**
+     * The kind of entity a record refers to.
+     */
+    public enum AggregateType {
+        STUDENT,
+        COURSE,
+        ENROLLMENT,
+        INSTRUCTOR,
+        FACULTY,
+        LEVEL,
+        DEPARTMENT,
+        /**
+         * The degree requirements of a department, identified by the department ID.
+         */
+        REQUIREMENT
+    }
+}
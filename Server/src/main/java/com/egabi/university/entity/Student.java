@@ -14,6 +14,10 @@ import java.util.List;
  * They can enroll in multiple courses and have a one-to-one relationship with a user account.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_student_department_id", columnList = "department_id"),
+        @Index(name = "idx_student_level_id", columnList = "level_id")
+})
 @Builder
 @Data
 @AllArgsConstructor
@@ -54,6 +58,9 @@ public class Student {
     @EqualsAndHashCode.Include
     private Level level;
     
+    // Set once the student passes their degree audit; graduates are moved to the archive after the retention period
+    private LocalDate graduationDate;
+    
     // Student <-> Enrollment (one-to-many)
     @OneToMany(mappedBy = "student")
     private List<Enrollment> enrollments = new ArrayList<>();
@@ -0,0 +1,57 @@
+package com.egabi.university.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Represents an academic term, such as a semester.
+ * Enrollments belong to a term, and the enrollment table is partitioned by term,
+ * so queries limited to one term only read that term's partition.
+ */
+@Entity
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class Term {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, unique = true)
+    @EqualsAndHashCode.Include
+    private String code;
+    
+    @Column(nullable = false)
+    private LocalDate startDate;
+    
+    @Column(nullable = false)
+    private LocalDate endDate;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+    
+    /**
+     * The lifecycle of a term.
+     */
+    public enum Status {
+        /**
+         * Enrollments of the term can be created and graded.
+         */
+        OPEN,
+        /**
+         * The term is closed and its enrollment partition rejects inserts and updates.
+         */
+        FROZEN,
+        /**
+         * The term is closed and its enrollment partition, emptied by the student archive, was detached into a
+         * standalone table.
+         */
+        DETACHED
+    }
+}
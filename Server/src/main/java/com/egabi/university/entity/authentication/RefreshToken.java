@@ -0,0 +1,57 @@
+package com.egabi.university.entity.authentication;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Represents a refresh token issued to a user.
+ * Only the SHA-256 hash of the token is stored. Every refresh replaces the token with a new one of the same family;
+ * presenting a token that was already used revokes the whole family, since the token must have been stolen.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = @Index(name = "idx_refresh_token_family_id", columnList = "familyId"))
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class RefreshToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+    
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+    
+    @Column(nullable = false, length = 36)
+    private String familyId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    private User user;
+    
+    @Column(nullable = false)
+    private Instant expiresAt;
+    
+    /**
+     * ID and expiry of the access token issued with this refresh token, revoked along with the family.
+     */
+    @Column(nullable = false, length = 36)
+    private String accessTokenId;
+    
+    @Column(nullable = false)
+    private Instant accessTokenExpiresAt;
+    
+    /**
+     * Time the token was exchanged for a new one, {@code null} while it is unused.
+     */
+    private Instant usedAt;
+    
+    @Column(nullable = false)
+    private boolean revoked;
+}
@@ -0,0 +1,32 @@
+package com.egabi.university.entity.authentication;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Represents a revoked access token, identified by its token ID.
+ * Rows are only needed until the token would have expired anyway, and are read incrementally by revocation time
+ * to keep the in-memory revocation filter of every instance up to date.
+ */
+@Entity
+@Table(name = "revoked_token", indexes = @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt"))
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class RevokedToken {
+    
+    @Id
+    @Column(length = 36)
+    @EqualsAndHashCode.Include
+    private String tokenId;
+    
+    @Column(nullable = false)
+    private Instant expiresAt;
+    
+    @Column(nullable = false)
+    private Instant revokedAt;
+}
@@ -4,10 +4,12 @@ import com.egabi.university.entity.Instructor;
 import com.egabi.university.entity.Student;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 
@@ -15,13 +17,18 @@ import java.util.List;
  * Represents a user in the university system.
  * Each user has an email, password, role, and can be either a student or an instructor.
  * The user can be locked or enabled.
+ * <p>
+ * Access tokens embed the security stamp of the user, which is incremented whenever the user is locked, disabled or
+ * their role changes, so tokens issued before such a change are no longer accepted.
+ * </p>
  */
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "_user")
+@Table(name = "_user", indexes = @Index(name = "idx_user_security_stamp_changed_at",
+        columnList = "securityStampChangedAt"))
 public class User implements UserDetails {
     
     @Id
@@ -51,6 +58,31 @@ public class User implements UserDetails {
     @Column(name = "enabled", nullable = false)
     private boolean enabled = true;
     
+    @ColumnDefault("0")
+    @Column(name = "security_stamp", nullable = false)
+    private long securityStamp;
+    
+    @Column(name = "security_stamp_changed_at")
+    private Instant securityStampChangedAt;
+    
+    public void setRole(Role role) {
+        if (this.role != null && this.role != role)
+            rotateSecurityStamp();
+        this.role = role;
+    }
+    
+    public void setLocked(boolean locked) {
+        if (locked && !this.locked)
+            rotateSecurityStamp();
+        this.locked = locked;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        if (!enabled && this.enabled)
+            rotateSecurityStamp();
+        this.enabled = enabled;
+    }
+    
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority(role.name()));
@@ -75,4 +107,12 @@ public class User implements UserDetails {
     public boolean isEnabled() {
         return enabled;
     }
+    
+    /**
+     * Invalidates every access token issued to the user so far.
+     */
+    public void rotateSecurityStamp() {
+        securityStamp++;
+        securityStampChangedAt = Instant.now();
+    }
 }
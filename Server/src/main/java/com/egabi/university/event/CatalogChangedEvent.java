@@ -0,0 +1,23 @@
+package com.egabi.university.event;
+
+/**
+ * Application event published whenever the academic catalog changes: a faculty, level, department or course
+ * is created, updated or deleted, or the courses an instructor teaches change.
+ * Listeners that must only react to committed data should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.
+ *
+ * @param kind the kind of catalog entity that changed
+ */
+public record CatalogChangedEvent(Kind kind) {
+    
+    /**
+     * The kind of catalog entity that changed.
+     */
+    public enum Kind {
+        FACULTY,
+        LEVEL,
+        DEPARTMENT,
+        COURSE,
+        INSTRUCTOR
+    }
+}
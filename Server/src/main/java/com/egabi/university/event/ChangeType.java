@@ -0,0 +1,10 @@
+package com.egabi.university.event;
+
+/**
+ * The kind of change applied to an entity.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
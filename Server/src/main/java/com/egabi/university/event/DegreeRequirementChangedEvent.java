@@ -0,0 +1,11 @@
+package com.egabi.university.event;
+
+/**
+ * Application event published by the degree audit service whenever a degree requirement is created or deleted.
+ * Listeners that must only react to committed data should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.
+ *
+ * @param departmentId the ID of the department of the requirement
+ */
+public record DegreeRequirementChangedEvent(Long departmentId) {
+}
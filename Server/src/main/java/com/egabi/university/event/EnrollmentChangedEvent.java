@@ -0,0 +1,14 @@
+package com.egabi.university.event;
+
+/**
+ * Application event published by the enrollment service whenever an enrollment is created, updated or deleted.
+ * Listeners that must only react to committed data should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.
+ *
+ * @param type       the kind of change
+ * @param studentId  the ID of the enrolled student
+ * @param courseCode the code of the course
+ * @param grade      the grade after the change, {@code null} for deletions
+ */
+public record EnrollmentChangedEvent(ChangeType type, Long studentId, String courseCode, Double grade) {
+}
@@ -0,0 +1,16 @@
+package com.egabi.university.event;
+
+import java.util.List;
+
+/**
+ * Application event published by the prerequisite service whenever a course is added to or removed from the
+ * prerequisite graph, or its prerequisites are replaced.
+ * Listeners that must only react to committed data should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.
+ *
+ * @param type              the type of change
+ * @param courseCode        the code of the course
+ * @param prerequisiteCodes the new direct prerequisites of the course, empty unless it was updated
+ */
+public record PrerequisitesChangedEvent(ChangeType type, String courseCode, List<String> prerequisiteCodes) {
+}
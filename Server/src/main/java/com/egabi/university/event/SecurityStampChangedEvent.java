@@ -0,0 +1,14 @@
+package com.egabi.university.event;
+
+import java.time.Instant;
+
+/**
+ * Application event published by the user service whenever the security stamp of a user changes,
+ * that is when the user is locked, disabled or their role changes.
+ *
+ * @param userId    the ID of the changed user
+ * @param stamp     the new security stamp
+ * @param changedAt the time of the change
+ */
+public record SecurityStampChangedEvent(Long userId, long stamp, Instant changedAt) {
+}
@@ -0,0 +1,13 @@
+package com.egabi.university.event;
+
+import java.util.List;
+
+/**
+ * Application event published by the archive job whenever a chunk of graduated students is moved to the archive.
+ * Listeners that must only react to committed data should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener}.
+ *
+ * @param studentIds the IDs of the archived students
+ */
+public record StudentsArchivedEvent(List<Long> studentIds) {
+}
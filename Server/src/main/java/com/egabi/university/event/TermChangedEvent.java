@@ -0,0 +1,9 @@
+package com.egabi.university.event;
+
+/**
+ * Application event published by the term service whenever a term is created or closed.
+ *
+ * @param termId the ID of the changed term
+ */
+public record TermChangedEvent(Long termId) {
+}
@@ -2,6 +2,7 @@ package com.egabi.university.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -45,6 +46,28 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(apiError, ex.getStatus());
     }
     
+    /**
+     * Handles throttled requests, telling the client when to retry.
+     *
+     * @param ex      the TooManyRequestsException
+     * @param request the HTTP request
+     * @return a formatted {@link ApiError} response with a {@code Retry-After} header
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiError> handleTooManyRequests(TooManyRequestsException ex, HttpServletRequest request) {
+        ApiError apiError = new ApiError(
+                ex.getStatus().value(),
+                ex.getStatus().getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                ex.getErrorCode(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(apiError);
+    }
+    
     /**
      * Handles validation errors thrown by @Valid on request bodies.
      *
@@ -0,0 +1,35 @@
+package com.egabi.university.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a client must wait before retrying (e.g., too many failed logins).
+ * Maps to HTTP 429 Too Many Requests, with the wait sent in the {@code Retry-After} header.
+ */
+public class TooManyRequestsException extends ApiException {
+    
+    private final String errorCode;
+    
+    /**
+     * Seconds the client must wait before retrying.
+     */
+    @Getter
+    private final long retryAfterSeconds;
+    
+    public TooManyRequestsException(String message, String errorCode, long retryAfterSeconds) {
+        super(message);
+        this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.TOO_MANY_REQUESTS;
+    }
+    
+    @Override
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,40 @@
+package com.egabi.university.mapper;
+
+import com.egabi.university.dto.ArchivedStudentDTO;
+import com.egabi.university.dto.EnrollmentDTO;
+import com.egabi.university.entity.ArchivedEnrollment;
+import com.egabi.university.entity.ArchivedStudent;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * Mapper for converting archived students and enrollments to their DTOs.
+ * Uses MapStruct for automatic mapping.
+ */
+@Mapper(componentModel = "spring")
+public interface ArchivedStudentMapper {
+    
+    /**
+     * Converts an ArchivedStudent entity and its archived enrollments to an ArchivedStudentDTO.
+     *
+     * @param student     the ArchivedStudent entity
+     * @param enrollments the archived enrollments of the student
+     * @return the converted ArchivedStudentDTO
+     */
+    @Mapping(source = "enrollments", target = "enrollments")
+    ArchivedStudentDTO toDTO(ArchivedStudent student, List<ArchivedEnrollment> enrollments);
+    
+    /**
+     * Converts an ArchivedEnrollment entity to an EnrollmentDTO.
+     *
+     * @param enrollment the ArchivedEnrollment entity
+     * @return the converted EnrollmentDTO
+     */
+    @Mappings({
+            @Mapping(source = "id.studentId", target = "studentId"),
+            @Mapping(source = "id.courseCode", target = "courseCode"),
+            @Mapping(source = "id.termId", target = "termId"),
+    })
+    EnrollmentDTO toDTO(ArchivedEnrollment enrollment);
+}
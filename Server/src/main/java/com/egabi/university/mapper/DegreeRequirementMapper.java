@@ -0,0 +1,62 @@
+package com.egabi.university.mapper;
+
+import com.egabi.university.dto.DegreeRequirementDTO;
+import com.egabi.university.entity.Course;
+import com.egabi.university.entity.DegreeRequirement;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * Mapper for converting between DegreeRequirement entity and DegreeRequirementDTO.
+ * Uses MapStruct for automatic mapping.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface DegreeRequirementMapper {
+    
+    /**
+     * Converts a DegreeRequirement entity to a DegreeRequirementDTO.
+     *
+     * @param requirement the DegreeRequirement entity
+     * @return the converted DegreeRequirementDTO
+     */
+    @Mappings({
+            @Mapping(source = "department.id", target = "departmentId"),
+            @Mapping(source = "level.id", target = "levelId"),
+            @Mapping(source = "requiredCourses", target = "requiredCourseCodes")
+    })
+    DegreeRequirementDTO toDTO(DegreeRequirement requirement);
+    
+    /**
+     * Converts a DegreeRequirementDTO to a DegreeRequirement entity.
+     * Department, level and courses are resolved by the service.
+     *
+     * @param dto the DegreeRequirementDTO
+     * @return the converted DegreeRequirement entity
+     */
+    @Mappings({
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "department", ignore = true),
+            @Mapping(target = "level", ignore = true),
+            @Mapping(target = "requiredCourses", ignore = true)
+    })
+    DegreeRequirement toEntity(DegreeRequirementDTO dto);
+    
+    /**
+     * Converts a list of DegreeRequirement entities to a list of DegreeRequirementDTOs.
+     *
+     * @param requirements the list of DegreeRequirement entities
+     * @return the list of converted DegreeRequirementDTOs
+     */
+    List<DegreeRequirementDTO> toDTOs(List<DegreeRequirement> requirements);
+    
+    /**
+     * Maps a Course entity to its code.
+     *
+     * @param course the Course entity
+     * @return the course code
+     */
+    default String map(Course course) {
+        return course.getCode();
+    }
+}
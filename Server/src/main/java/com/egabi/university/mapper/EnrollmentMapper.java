@@ -24,6 +24,7 @@ public interface EnrollmentMapper {
     @Mappings({
             @Mapping(source = "id.studentId", target = "studentId"),
             @Mapping(source = "id.courseCode", target = "courseCode"),
+            @Mapping(source = "id.termId", target = "termId"),
     })
     EnrollmentDTO toDTO(Enrollment enrollment);
     
@@ -36,6 +37,7 @@ public interface EnrollmentMapper {
     @Mappings({
             @Mapping(source = "studentId", target = "id.studentId"),
             @Mapping(source = "courseCode", target = "id.courseCode"),
+            @Mapping(source = "termId", target = "id.termId"),
     })
     Enrollment toEntity(EnrollmentDTO dto);
     
@@ -46,5 +48,5 @@ public interface EnrollmentMapper {
      * @return the list of converted EnrollmentDTOs
      */
     List<EnrollmentDTO> toDTOs(List<Enrollment> enrollments);
-    
+
 }
\ No newline at end of file
@@ -38,6 +38,7 @@ public interface StudentMapper {
      */
     @Mappings({
             @Mapping(target = "user", ignore = true),
+            @Mapping(target = "graduationDate", ignore = true),
             @Mapping(source = "departmentId", target = "department.id"),
             @Mapping(source = "levelId", target = "level.id"),
     })
@@ -62,7 +63,8 @@ public interface StudentMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(source = "departmentId", target = "department.id"),
             @Mapping(source = "levelId", target = "level.id"),
-            @Mapping(target = "enrollments", ignore = true)
+            @Mapping(target = "enrollments", ignore = true),
+            @Mapping(target = "graduationDate", ignore = true)
     })
     void updateEntityFromDTO(StudentDTO dto, @MappingTarget Student student);
     
@@ -0,0 +1,44 @@
+package com.egabi.university.mapper;
+
+import com.egabi.university.dto.TermDTO;
+import com.egabi.university.entity.Term;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * Mapper for converting between Term entity and TermDTO.
+ * Uses MapStruct for automatic mapping.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TermMapper {
+    
+    /**
+     * Converts a Term entity to a TermDTO.
+     *
+     * @param term the Term entity
+     * @return the converted TermDTO
+     */
+    TermDTO toDTO(Term term);
+    
+    /**
+     * Converts a TermDTO to a Term entity.
+     * The ID and status are assigned by the service.
+     *
+     * @param dto the TermDTO
+     * @return the converted Term entity
+     */
+    @Mappings({
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "status", ignore = true),
+    })
+    Term toEntity(TermDTO dto);
+    
+    /**
+     * Converts a list of Term entities to a list of TermDTOs.
+     *
+     * @param terms the list of Term entities
+     * @return the list of converted TermDTOs
+     */
+    List<TermDTO> toDTOs(List<Term> terms);
+}
@@ -0,0 +1,41 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.ArchivedEnrollment;
+import com.egabi.university.entity.EnrollmentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for ArchivedEnrollment entity.
+ * Archived enrollments are only ever inserted by the archival job and read back per student.
+ */
+@Repository
+public interface ArchivedEnrollmentRepository extends JpaRepository<ArchivedEnrollment, EnrollmentId> {
+    
+    /**
+     * Copies every live enrollment of the given students into the archive with a single statement.
+     *
+     * @param studentIds the IDs of the students
+     * @return the number of archived enrollments
+     */
+    @Modifying
+    @Query(value = "insert into enrollment_archive (student_id, course_code, term_id, grade) "
+            + "select e.student_id, e.course_code, e.term_id, e.grade from enrollment e where e.student_id in (:studentIds)",
+            nativeQuery = true)
+    int copyFromEnrollments(@Param("studentIds") Collection<Long> studentIds);
+    
+    /**
+     * Gets all archived enrollments of a student.
+     *
+     * @param studentId ID of the archived student
+     * @return List of the archived enrollments of the student
+     */
+    @Query("select e from ArchivedEnrollment e where e.id.studentId = :studentId order by e.id.termId, e.id.courseCode")
+    List<ArchivedEnrollment> findAllByStudentId(@Param("studentId") Long studentId);
+}
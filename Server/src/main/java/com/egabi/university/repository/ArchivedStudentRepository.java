@@ -0,0 +1,34 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.ArchivedStudent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Repository for ArchivedStudent entity.
+ * Archived students are only ever inserted by the archival job and read back by ID.
+ */
+@Repository
+public interface ArchivedStudentRepository extends JpaRepository<ArchivedStudent, Long> {
+    
+    /**
+     * Copies the given live students into the archive with a single statement.
+     *
+     * @param ids        the IDs of the students
+     * @param archivedAt the archival instant stamped on every copied row
+     * @return the number of archived students
+     */
+    @Modifying
+    @Query(value = "insert into student_archive (id, user_id, first_name, last_name, phone_number, date_of_birth, gender, "
+            + "department_id, level_id, graduation_date, archived_at) "
+            + "select s.id, s.user_id, s.first_name, s.last_name, s.phone_number, s.date_of_birth, s.gender, "
+            + "s.department_id, s.level_id, s.graduation_date, :archivedAt from student s where s.id in (:ids)",
+            nativeQuery = true)
+    int copyFromStudents(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+}
@@ -1,8 +1,15 @@
 package com.egabi.university.repository;
 
+import com.egabi.university.config.cache.CacheRegions;
 import com.egabi.university.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,11 +32,84 @@ public interface CourseRepository extends JpaRepository<Course, String> {
     
     /**
      * Finds all courses associated with a specific department ID.
+     * The result is kept in the query cache until the course table changes.
      *
      * @param departmentId the ID of the department
      * @return List of courses associated with the specified department
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATALOG_QUERIES)
+    })
     List<Course> findAllByDepartmentId(Long departmentId);
     
     Long countAllByDepartmentId(Long departmentId);
-}
\ No newline at end of file
+    
+    /**
+     * Gets the codes of all courses.
+     *
+     * @return List of all course codes
+     */
+    @Query("select c.code from Course c")
+    List<String> findAllCodes();
+    
+    /**
+     * Gets the code and credits of every course as a pair of {code, credits}.
+     *
+     * @return List of course codes with their credits
+     */
+    @Query("select c.code, c.credits from Course c")
+    List<Object[]> findAllCodesAndCredits();
+    
+    /**
+     * Gets every prerequisite edge as a pair of {course code, prerequisite code}.
+     *
+     * @return List of prerequisite edges
+     */
+    @Query("select c.code, p.code from Course c join c.prerequisites p")
+    List<Object[]> findAllPrerequisiteEdges();
+    
+    /**
+     * Locks the prerequisite table against concurrent changes until the end of the transaction,
+     * so prerequisite updates are validated against each other's committed edges. Reads are not blocked.
+     */
+    @Modifying
+    @Query(value = "lock table course_prerequisite in share row exclusive mode", nativeQuery = true)
+    void lockPrerequisitesAgainstUpdates();
+    
+    /**
+     * Gets the code, name, credits, department id and level id of every course, optionally restricted to a faculty.
+     *
+     * @param facultyId ID of the faculty, or null for all faculties
+     * @return List of course rows ordered by code
+     */
+    @Query("select c.code, c.name, c.credits, d.id, l.id from Course c join c.department d left join c.level l "
+            + "where (:facultyId is null or d.faculty.id = :facultyId) order by c.code")
+    List<Object[]> findTreeRows(@Param("facultyId") Long facultyId);
+    
+    /**
+     * Gets every course assignment as a pair of {course code, instructor id}, optionally restricted to a faculty.
+     *
+     * @param facultyId ID of the faculty, or null for all faculties
+     * @return List of course assignments ordered by instructor id
+     */
+    @Query("select c.code, i.id from Instructor i join i.courses c "
+            + "where (:facultyId is null or c.department.faculty.id = :facultyId) order by i.id")
+    List<Object[]> findInstructorAssignmentRows(@Param("facultyId") Long facultyId);
+    
+    /**
+     * Checks if any course belongs to the given department, without loading the courses.
+     *
+     * @param departmentId ID of the department
+     * @return true if the department has at least one course
+     */
+    boolean existsByDepartmentId(Long departmentId);
+    
+    /**
+     * Checks if any course belongs to the given level, without loading the courses.
+     *
+     * @param levelId ID of the level
+     * @return true if the level has at least one course
+     */
+    boolean existsByLevelId(Long levelId);
+}
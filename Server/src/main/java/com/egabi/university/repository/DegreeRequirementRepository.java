@@ -0,0 +1,34 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.DegreeRequirement;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for DegreeRequirement entity.
+ * Provides CRUD operations and custom queries for DegreeRequirement.
+ */
+@Repository
+public interface DegreeRequirementRepository extends JpaRepository<DegreeRequirement, Long> {
+    
+    /**
+     * Finds all requirements with their department, level and required courses.
+     * Uses EntityGraph so the audit model is loaded in a single query.
+     *
+     * @return List of all degree requirements
+     */
+    @EntityGraph(attributePaths = {"department", "level", "requiredCourses"})
+    List<DegreeRequirement> findAll();
+    
+    /**
+     * Finds all requirements of a department.
+     *
+     * @param departmentId the ID of the department
+     * @return List of requirements of the department
+     */
+    @EntityGraph(attributePaths = {"department", "level", "requiredCourses"})
+    List<DegreeRequirement> findAllByDepartmentId(Long departmentId);
+}
@@ -1,7 +1,13 @@
 package com.egabi.university.repository;
 
+import com.egabi.university.config.cache.CacheRegions;
 import com.egabi.university.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,18 +21,28 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     
     /**
      * Checks if a department exists with the given name (case-insensitive).
+     * The result is kept in the query cache until the department table changes.
      *
      * @param name Department name
      * @return true if exists
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATALOG_QUERIES)
+    })
     boolean existsByNameIgnoreCase(String name);
     
     /**
      * Gets all departments in a faculty by its ID.
+     * The result is kept in the query cache until the department table changes.
      *
      * @param facultyId ID of the faculty
      * @return List of departments associated with the specified faculty
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATALOG_QUERIES)
+    })
     List<Department> findAllByFacultyId(Long facultyId);
     
     /**
@@ -36,4 +52,14 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
      * @return Count of departments
      */
     Long countByFacultyId(Long facultyId);
-}
\ No newline at end of file
+    
+    /**
+     * Gets the id, name and faculty id of every department, optionally restricted to a faculty.
+     *
+     * @param facultyId ID of the faculty, or null for all faculties
+     * @return List of department rows ordered by name
+     */
+    @Query("select d.id, d.name, d.faculty.id from Department d "
+            + "where (:facultyId is null or d.faculty.id = :facultyId) order by d.name")
+    List<Object[]> findTreeRows(@Param("facultyId") Long facultyId);
+}
@@ -0,0 +1,72 @@
+package com.egabi.university.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository managing the PostgreSQL partitions of the enrollment table.
+ * <p>
+ * The partitioned {@code enrollment} table is created by {@code schema.sql}, since Hibernate cannot create
+ * partitioned tables. Every term gets its own list partition named {@code enrollment_term_<term id>}; rows of a term
+ * without a partition land in {@code enrollment_default}. All statements run in the caller's transaction.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class EnrollmentPartitionRepository {
+    
+    private final EntityManager entityManager;
+    
+    /**
+     * Creates the partition holding the enrollments of a term.
+     *
+     * @param termId the ID of the term
+     */
+    public void createPartition(Long termId) {
+        execute("create table if not exists " + partition(termId)
+                + " partition of enrollment for values in (" + termId + ")");
+    }
+    
+    /**
+     * Makes the partition of a term read-only by rejecting inserts and updates.
+     * Deletes are still allowed, so graduates of the term can be moved to the archive.
+     *
+     * @param termId the ID of the term
+     */
+    public void freezePartition(Long termId) {
+        execute("create trigger " + partition(termId) + "_frozen before insert or update on "
+                + partition(termId) + " for each row execute function enrollment_reject_frozen_term()");
+    }
+    
+    /**
+     * Checks whether the partition of a term holds no enrollments, without scanning it.
+     *
+     * @param termId the ID of the term
+     * @return true if the partition of the term is empty
+     */
+    public boolean isPartitionEmpty(Long termId) {
+        return (Boolean) entityManager.createNativeQuery("select not exists (select 1 from " + partition(termId) + ")")
+                .getSingleResult();
+    }
+    
+    /**
+     * Detaches the partition of a term from the enrollment table.
+     * The partition is kept as a standalone table, and its enrollments are no longer visible through the
+     * enrollment table, including to prerequisite checks, degree audits and the student archive, so only
+     * partitions whose enrollments have all been archived should be detached.
+     *
+     * @param termId the ID of the term
+     */
+    public void detachPartition(Long termId) {
+        execute("alter table enrollment detach partition " + partition(termId));
+    }
+    
+    private void execute(String statement) {
+        entityManager.createNativeQuery(statement).executeUpdate();
+    }
+    
+    private static String partition(Long termId) {
+        return "enrollment_term_" + termId;
+    }
+}
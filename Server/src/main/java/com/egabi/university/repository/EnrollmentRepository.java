@@ -3,10 +3,13 @@ package com.egabi.university.repository;
 import com.egabi.university.entity.Enrollment;
 import com.egabi.university.entity.EnrollmentId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Repository for Enrollment entity.
@@ -16,18 +19,82 @@ import java.util.Optional;
 public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
     
     /**
-     * Finds all enrollments for a specific student.
+     * Finds all enrollments of a term.
+     * The term filter prunes the scan to the partition of the term.
      *
+     * @param termId ID of the term
+     * @return List of enrollments of the term
+     */
+    @Query("select e from Enrollment e where e.id.termId = :termId")
+    List<Enrollment> findAllByTermId(@Param("termId") Long termId);
+    
+    /**
+     * Finds the enrollments of a student in a term.
+     *
+     * @param termId    ID of the term
      * @param studentId ID of the student
-     * @return List of enrollments for the student
+     * @return List of enrollments of the student in the term
+     */
+    @Query("select e from Enrollment e where e.id.termId = :termId and e.id.studentId = :studentId")
+    List<Enrollment> findAllByTermIdAndStudentId(@Param("termId") Long termId, @Param("studentId") Long studentId);
+    
+    /**
+     * Finds the enrollments of a course in a term.
+     *
+     * @param termId     ID of the term
+     * @param courseCode Code of the course
+     * @return List of enrollments of the course in the term
+     */
+    @Query("select e from Enrollment e where e.id.termId = :termId and e.id.courseCode = :courseCode")
+    List<Enrollment> findAllByTermIdAndCourseCode(@Param("termId") Long termId, @Param("courseCode") String courseCode);
+    
+    /**
+     * Finds the codes of all courses a student has passed, in any term.
+     *
+     * @param studentId    ID of the student
+     * @param passingGrade the minimum grade counted as a pass
+     * @return List of passed course codes
+     */
+    @Query("select e.id.courseCode from Enrollment e where e.id.studentId = :studentId and e.grade >= :passingGrade")
+    List<String> findPassedCourseCodesByStudentId(@Param("studentId") Long studentId,
+                                                  @Param("passingGrade") Double passingGrade);
+    
+    /**
+     * Finds every passed enrollment of the students in a faculty, in any term.
+     *
+     * @param facultyId    ID of the faculty
+     * @param passingGrade the minimum grade counted as a pass
+     * @return List of {student ID, course code} rows
+     */
+    @Query("select e.id.studentId, e.id.courseCode from Enrollment e " +
+            "where e.student.department.faculty.id = :facultyId and e.grade >= :passingGrade")
+    List<Object[]> findPassedCourseCodesByFacultyId(@Param("facultyId") Long facultyId,
+                                                    @Param("passingGrade") Double passingGrade);
+    
+    /**
+     * Checks if a student has any enrollment, without loading the enrollments.
+     *
+     * @param studentId ID of the student
+     * @return true if the student has at least one enrollment
+     */
+    boolean existsByStudentId(Long studentId);
+    
+    /**
+     * Finds the keys of every enrollment of the given students.
+     *
+     * @param studentIds the IDs of the students
+     * @return List of enrollment keys
      */
-    Optional<List<Enrollment>> findByStudentId(Long studentId);
+    @Query("select e.id from Enrollment e where e.student.id in :studentIds")
+    List<EnrollmentId> findAllIdsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
     
     /**
-     * Finds all enrollments for a specific course.
+     * Deletes every enrollment of the given students with a single statement, bypassing the persistence context.
      *
-     * @param CourseCode Code of the course
-     * @return List of enrollments for the course
+     * @param studentIds the IDs of the students
+     * @return the number of deleted enrollments
      */
-    Optional<List<Enrollment>> findByCourseCode(String CourseCode);
-}
\ No newline at end of file
+    @Modifying
+    @Query("delete from Enrollment e where e.student.id in :studentIds")
+    int deleteAllByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+}
@@ -0,0 +1,72 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.EntityCounter;
+import com.egabi.university.entity.EntityCounter.Counter;
+import com.egabi.university.entity.EntityCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for EntityCounter entity.
+ * Provides atomic shard updates and summed reads of the denormalized counters.
+ */
+@Repository
+public interface EntityCounterRepository extends JpaRepository<EntityCounter, EntityCounterId> {
+    
+    /**
+     * Adds a delta to a counter shard, creating the shard if it does not exist yet.
+     *
+     * @param counter the name of the counter
+     * @param ownerId ID of the entity owning the counter
+     * @param shard   the shard to update
+     * @param delta   the value to add, negative to subtract
+     */
+    @Modifying
+    @Query(value = "insert into entity_counter (counter, owner_id, shard, total) values (:counter, :ownerId, :shard, :delta) "
+            + "on conflict (counter, owner_id, shard) do update set total = entity_counter.total + excluded.total",
+            nativeQuery = true)
+    void increment(@Param("counter") String counter, @Param("ownerId") Long ownerId,
+                   @Param("shard") int shard, @Param("delta") long delta);
+    
+    /**
+     * Gets the value of a counter by summing its shards.
+     *
+     * @param counter the counter
+     * @param ownerId ID of the entity owning the counter
+     * @return the counter value, 0 if it has no shards
+     */
+    @Query("select coalesce(sum(c.total), 0) from EntityCounter c where c.id.counter = :counter and c.id.ownerId = :ownerId")
+    long sumByOwner(@Param("counter") Counter counter, @Param("ownerId") Long ownerId);
+    
+    /**
+     * Gets the value of a counter for every owner as a pair of {owner id, value}.
+     *
+     * @param counter the counter
+     * @return List of owner IDs with their summed counter values
+     */
+    @Query("select c.id.ownerId, sum(c.total) from EntityCounter c where c.id.counter = :counter group by c.id.ownerId")
+    List<Object[]> sumAllGroupedByOwner(@Param("counter") Counter counter);
+    
+    /**
+     * Deletes every shard of a counter.
+     *
+     * @param counter the counter
+     * @param ownerId ID of the entity owning the counter
+     */
+    @Modifying
+    @Query("delete from EntityCounter c where c.id.counter = :counter and c.id.ownerId = :ownerId")
+    void deleteAllByOwner(@Param("counter") Counter counter, @Param("ownerId") Long ownerId);
+    
+    /**
+     * Locks the counter table against concurrent updates until the end of the transaction.
+     * Reads are not blocked.
+     */
+    @Modifying
+    @Query(value = "lock table entity_counter in exclusive mode", nativeQuery = true)
+    void lockAgainstUpdates();
+}
@@ -1,9 +1,17 @@
 package com.egabi.university.repository;
 
+import com.egabi.university.config.cache.CacheRegions;
 import com.egabi.university.entity.Faculty;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository for Faculty entity.
  * Provides CRUD operations and custom queries for Faculty.
@@ -13,9 +21,23 @@ public interface FacultyRepository extends JpaRepository<Faculty, Long> {
     
     /**
      * Checks if a faculty exists with the given name (case-insensitive).
+     * The result is kept in the query cache until the faculty table changes.
      *
      * @param name Faculty name
      * @return true if exists
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATALOG_QUERIES)
+    })
     boolean existsByNameIgnoreCase(String name);
-}
\ No newline at end of file
+    
+    /**
+     * Gets the id and name of every faculty, or of a single faculty, as a pair of {id, name}.
+     *
+     * @param facultyId ID of the faculty, or null for all faculties
+     * @return List of faculty rows ordered by name
+     */
+    @Query("select f.id, f.name from Faculty f where (:facultyId is null or f.id = :facultyId) order by f.name")
+    List<Object[]> findTreeRows(@Param("facultyId") Long facultyId);
+}
@@ -0,0 +1,119 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.repository.projection.FieldSet;
+import com.egabi.university.repository.projection.FieldSet.Field;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * Repository executing sparse projections described by a {@link FieldSet}.
+ * Only the requested columns are selected and only the joins they need are emitted.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FieldProjectionRepository {
+    
+    private final EntityManager entityManager;
+    
+    /**
+     * Gets the requested fields of every entity of a resource.
+     *
+     * @param fieldSet the resource field set
+     * @param fields   the requested field names, in output order
+     * @return one map of field name to value per entity, ordered by identifier
+     */
+    public List<Map<String, Object>> findAll(FieldSet fieldSet, List<String> fields) {
+        return find(fieldSet, fields, null);
+    }
+    
+    /**
+     * Gets the requested fields of a single entity.
+     *
+     * @param fieldSet the resource field set
+     * @param fields   the requested field names, in output order
+     * @param id       the entity identifier
+     * @return the map of field name to value, empty if the entity does not exist
+     */
+    public Optional<Map<String, Object>> findById(FieldSet fieldSet, List<String> fields, Object id) {
+        return find(fieldSet, fields, id).stream().findFirst();
+    }
+    
+    private List<Map<String, Object>> find(FieldSet fieldSet, List<String> fields, Object id) {
+        // Collect the select expressions and the joins of the requested scalar fields
+        List<String> selections = new ArrayList<>();
+        Set<String> joins = new HashSet<>();
+        List<Field> collections = new ArrayList<>();
+        for (String name : fields) {
+            Field field = fieldSet.field(name);
+            if (field.isCollection()) {
+                collections.add(field);
+            } else {
+                selections.add(field.path());
+                joins.addAll(field.joins());
+            }
+        }
+        
+        // Select the identifier as well when collections must be attached to the rows
+        int idIndex = selections.indexOf(fieldSet.idPath());
+        if (idIndex < 0 && !collections.isEmpty()) {
+            idIndex = selections.size();
+            selections.add(fieldSet.idPath());
+        }
+        
+        StringBuilder jpql = new StringBuilder("select ").append(String.join(", ", selections))
+                .append(" from ").append(fieldSet.from());
+        for (String clause : fieldSet.joinClauses(joins))
+            jpql.append(' ').append(clause);
+        appendIdFilter(jpql, fieldSet, id);
+        jpql.append(" order by ").append(fieldSet.idPath());
+        
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        if (id != null)
+            query.setParameter("id", id);
+        
+        // Build the results in the requested field order
+        List<Map<String, Object>> results = new ArrayList<>();
+        Map<Object, Map<String, Object>> resultsById = new HashMap<>();
+        for (Tuple tuple : query.getResultList()) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            int column = 0;
+            for (String name : fields)
+                result.put(name, fieldSet.field(name).isCollection() ? new ArrayList<>() : tuple.get(column++));
+            if (idIndex >= 0)
+                resultsById.put(tuple.get(idIndex), result);
+            results.add(result);
+        }
+        
+        // Attach every collection with one query each
+        if (!resultsById.isEmpty())
+            for (Field collection : collections)
+                attachCollection(fieldSet, collection, id, resultsById);
+        return results;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void attachCollection(FieldSet fieldSet, Field collection, Object id,
+                                  Map<Object, Map<String, Object>> resultsById) {
+        StringBuilder jpql = new StringBuilder(collection.collectionQuery());
+        appendIdFilter(jpql, fieldSet, id);
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        if (id != null)
+            query.setParameter("id", id);
+        
+        for (Object[] row : query.getResultList()) {
+            Map<String, Object> result = resultsById.get(row[0]);
+            if (result != null)
+                ((List<Object>) result.get(collection.name())).add(row[1]);
+        }
+    }
+    
+    private static void appendIdFilter(StringBuilder jpql, FieldSet fieldSet, Object id) {
+        if (id != null)
+            jpql.append(" where ").append(fieldSet.idPath()).append(" = :id");
+    }
+}
@@ -1,13 +1,27 @@
 package com.egabi.university.repository;
 
 import com.egabi.university.entity.Instructor;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository for Instructor entity.
  * Provides CRUD operations and custom queries for Instructor.
  */
 @Repository
 public interface InstructorRepository extends JpaRepository<Instructor, Long> {
-}
\ No newline at end of file
+    
+    /**
+     * Gets the instructors with the given IDs, with their user, department, faculty and courses loaded
+     * by the same query.
+     *
+     * @param ids the IDs of the instructors
+     * @return the instructors found, in no particular order
+     */
+    @EntityGraph(attributePaths = {"user", "department", "department.faculty", "courses"})
+    List<Instructor> findAllByIdIn(Collection<Long> ids);
+}
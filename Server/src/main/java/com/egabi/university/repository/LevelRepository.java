@@ -2,8 +2,12 @@ package com.egabi.university.repository;
 
 import com.egabi.university.entity.Level;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository for Level entity.
  * Provides CRUD operations and custom queries for Level.
@@ -19,4 +23,14 @@ public interface LevelRepository extends JpaRepository<Level, Long> {
      * @return true if exists, false otherwise
      */
     boolean existsByNameAndFacultyId(String name, Long facultyId);
-}
\ No newline at end of file
+    
+    /**
+     * Gets the id, name and faculty id of every level, optionally restricted to a faculty.
+     *
+     * @param facultyId ID of the faculty, or null for all faculties
+     * @return List of level rows ordered by name
+     */
+    @Query("select l.id, l.name, l.faculty.id from Level l "
+            + "where (:facultyId is null or l.faculty.id = :facultyId) order by l.name")
+    List<Object[]> findTreeRows(@Param("facultyId") Long facultyId);
+}
@@ -0,0 +1,40 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.OutboxCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository for OutboxCursor entity.
+ * Provides CRUD operations and custom queries for OutboxCursor.
+ */
+@Repository
+public interface OutboxCursorRepository extends JpaRepository<OutboxCursor, String> {
+    
+    /**
+     * Gets the cursor of a subscriber and locks it until the end of the transaction,
+     * so a subscriber is never relayed by two application instances at once.
+     *
+     * @param subscriberName the name of the subscriber
+     * @return the locked cursor, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from OutboxCursor c where c.subscriberName = :subscriberName")
+    Optional<OutboxCursor> findForUpdate(@Param("subscriberName") String subscriberName);
+    
+    /**
+     * Gets the lowest position among the given subscribers.
+     *
+     * @param subscriberNames the names of the subscribers
+     * @return the lowest last processed record ID, {@code null} if none of the subscribers has a cursor
+     */
+    @Query("select min(c.lastRecordId) from OutboxCursor c where c.subscriberName in :subscriberNames")
+    Long findMinimumLastRecordId(@Param("subscriberNames") Collection<String> subscriberNames);
+}
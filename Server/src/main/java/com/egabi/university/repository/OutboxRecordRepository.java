@@ -0,0 +1,40 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.OutboxRecord;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for OutboxRecord entity.
+ * Provides CRUD operations and custom queries for OutboxRecord.
+ */
+@Repository
+public interface OutboxRecordRepository extends JpaRepository<OutboxRecord, Long> {
+    
+    /**
+     * Gets the records written after a given record, in order.
+     *
+     * @param id    the ID of the last processed record
+     * @param limit the maximum number of records to return
+     * @return the next records ordered by ID
+     */
+    List<OutboxRecord> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    /**
+     * Deletes the delivered records older than a given instant.
+     *
+     * @param maxId  the highest record ID every subscriber has processed
+     * @param before the instant before which records may be deleted
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Query("delete from OutboxRecord r where r.id <= :maxId and r.createdAt < :before")
+    int deleteDelivered(@Param("maxId") Long maxId, @Param("before") Instant before);
+}
@@ -0,0 +1,61 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.authentication.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for RefreshToken entity.
+ * Provides CRUD operations and custom queries for RefreshToken.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    
+    /**
+     * Finds a refresh token by its hash and locks it, so two concurrent refreshes cannot both use it.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @return the refresh token if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from RefreshToken t join fetch t.user where t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+    
+    /**
+     * Revokes every token of a family.
+     *
+     * @param familyId the family of the tokens
+     * @return the number of revoked tokens
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+    
+    /**
+     * Finds the tokens of a family whose access token has not expired yet.
+     *
+     * @param familyId the family of the tokens
+     * @param now      the current time
+     * @return List of tokens of the family
+     */
+    List<RefreshToken> findAllByFamilyIdAndAccessTokenExpiresAtAfter(String familyId, Instant now);
+    
+    /**
+     * Deletes the tokens that expired before the given time.
+     *
+     * @param before the expiry cutoff
+     * @return the number of deleted tokens
+     */
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :before")
+    int deleteExpired(@Param("before") Instant before);
+}
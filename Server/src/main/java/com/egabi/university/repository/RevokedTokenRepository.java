@@ -0,0 +1,40 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.authentication.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for RevokedToken entity.
+ * Provides CRUD operations and custom queries for RevokedToken.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    
+    /**
+     * Gets the ID and expiry of the tokens revoked at or after the given time that have not expired yet,
+     * as pairs of {token id, expires at}.
+     *
+     * @param since the revocation time to read from
+     * @param now   the current time
+     * @return List of revoked token rows
+     */
+    @Query("select t.tokenId, t.expiresAt from RevokedToken t where t.revokedAt >= :since and t.expiresAt > :now")
+    List<Object[]> findRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+    
+    /**
+     * Deletes the revocations of tokens that expired before the given time.
+     *
+     * @param before the expiry cutoff
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt < :before")
+    int deleteExpired(@Param("before") Instant before);
+}
@@ -1,11 +1,15 @@
 package com.egabi.university.repository;
 
 import com.egabi.university.entity.Student;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,4 +36,86 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     @Query("select count(s) from Student s where s.department.faculty.id = :facultyId")
     Long countByFacultyId(@Param("facultyId") Long facultyId);
-}
\ No newline at end of file
+    
+    /**
+     * Gets the id, department ID and level ID of every student in a faculty.
+     *
+     * @param facultyId the ID of the faculty
+     * @return a list of {student ID, department ID, level ID} rows
+     */
+    @Query("select s.id, s.department.id, s.level.id from Student s where s.department.faculty.id = :facultyId")
+    List<Object[]> findAuditRowsByFacultyId(@Param("facultyId") Long facultyId);
+    
+    /**
+     * Gets the students with the given IDs, with their user, department, faculty and level loaded by the same query.
+     *
+     * @param ids the IDs of the students
+     * @return the students found, in no particular order
+     */
+    @EntityGraph(attributePaths = {"user", "department", "department.faculty", "level"})
+    List<Student> findAllByIdIn(Collection<Long> ids);
+    
+    /**
+     * Counts the students of every faculty as a pair of {faculty id, count}.
+     *
+     * @return List of faculty IDs with their student counts
+     */
+    @Query("select s.department.faculty.id, count(s) from Student s group by s.department.faculty.id")
+    List<Object[]> countAllGroupedByFacultyId();
+    
+    /**
+     * Counts the students of every department as a pair of {department id, count}.
+     *
+     * @return List of department IDs with their student counts
+     */
+    @Query("select s.department.id, count(s) from Student s group by s.department.id")
+    List<Object[]> countAllGroupedByDepartmentId();
+    
+    /**
+     * Checks if any student is in the given department, without loading the students.
+     *
+     * @param departmentId ID of the department
+     * @return true if the department has at least one student
+     */
+    boolean existsByDepartmentId(Long departmentId);
+    
+    /**
+     * Checks if any student is in the given level, without loading the students.
+     *
+     * @param levelId ID of the level
+     * @return true if the level has at least one student
+     */
+    boolean existsByLevelId(Long levelId);
+    
+    /**
+     * Locks the next chunk of students who graduated before a cutoff date.
+     * Rows already locked by a concurrent archival run are skipped.
+     *
+     * @param cutoff the date before which the students graduated
+     * @param limit  the maximum number of students to lock
+     * @return the IDs of the locked students, in ascending order
+     */
+    @Query(value = "select s.id from student s where s.graduation_date < :cutoff order by s.id limit :limit "
+            + "for update skip locked", nativeQuery = true)
+    List<Long> lockGraduatedBefore(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
+    
+    /**
+     * Counts the given students per department as a triple of {department id, faculty id, count}.
+     *
+     * @param ids the IDs of the students
+     * @return List of department and faculty IDs with their student counts
+     */
+    @Query("select d.id, d.faculty.id, count(s) from Student s join s.department d where s.id in :ids "
+            + "group by d.id, d.faculty.id")
+    List<Object[]> countAllByIdInGroupedByDepartmentId(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Deletes the given students with a single statement, bypassing the persistence context.
+     *
+     * @param ids the IDs of the students
+     * @return the number of deleted students
+     */
+    @Modifying
+    @Query("delete from Student s where s.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,42 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.Term;
+import com.egabi.university.entity.Term.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Term entity.
+ * Provides CRUD operations and custom queries for Term.
+ */
+@Repository
+public interface TermRepository extends JpaRepository<Term, Long> {
+    
+    /**
+     * Gets all terms, the most recent first.
+     *
+     * @return List of all terms ordered by start date descending
+     */
+    List<Term> findAllByOrderByStartDateDesc();
+    
+    /**
+     * Gets the term with the given status that started last on or before a date.
+     *
+     * @param status the status of the term
+     * @param date   the latest start date
+     * @return the latest started term with the status, if any
+     */
+    Optional<Term> findFirstByStatusAndStartDateLessThanEqualOrderByStartDateDesc(Status status, LocalDate date);
+    
+    /**
+     * Checks if a term with the given code exists.
+     *
+     * @param code the code of the term
+     * @return true if a term with the code exists
+     */
+    boolean existsByCodeIgnoreCase(String code);
+}
@@ -2,7 +2,13 @@ package com.egabi.university.repository;
 
 import com.egabi.university.entity.authentication.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,4 +32,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if a User with the given email exists, false otherwise
      */
     boolean existsByEmailIgnoreCase(String email);
+    
+    /**
+     * Disables the enabled user accounts of the given students and rotates their security stamps with a single
+     * statement, bypassing the persistence context.
+     *
+     * @param studentIds the IDs of the students
+     * @param changedAt  the time of the change
+     * @return the number of disabled users
+     */
+    @Modifying
+    @Query("update User u set u.enabled = false, u.securityStamp = u.securityStamp + 1, "
+            + "u.securityStampChangedAt = :changedAt "
+            + "where u.enabled = true and u.id in (select s.user.id from Student s where s.id in :studentIds)")
+    int disableAllByStudentIds(@Param("studentIds") Collection<Long> studentIds,
+                               @Param("changedAt") Instant changedAt);
+    
+    /**
+     * Finds the security stamps of users whose stamp changed in the given window.
+     *
+     * @param since the start of the window, inclusive
+     * @return rows of {user ID, security stamp, change time}
+     */
+    @Query("select u.id, u.securityStamp, u.securityStampChangedAt from User u where u.securityStampChangedAt >= :since")
+    List<Object[]> findSecurityStampsChangedSince(@Param("since") Instant since);
 }
@@ -0,0 +1,161 @@
+package com.egabi.university.repository.projection;
+
+import java.util.*;
+
+/**
+ * Describes the fields of a resource that can be requested individually, and how each maps to JPQL.
+ * <p>
+ * Every scalar field is a select expression that depends on a set of named joins, so a projection only joins the
+ * entities its requested fields need. Collection fields are loaded with a second query returning
+ * {@code (owner id, value)} rows.
+ * </p>
+ */
+public final class FieldSet {
+    
+    private final String resource;
+    private final String from;
+    private final String idPath;
+    private final Map<String, String> joins;
+    private final Map<String, Field> fields;
+    
+    /**
+     * A requestable field.
+     *
+     * @param name            the name of the field in the JSON output
+     * @param path            the JPQL select expression, {@code null} for collection fields
+     * @param joins           the names of the joins the expression needs
+     * @param collectionQuery the JPQL query selecting {@code (owner id, value)} rows, {@code null} for scalar fields
+     */
+    public record Field(String name, String path, List<String> joins, String collectionQuery) {
+        
+        public boolean isCollection() {
+            return collectionQuery != null;
+        }
+    }
+    
+    private FieldSet(Builder builder) {
+        this.resource = builder.resource;
+        this.from = builder.from;
+        this.idPath = builder.idPath;
+        this.joins = Collections.unmodifiableMap(new LinkedHashMap<>(builder.joins));
+        this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(builder.fields));
+    }
+    
+    /**
+     * Starts the definition of a field set.
+     *
+     * @param resource the resource name, used in error messages
+     * @param from     the JPQL root entity with its alias, e.g. {@code Student s}
+     * @param idPath   the JPQL path of the root identifier, e.g. {@code s.id}
+     * @return a builder for the field set
+     */
+    public static Builder builder(String resource, String from, String idPath) {
+        return new Builder(resource, from, idPath);
+    }
+    
+    public String resource() {
+        return resource;
+    }
+    
+    public String from() {
+        return from;
+    }
+    
+    public String idPath() {
+        return idPath;
+    }
+    
+    /**
+     * Returns the clauses of the given joins, in registration order.
+     *
+     * @param names the join names
+     * @return the JPQL join clauses
+     */
+    public List<String> joinClauses(Collection<String> names) {
+        return joins.entrySet().stream()
+                .filter(join -> names.contains(join.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+    
+    /**
+     * Returns the field names in declaration order, which is also the DTO order.
+     *
+     * @return the field names
+     */
+    public Set<String> names() {
+        return fields.keySet();
+    }
+    
+    /**
+     * Returns a field by name.
+     *
+     * @param name the field name
+     * @return the field, or {@code null} if the resource has no such field
+     */
+    public Field field(String name) {
+        return fields.get(name);
+    }
+    
+    /**
+     * Fluent builder of {@link FieldSet}.
+     */
+    public static final class Builder {
+        
+        private final String resource;
+        private final String from;
+        private final String idPath;
+        private final Map<String, String> joins = new LinkedHashMap<>();
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+        
+        private Builder(String resource, String from, String idPath) {
+            this.resource = resource;
+            this.from = from;
+            this.idPath = idPath;
+        }
+        
+        /**
+         * Registers a join. Joins are emitted in registration order, so a join must follow the joins it uses.
+         *
+         * @param name   the join name referenced by fields
+         * @param clause the JPQL join clause
+         * @return this builder
+         */
+        public Builder join(String name, String clause) {
+            joins.put(name, clause);
+            return this;
+        }
+        
+        /**
+         * Registers a scalar field.
+         *
+         * @param name  the field name
+         * @param path  the JPQL select expression
+         * @param joins the names of the joins the expression needs
+         * @return this builder
+         */
+        public Builder field(String name, String path, String... joins) {
+            for (String join : joins)
+                if (!this.joins.containsKey(join))
+                    throw new IllegalArgumentException("Unknown join " + join + " for field " + name);
+            fields.put(name, new Field(name, path, List.of(joins), null));
+            return this;
+        }
+        
+        /**
+         * Registers a collection field.
+         *
+         * @param name  the field name
+         * @param query the JPQL query selecting {@code (owner id, value)} rows, using the same root alias
+         * @return this builder
+         */
+        public Builder collection(String name, String query) {
+            fields.put(name, new Field(name, null, List.of(), query));
+            return this;
+        }
+        
+        public FieldSet build() {
+            return new FieldSet(this);
+        }
+    }
+}
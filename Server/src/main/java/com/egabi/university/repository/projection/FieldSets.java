@@ -0,0 +1,70 @@
+package com.egabi.university.repository.projection;
+
+/**
+ * The {@link FieldSet} of every resource supporting sparse fieldsets.
+ * Field names and order match the corresponding DTOs.
+ */
+public final class FieldSets {
+    
+    /**
+     * Fields of {@link com.egabi.university.dto.StudentDTO}.
+     */
+    public static final FieldSet STUDENT = FieldSet.builder("student", "Student s", "s.id")
+            .join("department", "join s.department d")
+            .join("faculty", "join d.faculty f")
+            .join("level", "join s.level l")
+            .field("id", "s.id")
+            .field("userId", "s.user.id")
+            .field("firstName", "s.firstName")
+            .field("lastName", "s.lastName")
+            .field("phoneNumber", "s.phoneNumber")
+            .field("dateOfBirth", "s.dateOfBirth")
+            .field("gender", "s.gender")
+            .field("facultyId", "d.faculty.id", "department")
+            .field("facultyName", "f.name", "department", "faculty")
+            .field("departmentId", "s.department.id")
+            .field("departmentName", "d.name", "department")
+            .field("levelId", "s.level.id")
+            .field("levelName", "l.name", "level")
+            .field("graduationDate", "s.graduationDate")
+            .build();
+    
+    /**
+     * Fields of {@link com.egabi.university.dto.InstructorDTO}.
+     */
+    public static final FieldSet INSTRUCTOR = FieldSet.builder("instructor", "Instructor i", "i.id")
+            .join("department", "join i.department d")
+            .join("faculty", "join d.faculty f")
+            .field("id", "i.id")
+            .field("userId", "i.user.id")
+            .field("firstName", "i.firstName")
+            .field("lastName", "i.lastName")
+            .field("phoneNumber", "i.phoneNumber")
+            .field("dateOfBirth", "i.dateOfBirth")
+            .field("gender", "i.gender")
+            .field("departmentId", "i.department.id")
+            .field("departmentName", "d.name", "department")
+            .field("facultyId", "d.faculty.id", "department")
+            .field("facultyName", "f.name", "department", "faculty")
+            .collection("courseCodes", "select i.id, c.code from Instructor i join i.courses c")
+            .build();
+    
+    /**
+     * Fields of {@link com.egabi.university.dto.CourseDTO}.
+     */
+    public static final FieldSet COURSE = FieldSet.builder("course", "Course c", "c.code")
+            .field("code", "c.code")
+            .field("name", "c.name")
+            .field("credits", "c.credits")
+            .field("departmentId", "c.department.id")
+            .field("levelId", "c.level.id")
+            .build();
+    
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class.
+     */
+    private FieldSets() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,27 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.dto.FacultyTreeDTO;
+
+import java.util.List;
+
+public interface CatalogTreeService {
+    
+    // ================================================================
+    // Tree Methods
+    // ================================================================
+    
+    /**
+     * Get the whole academic catalog as a tree of faculties, their levels, departments and courses.
+     *
+     * @return a list of FacultyTreeDTO objects, one per faculty
+     */
+    List<FacultyTreeDTO> getCatalogTree();
+    
+    /**
+     * Get the catalog tree of a single faculty.
+     *
+     * @param facultyId the ID of the faculty
+     * @return the FacultyTreeDTO of the faculty
+     */
+    FacultyTreeDTO getFacultyTree(Long facultyId);
+}
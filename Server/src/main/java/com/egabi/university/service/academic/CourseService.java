@@ -1,7 +1,9 @@
 package com.egabi.university.service.academic;
 
 import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.MultiGetDTO;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CourseService {
@@ -24,6 +26,14 @@ public interface CourseService {
      */
     CourseDTO getCourseByCode(String code);
     
+    /**
+     * Get several courses by their codes with a single query.
+     *
+     * @param codes the codes of the courses
+     * @return the courses found, in request order, and the codes that matched no course
+     */
+    MultiGetDTO<CourseDTO, String> getCoursesByCodes(Collection<String> codes);
+    
     /**
      * Create a new course.
      *
@@ -0,0 +1,61 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.dto.DegreeAuditDTO;
+import com.egabi.university.dto.DegreeRequirementDTO;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface DegreeAuditService {
+    
+    // ================================================================
+    // Requirement Methods
+    // ================================================================
+    
+    /**
+     * Get all degree requirements of a department.
+     *
+     * @param departmentId the ID of the department
+     * @return a list of DegreeRequirementDTO objects of the department
+     */
+    List<DegreeRequirementDTO> getRequirementsByDepartmentId(Long departmentId);
+    
+    /**
+     * Create a new degree requirement for a department.
+     *
+     * @param departmentId   the ID of the department
+     * @param requirementDTO the requirement data transfer object
+     * @return the created DegreeRequirementDTO object
+     */
+    DegreeRequirementDTO createRequirement(Long departmentId, DegreeRequirementDTO requirementDTO);
+    
+    /**
+     * Delete a degree requirement of a department.
+     *
+     * @param departmentId  the ID of the department
+     * @param requirementId the ID of the requirement to be deleted
+     */
+    void deleteRequirement(Long departmentId, Long requirementId);
+    
+    // ================================================================
+    // Audit Methods
+    // ================================================================
+    
+    /**
+     * Audit what a student still lacks to graduate.
+     *
+     * @param studentId the ID of the student
+     * @return the DegreeAuditDTO of the student
+     */
+    DegreeAuditDTO auditStudent(Long studentId);
+    
+    /**
+     * Audit every student of a faculty in parallel.
+     * The data is loaded before this method returns; the audits are produced while the stream is consumed,
+     * in completion order.
+     *
+     * @param facultyId the ID of the faculty
+     * @return a stream of DegreeAuditDTO objects, one per student of the faculty
+     */
+    Stream<DegreeAuditDTO> auditFaculty(Long facultyId);
+}
@@ -6,14 +6,14 @@ import java.util.List;
 
 public interface EnrollmentService {
     /**
-     * Get all enrollments available in the system.
+     * Get all enrollments of the current term.
      *
-     * @return a list of all enrollments as EnrollmentDTO objects
+     * @return a list of all enrollments of the current term as EnrollmentDTO objects
      */
     List<EnrollmentDTO> getAllEnrollments();
     
     /**
-     * Get Enrollment by ID.
+     * Get Enrollment of the current term by ID.
      *
      * @param studentId  the ID of the student
      * @param courseCode the code of the course
@@ -22,7 +22,7 @@ public interface EnrollmentService {
     EnrollmentDTO getEnrollmentById(Long studentId, String courseCode);
     
     /**
-     * Create a new enrollment.
+     * Create a new enrollment in the current term.
      *
      * @param enrollmentDTO the enrollment data transfer object containing enrollment details
      * @return the created EnrollmentDTO object
@@ -30,7 +30,7 @@ public interface EnrollmentService {
     EnrollmentDTO createEnrollment(EnrollmentDTO enrollmentDTO);
     
     /**
-     * Update an existing enrollment.
+     * Update an existing enrollment of the current term.
      *
      * @param studentId     the ID of the student
      * @param courseCode    the code of the course
@@ -40,7 +40,7 @@ public interface EnrollmentService {
     EnrollmentDTO updateEnrollment(Long studentId, String courseCode, EnrollmentDTO enrollmentDTO);
     
     /**
-     * Delete an enrollment by its ID.
+     * Delete an enrollment of the current term by its ID.
      *
      * @param studentId  the ID of the student
      * @param courseCode the code of the course
@@ -48,7 +48,7 @@ public interface EnrollmentService {
     void deleteEnrollment(Long studentId, String courseCode);
     
     /**
-     * Get all enrollments for a specific student.
+     * Get all enrollments of the current term for a specific student.
      *
      * @param studentId the ID of the student
      * @return a list of EnrollmentDTO objects for the specified student
@@ -56,12 +56,20 @@ public interface EnrollmentService {
     List<EnrollmentDTO> getEnrollmentsByStudentId(Long studentId);
     
     /**
-     * Get all enrollments for a specific course.
+     * Get all enrollments of the current term for a specific course.
      *
      * @param courseCode the code of the course
      * @return a list of EnrollmentDTO objects for the specified course
      */
     List<EnrollmentDTO> getEnrollmentsByCourseId(String courseCode);
+    
+    /**
+     * Get all enrollments of a specific term.
+     *
+     * @param termId the ID of the term
+     * @return a list of EnrollmentDTO objects of the specified term
+     */
+    List<EnrollmentDTO> getEnrollmentsByTermId(Long termId);
 }
 
 
@@ -0,0 +1,17 @@
+package com.egabi.university.service.academic;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface EnrollmentStreamService {
+    
+    /**
+     * Subscribe to committed enrollment changes as Server-Sent Events.
+     * Each event carries its id, so a reconnecting client resumes with the {@code Last-Event-ID} it received.
+     *
+     * @param courseCode  only stream changes of this course, {@code null} for every course
+     * @param studentId   only stream changes of this student, {@code null} for every student
+     * @param lastEventId the id of the last event the client received, {@code null} for a fresh subscription
+     * @return the emitter the events are sent through
+     */
+    SseEmitter subscribe(String courseCode, Long studentId, Long lastEventId);
+}
@@ -0,0 +1,71 @@
+package com.egabi.university.service.academic;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface FieldProjectionService {
+    
+    // ================================================================
+    // Student Projections
+    // ================================================================
+    
+    /**
+     * Get the requested fields of all students.
+     *
+     * @param fields the names of the StudentDTO fields to return
+     * @return a list of maps of field name to value
+     */
+    List<Map<String, Object>> getStudents(Set<String> fields);
+    
+    /**
+     * Get the requested fields of a student.
+     *
+     * @param studentId the ID of the student
+     * @param fields    the names of the StudentDTO fields to return
+     * @return a map of field name to value
+     */
+    Map<String, Object> getStudentById(Long studentId, Set<String> fields);
+    
+    // ================================================================
+    // Instructor Projections
+    // ================================================================
+    
+    /**
+     * Get the requested fields of all instructors.
+     *
+     * @param fields the names of the InstructorDTO fields to return
+     * @return a list of maps of field name to value
+     */
+    List<Map<String, Object>> getInstructors(Set<String> fields);
+    
+    /**
+     * Get the requested fields of an instructor.
+     *
+     * @param instructorId the ID of the instructor
+     * @param fields       the names of the InstructorDTO fields to return
+     * @return a map of field name to value
+     */
+    Map<String, Object> getInstructorById(Long instructorId, Set<String> fields);
+    
+    // ================================================================
+    // Course Projections
+    // ================================================================
+    
+    /**
+     * Get the requested fields of all courses.
+     *
+     * @param fields the names of the CourseDTO fields to return
+     * @return a list of maps of field name to value
+     */
+    List<Map<String, Object>> getCourses(Set<String> fields);
+    
+    /**
+     * Get the requested fields of a course.
+     *
+     * @param code   the code of the course
+     * @param fields the names of the CourseDTO fields to return
+     * @return a map of field name to value
+     */
+    Map<String, Object> getCourseByCode(String code, Set<String> fields);
+}
@@ -1,8 +1,10 @@
 package com.egabi.university.service.academic;
 
 import com.egabi.university.dto.InstructorDTO;
+import com.egabi.university.dto.MultiGetDTO;
 import com.egabi.university.entity.authentication.User;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface InstructorService {
@@ -26,6 +28,14 @@ public interface InstructorService {
      */
     InstructorDTO getInstructorById(Long instructorId);
     
+    /**
+     * Get several instructors by their IDs with a single query.
+     *
+     * @param ids the IDs of the instructors
+     * @return the instructors found, in request order, and the IDs that matched no instructor
+     */
+    MultiGetDTO<InstructorDTO, Long> getInstructorsByIds(Collection<Long> ids);
+    
     /**
      * Create a new instructor.
      *
@@ -0,0 +1,69 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.dto.CourseDTO;
+
+import java.util.List;
+
+public interface PrerequisiteService {
+    
+    /**
+     * Minimum grade for an enrollment to count as a passed course.
+     */
+    double PASSING_GRADE = 50.0;
+    
+    // ================================================================
+    // Prerequisite Methods
+    // ================================================================
+    
+    /**
+     * Get the direct prerequisites of a course.
+     *
+     * @param courseCode the code of the course
+     * @return a list of the prerequisite course codes
+     */
+    List<String> getPrerequisites(String courseCode);
+    
+    /**
+     * Replace the direct prerequisites of a course.
+     *
+     * @param courseCode        the code of the course
+     * @param prerequisiteCodes the codes of the new prerequisite courses
+     * @return a list of the prerequisite course codes after the update
+     */
+    List<String> updatePrerequisites(String courseCode, List<String> prerequisiteCodes);
+    
+    /**
+     * Register a newly created course in the prerequisite graph once the current transaction commits.
+     *
+     * @param courseCode the code of the created course
+     */
+    void addCourse(String courseCode);
+    
+    /**
+     * Remove a course from the prerequisite graph once the current transaction commits.
+     * Fails if other courses still list it as a prerequisite.
+     *
+     * @param courseCode the code of the course being deleted
+     */
+    void removeCourse(String courseCode);
+    
+    // ================================================================
+    // Eligibility Methods
+    // ================================================================
+    
+    /**
+     * Get all courses a student has not passed yet and is eligible to enroll in.
+     *
+     * @param studentId the ID of the student
+     * @return a list of eligible CourseDTO objects
+     */
+    List<CourseDTO> getEligibleCourses(Long studentId);
+    
+    /**
+     * Assert that a student has passed every (transitive) prerequisite of a course.
+     *
+     * @param studentId  the ID of the student
+     * @param courseCode the code of the course
+     */
+    void assertPrerequisitesMet(Long studentId, String courseCode);
+}
@@ -1,8 +1,10 @@
 package com.egabi.university.service.academic;
 
+import com.egabi.university.dto.MultiGetDTO;
 import com.egabi.university.dto.StudentDTO;
 import com.egabi.university.entity.authentication.User;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface StudentService {
@@ -26,6 +28,14 @@ public interface StudentService {
      */
     StudentDTO getStudentById(Long id);
     
+    /**
+     * Get several students by their IDs with a single query.
+     *
+     * @param ids the IDs of the students
+     * @return the students found, in request order, and the IDs that matched no student
+     */
+    MultiGetDTO<StudentDTO, Long> getStudentsByIds(Collection<Long> ids);
+    
     /**
      * Create a new student.
      *
@@ -82,4 +92,14 @@ public interface StudentService {
      * @return the count of students in the specified faculty
      */
     Long countStudentsByFacultyId(Long facultyId);
+    
+    // Department-related methods
+    
+    /**
+     * Count the number of students in a specific department.
+     *
+     * @param departmentId the ID of the department
+     * @return the count of students in the specified department
+     */
+    Long countStudentsByDepartmentId(Long departmentId);
 }
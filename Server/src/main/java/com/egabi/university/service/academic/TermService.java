@@ -0,0 +1,58 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.dto.TermDTO;
+import com.egabi.university.entity.Term;
+
+import java.util.List;
+
+public interface TermService {
+    
+    // ================================================================
+    // CRUD Methods
+    // ================================================================
+    
+    /**
+     * Get all terms, the most recent first.
+     *
+     * @return a list of all terms as TermDTO objects
+     */
+    List<TermDTO> getAllTerms();
+    
+    /**
+     * Create a new open term and the enrollment partition of the term.
+     *
+     * @param termDTO the term data transfer object containing term details
+     * @return the created TermDTO object
+     */
+    TermDTO createTerm(TermDTO termDTO);
+    
+    // ================================================================
+    // Business Logic Methods
+    // ================================================================
+    
+    /**
+     * Get the current term: the open term that started last.
+     *
+     * @return the TermDTO of the current term
+     */
+    TermDTO getCurrentTerm();
+    
+    /**
+     * Get the ID of the current term.
+     * Enrollment reads and writes are limited to this term unless another term is requested explicitly.
+     *
+     * @return the ID of the current term
+     */
+    Long getCurrentTermId();
+    
+    /**
+     * Close an open term, either freezing or detaching its enrollment partition.
+     * A frozen term can still be detached later. Detaching is only allowed once every enrollment of the term has
+     * been archived, since detached enrollments no longer count towards prerequisites and degree audits.
+     *
+     * @param termId the ID of the term
+     * @param status {@link Term.Status#FROZEN} or {@link Term.Status#DETACHED}
+     * @return the closed TermDTO object
+     */
+    TermDTO closeTerm(Long termId, Term.Status status);
+}
@@ -0,0 +1,256 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.DepartmentDTO;
+import com.egabi.university.dto.FacultyDTO;
+import com.egabi.university.dto.LevelDTO;
+import com.egabi.university.exception.NotFoundException;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable, fully indexed snapshot of the academic catalog: faculties, levels, departments and courses,
+ * along with the instructors teaching each course.
+ * <p>
+ * Every index is built once, so lookups only read final maps and lists and are safe from any thread
+ * without locking. The DTOs are shared by every reader and must be treated as read-only.
+ * </p>
+ */
+public final class CatalogSnapshot {
+    
+    /**
+     * Snapshot of an empty catalog.
+     */
+    public static final CatalogSnapshot EMPTY = build(List.of(), List.of(), List.of(), List.of());
+    
+    private final List<FacultyDTO> faculties;
+    private final List<LevelDTO> levels;
+    private final List<DepartmentDTO> departments;
+    private final List<CourseDTO> courses;
+    
+    private final Map<Long, FacultyDTO> facultiesById;
+    private final Map<Long, LevelDTO> levelsById;
+    private final Map<Long, DepartmentDTO> departmentsById;
+    private final Map<String, CourseDTO> coursesByCode;
+    
+    private final Map<Long, List<LevelDTO>> levelsByFaculty;
+    private final Map<Long, List<DepartmentDTO>> departmentsByFaculty;
+    private final Map<Long, List<CourseDTO>> coursesByDepartment;
+    private final Map<Long, List<CourseDTO>> coursesByLevel;
+    private final Map<String, List<Long>> instructorIdsByCourse;
+    
+    private CatalogSnapshot(List<FacultyDTO> faculties, List<LevelDTO> levels,
+                            List<DepartmentDTO> departments, List<CourseDTO> courses,
+                            Map<String, List<Long>> instructorIdsByCourse) {
+        this.faculties = faculties;
+        this.levels = levels;
+        this.departments = departments;
+        this.courses = courses;
+        this.facultiesById = index(faculties, FacultyDTO::getId);
+        this.levelsById = index(levels, LevelDTO::getId);
+        this.departmentsById = index(departments, DepartmentDTO::getId);
+        this.coursesByCode = index(courses, CourseDTO::getCode);
+        this.levelsByFaculty = group(levels, LevelDTO::getFacultyId);
+        this.departmentsByFaculty = group(departments, DepartmentDTO::getFacultyId);
+        this.coursesByDepartment = group(courses, CourseDTO::getDepartmentId);
+        this.coursesByLevel = group(courses, CourseDTO::getLevelId);
+        this.instructorIdsByCourse = instructorIdsByCourse;
+    }
+    
+    /**
+     * Builds a snapshot from the catalog rows. Every list is sorted by ID, or by code for courses.
+     *
+     * @param faculties   all faculties
+     * @param levels      all levels
+     * @param departments all departments
+     * @param courses     all courses
+     * @return the built snapshot
+     */
+    public static CatalogSnapshot build(Collection<FacultyDTO> faculties, Collection<LevelDTO> levels,
+                                        Collection<DepartmentDTO> departments, Collection<CourseDTO> courses) {
+        return build(faculties, levels, departments, courses, List.of());
+    }
+    
+    /**
+     * Builds a snapshot from the catalog rows and the courses taught by each instructor.
+     * Every list is sorted by ID, or by code for courses.
+     *
+     * @param faculties             all faculties
+     * @param levels                all levels
+     * @param departments           all departments
+     * @param courses               all courses
+     * @param instructorAssignments pairs of {course code, instructor ID}
+     * @return the built snapshot
+     */
+    public static CatalogSnapshot build(Collection<FacultyDTO> faculties, Collection<LevelDTO> levels,
+                                        Collection<DepartmentDTO> departments, Collection<CourseDTO> courses,
+                                        Collection<Object[]> instructorAssignments) {
+        Map<String, List<Long>> instructorIdsByCourse = new HashMap<>();
+        for (Object[] assignment : instructorAssignments)
+            instructorIdsByCourse.computeIfAbsent((String) assignment[0], code -> new ArrayList<>())
+                    .add((Long) assignment[1]);
+        instructorIdsByCourse.replaceAll((code, instructorIds) -> {
+            instructorIds.sort(Comparator.naturalOrder());
+            return Collections.unmodifiableList(instructorIds);
+        });
+        return new CatalogSnapshot(
+                sorted(faculties, Comparator.comparing(FacultyDTO::getId)),
+                sorted(levels, Comparator.comparing(LevelDTO::getId)),
+                sorted(departments, Comparator.comparing(DepartmentDTO::getId)),
+                sorted(courses, Comparator.comparing(CourseDTO::getCode)),
+                Collections.unmodifiableMap(instructorIdsByCourse));
+    }
+    
+    // ================================================================
+    // Faculty
+    // ================================================================
+    
+    public List<FacultyDTO> getFaculties() {
+        return faculties;
+    }
+    
+    /**
+     * Gets a faculty by its ID.
+     *
+     * @param facultyId the ID of the faculty
+     * @return the faculty
+     * @throws NotFoundException if the faculty does not exist
+     */
+    public FacultyDTO getFaculty(Long facultyId) {
+        FacultyDTO faculty = facultiesById.get(facultyId);
+        if (faculty == null)
+            throw new NotFoundException("Faculty with id " + facultyId + " not found", "FACULTY_NOT_FOUND");
+        return faculty;
+    }
+    
+    public List<LevelDTO> getLevelsByFaculty(Long facultyId) {
+        return levelsByFaculty.getOrDefault(facultyId, List.of());
+    }
+    
+    public List<DepartmentDTO> getDepartmentsByFaculty(Long facultyId) {
+        return departmentsByFaculty.getOrDefault(facultyId, List.of());
+    }
+    
+    // ================================================================
+    // Level
+    // ================================================================
+    
+    public List<LevelDTO> getLevels() {
+        return levels;
+    }
+    
+    /**
+     * Gets a level by its ID.
+     *
+     * @param levelId the ID of the level
+     * @return the level
+     * @throws NotFoundException if the level does not exist
+     */
+    public LevelDTO getLevel(Long levelId) {
+        LevelDTO level = levelsById.get(levelId);
+        if (level == null)
+            throw new NotFoundException("Level with id " + levelId + " not found", "LEVEL_NOT_FOUND");
+        return level;
+    }
+    
+    public List<CourseDTO> getCoursesByLevel(Long levelId) {
+        return coursesByLevel.getOrDefault(levelId, List.of());
+    }
+    
+    // ================================================================
+    // Department
+    // ================================================================
+    
+    public List<DepartmentDTO> getDepartments() {
+        return departments;
+    }
+    
+    /**
+     * Gets a department by its ID.
+     *
+     * @param departmentId the ID of the department
+     * @return the department
+     * @throws NotFoundException if the department does not exist
+     */
+    public DepartmentDTO getDepartment(Long departmentId) {
+        DepartmentDTO department = departmentsById.get(departmentId);
+        if (department == null)
+            throw new NotFoundException("Department with id " + departmentId + " not found", "DEPARTMENT_NOT_FOUND");
+        return department;
+    }
+    
+    public List<CourseDTO> getCoursesByDepartment(Long departmentId) {
+        return coursesByDepartment.getOrDefault(departmentId, List.of());
+    }
+    
+    // ================================================================
+    // Course
+    // ================================================================
+    
+    public List<CourseDTO> getCourses() {
+        return courses;
+    }
+    
+    /**
+     * Gets a course by its code.
+     *
+     * @param courseCode the code of the course
+     * @return the course
+     * @throws NotFoundException if the course does not exist
+     */
+    public CourseDTO getCourse(String courseCode) {
+        CourseDTO course = coursesByCode.get(courseCode);
+        if (course == null)
+            throw new NotFoundException("Course with code " + courseCode + " not found", "COURSE_NOT_FOUND");
+        return course;
+    }
+    
+    /**
+     * Finds a course by its code.
+     *
+     * @param courseCode the code of the course
+     * @return the course, or {@code null} if it does not exist
+     */
+    public CourseDTO findCourse(String courseCode) {
+        return coursesByCode.get(courseCode);
+    }
+    
+    /**
+     * Gets the IDs of the instructors teaching a course.
+     *
+     * @param courseCode the code of the course
+     * @return the instructor IDs in ascending order, empty if nobody teaches the course
+     */
+    public List<Long> getInstructorIdsByCourse(String courseCode) {
+        return instructorIdsByCourse.getOrDefault(courseCode, List.of());
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static <T> List<T> sorted(Collection<T> values, Comparator<T> order) {
+        List<T> copy = new ArrayList<>(values);
+        copy.sort(order);
+        return Collections.unmodifiableList(copy);
+    }
+    
+    private static <K, T> Map<K, T> index(List<T> values, Function<T, K> key) {
+        Map<K, T> index = HashMap.newHashMap(values.size());
+        for (T value : values)
+            index.put(key.apply(value), value);
+        return Collections.unmodifiableMap(index);
+    }
+    
+    private static <K, T> Map<K, List<T>> group(List<T> values, Function<T, K> key) {
+        Map<K, List<T>> groups = new HashMap<>();
+        for (T value : values) {
+            K groupKey = key.apply(value);
+            if (groupKey != null)
+                groups.computeIfAbsent(groupKey, k -> new ArrayList<>()).add(value);
+        }
+        groups.replaceAll((k, group) -> Collections.unmodifiableList(group));
+        return Collections.unmodifiableMap(groups);
+    }
+}
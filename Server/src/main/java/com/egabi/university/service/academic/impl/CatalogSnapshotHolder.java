@@ -0,0 +1,174 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.DepartmentDTO;
+import com.egabi.university.dto.FacultyDTO;
+import com.egabi.university.dto.LevelDTO;
+import com.egabi.university.entity.OutboxRecord;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.CatalogChangedEvent;
+import com.egabi.university.repository.CourseRepository;
+import com.egabi.university.repository.DepartmentRepository;
+import com.egabi.university.repository.FacultyRepository;
+import com.egabi.university.repository.LevelRepository;
+import com.egabi.university.service.outbox.OutboxSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Publishes the current {@link CatalogSnapshot}.
+ * <p>
+ * Readers get the snapshot from a volatile field without locking. The snapshot is loaded on first use and
+ * rebuilt copy-on-write from five flat queries after every committed catalog change; rebuilds are serialized,
+ * so a snapshot is never replaced by one read before it. Changes committed by this instance trigger a rebuild through
+ * application events; changes committed by other instances reach it through the outbox.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CatalogSnapshotHolder implements OutboxSubscriber {
+    
+    /**
+     * The outbox aggregates held by the snapshot.
+     */
+    private static final Set<AggregateType> CATALOG_AGGREGATES = EnumSet.of(AggregateType.FACULTY,
+            AggregateType.LEVEL, AggregateType.DEPARTMENT, AggregateType.COURSE, AggregateType.INSTRUCTOR);
+    
+    private final FacultyRepository facultyRepository;
+    private final LevelRepository levelRepository;
+    private final DepartmentRepository departmentRepository;
+    private final CourseRepository courseRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    private volatile CatalogSnapshot snapshot;
+    
+    public CatalogSnapshotHolder(FacultyRepository facultyRepository,
+                                 LevelRepository levelRepository,
+                                 DepartmentRepository departmentRepository,
+                                 CourseRepository courseRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.facultyRepository = facultyRepository;
+        this.levelRepository = levelRepository;
+        this.departmentRepository = departmentRepository;
+        this.courseRepository = courseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+    
+    /**
+     * Returns the current catalog snapshot, loading it from the database on first use.
+     *
+     * @return the current snapshot
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Rebuilds the snapshot once a catalog change is committed.
+     * If the rebuild fails the snapshot is dropped, so the next read loads it again.
+     *
+     * @param event the catalog change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        rebuild(event.kind().name());
+    }
+    
+    // ================================================================
+    // Outbox Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String name() {
+        return "catalog-snapshot";
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+    
+    /**
+     * Rebuilds the snapshot once per batch holding catalog changes committed on any instance.
+     *
+     * @param records the committed changes
+     */
+    @Override
+    public void onRecords(List<OutboxRecord> records) {
+        records.stream()
+                .filter(record -> CATALOG_AGGREGATES.contains(record.getAggregateType()))
+                .findFirst()
+                .ifPresent(record -> rebuild(record.getAggregateType().name()));
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Rebuilds the snapshot if it is loaded. If the rebuild fails the snapshot is dropped, so the next read loads it
+     * again.
+     *
+     * @param change the kind of change that triggered the rebuild
+     */
+    private synchronized void rebuild(String change) {
+        if (snapshot == null)
+            return;
+        try {
+            snapshot = load();
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild the catalog snapshot after a {} change", change, e);
+            snapshot = null;
+        }
+    }
+    
+    /**
+     * Loads a new snapshot in its own read-only transaction.
+     *
+     * @return the loaded snapshot
+     */
+    private CatalogSnapshot load() {
+        return transactionTemplate.execute(status -> {
+            List<FacultyDTO> faculties = facultyRepository.findTreeRows(null).stream()
+                    .map(row -> new FacultyDTO((Long) row[0], (String) row[1]))
+                    .toList();
+            List<LevelDTO> levels = levelRepository.findTreeRows(null).stream()
+                    .map(row -> new LevelDTO((Long) row[0], (String) row[1], (Long) row[2]))
+                    .toList();
+            List<DepartmentDTO> departments = departmentRepository.findTreeRows(null).stream()
+                    .map(row -> new DepartmentDTO((Long) row[0], (String) row[1], (Long) row[2]))
+                    .toList();
+            List<CourseDTO> courses = courseRepository.findTreeRows(null).stream()
+                    .map(row -> new CourseDTO((String) row[0], (String) row[1], (Integer) row[2], (Long) row[3], (Long) row[4]))
+                    .toList();
+            return CatalogSnapshot.build(faculties, levels, departments, courses,
+                    courseRepository.findInstructorAssignmentRows(null));
+        });
+    }
+}
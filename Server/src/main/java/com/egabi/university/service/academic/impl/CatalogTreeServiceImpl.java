@@ -0,0 +1,114 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.CourseTreeDTO;
+import com.egabi.university.dto.DepartmentDTO;
+import com.egabi.university.dto.DepartmentTreeDTO;
+import com.egabi.university.dto.FacultyDTO;
+import com.egabi.university.dto.FacultyTreeDTO;
+import com.egabi.university.dto.LevelDTO;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.service.academic.CatalogTreeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Default implementation of {@link CatalogTreeService}.
+ * <p>
+ * Trees are assembled in memory from the current {@link CatalogSnapshot}, without querying the database, and kept
+ * until the snapshot is replaced, so they are exactly as fresh as the rest of the catalog reads.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogTreeServiceImpl implements CatalogTreeService {
+    
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    
+    /**
+     * The trees assembled from the snapshot they were built from, {@code null} until first used.
+     */
+    private volatile CatalogTrees trees;
+    
+    private record CatalogTrees(CatalogSnapshot catalog, List<FacultyTreeDTO> faculties,
+                                Map<Long, FacultyTreeDTO> facultiesById) {
+    }
+    
+    // ================================================================
+    // Tree Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FacultyTreeDTO> getCatalogTree() {
+        return trees().faculties();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FacultyTreeDTO getFacultyTree(Long facultyId) {
+        FacultyTreeDTO tree = trees().facultiesById().get(facultyId);
+        if (tree == null)
+            throw new NotFoundException("Faculty with id " + facultyId + " not found", "FACULTY_NOT_FOUND");
+        return tree;
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Returns the trees of the current snapshot, assembling them again whenever the snapshot was replaced.
+     *
+     * @return the trees of the current snapshot
+     */
+    private CatalogTrees trees() {
+        CatalogSnapshot catalog = catalogSnapshotHolder.current();
+        CatalogTrees current = trees;
+        if (current == null || current.catalog() != catalog) {
+            current = buildTrees(catalog);
+            trees = current;
+        }
+        return current;
+    }
+    
+    /**
+     * Assembles the tree of every faculty from a snapshot. Faculties, levels and departments are ordered by name,
+     * courses by code.
+     *
+     * @param catalog the catalog snapshot
+     * @return the faculty trees of the snapshot
+     */
+    private static CatalogTrees buildTrees(CatalogSnapshot catalog) {
+        List<FacultyTreeDTO> faculties = new ArrayList<>();
+        Map<Long, FacultyTreeDTO> facultiesById = new HashMap<>();
+        for (FacultyDTO faculty : byName(catalog.getFaculties(), FacultyDTO::getName)) {
+            List<DepartmentTreeDTO> departments = new ArrayList<>();
+            for (DepartmentDTO department : byName(catalog.getDepartmentsByFaculty(faculty.getId()), DepartmentDTO::getName)) {
+                List<CourseTreeDTO> courses = new ArrayList<>();
+                for (CourseDTO course : catalog.getCoursesByDepartment(department.getId()))
+                    courses.add(new CourseTreeDTO(course.getCode(), course.getName(), course.getCredits(),
+                            course.getLevelId(), catalog.getInstructorIdsByCourse(course.getCode())));
+                departments.add(new DepartmentTreeDTO(department.getId(), department.getName(), courses));
+            }
+            FacultyTreeDTO tree = new FacultyTreeDTO(faculty.getId(), faculty.getName(),
+                    byName(catalog.getLevelsByFaculty(faculty.getId()), LevelDTO::getName), departments);
+            faculties.add(tree);
+            facultiesById.put(tree.getId(), tree);
+        }
+        return new CatalogTrees(catalog, List.copyOf(faculties), Map.copyOf(facultiesById));
+    }
+    
+    private static <T> List<T> byName(List<T> values, Function<T, String> name) {
+        List<T> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.comparing(name));
+        return sorted;
+    }
+}
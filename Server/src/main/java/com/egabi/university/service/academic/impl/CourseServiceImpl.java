@@ -1,20 +1,30 @@
 package com.egabi.university.service.academic.impl;
 
 import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.MultiGetDTO;
 import com.egabi.university.entity.Course;
 import com.egabi.university.entity.Department;
 import com.egabi.university.entity.Level;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.CatalogChangedEvent.Kind;
+import com.egabi.university.event.CatalogChangedEvent;
+import com.egabi.university.event.ChangeType;
 import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.CourseMapper;
 import com.egabi.university.repository.CourseRepository;
 import com.egabi.university.service.academic.CourseService;
+import com.egabi.university.service.academic.PrerequisiteService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +39,10 @@ public class CourseServiceImpl implements CourseService {
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
     private final ValidationService validationService;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final PrerequisiteService prerequisiteService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // ================================================================
     // CRUD Methods
@@ -38,20 +52,36 @@ public class CourseServiceImpl implements CourseService {
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public List<CourseDTO> getAllCourses() {
-        List<Course> courses = courseRepository.findAll();
-        return courseMapper.toDTOs(courses);
+        return catalogSnapshotHolder.current().getCourses();
     }
     
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public CourseDTO getCourseByCode(String code) {
-        Course course = validationService.getCourseByCodeOrThrow(code);
-        return courseMapper.toDTO(course);
+        return catalogSnapshotHolder.current().getCourse(code);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MultiGetDTO<CourseDTO, String> getCoursesByCodes(Collection<String> codes) {
+        // Validate the number of requested codes
+        List<String> keys = codes.stream().distinct().toList();
+        validationService.assertMultiGetKeyCount(keys.size());
+        
+        // Look every course up in the catalog snapshot
+        CatalogSnapshot catalog = catalogSnapshotHolder.current();
+        List<CourseDTO> courses = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            CourseDTO course = catalog.findCourse(key);
+            if (course != null)
+                courses.add(course);
+        }
+        return MultiGetDTO.of(keys, courses, CourseDTO::getCode);
     }
     
     /**
@@ -68,6 +98,10 @@ public class CourseServiceImpl implements CourseService {
         
         // Validate department - level and save the course
         course = validateAndSaveCourse(course);
+        outboxService.record(AggregateType.COURSE, course.getCode(), ChangeType.CREATED);
+        
+        // Register the course in the prerequisite graph
+        prerequisiteService.addCourse(course.getCode());
         
         // Return the created course DTO
         return courseMapper.toDTO(course);
@@ -93,6 +127,7 @@ public class CourseServiceImpl implements CourseService {
             
             // Validate department - level and update the course
             existingCourse = validateAndSaveCourse(existingCourse);
+            outboxService.record(AggregateType.COURSE, code, ChangeType.UPDATED);
         }
         
         // Return the updated course DTO
@@ -117,8 +152,13 @@ public class CourseServiceImpl implements CourseService {
         if (!course.getInstructors().isEmpty())
             course.getInstructors().forEach(instructor -> instructor.getCourses().remove(course));
         
+        // Remove the course from the prerequisite graph, fails if other courses require it
+        prerequisiteService.removeCourse(code);
+        
         // Delete the course
         courseRepository.delete(course);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.COURSE));
+        outboxService.record(AggregateType.COURSE, code, ChangeType.DELETED);
     }
     
     
@@ -130,14 +170,12 @@ public class CourseServiceImpl implements CourseService {
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public List<CourseDTO> getCoursesByDepartmentId(Long departmentId) {
         // Validate department existence
-        validationService.assertDepartmentExists(departmentId);
+        CatalogSnapshot catalog = catalogSnapshotHolder.current();
+        catalog.getDepartment(departmentId);
         
-        // Fetch courses by department ID
-        List<Course> courses = courseRepository.findAllByDepartmentId(departmentId);
-        return courseMapper.toDTOs(courses);
+        return catalog.getCoursesByDepartment(departmentId);
     }
     
     /**
@@ -146,11 +184,10 @@ public class CourseServiceImpl implements CourseService {
     @Override
     public Long countCoursesByDepartmentId(Long departmentId) {
         // Validate department existence
-        validationService.assertDepartmentExists(departmentId);
+        CatalogSnapshot catalog = catalogSnapshotHolder.current();
+        catalog.getDepartment(departmentId);
         
-        // Count courses by department ID
-        Long count = courseRepository.countAllByDepartmentId(departmentId);
-        return count != null ? count : 0L;
+        return (long) catalog.getCoursesByDepartment(departmentId).size();
     }
     
     // ================================================================
@@ -184,6 +221,8 @@ public class CourseServiceImpl implements CourseService {
         course.setDepartment(department);
         
         // Save the course
-        return courseRepository.save(course);
+        course = courseRepository.save(course);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.COURSE));
+        return course;
     }
 }
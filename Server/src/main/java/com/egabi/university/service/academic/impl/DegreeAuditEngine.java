@@ -0,0 +1,86 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.dto.DegreeAuditDTO;
+import com.egabi.university.entity.Course;
+import com.egabi.university.entity.DegreeRequirement;
+
+import java.util.*;
+
+/**
+ * Immutable, preloaded model of every department's degree requirements.
+ * <p>
+ * The engine holds course credits and the compiled requirements of each department, so auditing a student
+ * only touches in-memory maps and is safe to run concurrently from many threads.
+ * </p>
+ */
+public final class DegreeAuditEngine {
+    
+    private final Map<String, Integer> credits;
+    private final Map<Long, List<Rule>> rulesByDepartment;
+    
+    /**
+     * A compiled requirement.
+     *
+     * @param levelId         the level the rule applies to, {@code null} for every level
+     * @param minimumCredits  the minimum credits to earn
+     * @param requiredCourses the codes of the courses to pass
+     */
+    private record Rule(Long levelId, int minimumCredits, String[] requiredCourses) {
+    }
+    
+    private DegreeAuditEngine(Map<String, Integer> credits, Map<Long, List<Rule>> rulesByDepartment) {
+        this.credits = credits;
+        this.rulesByDepartment = rulesByDepartment;
+    }
+    
+    /**
+     * Builds an engine from course credits and degree requirements.
+     * The requirements must have their department, level and required courses initialized.
+     *
+     * @param credits      the credits of every course by code
+     * @param requirements all degree requirements
+     * @return the built engine
+     */
+    public static DegreeAuditEngine build(Map<String, Integer> credits, Collection<DegreeRequirement> requirements) {
+        Map<Long, List<Rule>> rulesByDepartment = new HashMap<>();
+        for (DegreeRequirement requirement : requirements) {
+            Rule rule = new Rule(
+                    requirement.getLevel() != null ? requirement.getLevel().getId() : null,
+                    requirement.getMinimumCredits() != null ? requirement.getMinimumCredits() : 0,
+                    requirement.getRequiredCourses().stream().map(Course::getCode).toArray(String[]::new));
+            rulesByDepartment.computeIfAbsent(requirement.getDepartment().getId(), id -> new ArrayList<>()).add(rule);
+        }
+        return new DegreeAuditEngine(Map.copyOf(credits), Map.copyOf(rulesByDepartment));
+    }
+    
+    /**
+     * Audits a student against the requirements of their department and level.
+     * When several requirements apply, the highest credit minimum and the union of the required courses are used.
+     *
+     * @param studentId    the ID of the student
+     * @param departmentId the ID of the student's department
+     * @param levelId      the ID of the student's level
+     * @param passed       the codes of the courses the student has passed
+     * @return the audit result
+     */
+    public DegreeAuditDTO evaluate(Long studentId, Long departmentId, Long levelId, Set<String> passed) {
+        int earnedCredits = 0;
+        for (String code : passed)
+            earnedCredits += credits.getOrDefault(code, 0);
+        
+        int requiredCredits = 0;
+        Set<String> missingCourses = new LinkedHashSet<>();
+        for (Rule rule : rulesByDepartment.getOrDefault(departmentId, List.of())) {
+            if (rule.levelId() != null && !rule.levelId().equals(levelId))
+                continue;
+            requiredCredits = Math.max(requiredCredits, rule.minimumCredits());
+            for (String code : rule.requiredCourses())
+                if (!passed.contains(code))
+                    missingCourses.add(code);
+        }
+        
+        int missingCredits = Math.max(0, requiredCredits - earnedCredits);
+        return new DegreeAuditDTO(studentId, departmentId, levelId, earnedCredits, requiredCredits, missingCredits,
+                List.copyOf(missingCourses), missingCredits == 0 && missingCourses.isEmpty());
+    }
+}
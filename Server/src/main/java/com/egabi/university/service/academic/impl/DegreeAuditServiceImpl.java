@@ -0,0 +1,445 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.dto.DegreeAuditDTO;
+import com.egabi.university.dto.DegreeRequirementDTO;
+import com.egabi.university.entity.Course;
+import com.egabi.university.entity.DegreeRequirement;
+import com.egabi.university.entity.OutboxRecord;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.entity.Student;
+import com.egabi.university.event.CatalogChangedEvent;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.event.DegreeRequirementChangedEvent;
+import com.egabi.university.event.EnrollmentChangedEvent;
+import com.egabi.university.event.StudentsArchivedEvent;
+import com.egabi.university.event.TermChangedEvent;
+import com.egabi.university.exception.BadRequestException;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.mapper.DegreeRequirementMapper;
+import com.egabi.university.repository.CourseRepository;
+import com.egabi.university.repository.DegreeRequirementRepository;
+import com.egabi.university.repository.EnrollmentRepository;
+import com.egabi.university.repository.StudentRepository;
+import com.egabi.university.service.academic.DegreeAuditService;
+import com.egabi.university.service.outbox.OutboxService;
+import com.egabi.university.service.outbox.OutboxSubscriber;
+import com.egabi.university.service.validation.ValidationService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.egabi.university.service.academic.PrerequisiteService.PASSING_GRADE;
+
+/**
+ * Default implementation of {@link DegreeAuditService}.
+ * <p>
+ * Audits run against a preloaded {@link DegreeAuditEngine}. Single-student results are cached and evicted
+ * when an enrollment of the student changes; faculty-wide audits are split into slices evaluated
+ * on a dedicated fork-join pool and handed to the caller as they complete.
+ * </p>
+ * <p>
+ * Changes committed by this instance evict the cache through application events as soon as they commit; changes
+ * committed by any instance also reach it through the outbox, so audits cached here never outlive a change made
+ * elsewhere by more than the relay delay.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class DegreeAuditServiceImpl implements DegreeAuditService, OutboxSubscriber {
+    
+    /**
+     * Number of students evaluated by a single fork-join leaf task.
+     */
+    private static final int AUDIT_SLICE_SIZE = 512;
+    
+    private final DegreeRequirementRepository degreeRequirementRepository;
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final DegreeRequirementMapper degreeRequirementMapper;
+    private final ValidationService validationService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final ForkJoinPool auditPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final Map<Long, DegreeAuditDTO> auditCache = new ConcurrentHashMap<>();
+    
+    /**
+     * Incremented on every invalidation, so an audit computed concurrently with a change is not cached.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    private volatile DegreeAuditEngine engine;
+    
+    // ================================================================
+    // Requirement Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<DegreeRequirementDTO> getRequirementsByDepartmentId(Long departmentId) {
+        // Validate department existence
+        validationService.assertDepartmentExists(departmentId);
+        
+        List<DegreeRequirement> requirements = degreeRequirementRepository.findAllByDepartmentId(departmentId);
+        return degreeRequirementMapper.toDTOs(requirements);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public DegreeRequirementDTO createRequirement(Long departmentId, DegreeRequirementDTO requirementDTO) {
+        // Map the DTO to the entity
+        DegreeRequirement requirement = degreeRequirementMapper.toEntity(requirementDTO);
+        
+        // Validate department
+        requirement.setDepartment(validationService.getDepartmentByIdOrThrow(departmentId));
+        
+        // Validate level, if the requirement is bound to one
+        if (requirementDTO.getLevelId() != null)
+            requirement.setLevel(validationService.getLevelByIdOrThrow(requirementDTO.getLevelId()));
+        
+        // Validate credits
+        if (requirement.getMinimumCredits() == null || requirement.getMinimumCredits() < 0)
+            throw new BadRequestException("Minimum credits must be set and not negative", "INVALID_MINIMUM_CREDITS");
+        
+        // Validate required courses
+        List<Course> requiredCourses = new ArrayList<>();
+        if (requirementDTO.getRequiredCourseCodes() != null)
+            for (String code : new LinkedHashSet<>(requirementDTO.getRequiredCourseCodes()))
+                requiredCourses.add(validationService.getCourseByCodeOrThrow(code));
+        requirement.setRequiredCourses(requiredCourses);
+        
+        // Save the requirement, the audit model is reloaded once the change is committed
+        requirement = degreeRequirementRepository.save(requirement);
+        eventPublisher.publishEvent(new DegreeRequirementChangedEvent(departmentId));
+        outboxService.record(AggregateType.REQUIREMENT, departmentId, ChangeType.UPDATED);
+        
+        return degreeRequirementMapper.toDTO(requirement);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void deleteRequirement(Long departmentId, Long requirementId) {
+        // Check if the requirement exists in the department
+        DegreeRequirement requirement = degreeRequirementRepository.findById(requirementId)
+                .filter(found -> found.getDepartment().getId().equals(departmentId))
+                .orElseThrow(() -> new NotFoundException("Degree requirement with id " + requirementId
+                        + " not found in department " + departmentId, "DEGREE_REQUIREMENT_NOT_FOUND"));
+        
+        // Delete the requirement, the audit model is reloaded once the change is committed
+        degreeRequirementRepository.delete(requirement);
+        eventPublisher.publishEvent(new DegreeRequirementChangedEvent(departmentId));
+        outboxService.record(AggregateType.REQUIREMENT, departmentId, ChangeType.UPDATED);
+    }
+    
+    // ================================================================
+    // Audit Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public DegreeAuditDTO auditStudent(Long studentId) {
+        // Check if the student exists
+        Student student = validationService.getStudentByIdOrThrow(studentId);
+        Long departmentId = student.getDepartment().getId();
+        Long levelId = student.getLevel().getId();
+        
+        // Serve from the cache unless the student moved to another department or level
+        DegreeAuditDTO cached = auditCache.get(studentId);
+        if (cached != null && departmentId.equals(cached.getDepartmentId()) && levelId.equals(cached.getLevelId()))
+            return cached;
+        
+        long version = invalidations.get();
+        Set<String> passed = new HashSet<>(enrollmentRepository.findPassedCourseCodesByStudentId(studentId, PASSING_GRADE));
+        DegreeAuditDTO audit = engine().evaluate(studentId, departmentId, levelId, passed);
+        cacheIfCurrent(audit, version);
+        return audit;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<DegreeAuditDTO> auditFaculty(Long facultyId) {
+        // Validate faculty existence
+        validationService.assertFacultyExists(facultyId);
+        
+        // Load the whole faculty with two flat queries
+        long version = invalidations.get();
+        DegreeAuditEngine currentEngine = engine();
+        List<Object[]> students = studentRepository.findAuditRowsByFacultyId(facultyId);
+        Map<Long, Set<String>> passedByStudent = new HashMap<>();
+        for (Object[] row : enrollmentRepository.findPassedCourseCodesByFacultyId(facultyId, PASSING_GRADE))
+            passedByStudent.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+        
+        // Evaluate the slices in parallel, each completed slice is queued for the consumer
+        BlockingQueue<List<DegreeAuditDTO>> completed = new LinkedBlockingQueue<>();
+        ForkJoinTask<Void> task = auditPool.submit(
+                new AuditTask(currentEngine, students, passedByStudent, completed, 0, students.size()));
+        
+        Iterator<DegreeAuditDTO> results = new Iterator<>() {
+            private int remaining = students.size();
+            private Iterator<DegreeAuditDTO> slice = Collections.emptyIterator();
+            
+            @Override
+            public boolean hasNext() {
+                return slice.hasNext() || remaining > 0;
+            }
+            
+            @Override
+            public DegreeAuditDTO next() {
+                while (!slice.hasNext()) {
+                    if (remaining == 0)
+                        throw new NoSuchElementException();
+                    List<DegreeAuditDTO> audits = takeSlice(completed, task);
+                    audits.forEach(audit -> cacheIfCurrent(audit, version));
+                    remaining -= audits.size();
+                    slice = audits.iterator();
+                }
+                return slice.next();
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliterator(results, students.size(), Spliterator.NONNULL), false);
+    }
+    
+    /**
+     * Evicts the cached audit of a student once an enrollment change is committed.
+     *
+     * @param event the enrollment change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        evict(event.studentId());
+    }
+    
+    /**
+     * Reloads the audit model once a course change is committed, since course credits feed every audit.
+     *
+     * @param event the catalog change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.kind() == CatalogChangedEvent.Kind.COURSE)
+            invalidateAll();
+    }
+    
+    /**
+     * Reloads the audit model once a degree requirement change is committed.
+     *
+     * @param event the degree requirement change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDegreeRequirementChanged(DegreeRequirementChangedEvent event) {
+        invalidateAll();
+    }
+    
+    /**
+     * Evicts the cached audits of archived students once their archival is committed.
+     *
+     * @param event the archived students
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentsArchived(StudentsArchivedEvent event) {
+        invalidations.incrementAndGet();
+        event.studentIds().forEach(auditCache::remove);
+    }
+    
+    /**
+     * Evicts every cached audit once a term change is committed, since detaching the enrollments of a closed term
+     * removes them from the audits of its students.
+     *
+     * @param event the term change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTermChanged(TermChangedEvent event) {
+        invalidations.incrementAndGet();
+        auditCache.clear();
+    }
+    
+    // ================================================================
+    // Outbox Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String name() {
+        return "degree-audit-cache";
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+    
+    /**
+     * Evicts the audits affected by changes committed on any instance: every audit after a course or degree
+     * requirement change, and the audit of the student otherwise.
+     *
+     * @param records the committed changes
+     */
+    @Override
+    public void onRecords(List<OutboxRecord> records) {
+        for (OutboxRecord record : records) {
+            String aggregateId = record.getAggregateId();
+            switch (record.getAggregateType()) {
+                case COURSE, REQUIREMENT -> {
+                    invalidateAll();
+                    return;
+                }
+                case STUDENT -> evict(Long.valueOf(aggregateId));
+                case ENROLLMENT -> evict(Long.valueOf(aggregateId.substring(0, aggregateId.indexOf('/'))));
+                default -> {
+                    // Other changes do not feed audits
+                }
+            }
+        }
+    }
+    
+    /**
+     * Shuts down the audit pool when the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        auditPool.shutdownNow();
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Returns the current audit engine, loading it from the database if needed.
+     * An engine loaded while an invalidation happens is used by the caller but not kept.
+     *
+     * @return the audit engine
+     */
+    private DegreeAuditEngine engine() {
+        DegreeAuditEngine current = engine;
+        if (current == null) {
+            synchronized (this) {
+                current = engine;
+                if (current == null) {
+                    long version = invalidations.get();
+                    Map<String, Integer> credits = new HashMap<>();
+                    for (Object[] row : courseRepository.findAllCodesAndCredits())
+                        credits.put((String) row[0], (Integer) row[1]);
+                    current = DegreeAuditEngine.build(credits, degreeRequirementRepository.findAll());
+                    if (invalidations.get() == version)
+                        engine = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Drops the audit engine and every cached audit.
+     */
+    /**
+     * Evicts the cached audit of a student.
+     *
+     * @param studentId the ID of the student
+     */
+    private void evict(Long studentId) {
+        invalidations.incrementAndGet();
+        auditCache.remove(studentId);
+    }
+    
+    private synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        engine = null;
+        auditCache.clear();
+    }
+    
+    /**
+     * Caches an audit unless an invalidation happened since its data was read.
+     *
+     * @param audit   the computed audit
+     * @param version the invalidation counter observed before reading the data
+     */
+    private void cacheIfCurrent(DegreeAuditDTO audit, long version) {
+        if (invalidations.get() == version)
+            auditCache.put(audit.getStudentId(), audit);
+    }
+    
+    /**
+     * Waits for the next completed slice of a faculty audit.
+     *
+     * @param completed the queue of completed slices
+     * @param task      the root audit task
+     * @return the next completed slice
+     */
+    private static List<DegreeAuditDTO> takeSlice(BlockingQueue<List<DegreeAuditDTO>> completed, ForkJoinTask<Void> task) {
+        try {
+            List<DegreeAuditDTO> audits;
+            while ((audits = completed.poll(100, TimeUnit.MILLISECONDS)) == null) {
+                if (task.isCompletedAbnormally())
+                    throw new IllegalStateException("Faculty audit failed", task.getException());
+            }
+            return audits;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(true);
+            throw new IllegalStateException("Faculty audit interrupted", e);
+        }
+    }
+    
+    /**
+     * Fork-join task that splits the students of a faculty into slices and audits each slice.
+     */
+    @RequiredArgsConstructor
+    private static final class AuditTask extends RecursiveAction {
+        
+        private final transient DegreeAuditEngine engine;
+        private final transient List<Object[]> students;
+        private final transient Map<Long, Set<String>> passedByStudent;
+        private final transient BlockingQueue<List<DegreeAuditDTO>> completed;
+        private final int from;
+        private final int to;
+        
+        @Override
+        protected void compute() {
+            if (to - from > AUDIT_SLICE_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new AuditTask(engine, students, passedByStudent, completed, from, middle),
+                        new AuditTask(engine, students, passedByStudent, completed, middle, to));
+                return;
+            }
+            List<DegreeAuditDTO> audits = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                Object[] row = students.get(i);
+                Long studentId = (Long) row[0];
+                audits.add(engine.evaluate(studentId, (Long) row[1], (Long) row[2],
+                        passedByStudent.getOrDefault(studentId, Set.of())));
+            }
+            completed.add(audits);
+        }
+    }
+}
@@ -2,15 +2,25 @@ package com.egabi.university.service.academic.impl;
 
 import com.egabi.university.dto.DepartmentDTO;
 import com.egabi.university.entity.Department;
+import com.egabi.university.entity.EntityCounter.Counter;
 import com.egabi.university.entity.Faculty;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.CatalogChangedEvent.Kind;
+import com.egabi.university.event.CatalogChangedEvent;
+import com.egabi.university.event.ChangeType;
 import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.DepartmentMapper;
+import com.egabi.university.repository.CourseRepository;
 import com.egabi.university.repository.DepartmentRepository;
+import com.egabi.university.repository.StudentRepository;
 import com.egabi.university.service.academic.DepartmentService;
+import com.egabi.university.service.counter.EntityCounterService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,8 +36,14 @@ import java.util.Optional;
 public class DepartmentServiceImpl implements DepartmentService {
     
     private final DepartmentRepository departmentRepository;
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
     private final DepartmentMapper departmentMapper;
     private final ValidationService validationService;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final EntityCounterService entityCounterService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // ================================================================
     // CRUD Methods
@@ -37,20 +53,16 @@ public class DepartmentServiceImpl implements DepartmentService {
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public List<DepartmentDTO> getAllDepartments() {
-        List<Department> departments = departmentRepository.findAll();
-        return departmentMapper.toDTOs(departments);
+        return catalogSnapshotHolder.current().getDepartments();
     }
     
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public DepartmentDTO getDepartmentById(Long departmentId) {
-        Department department = validationService.getDepartmentByIdOrThrow(departmentId);
-        return departmentMapper.toDTO(department);
+        return catalogSnapshotHolder.current().getDepartment(departmentId);
     }
     
     /**
@@ -95,6 +107,8 @@ public class DepartmentServiceImpl implements DepartmentService {
             
             // save the updated department
             departmentRepository.save(existingDepartment);
+            eventPublisher.publishEvent(new CatalogChangedEvent(Kind.DEPARTMENT));
+            outboxService.record(AggregateType.DEPARTMENT, departmentId, ChangeType.UPDATED);
         }
         
         // Map the updated entity back to DTO
@@ -111,13 +125,16 @@ public class DepartmentServiceImpl implements DepartmentService {
         Department department = validationService.getDepartmentByIdOrThrow(departmentId);
         
         // Check if the department has any associated courses or students
-        if (!department.getStudents().isEmpty() || !department.getCourses().isEmpty())
+        if (studentRepository.existsByDepartmentId(departmentId) || courseRepository.existsByDepartmentId(departmentId))
             throw new ConflictException(
                     "Cannot delete department with id " + departmentId + " because it has associated students or courses",
                     "DEPARTMENT_HAS_ASSOCIATIONS");
         
         // Delete the department
         departmentRepository.delete(department);
+        entityCounterService.delete(Counter.DEPARTMENT_STUDENTS, departmentId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.DEPARTMENT));
+        outboxService.record(AggregateType.DEPARTMENT, departmentId, ChangeType.DELETED);
     }
     
     // ================================================================
@@ -128,14 +145,12 @@ public class DepartmentServiceImpl implements DepartmentService {
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public List<DepartmentDTO> getDepartmentsByFacultyId(Long facultyId) {
         // Validate faculty existence
-        validationService.assertFacultyExists(facultyId);
+        CatalogSnapshot catalog = catalogSnapshotHolder.current();
+        catalog.getFaculty(facultyId);
         
-        // Fetch departments by faculty ID
-        List<Department> departments = departmentRepository.findAllByFacultyId(facultyId);
-        return departmentMapper.toDTOs(departments);
+        return catalog.getDepartmentsByFaculty(facultyId);
     }
     
     /**
@@ -144,10 +159,10 @@ public class DepartmentServiceImpl implements DepartmentService {
     @Override
     public Long countDepartmentsByFacultyId(Long facultyId) {
         // Validate faculty existence
-        validationService.assertFacultyExists(facultyId);
+        CatalogSnapshot catalog = catalogSnapshotHolder.current();
+        catalog.getFaculty(facultyId);
         
-        Long count = departmentRepository.countByFacultyId(facultyId);
-        return count != null ? count : 0L;
+        return (long) catalog.getDepartmentsByFaculty(facultyId).size();
     }
     
     // ================================================================
@@ -173,6 +188,9 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setFaculty(faculty);
         
         // Save the department
-        return departmentRepository.save(department);
+        department = departmentRepository.save(department);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.DEPARTMENT));
+        outboxService.record(AggregateType.DEPARTMENT, department.getId(), ChangeType.CREATED);
+        return department;
     }
 }
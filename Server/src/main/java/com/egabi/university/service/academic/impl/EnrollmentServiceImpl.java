@@ -4,14 +4,23 @@ import com.egabi.university.dto.EnrollmentDTO;
 import com.egabi.university.entity.Course;
 import com.egabi.university.entity.Enrollment;
 import com.egabi.university.entity.EnrollmentId;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
 import com.egabi.university.entity.Student;
+import com.egabi.university.entity.Term;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.event.EnrollmentChangedEvent;
 import com.egabi.university.exception.BadRequestException;
+import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.EnrollmentMapper;
 import com.egabi.university.repository.EnrollmentRepository;
 import com.egabi.university.service.academic.EnrollmentService;
+import com.egabi.university.service.academic.PrerequisiteService;
+import com.egabi.university.service.academic.TermService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +29,8 @@ import java.util.Optional;
 
 /**
  * Default implementation of {@link EnrollmentService}.
- * Provides CRUD operations for managing enrollments.
+ * Provides CRUD operations for managing enrollments; every operation targets the current term,
+ * so its queries only read the enrollment partition of that term.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +39,10 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     private final EnrollmentRepository enrollmentRepository;
     private final EnrollmentMapper enrollmentMapper;
     private final ValidationService validationService;
+    private final PrerequisiteService prerequisiteService;
+    private final TermService termService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
     
     // ================================================================
     // CRUD Methods
@@ -40,7 +54,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     @Override
     @Transactional
     public List<EnrollmentDTO> getAllEnrollments() {
-        List<Enrollment> enrollments = enrollmentRepository.findAll();
+        List<Enrollment> enrollments = enrollmentRepository.findAllByTermId(termService.getCurrentTermId());
         return enrollmentMapper.toDTOs(enrollments);
     }
     
@@ -73,11 +87,16 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         // Check if the enrollment already exists (it shouldn't exist for creation)
         validationService.assertEnrollmentExists(enrollmentId, false);
         
+        // Check that the student has passed every prerequisite of the course
+        prerequisiteService.assertPrerequisitesMet(enrollmentId.getStudentId(), enrollmentId.getCourseCode());
+        
         // Map the DTO to the entity
         Enrollment enrollment = enrollmentMapper.toEntity(enrollmentDTO);
+        enrollment.setId(enrollmentId);
         
         // Validate the grade and save the enrollment
         enrollment = validateAndSaveEnrollment(enrollment);
+        recordChange(ChangeType.CREATED, enrollmentId, enrollment.getGrade());
         
         // Return the created enrollment as DTO
         return enrollmentMapper.toDTO(enrollment);
@@ -102,6 +121,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         
         // Validate the grade and save the updated enrollment
         updatedEnrollment = validateAndSaveEnrollment(updatedEnrollment);
+        recordChange(ChangeType.UPDATED, enrollmentId, updatedEnrollment.getGrade());
         
         // Return the updated enrollment as DTO
         return enrollmentMapper.toDTO(updatedEnrollment);
@@ -121,6 +141,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         
         // Delete the enrollment
         enrollmentRepository.deleteById(enrollmentId);
+        recordChange(ChangeType.DELETED, enrollmentId, null);
     }
     
     /**
@@ -132,10 +153,9 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         // Validate that the student exists
         validationService.assertStudentExists(studentId);
         
-        // Fetch enrollments by student ID
-        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId)
-                .orElseThrow(() -> new NotFoundException("No enrollments found for student_id " + studentId,
-                        "ENROLLMENTS_NOT_FOUND"));
+        // Fetch the enrollments of the student in the current term
+        List<Enrollment> enrollments = enrollmentRepository.findAllByTermIdAndStudentId(
+                termService.getCurrentTermId(), studentId);
         return enrollmentMapper.toDTOs(enrollments);
     }
     
@@ -148,10 +168,24 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         // Validate that the course exists
         validationService.assertCourseExists(courseCode, true);
         
-        // Fetch enrollments by course ID
-        List<Enrollment> enrollments = enrollmentRepository.findByCourseCode(courseCode)
-                .orElseThrow(() -> new NotFoundException("No enrollments found for course_id " + courseCode,
-                        "ENROLLMENTS_NOT_FOUND"));
+        // Fetch the enrollments of the course in the current term
+        List<Enrollment> enrollments = enrollmentRepository.findAllByTermIdAndCourseCode(
+                termService.getCurrentTermId(), courseCode);
+        return enrollmentMapper.toDTOs(enrollments);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<EnrollmentDTO> getEnrollmentsByTermId(Long termId) {
+        // Check if the term exists and its enrollments are still attached
+        Term term = validationService.getTermByIdOrThrow(termId);
+        if (term.getStatus() == Term.Status.DETACHED)
+            throw new ConflictException("Enrollments of term with id " + termId + " were detached", "TERM_DETACHED");
+        
+        List<Enrollment> enrollments = enrollmentRepository.findAllByTermId(termId);
         return enrollmentMapper.toDTOs(enrollments);
     }
     
@@ -161,7 +195,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     // ================================================================
     
     /**
-     * Validates the student and course existence, then builds the EnrollmentId.
+     * Validates the student and course existence, then builds the EnrollmentId in the current term.
      *
      * @param studentId  The ID of the student.
      * @param courseCode The code of the course.
@@ -176,7 +210,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         validationService.assertCourseExists(courseCode, true);
         
         // Create the composite key for the enrollment
-        return new EnrollmentId(studentId, courseCode);
+        return new EnrollmentId(studentId, courseCode, termService.getCurrentTermId());
     }
     
     /**
@@ -192,6 +226,8 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         enrollment.setStudent(student);
         Course course = validationService.getCourseByCodeOrThrow(enrollment.getId().getCourseCode());
         enrollment.setCourse(course);
+        Term term = validationService.getTermByIdOrThrow(enrollment.getId().getTermId());
+        enrollment.setTerm(term);
         
         // Validate grade is set
         var grade = Optional.ofNullable(enrollment.getGrade())
@@ -204,4 +240,18 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         // save the enrollment
         return enrollmentRepository.save(enrollment);
     }
-}
+    
+    /**
+     * Appends an enrollment change to the outbox and publishes it as an {@link EnrollmentChangedEvent}.
+     *
+     * @param type         The kind of change.
+     * @param enrollmentId The composite key of the enrollment.
+     * @param grade        The grade after the change, {@code null} for deletions.
+     */
+    private void recordChange(ChangeType type, EnrollmentId enrollmentId, Double grade) {
+        Long studentId = enrollmentId.getStudentId();
+        String courseCode = enrollmentId.getCourseCode();
+        outboxService.record(AggregateType.ENROLLMENT, studentId + "/" + courseCode + "/" + enrollmentId.getTermId(), type);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(type, studentId, courseCode, grade));
+    }
+}
\ No newline at end of file
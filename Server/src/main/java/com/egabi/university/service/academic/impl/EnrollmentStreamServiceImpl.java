@@ -0,0 +1,291 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.event.EnrollmentChangedEvent;
+import com.egabi.university.service.academic.EnrollmentStreamService;
+import com.egabi.university.service.validation.ValidationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Default implementation of {@link EnrollmentStreamService}.
+ * <p>
+ * Committed changes are appended to a bounded {@link ReplayBuffer} and fanned out by a single thread, which only
+ * offers the pre-serialized event to the bounded queue of each matching subscriber. Queues are drained on virtual
+ * threads, so idle subscribers hold no thread and a slow client never delays the others. A subscriber whose queue
+ * overflows is completed; its client reconnects with {@code Last-Event-ID} and catches up from the replay buffer.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentStreamServiceImpl implements EnrollmentStreamService {
+    
+    /**
+     * Sent first when the requested {@code Last-Event-ID} is no longer retained, so the client reloads its data.
+     */
+    private static final StreamEvent RESET = new StreamEvent(null, SseEmitter.event().name("reset").data("").build());
+    
+    private static final StreamEvent HEARTBEAT = new StreamEvent(null, SseEmitter.event().comment("heartbeat").build());
+    
+    private final ValidationService validationService;
+    private final ObjectMapper objectMapper;
+    
+    // ================================================================
+    // Configuration Properties
+    // ================================================================
+    
+    /**
+     * Number of events retained for {@code Last-Event-ID} resumption.
+     */
+    @Value("${enrollment.stream.replay-size:1024}")
+    private int replaySize;
+    
+    /**
+     * Number of events that may be pending for a single subscriber before it is disconnected.
+     */
+    @Value("${enrollment.stream.queue-size:256}")
+    private int queueSize;
+    
+    /**
+     * Interval between heartbeat comments, keeping idle connections open through proxies.
+     */
+    @Value("${enrollment.stream.heartbeat-interval:15000}")
+    private long heartbeatIntervalInMillis;
+    
+    /**
+     * Lifetime of a subscription, after which the client reconnects.
+     */
+    @Value("${enrollment.stream.timeout:1800000}")
+    private long timeoutInMillis;
+    
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService fanOut = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("enrollment-stream-fan-out").daemon().factory());
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("enrollment-stream-sender-", 0).factory());
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("enrollment-stream-heartbeat").daemon().factory());
+    
+    /**
+     * Latest serialized events. Guarded by its own monitor, which also orders subscriptions against publications.
+     */
+    private ReplayBuffer<StreamEvent> replay;
+    
+    @PostConstruct
+    void start() {
+        replay = new ReplayBuffer<>(replaySize);
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeatIntervalInMillis, heartbeatIntervalInMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    void stop() {
+        heartbeats.shutdownNow();
+        fanOut.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+    
+    // ================================================================
+    // Stream Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SseEmitter subscribe(String courseCode, Long studentId, Long lastEventId) {
+        // Validate the filters
+        if (courseCode != null)
+            validationService.assertCourseExists(courseCode, true);
+        if (studentId != null)
+            validationService.assertStudentExists(studentId);
+        
+        SseEmitter emitter = new SseEmitter(timeoutInMillis);
+        Subscriber subscriber = new Subscriber(emitter, courseCode, studentId, new ArrayBlockingQueue<>(queueSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        
+        // Queue the missed events and register atomically, so no event is lost or sent twice
+        synchronized (replay) {
+            if (lastEventId != null) {
+                if (!replay.covers(lastEventId))
+                    subscriber.pending.offer(RESET);
+                for (StreamEvent event : replay.since(lastEventId)) {
+                    if (subscriber.matches(event) && !subscriber.pending.offer(event)) {
+                        // More events were missed than the queue holds, have the client reload instead
+                        subscriber.pending.clear();
+                        subscriber.pending.offer(RESET);
+                        break;
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+    
+    /**
+     * Streams an enrollment change once it is committed.
+     *
+     * @param event the enrollment change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        fanOut.execute(() -> publish(event));
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Serializes a change once, appends it to the replay buffer and offers it to every matching subscriber.
+     * Runs on the fan-out thread only, so events reach every subscriber in id order.
+     *
+     * @param change the enrollment change
+     */
+    private void publish(EnrollmentChangedEvent change) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            log.error("Cannot serialize enrollment change {}", change, e);
+            return;
+        }
+        
+        synchronized (replay) {
+            long id = replay.lastId() + 1;
+            StreamEvent event = new StreamEvent(change, SseEmitter.event()
+                    .id(Long.toString(id))
+                    .name(change.type().name().toLowerCase(Locale.ROOT))
+                    .data(data, MediaType.APPLICATION_JSON)
+                    .build());
+            replay.append(event);
+            
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.matches(event))
+                    continue;
+                if (subscriber.pending.offer(event))
+                    schedule(subscriber);
+                else
+                    disconnect(subscriber, "overflow");
+            }
+        }
+    }
+    
+    /**
+     * Queues a heartbeat for every subscriber that has nothing pending.
+     */
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers)
+            if (subscriber.pending.isEmpty() && subscriber.pending.offer(HEARTBEAT))
+                schedule(subscriber);
+    }
+    
+    /**
+     * Starts draining the queue of a subscriber unless a drain is already running.
+     *
+     * @param subscriber the subscriber to drain
+     */
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+    
+    /**
+     * Sends every pending event of a subscriber; at most one drain runs per subscriber at a time.
+     *
+     * @param subscriber the subscriber to drain
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            StreamEvent event;
+            while ((event = subscriber.pending.poll()) != null)
+                subscriber.emitter.send(event.payload());
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter was completed
+            subscribers.remove(subscriber);
+            subscriber.pending.clear();
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        schedule(subscriber);
+    }
+    
+    /**
+     * Completes a subscription, letting the client reconnect and resume from the replay buffer.
+     *
+     * @param subscriber the subscriber to disconnect
+     * @param reason     the reason, for logging
+     */
+    private void disconnect(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Disconnecting enrollment stream subscriber: {}", reason);
+            subscriber.pending.clear();
+            subscriber.emitter.complete();
+        }
+    }
+    
+    /**
+     * An event ready to be sent, serialized once for all subscribers.
+     *
+     * @param change  the enrollment change, {@code null} for control events
+     * @param payload the serialized Server-Sent Event
+     */
+    private record StreamEvent(EnrollmentChangedEvent change, Set<DataWithMediaType> payload) {
+    }
+    
+    /**
+     * A connected client with its filters and its queue of events waiting to be sent.
+     */
+    private record Subscriber(SseEmitter emitter, String courseCode, Long studentId,
+                              Queue<StreamEvent> pending, AtomicBoolean draining) {
+        
+        Subscriber(SseEmitter emitter, String courseCode, Long studentId, Queue<StreamEvent> pending) {
+            this(emitter, courseCode, studentId, pending, new AtomicBoolean());
+        }
+        
+        boolean matches(StreamEvent event) {
+            EnrollmentChangedEvent change = event.change();
+            return change == null || (courseCode == null || courseCode.equals(change.courseCode()))
+                    && (studentId == null || Objects.equals(studentId, change.studentId()));
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+        
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
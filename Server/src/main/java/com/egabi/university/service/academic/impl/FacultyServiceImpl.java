@@ -2,12 +2,18 @@ package com.egabi.university.service.academic.impl;
 
 import com.egabi.university.dto.FacultyDTO;
 import com.egabi.university.entity.Faculty;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.CatalogChangedEvent.Kind;
+import com.egabi.university.event.CatalogChangedEvent;
+import com.egabi.university.event.ChangeType;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.mapper.FacultyMapper;
 import com.egabi.university.repository.FacultyRepository;
 import com.egabi.university.service.academic.FacultyService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +30,9 @@ public class FacultyServiceImpl implements FacultyService {
     private final FacultyRepository facultyRepository;
     private final FacultyMapper facultyMapper;
     private final ValidationService validationService;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // ================================================================
     // CRUD Methods
@@ -33,20 +42,16 @@ public class FacultyServiceImpl implements FacultyService {
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public List<FacultyDTO> getAllFaculties() {
-        List<Faculty> faculties = facultyRepository.findAll();
-        return facultyMapper.toDTOs(faculties);
+        return catalogSnapshotHolder.current().getFaculties();
     }
     
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public FacultyDTO getFacultyById(Long facultyId) {
-        Faculty faculty = validationService.getFacultyByIdOrThrow(facultyId);
-        return facultyMapper.toDTO(faculty);
+        return catalogSnapshotHolder.current().getFaculty(facultyId);
     }
     
     /**
@@ -63,6 +68,8 @@ public class FacultyServiceImpl implements FacultyService {
         
         // Save the faculty entity
         faculty = facultyRepository.save(faculty);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.FACULTY));
+        outboxService.record(AggregateType.FACULTY, faculty.getId(), ChangeType.CREATED);
         
         // Return the saved faculty as a DTO
         return facultyMapper.toDTO(faculty);
@@ -91,6 +98,8 @@ public class FacultyServiceImpl implements FacultyService {
             
             // Map the updated entity back to DTO
             facultyRepository.save(existingFaculty);
+            eventPublisher.publishEvent(new CatalogChangedEvent(Kind.FACULTY));
+            outboxService.record(AggregateType.FACULTY, facultyId, ChangeType.UPDATED);
         }
         
         // Return the saved faculty as a DTO
@@ -113,5 +122,7 @@ public class FacultyServiceImpl implements FacultyService {
         
         // Delete the faculty
         facultyRepository.delete(faculty);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.FACULTY));
+        outboxService.record(AggregateType.FACULTY, facultyId, ChangeType.DELETED);
     }
 }
@@ -0,0 +1,125 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.exception.BadRequestException;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.repository.FieldProjectionRepository;
+import com.egabi.university.repository.projection.FieldSet;
+import com.egabi.university.service.academic.FieldProjectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.egabi.university.repository.projection.FieldSets.*;
+
+/**
+ * Default implementation of {@link FieldProjectionService}.
+ * Validates the requested fields and pushes them down to the SQL projection.
+ */
+@Service
+@RequiredArgsConstructor
+public class FieldProjectionServiceImpl implements FieldProjectionService {
+    
+    private final FieldProjectionRepository fieldProjectionRepository;
+    
+    // ================================================================
+    // Student Projections
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getStudents(Set<String> fields) {
+        return fieldProjectionRepository.findAll(STUDENT, resolveFields(STUDENT, fields));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStudentById(Long studentId, Set<String> fields) {
+        return fieldProjectionRepository.findById(STUDENT, resolveFields(STUDENT, fields), studentId)
+                .orElseThrow(() -> new NotFoundException(
+                        "Student with id " + studentId + " not found", "STUDENT_NOT_FOUND"));
+    }
+    
+    // ================================================================
+    // Instructor Projections
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getInstructors(Set<String> fields) {
+        return fieldProjectionRepository.findAll(INSTRUCTOR, resolveFields(INSTRUCTOR, fields));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getInstructorById(Long instructorId, Set<String> fields) {
+        return fieldProjectionRepository.findById(INSTRUCTOR, resolveFields(INSTRUCTOR, fields), instructorId)
+                .orElseThrow(() -> new NotFoundException(
+                        "Instructor with id " + instructorId + " not found", "INSTRUCTOR_NOT_FOUND"));
+    }
+    
+    // ================================================================
+    // Course Projections
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getCourses(Set<String> fields) {
+        return fieldProjectionRepository.findAll(COURSE, resolveFields(COURSE, fields));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCourseByCode(String code, Set<String> fields) {
+        return fieldProjectionRepository.findById(COURSE, resolveFields(COURSE, fields), code)
+                .orElseThrow(() -> new NotFoundException(
+                        "Course with code " + code + " not found", "COURSE_NOT_FOUND"));
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Validates the requested fields and returns them in DTO order.
+     *
+     * @param fieldSet the resource field set
+     * @param fields   the requested field names
+     * @return the requested field names in DTO order
+     */
+    private List<String> resolveFields(FieldSet fieldSet, Set<String> fields) {
+        Set<String> requested = fields.stream().map(String::strip).filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+        if (requested.isEmpty())
+            throw new BadRequestException("At least one field must be requested", "FIELDS_NOT_PROVIDED");
+        
+        List<String> unknown = requested.stream().filter(field -> fieldSet.field(field) == null).sorted().toList();
+        if (!unknown.isEmpty())
+            throw new BadRequestException("Unknown " + fieldSet.resource() + " fields " + unknown
+                    + ", available fields are " + fieldSet.names(), "INVALID_FIELDS");
+        
+        return fieldSet.names().stream().filter(requested::contains).toList();
+    }
+}
@@ -1,21 +1,29 @@
 package com.egabi.university.service.academic.impl;
 
 import com.egabi.university.dto.InstructorDTO;
+import com.egabi.university.dto.MultiGetDTO;
 import com.egabi.university.entity.Course;
 import com.egabi.university.entity.Department;
 import com.egabi.university.entity.Instructor;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
 import com.egabi.university.entity.authentication.User;
+import com.egabi.university.event.CatalogChangedEvent.Kind;
+import com.egabi.university.event.CatalogChangedEvent;
+import com.egabi.university.event.ChangeType;
 import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.InstructorMapper;
 import com.egabi.university.repository.InstructorRepository;
 import com.egabi.university.service.academic.InstructorService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +38,8 @@ public class InstructorServiceImpl implements InstructorService {
     private final InstructorRepository instructorRepository;
     private final InstructorMapper instructorMapper;
     private final ValidationService validationService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // ================================================================
     // CRUD Methods
@@ -55,6 +65,21 @@ public class InstructorServiceImpl implements InstructorService {
         return instructorMapper.toDTO(instructor);
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public MultiGetDTO<InstructorDTO, Long> getInstructorsByIds(Collection<Long> ids) {
+        // Validate the number of requested IDs
+        List<Long> keys = ids.stream().distinct().toList();
+        validationService.assertMultiGetKeyCount(keys.size());
+        
+        // Fetch every instructor with one IN query
+        List<Instructor> instructors = instructorRepository.findAllByIdIn(keys);
+        return MultiGetDTO.of(keys, instructorMapper.toDTOs(instructors), InstructorDTO::getId);
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -66,6 +91,7 @@ public class InstructorServiceImpl implements InstructorService {
         
         // Validate department - courses and save instructor
         instructor = validateAndSaveInstructor(instructor);
+        outboxService.record(AggregateType.INSTRUCTOR, instructor.getId(), ChangeType.CREATED);
         
         // Return the saved student as a DTO
         return instructorMapper.toDTO(instructor);
@@ -86,6 +112,7 @@ public class InstructorServiceImpl implements InstructorService {
         
         // Validate department and courses, then update instructor
         instructor = validateAndSaveInstructor(instructor);
+        outboxService.record(AggregateType.INSTRUCTOR, instructorId, ChangeType.UPDATED);
         
         // Return the updated instructor as a DTO
         return instructorMapper.toDTO(instructor);
@@ -106,6 +133,8 @@ public class InstructorServiceImpl implements InstructorService {
         
         // Delete the instructor
         instructorRepository.delete(instructor);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.INSTRUCTOR));
+        outboxService.record(AggregateType.INSTRUCTOR, instructorId, ChangeType.DELETED);
     }
     
     // ================================================================
@@ -123,6 +152,7 @@ public class InstructorServiceImpl implements InstructorService {
         
         // Validate department - courses and save instructor
         instructor = validateAndSaveInstructor(instructor);
+        outboxService.record(AggregateType.INSTRUCTOR, instructor.getId(), ChangeType.CREATED);
         
         // Return the saved instructor as a DTO
         return instructorMapper.toDTO(instructor);
@@ -169,6 +199,8 @@ public class InstructorServiceImpl implements InstructorService {
             instructor.setCourses(new ArrayList<>());
         
         // Save the instructor
-        return instructorRepository.save(instructor);
+        instructor = instructorRepository.save(instructor);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.INSTRUCTOR));
+        return instructor;
     }
 }
@@ -3,14 +3,22 @@ package com.egabi.university.service.academic.impl;
 import com.egabi.university.dto.LevelDTO;
 import com.egabi.university.entity.Faculty;
 import com.egabi.university.entity.Level;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.CatalogChangedEvent.Kind;
+import com.egabi.university.event.CatalogChangedEvent;
+import com.egabi.university.event.ChangeType;
 import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.LevelMapper;
+import com.egabi.university.repository.CourseRepository;
 import com.egabi.university.repository.LevelRepository;
+import com.egabi.university.repository.StudentRepository;
 import com.egabi.university.service.academic.LevelService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,8 +34,13 @@ import java.util.Optional;
 public class LevelServiceImpl implements LevelService {
     
     private final LevelRepository levelRepository;
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
     private final LevelMapper levelMapper;
     private final ValidationService validationService;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // ================================================================
     // CRUD Methods
@@ -37,20 +50,16 @@ public class LevelServiceImpl implements LevelService {
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public List<LevelDTO> getAllLevels() {
-        List<Level> levels = levelRepository.findAll();
-        return levelMapper.toDTOs(levels);
+        return catalogSnapshotHolder.current().getLevels();
     }
     
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional
     public LevelDTO getLevelById(Long levelId) {
-        Level level = validationService.getLevelByIdOrThrow(levelId);
-        return levelMapper.toDTO(level);
+        return catalogSnapshotHolder.current().getLevel(levelId);
     }
     
     /**
@@ -95,6 +104,8 @@ public class LevelServiceImpl implements LevelService {
             
             // save the updated level
             levelRepository.save(existingLevel);
+            eventPublisher.publishEvent(new CatalogChangedEvent(Kind.LEVEL));
+            outboxService.record(AggregateType.LEVEL, levelId, ChangeType.UPDATED);
         }
         
         // Map the updated entity back to DTO
@@ -111,13 +122,15 @@ public class LevelServiceImpl implements LevelService {
         Level level = validationService.getLevelByIdOrThrow(levelId);
         
         //Check if the level is associated with any students or courses
-        if (!level.getStudents().isEmpty() || !level.getCourses().isEmpty())
+        if (studentRepository.existsByLevelId(levelId) || courseRepository.existsByLevelId(levelId))
             throw new ConflictException(
                     "Cannot delete level with id " + levelId + " because it has associated students or courses",
                     "LEVEL_DELETE_CONFLICT");
         
         // Delete the level
         levelRepository.delete(level);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.LEVEL));
+        outboxService.record(AggregateType.LEVEL, levelId, ChangeType.DELETED);
     }
     
     // ================================================================
@@ -141,6 +154,9 @@ public class LevelServiceImpl implements LevelService {
         level.setFaculty(faculty);
         
         // Save the level
-        return levelRepository.save(level);
+        level = levelRepository.save(level);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Kind.LEVEL));
+        outboxService.record(AggregateType.LEVEL, level.getId(), ChangeType.CREATED);
+        return level;
     }
 }
@@ -0,0 +1,342 @@
+package com.egabi.university.service.academic.impl;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Immutable snapshot of the course prerequisite graph.
+ * <p>
+ * Every course code is assigned a stable ordinal, and both the direct prerequisites and the
+ * transitive closure of each course are held as {@link BitSet}s indexed by that ordinal.
+ * Eligibility then becomes a subset test of a course's closure against the student's passed-course bitset,
+ * so no graph walk happens on the read path.
+ * </p>
+ * <p>
+ * Updates are copy-on-write: {@link #withPrerequisites(String, Collection)} returns a new graph in which
+ * only the changed course and the courses that (transitively) depend on it have their closure recomputed.
+ * The bitsets of a published graph are never mutated.
+ * </p>
+ */
+public final class PrerequisiteGraph {
+    
+    private static final BitSet EMPTY = new BitSet(0);
+    
+    private final Map<String, Integer> ordinals;
+    private final String[] codes;
+    private final BitSet[] direct;
+    private final BitSet[] closure;
+    
+    private PrerequisiteGraph(Map<String, Integer> ordinals, String[] codes, BitSet[] direct, BitSet[] closure) {
+        this.ordinals = ordinals;
+        this.codes = codes;
+        this.direct = direct;
+        this.closure = closure;
+    }
+    
+    // ================================================================
+    // Factory Methods
+    // ================================================================
+    
+    /**
+     * Builds a graph from all course codes and the (course, prerequisite) edges between them.
+     *
+     * @param courseCodes all course codes known to the system
+     * @param edges       pairs of {course code, prerequisite code}
+     * @return the built graph
+     * @throws IllegalStateException if the edges contain a cycle
+     */
+    public static PrerequisiteGraph build(Collection<String> courseCodes, Collection<String[]> edges) {
+        return build(courseCodes, edges, edge -> {
+            throw new IllegalStateException("Prerequisite " + edge[1] + " of course " + edge[0] + " closes a cycle");
+        });
+    }
+    
+    /**
+     * Builds a graph from all course codes and the (course, prerequisite) edges between them,
+     * leaving out every edge that closes a cycle instead of failing.
+     *
+     * @param courseCodes all course codes known to the system
+     * @param edges       pairs of {course code, prerequisite code}
+     * @param cyclicEdges receives each left out edge as a pair of {course code, prerequisite code}
+     * @return the built graph
+     */
+    public static PrerequisiteGraph build(Collection<String> courseCodes, Collection<String[]> edges,
+                                          Consumer<String[]> cyclicEdges) {
+        Map<String, Integer> ordinals = new HashMap<>();
+        List<String> codes = new ArrayList<>();
+        courseCodes.forEach(code -> ordinals.computeIfAbsent(code, c -> {
+            codes.add(c);
+            return codes.size() - 1;
+        }));
+        
+        BitSet[] direct = new BitSet[codes.size()];
+        for (String[] edge : edges) {
+            int course = ordinals.get(edge[0]);
+            int prerequisite = ordinals.get(edge[1]);
+            if (direct[course] == null)
+                direct[course] = new BitSet();
+            direct[course].set(prerequisite);
+        }
+        
+        BitSet[] closure = new BitSet[codes.size()];
+        byte[] state = new byte[codes.size()];
+        for (int i = 0; i < codes.size(); i++)
+            computeClosure(i, direct, closure, state, (course, prerequisite) -> {
+                cyclicEdges.accept(new String[]{codes.get(course), codes.get(prerequisite)});
+                direct[course].clear(prerequisite);
+            });
+        
+        return new PrerequisiteGraph(ordinals, codes.toArray(String[]::new), direct, closure);
+    }
+    
+    /**
+     * Returns an empty graph.
+     *
+     * @return a graph without courses
+     */
+    public static PrerequisiteGraph empty() {
+        return build(List.of(), List.of());
+    }
+    
+    // ================================================================
+    // Read Methods
+    // ================================================================
+    
+    /**
+     * Checks whether replacing the direct prerequisites of a course would introduce a cycle.
+     *
+     * @param courseCode        the course whose prerequisites change
+     * @param prerequisiteCodes the new direct prerequisites
+     * @return the first prerequisite code that closes a cycle, or empty if the change is acyclic
+     */
+    public Optional<String> findCycle(String courseCode, Collection<String> prerequisiteCodes) {
+        Integer course = ordinals.get(courseCode);
+        for (String prerequisiteCode : prerequisiteCodes) {
+            if (prerequisiteCode.equals(courseCode))
+                return Optional.of(prerequisiteCode);
+            Integer prerequisite = ordinals.get(prerequisiteCode);
+            if (course != null && prerequisite != null && closureOf(prerequisite).get(course))
+                return Optional.of(prerequisiteCode);
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Returns the codes of the direct prerequisites of a course.
+     *
+     * @param courseCode the course code
+     * @return the direct prerequisite codes, empty if the course is unknown
+     */
+    public List<String> directPrerequisitesOf(String courseCode) {
+        Integer course = ordinals.get(courseCode);
+        return course == null ? List.of() : toCodes(directOf(course));
+    }
+    
+    /**
+     * Checks whether any other course lists the given course as a direct prerequisite.
+     *
+     * @param courseCode the course code
+     * @return true if at least one course depends on it
+     */
+    public boolean isRequiredByAnyCourse(String courseCode) {
+        Integer course = ordinals.get(courseCode);
+        if (course == null)
+            return false;
+        for (BitSet prerequisites : direct)
+            if (prerequisites != null && prerequisites.get(course))
+                return true;
+        return false;
+    }
+    
+    /**
+     * Builds the passed-course bitset for a set of course codes. Unknown codes are ignored.
+     *
+     * @param passedCourseCodes codes of the courses the student has passed
+     * @return a bitset indexed by course ordinal
+     */
+    public BitSet toBitSet(Collection<String> passedCourseCodes) {
+        BitSet passed = new BitSet(codes.length);
+        for (String code : passedCourseCodes) {
+            Integer ordinal = ordinals.get(code);
+            if (ordinal != null)
+                passed.set(ordinal);
+        }
+        return passed;
+    }
+    
+    /**
+     * Returns the transitive prerequisites of a course that are missing from the passed-course bitset.
+     *
+     * @param courseCode the course code
+     * @param passed     the student's passed-course bitset
+     * @return the missing prerequisite codes, empty if the student is eligible
+     */
+    public List<String> missingPrerequisites(String courseCode, BitSet passed) {
+        Integer course = ordinals.get(courseCode);
+        if (course == null || isSubset(closureOf(course), passed))
+            return List.of();
+        BitSet missing = (BitSet) closureOf(course).clone();
+        missing.andNot(passed);
+        return toCodes(missing);
+    }
+    
+    /**
+     * Returns the codes of all courses the student has not passed yet and whose
+     * transitive prerequisites are all contained in the passed-course bitset.
+     *
+     * @param passed the student's passed-course bitset
+     * @return the eligible course codes
+     */
+    public List<String> eligibleCourses(BitSet passed) {
+        List<String> eligible = new ArrayList<>();
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] != null && !passed.get(i) && isSubset(closureOf(i), passed))
+                eligible.add(codes[i]);
+        }
+        return eligible;
+    }
+    
+    // ================================================================
+    // Copy-on-write Update Methods
+    // ================================================================
+    
+    /**
+     * Returns a new graph in which the direct prerequisites of a course are replaced.
+     * Only the closures of the course and of the courses depending on it are recomputed.
+     *
+     * @param courseCode        the course whose prerequisites change
+     * @param prerequisiteCodes the new direct prerequisites
+     * @return the updated graph
+     * @throws IllegalStateException if the change introduces a cycle
+     */
+    public PrerequisiteGraph withPrerequisites(String courseCode, Collection<String> prerequisiteCodes) {
+        Map<String, Integer> newOrdinals = new HashMap<>(ordinals);
+        List<String> newCodes = new ArrayList<>(Arrays.asList(codes));
+        int course = ordinalFor(courseCode, newOrdinals, newCodes);
+        BitSet prerequisites = new BitSet();
+        for (String prerequisiteCode : prerequisiteCodes)
+            prerequisites.set(ordinalFor(prerequisiteCode, newOrdinals, newCodes));
+        
+        BitSet[] newDirect = Arrays.copyOf(direct, newCodes.size());
+        BitSet[] newClosure = Arrays.copyOf(closure, newCodes.size());
+        newDirect[course] = prerequisites;
+        
+        // The changed course and every course whose closure contained it must be recomputed
+        BitSet affected = new BitSet();
+        affected.set(course);
+        for (int i = 0; i < closure.length; i++)
+            if (closure[i] != null && closure[i].get(course))
+                affected.set(i);
+        affected.stream().forEach(i -> newClosure[i] = null);
+        
+        byte[] state = new byte[newCodes.size()];
+        affected.stream().forEach(i -> computeClosure(i, newDirect, newClosure, state, (c, p) -> {
+            throw new IllegalStateException("Prerequisite cycle detected at course ordinal " + c);
+        }));
+        
+        return new PrerequisiteGraph(newOrdinals, newCodes.toArray(String[]::new), newDirect, newClosure);
+    }
+    
+    /**
+     * Returns a graph that contains the given course, assigning it a new ordinal if it is unknown.
+     *
+     * @param courseCode the code of the added course
+     * @return the updated graph, or this graph if the course is already known
+     */
+    public PrerequisiteGraph withCourse(String courseCode) {
+        return ordinals.containsKey(courseCode) ? this : withPrerequisites(courseCode, List.of());
+    }
+    
+    /**
+     * Returns a new graph without the given course. Its ordinal is retired, not reused.
+     *
+     * @param courseCode the code of the removed course
+     * @return the updated graph
+     */
+    public PrerequisiteGraph without(String courseCode) {
+        Integer course = ordinals.get(courseCode);
+        if (course == null)
+            return this;
+        PrerequisiteGraph graph = withPrerequisites(courseCode, List.of());
+        Map<String, Integer> newOrdinals = new HashMap<>(graph.ordinals);
+        newOrdinals.remove(courseCode);
+        String[] newCodes = graph.codes.clone();
+        newCodes[course] = null;
+        return new PrerequisiteGraph(newOrdinals, newCodes, graph.direct, graph.closure);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Computes the closure of a course by depth-first search, reusing any closure already computed.
+     *
+     * @param course  the ordinal of the course
+     * @param direct  direct prerequisites by ordinal
+     * @param closure closures by ordinal, {@code null} entries are computed
+     * @param state   visit state per ordinal (0 = new, 1 = on stack, 2 = done)
+     * @param onCycle called with the (course, prerequisite) ordinals of an edge that closes a cycle;
+     *                unless it throws, the edge is skipped
+     * @return the closure of the course
+     */
+    private static BitSet computeClosure(int course, BitSet[] direct, BitSet[] closure, byte[] state,
+                                         IntBinaryConsumer onCycle) {
+        if (closure[course] != null)
+            return closure[course];
+        state[course] = 1;
+        BitSet result = new BitSet();
+        BitSet prerequisites = direct[course];
+        if (prerequisites != null) {
+            for (int p = prerequisites.nextSetBit(0); p >= 0; p = prerequisites.nextSetBit(p + 1)) {
+                if (state[p] == 1) {
+                    onCycle.accept(course, p);
+                    continue;
+                }
+                result.set(p);
+                result.or(computeClosure(p, direct, closure, state, onCycle));
+            }
+        }
+        state[course] = 2;
+        closure[course] = result;
+        return result;
+    }
+    
+    /**
+     * Receives the (course, prerequisite) ordinals of an edge.
+     */
+    @FunctionalInterface
+    private interface IntBinaryConsumer {
+        void accept(int course, int prerequisite);
+    }
+    
+    private static int ordinalFor(String code, Map<String, Integer> ordinals, List<String> codes) {
+        return ordinals.computeIfAbsent(code, c -> {
+            codes.add(c);
+            return codes.size() - 1;
+        });
+    }
+    
+    private static boolean isSubset(BitSet subset, BitSet superset) {
+        for (int i = subset.nextSetBit(0); i >= 0; i = subset.nextSetBit(i + 1))
+            if (!superset.get(i))
+                return false;
+        return true;
+    }
+    
+    private BitSet directOf(int course) {
+        return course < direct.length && direct[course] != null ? direct[course] : EMPTY;
+    }
+    
+    private BitSet closureOf(int course) {
+        return course < closure.length && closure[course] != null ? closure[course] : EMPTY;
+    }
+    
+    private List<String> toCodes(BitSet ordinalSet) {
+        List<String> result = new ArrayList<>(ordinalSet.cardinality());
+        for (int i = ordinalSet.nextSetBit(0); i >= 0; i = ordinalSet.nextSetBit(i + 1))
+            if (codes[i] != null)
+                result.add(codes[i]);
+        return result;
+    }
+}
@@ -0,0 +1,273 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.entity.Course;
+import com.egabi.university.entity.OutboxRecord;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.event.PrerequisitesChangedEvent;
+import com.egabi.university.exception.BadRequestException;
+import com.egabi.university.exception.ConflictException;
+import com.egabi.university.mapper.CourseMapper;
+import com.egabi.university.repository.CourseRepository;
+import com.egabi.university.repository.EnrollmentRepository;
+import com.egabi.university.service.academic.PrerequisiteService;
+import com.egabi.university.service.outbox.OutboxService;
+import com.egabi.university.service.outbox.OutboxSubscriber;
+import com.egabi.university.service.validation.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Default implementation of {@link PrerequisiteService}.
+ * Keeps an in-memory {@link PrerequisiteGraph} with precomputed transitive closures,
+ * loaded once from the database and updated incrementally whenever prerequisites change.
+ * <p>
+ * Prerequisite updates are validated against the committed edges under a database lock, so concurrent updates
+ * cannot together introduce a cycle. Changes are only applied to the graph once their transaction commits;
+ * if it rolls back the graph is dropped and reloaded on next use, so it never holds uncommitted courses or
+ * prerequisites. Course changes committed by other instances reach it through the outbox and drop it as well.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrerequisiteServiceImpl implements PrerequisiteService, OutboxSubscriber {
+    
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseMapper courseMapper;
+    private final ValidationService validationService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Current graph snapshot. Readers use it without locking; committed changes replace it under the instance lock.
+     */
+    private volatile PrerequisiteGraph graph;
+    
+    // ================================================================
+    // Prerequisite Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getPrerequisites(String courseCode) {
+        validationService.assertCourseExists(courseCode, true);
+        return graph().directPrerequisitesOf(courseCode);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<String> updatePrerequisites(String courseCode, List<String> prerequisiteCodes) {
+        // Check if the course exists
+        Course course = validationService.getCourseByCodeOrThrow(courseCode);
+        
+        // Validate that every prerequisite exists
+        if (prerequisiteCodes == null)
+            throw new BadRequestException("Prerequisite codes must be provided", "PREREQUISITES_NOT_PROVIDED");
+        List<String> codes = new ArrayList<>(new LinkedHashSet<>(prerequisiteCodes));
+        List<Course> prerequisites = new ArrayList<>(codes.size());
+        for (String code : codes)
+            prerequisites.add(validationService.getCourseByCodeOrThrow(code));
+        
+        // Reject the change if it would introduce a cycle. The in-memory graph may lag behind updates committed
+        // concurrently, here or on another instance, so the check runs against the committed edges while holding
+        // a lock that serializes prerequisite updates until this transaction ends
+        courseRepository.lockPrerequisitesAgainstUpdates();
+        PrerequisiteGraph committed = loadGraph();
+        committed.findCycle(courseCode, codes).ifPresent(code -> {
+            throw new ConflictException("Adding prerequisite " + code + " to course " + courseCode
+                    + " would create a prerequisite cycle", "PREREQUISITE_CYCLE");
+        });
+        
+        // Save the prerequisites, the graph is rebuilt incrementally once they are committed
+        course.getPrerequisites().clear();
+        course.getPrerequisites().addAll(prerequisites);
+        courseRepository.save(course);
+        outboxService.record(AggregateType.COURSE, courseCode, ChangeType.UPDATED);
+        eventPublisher.publishEvent(new PrerequisitesChangedEvent(ChangeType.UPDATED, courseCode, codes));
+        
+        return committed.withPrerequisites(courseCode, codes).directPrerequisitesOf(courseCode);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addCourse(String courseCode) {
+        eventPublisher.publishEvent(new PrerequisitesChangedEvent(ChangeType.CREATED, courseCode, List.of()));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeCourse(String courseCode) {
+        PrerequisiteGraph current = graph();
+        
+        // Prevent deleting a course other courses still depend on
+        if (current.isRequiredByAnyCourse(courseCode))
+            throw new ConflictException("Cannot delete course " + courseCode
+                    + " because it is a prerequisite of other courses", "COURSE_IS_PREREQUISITE");
+        
+        eventPublisher.publishEvent(new PrerequisitesChangedEvent(ChangeType.DELETED, courseCode, List.of()));
+    }
+    
+    /**
+     * Applies a prerequisite change to the graph once its transaction commits.
+     * Nothing is applied while the graph is not loaded, the next load reads the change from the database.
+     *
+     * @param event the prerequisite change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPrerequisitesChanged(PrerequisitesChangedEvent event) {
+        PrerequisiteGraph current = graph;
+        if (current == null)
+            return;
+        try {
+            graph = switch (event.type()) {
+                case CREATED -> current.withCourse(event.courseCode());
+                case UPDATED -> current.withPrerequisites(event.courseCode(), event.prerequisiteCodes());
+                case DELETED -> current.without(event.courseCode());
+            };
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply the {} prerequisite change of course {}", event.type(), event.courseCode(), e);
+            graph = null;
+        }
+    }
+    
+    /**
+     * Drops the graph when a transaction which changed prerequisites rolls back, as it may have been loaded with
+     * rows of that transaction.
+     *
+     * @param event the rolled back prerequisite change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public synchronized void onPrerequisitesRolledBack(PrerequisitesChangedEvent event) {
+        graph = null;
+    }
+    
+    // ================================================================
+    // Outbox Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String name() {
+        return "prerequisite-graph";
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+    
+    /**
+     * Drops the graph after course changes committed on any instance, so it is reloaded on next use.
+     *
+     * @param records the committed changes
+     */
+    @Override
+    public synchronized void onRecords(List<OutboxRecord> records) {
+        if (records.stream().anyMatch(record -> record.getAggregateType() == AggregateType.COURSE))
+            graph = null;
+    }
+    
+    // ================================================================
+    // Eligibility Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public List<CourseDTO> getEligibleCourses(Long studentId) {
+        // Validate that the student exists
+        validationService.assertStudentExists(studentId);
+        
+        // Build the passed-course bitset and test every course closure against it
+        PrerequisiteGraph current = graph();
+        BitSet passed = current.toBitSet(
+                enrollmentRepository.findPassedCourseCodesByStudentId(studentId, PASSING_GRADE));
+        List<String> eligibleCodes = current.eligibleCourses(passed);
+        
+        return courseMapper.toDTOs(courseRepository.findAllById(eligibleCodes));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertPrerequisitesMet(Long studentId, String courseCode) {
+        PrerequisiteGraph current = graph();
+        if (current.directPrerequisitesOf(courseCode).isEmpty())
+            return;
+        
+        BitSet passed = current.toBitSet(
+                enrollmentRepository.findPassedCourseCodesByStudentId(studentId, PASSING_GRADE));
+        List<String> missing = current.missingPrerequisites(courseCode, passed);
+        if (!missing.isEmpty())
+            throw new BadRequestException("Student with id " + studentId + " has not passed the prerequisites "
+                    + missing + " of course " + courseCode, "PREREQUISITES_NOT_MET");
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Returns the current graph, loading it from the database on first use.
+     *
+     * @return the current prerequisite graph
+     */
+    private PrerequisiteGraph graph() {
+        PrerequisiteGraph current = graph;
+        if (current == null) {
+            synchronized (this) {
+                current = graph;
+                if (current == null) {
+                    current = loadGraph();
+                    graph = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * Builds a graph from the courses and prerequisites in the database.
+     * Edges that close a cycle are logged and left out, so a cycle that reached the database never
+     * makes every prerequisite check fail.
+     *
+     * @return the loaded prerequisite graph
+     */
+    private PrerequisiteGraph loadGraph() {
+        List<String[]> edges = courseRepository.findAllPrerequisiteEdges().stream()
+                .map(row -> new String[]{(String) row[0], (String) row[1]})
+                .toList();
+        return PrerequisiteGraph.build(courseRepository.findAllCodes(), edges, edge ->
+                log.warn("Ignoring prerequisite {} of course {} as it closes a prerequisite cycle", edge[1], edge[0]));
+    }
+}
@@ -0,0 +1,80 @@
+package com.egabi.university.service.academic.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded ring buffer of the latest items of a stream, each tagged with a monotonically increasing id.
+ * <p>
+ * Used to resume a stream from the last id a client has seen. Ids start at {@code 1}; once the buffer is full,
+ * appending an item overwrites the oldest one. The buffer is not thread-safe, callers must synchronize on it.
+ * </p>
+ *
+ * @param <T> the type of the buffered items
+ */
+public final class ReplayBuffer<T> {
+    
+    private final Object[] items;
+    private long lastId;
+    
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the maximum number of retained items
+     */
+    public ReplayBuffer(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Replay buffer capacity must be positive");
+        this.items = new Object[capacity];
+    }
+    
+    /**
+     * Appends an item, evicting the oldest one if the buffer is full.
+     *
+     * @param item the item to append
+     * @return the id assigned to the item
+     */
+    public long append(T item) {
+        lastId++;
+        items[slot(lastId)] = item;
+        return lastId;
+    }
+    
+    /**
+     * Returns the id of the latest appended item.
+     *
+     * @return the latest id, {@code 0} if nothing was appended yet
+     */
+    public long lastId() {
+        return lastId;
+    }
+    
+    /**
+     * Tells whether every item after the given id is still retained.
+     *
+     * @param lastSeenId the last id seen by the reader
+     * @return {@code true} if {@link #since(long)} returns a gap-free continuation
+     */
+    public boolean covers(long lastSeenId) {
+        return lastSeenId <= lastId && lastSeenId >= lastId - items.length;
+    }
+    
+    /**
+     * Returns the retained items appended after the given id, oldest first.
+     *
+     * @param lastSeenId the last id seen by the reader
+     * @return the items after {@code lastSeenId} that are still retained
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> since(long lastSeenId) {
+        long from = Math.max(lastSeenId, lastId - items.length) + 1;
+        List<T> result = new ArrayList<>((int) Math.max(0, lastId - from + 1));
+        for (long id = from; id <= lastId; id++)
+            result.add((T) items[slot(id)]);
+        return result;
+    }
+    
+    private int slot(long id) {
+        return (int) ((id - 1) % items.length);
+    }
+}
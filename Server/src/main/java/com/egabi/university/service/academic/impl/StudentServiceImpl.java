@@ -1,20 +1,28 @@
 package com.egabi.university.service.academic.impl;
 
+import com.egabi.university.dto.MultiGetDTO;
 import com.egabi.university.dto.StudentDTO;
 import com.egabi.university.entity.Department;
+import com.egabi.university.entity.EntityCounter.Counter;
 import com.egabi.university.entity.Level;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
 import com.egabi.university.entity.Student;
 import com.egabi.university.entity.authentication.User;
+import com.egabi.university.event.ChangeType;
 import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.mapper.StudentMapper;
+import com.egabi.university.repository.EnrollmentRepository;
 import com.egabi.university.repository.StudentRepository;
 import com.egabi.university.service.academic.StudentService;
+import com.egabi.university.service.counter.EntityCounterService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,8 +35,11 @@ import java.util.Optional;
 public class StudentServiceImpl implements StudentService {
     
     private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
     private final StudentMapper studentMapper;
     private final ValidationService validationService;
+    private final OutboxService outboxService;
+    private final EntityCounterService entityCounterService;
     
     // ================================================================
     // CRUD Methods
@@ -54,6 +65,21 @@ public class StudentServiceImpl implements StudentService {
         return studentMapper.toDTO(student);
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public MultiGetDTO<StudentDTO, Long> getStudentsByIds(Collection<Long> ids) {
+        // Validate the number of requested IDs
+        List<Long> keys = ids.stream().distinct().toList();
+        validationService.assertMultiGetKeyCount(keys.size());
+        
+        // Fetch every student with one IN query
+        List<Student> students = studentRepository.findAllByIdIn(keys);
+        return MultiGetDTO.of(keys, studentMapper.toDTOs(students), StudentDTO::getId);
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -65,6 +91,8 @@ public class StudentServiceImpl implements StudentService {
         
         // Validate department - level and save student
         student = vaildateAndSaveStudent(student);
+        outboxService.record(AggregateType.STUDENT, student.getId(), ChangeType.CREATED);
+        countStudent(student.getDepartment(), 1);
         
         // Return the saved student as a DTO
         return studentMapper.toDTO(student);
@@ -79,6 +107,10 @@ public class StudentServiceImpl implements StudentService {
         // Check if the student exists
         Student existingStudent = validationService.getStudentByIdOrThrow(studentId);
         
+        Department previousDepartment = existingStudent.getDepartment();
+        Long previousDepartmentId = previousDepartment.getId();
+        Long previousFacultyId = previousDepartment.getFaculty().getId();
+        
         // Check if the sender changed any of the fields
         Student newStudent = studentMapper.clone(existingStudent);
         studentMapper.updateEntityFromDTO(studentDTO, newStudent);
@@ -90,6 +122,15 @@ public class StudentServiceImpl implements StudentService {
             
             // Validate department - level and update student
             existingStudent = vaildateAndSaveStudent(existingStudent);
+            outboxService.record(AggregateType.STUDENT, studentId, ChangeType.UPDATED);
+            
+            // Move the student between the counters if the department changed
+            Department department = existingStudent.getDepartment();
+            if (!department.getId().equals(previousDepartmentId)) {
+                entityCounterService.increment(Counter.DEPARTMENT_STUDENTS, previousDepartmentId, -1);
+                entityCounterService.increment(Counter.FACULTY_STUDENTS, previousFacultyId, -1);
+                countStudent(department, 1);
+            }
         }
         // Return the updated student as a DTO
         return studentMapper.toDTO(existingStudent);
@@ -105,12 +146,14 @@ public class StudentServiceImpl implements StudentService {
         Student student = validationService.getStudentByIdOrThrow(studentId);
         
         // Ensure the student is not enrolled in any courses and prevent deletion
-        if (!student.getEnrollments().isEmpty())
+        if (enrollmentRepository.existsByStudentId(studentId))
             throw new ConflictException("Cannot delete student with id " + studentId +
                     " because they are enrolled in courses", "STUDENT_HAS_ENROLLMENTS");
         
         // Delete the student
         studentRepository.delete(student);
+        outboxService.record(AggregateType.STUDENT, studentId, ChangeType.DELETED);
+        countStudent(student.getDepartment(), -1);
     }
     
     // ================================================================
@@ -133,6 +176,8 @@ public class StudentServiceImpl implements StudentService {
         
         // Validate department - level and save student
         student = vaildateAndSaveStudent(student);
+        outboxService.record(AggregateType.STUDENT, student.getId(), ChangeType.CREATED);
+        countStudent(student.getDepartment(), 1);
         
         // Return the saved student as a DTO
         return studentMapper.toDTO(student);
@@ -162,16 +207,39 @@ public class StudentServiceImpl implements StudentService {
         // Validate faculty existence
         validationService.assertFacultyExists(facultyId);
         
-        // Count students in the faculty
-        Long count = studentRepository.countByFacultyId(facultyId);
+        // Read the denormalized counter of the faculty
+        return entityCounterService.get(Counter.FACULTY_STUDENTS, facultyId);
+    }
+    
+    // Department-related methods
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long countStudentsByDepartmentId(Long departmentId) {
+        // Validate department existence
+        validationService.assertDepartmentExists(departmentId);
         
-        return count != null ? count : 0L;
+        // Read the denormalized counter of the department
+        return entityCounterService.get(Counter.DEPARTMENT_STUDENTS, departmentId);
     }
     
     // ================================================================
     // Helper methods
     // ================================================================
     
+    /**
+     * Adds a delta to the student counters of a department and its faculty.
+     *
+     * @param department the department of the student
+     * @param delta      1 for an added student, -1 for a removed one
+     */
+    private void countStudent(Department department, long delta) {
+        entityCounterService.increment(Counter.DEPARTMENT_STUDENTS, department.getId(), delta);
+        entityCounterService.increment(Counter.FACULTY_STUDENTS, department.getFaculty().getId(), delta);
+    }
+    
     /**
      * Validates the student entity and saves it to the database.
      *
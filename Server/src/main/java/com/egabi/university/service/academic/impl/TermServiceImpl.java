@@ -0,0 +1,165 @@
+package com.egabi.university.service.academic.impl;
+
+import com.egabi.university.dto.TermDTO;
+import com.egabi.university.entity.Term;
+import com.egabi.university.entity.Term.Status;
+import com.egabi.university.event.TermChangedEvent;
+import com.egabi.university.exception.BadRequestException;
+import com.egabi.university.exception.ConflictException;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.mapper.TermMapper;
+import com.egabi.university.repository.EnrollmentPartitionRepository;
+import com.egabi.university.repository.TermRepository;
+import com.egabi.university.service.academic.TermService;
+import com.egabi.university.service.validation.ValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default implementation of {@link TermService}.
+ * The current term is resolved once per day and kept in memory until a term is created or closed.
+ */
+@Service
+@RequiredArgsConstructor
+public class TermServiceImpl implements TermService {
+    
+    private final TermRepository termRepository;
+    private final EnrollmentPartitionRepository enrollmentPartitionRepository;
+    private final TermMapper termMapper;
+    private final ValidationService validationService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Incremented on every term change, so a current term resolved concurrently with a change is not kept.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    /**
+     * The current term and the day it was resolved on, {@code null} until first used or after a term change.
+     */
+    private volatile CurrentTerm currentTerm;
+    
+    private record CurrentTerm(LocalDate day, Long termId) {
+    }
+    
+    // ================================================================
+    // CRUD Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TermDTO> getAllTerms() {
+        return termMapper.toDTOs(termRepository.findAllByOrderByStartDateDesc());
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public TermDTO createTerm(TermDTO termDTO) {
+        // Map the DTO to the entity
+        Term term = termMapper.toEntity(termDTO);
+        
+        // Validate code and dates
+        if (term.getCode() == null || term.getCode().isBlank())
+            throw new BadRequestException("Term code must be set", "TERM_CODE_NOT_SET");
+        validationService.assertTermCodeUnique(term.getCode());
+        if (term.getStartDate() == null || term.getEndDate() == null || !term.getStartDate().isBefore(term.getEndDate()))
+            throw new BadRequestException("Term must have a start date before its end date", "INVALID_TERM_DATES");
+        
+        // Save the term and create its enrollment partition
+        term.setStatus(Status.OPEN);
+        term = termRepository.save(term);
+        enrollmentPartitionRepository.createPartition(term.getId());
+        eventPublisher.publishEvent(new TermChangedEvent(term.getId()));
+        
+        return termMapper.toDTO(term);
+    }
+    
+    // ================================================================
+    // Business Logic Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TermDTO getCurrentTerm() {
+        return termMapper.toDTO(validationService.getTermByIdOrThrow(getCurrentTermId()));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getCurrentTermId() {
+        LocalDate today = LocalDate.now();
+        CurrentTerm current = currentTerm;
+        if (current == null || !current.day().equals(today)) {
+            long version = invalidations.get();
+            Long termId = termRepository.findFirstByStatusAndStartDateLessThanEqualOrderByStartDateDesc(Status.OPEN, today)
+                    .map(Term::getId)
+                    .orElseThrow(() -> new NotFoundException("No term is currently open", "CURRENT_TERM_NOT_FOUND"));
+            current = new CurrentTerm(today, termId);
+            synchronized (this) {
+                if (invalidations.get() == version)
+                    currentTerm = current;
+            }
+        }
+        return current.termId();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public TermDTO closeTerm(Long termId, Status status) {
+        // Check if the term exists and is still open, or frozen when detaching it
+        Term term = validationService.getTermByIdOrThrow(termId);
+        if (term.getStatus() == Status.DETACHED || term.getStatus() == Status.FROZEN && status != Status.DETACHED)
+            throw new ConflictException("Term with id " + termId + " is already closed", "TERM_ALREADY_CLOSED");
+        
+        // Freeze or detach the enrollment partition of the term
+        switch (status) {
+            case FROZEN -> enrollmentPartitionRepository.freezePartition(termId);
+            case DETACHED -> {
+                // Detached enrollments no longer count as passed courses, so every one of them must be archived first
+                if (!enrollmentPartitionRepository.isPartitionEmpty(termId))
+                    throw new ConflictException("Term with id " + termId
+                            + " still has enrollments that are not archived", "TERM_HAS_ENROLLMENTS");
+                enrollmentPartitionRepository.detachPartition(termId);
+            }
+            default -> throw new BadRequestException("A term can only be closed as FROZEN or DETACHED",
+                    "INVALID_TERM_STATUS");
+        }
+        
+        // Save the new status
+        term.setStatus(status);
+        term = termRepository.save(term);
+        eventPublisher.publishEvent(new TermChangedEvent(termId));
+        
+        return termMapper.toDTO(term);
+    }
+    
+    /**
+     * Forgets the current term once a term change is committed, so it is resolved again on next use.
+     *
+     * @param event the term change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTermChanged(TermChangedEvent event) {
+        invalidations.incrementAndGet();
+        currentTerm = null;
+    }
+}
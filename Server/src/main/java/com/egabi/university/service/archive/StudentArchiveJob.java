@@ -0,0 +1,146 @@
+package com.egabi.university.service.archive;
+
+import com.egabi.university.entity.EnrollmentId;
+import com.egabi.university.entity.EntityCounter.Counter;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.event.EnrollmentChangedEvent;
+import com.egabi.university.event.StudentsArchivedEvent;
+import com.egabi.university.repository.ArchivedEnrollmentRepository;
+import com.egabi.university.repository.ArchivedStudentRepository;
+import com.egabi.university.repository.EnrollmentRepository;
+import com.egabi.university.repository.StudentRepository;
+import com.egabi.university.repository.UserRepository;
+import com.egabi.university.service.counter.EntityCounterService;
+import com.egabi.university.service.outbox.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+/**
+ * Background job that moves students who graduated longer than the retention period ago, together with their
+ * enrollments, from the live tables into the archive tables.
+ * <p>
+ * Graduates are moved in chunks, one transaction per chunk, so the live tables are never locked for long. The rows
+ * of a chunk are locked with {@code for update skip locked}: a concurrent archival run skips them, and a transaction
+ * adding an enrollment of a locked student waits on the foreign key check until the chunk commits and then fails.
+ * </p>
+ * <p>
+ * The accounts of archived students are disabled, which every instance applies on its next security stamp refresh,
+ * and their deleted enrollments are recorded in the outbox and
+ * published like those deleted through the enrollment service, so subscribers and caches forget them.
+ * </p>
+ */
+@Slf4j
+@Component
+public class StudentArchiveJob {
+    
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ArchivedStudentRepository archivedStudentRepository;
+    private final ArchivedEnrollmentRepository archivedEnrollmentRepository;
+    private final UserRepository userRepository;
+    private final EntityCounterService entityCounterService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Period retention;
+    
+    public StudentArchiveJob(StudentRepository studentRepository,
+                             EnrollmentRepository enrollmentRepository,
+                             ArchivedStudentRepository archivedStudentRepository,
+                             ArchivedEnrollmentRepository archivedEnrollmentRepository,
+                             UserRepository userRepository,
+                             EntityCounterService entityCounterService,
+                             OutboxService outboxService,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${archive.graduates.chunk-size:500}") int chunkSize,
+                             @Value("${archive.graduates.retention:P1Y}") Period retention) {
+        this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.archivedStudentRepository = archivedStudentRepository;
+        this.archivedEnrollmentRepository = archivedEnrollmentRepository;
+        this.userRepository = userRepository;
+        this.entityCounterService = entityCounterService;
+        this.outboxService = outboxService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+    
+    /**
+     * Archives every student who graduated before the retention cutoff, one chunk per transaction.
+     */
+    @Scheduled(cron = "${archive.graduates.cron:0 0 4 * * *}")
+    public void archiveGraduates() {
+        LocalDate cutoff = LocalDate.now().minus(retention);
+        int archived = 0;
+        try {
+            Integer chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> archiveChunk(cutoff));
+                archived += chunk != null ? chunk : 0;
+            } while (chunk != null && chunk == chunkSize);
+        } catch (RuntimeException e) {
+            log.warn("Archiving graduated students failed after {} students, the rest is retried on the next run",
+                    archived, e);
+        }
+        if (archived > 0)
+            log.info("Archived {} students who graduated before {}", archived, cutoff);
+    }
+    
+    /**
+     * Moves the next chunk of graduates and their enrollments to the archive.
+     *
+     * @param cutoff the date before which the students graduated
+     * @return the number of archived students
+     */
+    int archiveChunk(LocalDate cutoff) {
+        List<Long> ids = studentRepository.lockGraduatedBefore(cutoff, chunkSize);
+        if (ids.isEmpty())
+            return 0;
+        
+        // Take the students off the counters of their departments and faculties
+        for (Object[] row : studentRepository.countAllByIdInGroupedByDepartmentId(ids)) {
+            long count = (Long) row[2];
+            entityCounterService.increment(Counter.DEPARTMENT_STUDENTS, (Long) row[0], -count);
+            entityCounterService.increment(Counter.FACULTY_STUDENTS, (Long) row[1], -count);
+        }
+        
+        // Disable the accounts of the students, so they can no longer log in and their tokens are rejected
+        Instant now = Instant.now();
+        userRepository.disableAllByStudentIds(ids, now);
+        
+        // Copy the rows to the archive, then delete them from the live tables
+        List<EnrollmentId> enrollmentIds = enrollmentRepository.findAllIdsByStudentIds(ids);
+        archivedStudentRepository.copyFromStudents(ids, now);
+        archivedEnrollmentRepository.copyFromEnrollments(ids);
+        enrollmentRepository.deleteAllByStudentIds(ids);
+        studentRepository.deleteAllByIds(ids);
+        
+        // Record the deletions of the enrollments and the students
+        for (EnrollmentId enrollmentId : enrollmentIds) {
+            Long studentId = enrollmentId.getStudentId();
+            String courseCode = enrollmentId.getCourseCode();
+            outboxService.record(AggregateType.ENROLLMENT, studentId + "/" + courseCode + "/" + enrollmentId.getTermId(),
+                    ChangeType.DELETED);
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(ChangeType.DELETED, studentId, courseCode, null));
+        }
+        for (Long id : ids)
+            outboxService.record(AggregateType.STUDENT, id, ChangeType.DELETED);
+        eventPublisher.publishEvent(new StudentsArchivedEvent(ids));
+        return ids.size();
+    }
+}
@@ -0,0 +1,32 @@
+package com.egabi.university.service.archive;
+
+import com.egabi.university.dto.ArchivedStudentDTO;
+import com.egabi.university.dto.StudentDTO;
+
+public interface StudentArchiveService {
+    
+    // ================================================================
+    // Graduation Methods
+    // ================================================================
+    
+    /**
+     * Mark a student as graduated today.
+     * The student must have met every degree requirement of their department and level.
+     *
+     * @param studentId the ID of the student
+     * @return the updated StudentDTO object
+     */
+    StudentDTO graduateStudent(Long studentId);
+    
+    // ================================================================
+    // Archive Methods
+    // ================================================================
+    
+    /**
+     * Get an archived student with their archived enrollments.
+     *
+     * @param studentId the ID of the archived student
+     * @return the ArchivedStudentDTO of the student
+     */
+    ArchivedStudentDTO getArchivedStudent(Long studentId);
+}
@@ -0,0 +1,90 @@
+package com.egabi.university.service.archive;
+
+import com.egabi.university.dto.ArchivedStudentDTO;
+import com.egabi.university.dto.DegreeAuditDTO;
+import com.egabi.university.dto.StudentDTO;
+import com.egabi.university.entity.ArchivedStudent;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.entity.Student;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.exception.ConflictException;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.mapper.ArchivedStudentMapper;
+import com.egabi.university.mapper.StudentMapper;
+import com.egabi.university.repository.ArchivedEnrollmentRepository;
+import com.egabi.university.repository.ArchivedStudentRepository;
+import com.egabi.university.repository.StudentRepository;
+import com.egabi.university.service.academic.DegreeAuditService;
+import com.egabi.university.service.outbox.OutboxService;
+import com.egabi.university.service.validation.ValidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Default implementation of {@link StudentArchiveService}.
+ * Graduation only stamps the live student; moving graduates to the archive is left to {@link StudentArchiveJob}.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentArchiveServiceImpl implements StudentArchiveService {
+    
+    private final StudentRepository studentRepository;
+    private final ArchivedStudentRepository archivedStudentRepository;
+    private final ArchivedEnrollmentRepository archivedEnrollmentRepository;
+    private final StudentMapper studentMapper;
+    private final ArchivedStudentMapper archivedStudentMapper;
+    private final ValidationService validationService;
+    private final DegreeAuditService degreeAuditService;
+    private final OutboxService outboxService;
+    
+    // ================================================================
+    // Graduation Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public StudentDTO graduateStudent(Long studentId) {
+        // Check if the student exists and has not graduated yet
+        Student student = validationService.getStudentByIdOrThrow(studentId);
+        if (student.getGraduationDate() != null)
+            throw new ConflictException("Student with id " + studentId + " has already graduated",
+                    "STUDENT_ALREADY_GRADUATED");
+        
+        // Ensure the student meets every degree requirement
+        DegreeAuditDTO audit = degreeAuditService.auditStudent(studentId);
+        if (!audit.isComplete())
+            throw new ConflictException("Student with id " + studentId + " still lacks " + audit.getMissingCredits()
+                    + " credits and the courses " + audit.getMissingCourseCodes(), "DEGREE_REQUIREMENTS_NOT_MET");
+        
+        // Stamp the graduation date
+        student.setGraduationDate(LocalDate.now());
+        student = studentRepository.save(student);
+        outboxService.record(AggregateType.STUDENT, studentId, ChangeType.UPDATED);
+        
+        return studentMapper.toDTO(student);
+    }
+    
+    // ================================================================
+    // Archive Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public ArchivedStudentDTO getArchivedStudent(Long studentId) {
+        // Check if the student is archived
+        ArchivedStudent student = archivedStudentRepository.findById(studentId)
+                .orElseThrow(() -> new NotFoundException("Archived student with id " + studentId + " not found",
+                        "ARCHIVED_STUDENT_NOT_FOUND"));
+        
+        return archivedStudentMapper.toDTO(student, archivedEnrollmentRepository.findAllByStudentId(studentId));
+    }
+}
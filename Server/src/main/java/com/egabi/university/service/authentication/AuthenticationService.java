@@ -1,6 +1,7 @@
 package com.egabi.university.service.authentication;
 
 import com.egabi.university.dto.authentication.request.AuthenticationRequest;
+import com.egabi.university.dto.authentication.request.RefreshTokenRequest;
 import com.egabi.university.dto.authentication.request.RegistrationRequest;
 import com.egabi.university.dto.authentication.response.AuthenticationResponse;
 
@@ -20,9 +21,27 @@ public interface AuthenticationService {
     
     /**
      * Authenticates a user with the provided authentication request.
+     * Failed attempts are throttled per email and per client IP address.
      *
      * @param authenticationRequest the request containing user authentication details
+     * @param clientIp              the IP address of the client
      * @return a response indicating the result of the authentication
      */
-    AuthenticationResponse authenticate(AuthenticationRequest authenticationRequest);
+    AuthenticationResponse authenticate(AuthenticationRequest authenticationRequest, String clientIp);
+    
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token.
+     *
+     * @param refreshTokenRequest the request containing the refresh token
+     * @return a response holding the new tokens
+     */
+    AuthenticationResponse refresh(RefreshTokenRequest refreshTokenRequest);
+    
+    /**
+     * Logs out a session by revoking its refresh token family and its current access token.
+     *
+     * @param refreshTokenRequest the request containing the refresh token
+     * @param accessToken         the access token of the session, or {@code null}
+     */
+    void logout(RefreshTokenRequest refreshTokenRequest, String accessToken);
 }
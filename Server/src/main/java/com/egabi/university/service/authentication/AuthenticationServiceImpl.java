@@ -1,15 +1,18 @@
 package com.egabi.university.service.authentication;
 
 import com.egabi.university.dto.authentication.request.AuthenticationRequest;
+import com.egabi.university.dto.authentication.request.RefreshTokenRequest;
 import com.egabi.university.dto.authentication.request.RegistrationRequest;
 import com.egabi.university.dto.authentication.response.AuthenticationResponse;
 import com.egabi.university.entity.authentication.User;
 import com.egabi.university.repository.UserRepository;
 import com.egabi.university.service.authentication.registration.RegistrationHandler;
+import com.egabi.university.service.authentication.throttle.LoginThrottle;
 import com.egabi.university.service.validation.ValidationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -26,10 +29,11 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     
     private final UserRepository userRepository;
     private final ValidationService validationService;
-    private final JwtService jwtService;
     private final List<RegistrationHandler> registrationHandlers;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final LoginThrottle loginThrottle;
+    private final RefreshTokenService refreshTokenService;
     
     /**
      * {@inheritDoc}
@@ -66,22 +70,29 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .orElseThrow(() -> new IllegalArgumentException("No handler found for role: " + user.getRole()))
                 .handleRegistration(registrationRequest, user);
         
-        // Generate JWT token for the registered user
-        var jwtToken = jwtService.generateToken(user);
-        return AuthenticationResponse.builder().token(jwtToken).build();
+        // Issue the access and refresh tokens of the registered user
+        return refreshTokenService.issueTokens(user);
     }
     
     /**
      * {@inheritDoc}
      */
     @Override
-    public AuthenticationResponse authenticate(AuthenticationRequest authenticationRequest) {
+    public AuthenticationResponse authenticate(AuthenticationRequest authenticationRequest, String clientIp) {
+        // Reject blocked emails and IP addresses before hashing the password
+        loginThrottle.assertAllowed(authenticationRequest.getEmail(), clientIp);
+        
         // Authenticate the user using the provided email and password
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        authenticationRequest.getEmail(),
-                        authenticationRequest.getPassword()
-                ));
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            authenticationRequest.getEmail(),
+                            authenticationRequest.getPassword()
+                    ));
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(authenticationRequest.getEmail(), clientIp);
+            throw e;
+        }
         
         // if authentication is successful, retrieve the user details
         User user = userRepository.findByEmail(authenticationRequest.getEmail())
@@ -89,9 +100,23 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                         "User not found with email: " + authenticationRequest.getEmail()
                 ));
         
-        // Generate JWT token for the authenticated user
-        return AuthenticationResponse.builder()
-                .token(jwtService.generateToken(user))
-                .build();
+        // Issue the access and refresh tokens of the authenticated user
+        return refreshTokenService.issueTokens(user);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AuthenticationResponse refresh(RefreshTokenRequest refreshTokenRequest) {
+        return refreshTokenService.rotate(refreshTokenRequest.getRefreshToken());
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logout(RefreshTokenRequest refreshTokenRequest, String accessToken) {
+        refreshTokenService.revoke(refreshTokenRequest.getRefreshToken(), accessToken);
     }
 }
@@ -3,6 +3,7 @@ package com.egabi.university.service.authentication;
 import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -11,12 +12,27 @@ import java.util.function.Function;
  */
 public interface JwtService {
     
+    /**
+     * Claims embedded in the tokens of a {@link com.egabi.university.entity.authentication.User}, enough to
+     * authenticate a request without loading the user.
+     */
+    String USER_ID_CLAIM = "uid";
+    String ROLE_CLAIM = "role";
+    String SECURITY_STAMP_CLAIM = "sst";
+    
+    /**
+     * Request attribute holding the verified {@link Claims} of the bearer token of a request, set by the first
+     * filter that verifies it so the following filters do not verify its signature again.
+     */
+    String CLAIMS_ATTRIBUTE = JwtService.class.getName() + ".CLAIMS";
+    
     // ================================================================
     // Token Generation and Validation Methods
     // ================================================================
     
     /**
      * Generates a JWT token for the given user details.
+     * Tokens of a {@link com.egabi.university.entity.authentication.User} also carry its ID, role and security stamp.
      *
      * @param userDetails the user details for which the token is generated
      * @return the generated JWT token
@@ -70,4 +86,20 @@ public interface JwtService {
      * @return the username extracted from the token
      */
     String extractUsername(String token);
+    
+    /**
+     * Extracts the token ID from the JWT token.
+     *
+     * @param token the JWT token
+     * @return the token ID extracted from the token
+     */
+    String extractTokenId(String token);
+    
+    /**
+     * Extracts the expiration time from the JWT token.
+     *
+     * @param token the JWT token
+     * @return the expiration time of the token
+     */
+    Instant extractExpiration(String token);
 }
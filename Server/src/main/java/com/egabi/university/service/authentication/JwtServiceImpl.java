@@ -1,5 +1,6 @@
 package com.egabi.university.service.authentication;
 
+import com.egabi.university.entity.authentication.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -10,8 +11,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -50,7 +54,14 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public String generateToken(UserDetails userDetails) {
-        return generateToken(userDetails, Map.of());
+        if (!(userDetails instanceof User user))
+            return generateToken(userDetails, Map.of());
+        
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        claims.put(SECURITY_STAMP_CLAIM, user.getSecurityStamp());
+        return generateToken(userDetails, claims);
     }
     
     /**
@@ -61,6 +72,7 @@ public class JwtServiceImpl implements JwtService {
         return Jwts
                 .builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTimeInMillis))
@@ -111,6 +123,22 @@ public class JwtServiceImpl implements JwtService {
         return extractClaim(token, Claims::getSubject);
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant extractExpiration(String token) {
+        return extractClaim(token, Claims::getExpiration).toInstant();
+    }
+    
     // ================================================================
     // Helper methods
     // ================================================================
@@ -125,16 +153,6 @@ public class JwtServiceImpl implements JwtService {
         return Keys.hmacShaKeyFor(keyBytes);
     }
     
-    /**
-     * Extracts the expiration date from the JWT token.
-     *
-     * @param token the JWT token
-     * @return the expiration date of the token
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-    
     /**
      * Checks if the given JWT token is expired.
      *
@@ -142,6 +160,6 @@ public class JwtServiceImpl implements JwtService {
      * @return true if the token is expired, false otherwise
      */
     private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return extractExpiration(token).isBefore(Instant.now());
     }
 }
@@ -0,0 +1,35 @@
+package com.egabi.university.service.authentication;
+
+import com.egabi.university.dto.authentication.response.AuthenticationResponse;
+import com.egabi.university.entity.authentication.User;
+
+/**
+ * Service interface for issuing, rotating and revoking refresh tokens.
+ */
+public interface RefreshTokenService {
+    
+    /**
+     * Issues an access token and a refresh token starting a new token family.
+     *
+     * @param user the user the tokens are issued to
+     * @return a response holding both tokens
+     */
+    AuthenticationResponse issueTokens(User user);
+    
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token of the same family.
+     * Presenting a refresh token that was already exchanged revokes the whole family.
+     *
+     * @param refreshToken the refresh token
+     * @return a response holding both new tokens
+     */
+    AuthenticationResponse rotate(String refreshToken);
+    
+    /**
+     * Revokes the family of a refresh token, and the access token presented with it if any.
+     *
+     * @param refreshToken the refresh token
+     * @param accessToken  the access token, or {@code null}
+     */
+    void revoke(String refreshToken, String accessToken);
+}
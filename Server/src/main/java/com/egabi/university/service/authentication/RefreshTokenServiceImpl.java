@@ -0,0 +1,185 @@
+package com.egabi.university.service.authentication;
+
+import com.egabi.university.dto.authentication.response.AuthenticationResponse;
+import com.egabi.university.entity.authentication.RefreshToken;
+import com.egabi.university.entity.authentication.User;
+import com.egabi.university.exception.UnauthorizedException;
+import com.egabi.university.repository.RefreshTokenRepository;
+import com.egabi.university.service.authentication.revocation.TokenRevocationService;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Default implementation of {@link RefreshTokenService}.
+ * Refresh tokens are 256-bit random values handed to the client once; only their SHA-256 hash is stored.
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+    
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+    private final Duration refreshTokenLifetime;
+    private final SecureRandom random = new SecureRandom();
+    
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                                   JwtService jwtService,
+                                   TokenRevocationService tokenRevocationService,
+                                   @Value("${jwt.refresh.expiration:P14D}") Duration refreshTokenLifetime) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenLifetime = refreshTokenLifetime;
+    }
+    
+    // ================================================================
+    // Token Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public AuthenticationResponse issueTokens(User user) {
+        return issueTokens(user, UUID.randomUUID().toString());
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public AuthenticationResponse rotate(String refreshToken) {
+        // Check if the refresh token exists, locking it against a concurrent rotation
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .orElseThrow(() -> new UnauthorizedException("Refresh token is invalid", "INVALID_REFRESH_TOKEN"));
+        
+        // Revoke the whole family if the token was already exchanged, since it must have been stolen
+        if (current.getUsedAt() != null) {
+            revokeFamily(current.getFamilyId());
+            throw new UnauthorizedException("Refresh token was already used, its sessions are revoked",
+                    "REFRESH_TOKEN_REUSED");
+        }
+        
+        // Validate the token state
+        if (current.isRevoked())
+            throw new UnauthorizedException("Refresh token is revoked", "REFRESH_TOKEN_REVOKED");
+        if (current.getExpiresAt().isBefore(Instant.now()))
+            throw new UnauthorizedException("Refresh token is expired", "REFRESH_TOKEN_EXPIRED");
+        
+        // Validate that the user may still log in
+        User user = current.getUser();
+        if (!user.isAccountNonLocked() || !user.isEnabled()) {
+            revokeFamily(current.getFamilyId());
+            throw new UnauthorizedException("User account is locked or disabled", "USER_DISABLED");
+        }
+        
+        // Mark the token as used and issue the next tokens of the family
+        current.setUsedAt(Instant.now());
+        refreshTokenRepository.save(current);
+        return issueTokens(user, current.getFamilyId());
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void revoke(String refreshToken, String accessToken) {
+        // Revoke the refresh token family, if the token exists
+        refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId()));
+        
+        // Revoke the presented access token until it expires
+        if (accessToken != null) {
+            try {
+                tokenRevocationService.revoke(jwtService.extractTokenId(accessToken),
+                        jwtService.extractExpiration(accessToken));
+            } catch (JwtException | IllegalArgumentException e) {
+                // An invalid or expired access token cannot be used anyway
+            }
+        }
+    }
+    
+    /**
+     * Deletes the refresh tokens that have expired.
+     */
+    @Scheduled(cron = "${jwt.refresh.purge-cron:0 15 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Issues an access token and a refresh token of the given family.
+     *
+     * @param user     the user the tokens are issued to
+     * @param familyId the family of the refresh token
+     * @return a response holding both tokens
+     */
+    private AuthenticationResponse issueTokens(User user, String familyId) {
+        String accessToken = jwtService.generateToken(user);
+        
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(refreshToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(Instant.now().plus(refreshTokenLifetime))
+                .accessTokenId(jwtService.extractTokenId(accessToken))
+                .accessTokenExpiresAt(jwtService.extractExpiration(accessToken))
+                .build());
+        
+        return AuthenticationResponse.builder()
+                .token(accessToken)
+                .refreshToken(refreshToken)
+                .build();
+    }
+    
+    /**
+     * Revokes every refresh token of a family and the access tokens issued with them.
+     *
+     * @param familyId the family of the tokens
+     */
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+        for (RefreshToken token : refreshTokenRepository.findAllByFamilyIdAndAccessTokenExpiresAtAfter(familyId, Instant.now()))
+            tokenRevocationService.revoke(token.getAccessTokenId(), token.getAccessTokenExpiresAt());
+    }
+    
+    /**
+     * Returns the hex-encoded SHA-256 hash of a refresh token.
+     *
+     * @param refreshToken the refresh token
+     * @return the hash of the token
+     */
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
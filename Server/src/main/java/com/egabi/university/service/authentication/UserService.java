@@ -1,5 +1,6 @@
 package com.egabi.university.service.authentication;
 
+import com.egabi.university.entity.authentication.Role;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 /**
@@ -9,4 +10,30 @@ import org.springframework.security.core.userdetails.UserDetailsService;
  */
 public interface UserService extends UserDetailsService {
 //TODO add CRUD methods for User entity
+    
+    // ================================================================
+    // Account Access Methods
+    // ================================================================
+    
+    /**
+     * Locks a user account, invalidating every access token issued to it.
+     *
+     * @param userId the ID of the user
+     */
+    void lockUser(Long userId);
+    
+    /**
+     * Unlocks a user account.
+     *
+     * @param userId the ID of the user
+     */
+    void unlockUser(Long userId);
+    
+    /**
+     * Changes the role of a user, invalidating every access token issued with the previous role.
+     *
+     * @param userId the ID of the user
+     * @param role   the new role
+     */
+    void changeRole(Long userId, Role role);
 }
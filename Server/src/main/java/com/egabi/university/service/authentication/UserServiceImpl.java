@@ -1,20 +1,27 @@
 package com.egabi.university.service.authentication;
 
+import com.egabi.university.entity.authentication.Role;
 import com.egabi.university.entity.authentication.User;
+import com.egabi.university.event.SecurityStampChangedEvent;
+import com.egabi.university.exception.BadRequestException;
+import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Default implementation of {@link UserService}.
- * Provides the functionality to load user details by username.
+ * Provides the functionality to load user details by username and to change the access of a user account.
  */
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Loads user details by username (email).
@@ -28,4 +35,70 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
     }
+    
+    // ================================================================
+    // Account Access Methods
+    // ================================================================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void lockUser(Long userId) {
+        User user = getUserByIdOrThrow(userId);
+        long stamp = user.getSecurityStamp();
+        user.setLocked(true);
+        save(user, stamp);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void unlockUser(Long userId) {
+        User user = getUserByIdOrThrow(userId);
+        long stamp = user.getSecurityStamp();
+        user.setLocked(false);
+        save(user, stamp);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void changeRole(Long userId, Role role) {
+        // Validate the role
+        if (role == null)
+            throw new BadRequestException("Role must be provided", "ROLE_NOT_PROVIDED");
+        
+        User user = getUserByIdOrThrow(userId);
+        long stamp = user.getSecurityStamp();
+        user.setRole(role);
+        save(user, stamp);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private User getUserByIdOrThrow(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User with id " + userId + " not found", "USER_NOT_FOUND"));
+    }
+    
+    /**
+     * Saves a user and publishes its security stamp if it changed, so its old tokens are rejected.
+     *
+     * @param user          the changed user
+     * @param previousStamp the security stamp of the user before the change
+     */
+    private void save(User user, long previousStamp) {
+        userRepository.save(user);
+        if (user.getSecurityStamp() != previousStamp)
+            eventPublisher.publishEvent(new SecurityStampChangedEvent(user.getId(), user.getSecurityStamp(),
+                    user.getSecurityStampChangedAt()));
+    }
 }
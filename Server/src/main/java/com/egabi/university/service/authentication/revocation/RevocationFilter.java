@@ -0,0 +1,139 @@
+package com.egabi.university.service.authentication.revocation;
+
+import java.util.Map;
+
+/**
+ * Immutable, compact set of revoked token IDs.
+ * <p>
+ * Token IDs are reduced to 64-bit fingerprints kept in an open-addressing table next to their expiry, so a lookup
+ * hashes the ID and probes a couple of adjacent longs without allocating. A fingerprint collision between two live
+ * tokens is negligible at 64 bits. Entries are dropped when a new filter is built after their token has expired,
+ * since an expired token is rejected anyway.
+ * </p>
+ */
+public final class RevocationFilter {
+    
+    /**
+     * A filter holding no token ID.
+     */
+    public static final RevocationFilter EMPTY = new RevocationFilter(new long[2], new long[2], 0, Long.MAX_VALUE);
+    
+    private final long[] fingerprints;
+    private final long[] expiresAt;
+    private final int size;
+    private final long earliestExpiry;
+    
+    private RevocationFilter(long[] fingerprints, long[] expiresAt, int size, long earliestExpiry) {
+        this.fingerprints = fingerprints;
+        this.expiresAt = expiresAt;
+        this.size = size;
+        this.earliestExpiry = earliestExpiry;
+    }
+    
+    /**
+     * Checks whether a token ID was revoked.
+     *
+     * @param tokenId the token ID
+     * @return true if the token ID is in the filter
+     */
+    public boolean contains(String tokenId) {
+        long fingerprint = fingerprint(tokenId);
+        int mask = fingerprints.length - 1;
+        for (int i = index(fingerprint, mask); ; i = (i + 1) & mask) {
+            long current = fingerprints[i];
+            if (current == fingerprint)
+                return true;
+            if (current == 0)
+                return false;
+        }
+    }
+    
+    /**
+     * Builds a new filter holding the unexpired entries of this one and the given token IDs.
+     *
+     * @param additions the token IDs to add, with their expiry in epoch milliseconds
+     * @param now       the current time in epoch milliseconds
+     * @return the new filter
+     */
+    public RevocationFilter with(Map<String, Long> additions, long now) {
+        int capacity = Integer.highestOneBit(Math.max(4, (size + additions.size()) * 2 - 1)) << 1;
+        RevocationFilter next = new RevocationFilter(new long[capacity], new long[capacity], 0, Long.MAX_VALUE);
+        int count = 0;
+        long earliest = Long.MAX_VALUE;
+        
+        for (int i = 0; i < fingerprints.length; i++) {
+            if (fingerprints[i] != 0 && expiresAt[i] > now && next.insert(fingerprints[i], expiresAt[i])) {
+                count++;
+                earliest = Math.min(earliest, expiresAt[i]);
+            }
+        }
+        for (Map.Entry<String, Long> entry : additions.entrySet()) {
+            if (entry.getValue() > now && next.insert(fingerprint(entry.getKey()), entry.getValue())) {
+                count++;
+                earliest = Math.min(earliest, entry.getValue());
+            }
+        }
+        return new RevocationFilter(next.fingerprints, next.expiresAt, count, earliest);
+    }
+    
+    /**
+     * Checks whether some entries have expired and would be dropped by the next {@link #with(Map, long)}.
+     *
+     * @param now the current time in epoch milliseconds
+     * @return true if at least one entry has expired
+     */
+    public boolean hasExpired(long now) {
+        return earliestExpiry <= now;
+    }
+    
+    /**
+     * Returns the number of token IDs in the filter.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Inserts a fingerprint into this table, which must have room left.
+     *
+     * @return true if the fingerprint was not in the table yet
+     */
+    private boolean insert(long fingerprint, long expiry) {
+        int mask = fingerprints.length - 1;
+        for (int i = index(fingerprint, mask); ; i = (i + 1) & mask) {
+            if (fingerprints[i] == fingerprint) {
+                expiresAt[i] = Math.max(expiresAt[i], expiry);
+                return false;
+            }
+            if (fingerprints[i] == 0) {
+                fingerprints[i] = fingerprint;
+                expiresAt[i] = expiry;
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Returns the 64-bit FNV-1a hash of a token ID, never {@code 0} since it marks empty slots.
+     */
+    private static long fingerprint(String tokenId) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < tokenId.length(); i++) {
+            hash ^= tokenId.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+    
+    private static int index(long fingerprint, int mask) {
+        long mixed = fingerprint ^ (fingerprint >>> 33);
+        mixed *= 0xFF51AFD7ED558CCDL;
+        return (int) (mixed ^ (mixed >>> 33)) & mask;
+    }
+}
@@ -0,0 +1,107 @@
+package com.egabi.university.service.authentication.revocation;
+
+import com.egabi.university.config.SchedulingConfig;
+import com.egabi.university.event.SecurityStampChangedEvent;
+import com.egabi.university.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the security stamps of recently changed users in memory, so tokens authenticated from their claims alone
+ * are rejected once the user is locked, disabled or their role changes.
+ * <p>
+ * Only users whose stamp changed within the lifetime of an access token are kept: any older token carrying a stale
+ * stamp has expired anyway, so the map stays small. Like {@link TokenRevocationService}, changes made on this
+ * instance are applied at once and the other instances pick them up on their next incremental refresh.
+ * </p>
+ */
+@Component
+public class SecurityStampService {
+    
+    private final UserRepository userRepository;
+    private final Duration overlap;
+    private final Duration retention;
+    
+    /**
+     * Current stamp and change time in epoch millis of every recently changed user, by user ID.
+     */
+    private final Map<Long, long[]> stamps = new ConcurrentHashMap<>();
+    
+    /**
+     * Start time of the last refresh, {@link Instant#EPOCH} until the first one loads every retained change.
+     */
+    private Instant lastRefresh = Instant.EPOCH;
+    
+    public SecurityStampService(UserRepository userRepository,
+                                @Value("${jwt.revocation.overlap:PT30S}") Duration overlap,
+                                @Value("${jwt.expiration.time}") long accessTokenExpirationMillis) {
+        this.userRepository = userRepository;
+        this.overlap = overlap;
+        this.retention = Duration.ofMillis(accessTokenExpirationMillis).plus(overlap);
+    }
+    
+    /**
+     * Checks whether a token carrying the given stamp is still current for the user.
+     *
+     * @param userId the ID of the user
+     * @param stamp  the security stamp carried by the token
+     * @return false if the stamp of the user changed since the token was issued
+     */
+    public boolean isCurrent(long userId, long stamp) {
+        long[] current = stamps.get(userId);
+        return current == null || stamp >= current[0];
+    }
+    
+    /**
+     * Applies the stamp of a changed user on this instance once the change is committed.
+     *
+     * @param event the security stamp change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSecurityStampChanged(SecurityStampChangedEvent event) {
+        record(event.userId(), event.stamp(), event.changedAt().toEpochMilli());
+    }
+    
+    /**
+     * Reads the stamps changed since the previous refresh and drops the changes older than an access token.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:PT5S}",
+            scheduler = SchedulingConfig.REVOCATION_SCHEDULER)
+    public synchronized void refresh() {
+        Instant now = Instant.now();
+        Instant since = lastRefresh.equals(Instant.EPOCH) ? now.minus(retention) : lastRefresh.minus(overlap);
+        List<Object[]> rows = userRepository.findSecurityStampsChangedSince(since);
+        lastRefresh = now;
+        
+        for (Object[] row : rows)
+            record((Long) row[0], (Long) row[1], ((Instant) row[2]).toEpochMilli());
+        
+        long cutoff = now.minus(retention).toEpochMilli();
+        stamps.values().removeIf(current -> current[1] < cutoff);
+    }
+    
+    /**
+     * Returns the number of users whose stamp is held in memory.
+     *
+     * @return the number of recently changed users
+     */
+    public int size() {
+        return stamps.size();
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private void record(long userId, long stamp, long changedAt) {
+        stamps.merge(userId, new long[]{stamp, changedAt}, (current, update) -> update[0] >= current[0] ? update : current);
+    }
+}
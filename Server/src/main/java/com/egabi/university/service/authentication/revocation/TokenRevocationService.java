@@ -0,0 +1,112 @@
+package com.egabi.university.service.authentication.revocation;
+
+import com.egabi.university.config.SchedulingConfig;
+import com.egabi.university.entity.authentication.RevokedToken;
+import com.egabi.university.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the IDs of revoked access tokens in an in-memory {@link RevocationFilter}, so requests are checked without
+ * touching the database.
+ * <p>
+ * Revocations are written to the database and added to the local filter at once; the other instances pick them up
+ * on their next incremental refresh, which reads the revocations made since the previous refresh. The read window
+ * overlaps the previous one by {@code jwt.revocation.overlap}, so a revocation committed late is still seen.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TokenRevocationService {
+    
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration overlap;
+    
+    /**
+     * Current filter snapshot. Readers use it without locking; writers replace it under the instance lock.
+     */
+    private volatile RevocationFilter filter = RevocationFilter.EMPTY;
+    
+    /**
+     * Start time of the last refresh, {@link Instant#EPOCH} until the first one loads every live revocation.
+     */
+    private Instant lastRefresh = Instant.EPOCH;
+    
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${jwt.revocation.overlap:PT30S}") Duration overlap) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.overlap = overlap;
+    }
+    
+    /**
+     * Checks whether an access token was revoked.
+     *
+     * @param tokenId the ID of the token
+     * @return true if the token was revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && filter.contains(tokenId);
+    }
+    
+    /**
+     * Revokes an access token until it expires.
+     * Joins the current transaction if there is one.
+     *
+     * @param tokenId   the ID of the token
+     * @param expiresAt the expiry of the token
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!expiresAt.isAfter(now))
+            return;
+        
+        transactionTemplate.executeWithoutResult(status -> revokedTokenRepository.save(
+                RevokedToken.builder().tokenId(tokenId).expiresAt(expiresAt).revokedAt(now).build()));
+        synchronized (this) {
+            filter = filter.with(Map.of(tokenId, expiresAt.toEpochMilli()), now.toEpochMilli());
+        }
+    }
+    
+    /**
+     * Adds the revocations made since the previous refresh to the filter, dropping the expired ones.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:PT5S}",
+            scheduler = SchedulingConfig.REVOCATION_SCHEDULER)
+    public synchronized void refresh() {
+        Instant now = Instant.now();
+        Instant since = lastRefresh.equals(Instant.EPOCH) ? Instant.EPOCH : lastRefresh.minus(overlap);
+        List<Object[]> rows = revokedTokenRepository.findRevokedSince(since, now);
+        lastRefresh = now;
+        
+        long nowMillis = now.toEpochMilli();
+        if (rows.isEmpty() && !filter.hasExpired(nowMillis))
+            return;
+        
+        Map<String, Long> additions = new HashMap<>();
+        for (Object[] row : rows)
+            additions.put((String) row[0], ((Instant) row[1]).toEpochMilli());
+        filter = filter.with(additions, nowMillis);
+    }
+    
+    /**
+     * Deletes the revocations of tokens that have expired.
+     */
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 */30 * * * *}")
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(Instant.now()));
+        log.debug("Purged {} expired token revocations", deleted);
+    }
+}
@@ -0,0 +1,108 @@
+package com.egabi.university.service.authentication.throttle;
+
+import com.egabi.university.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Throttles failed logins per email and per client IP address.
+ * <p>
+ * Failures are counted in sliding windows kept in two {@link SlidingWindowSketch}es, so memory stays fixed under
+ * credential-stuffing traffic. Once an email or an IP address crosses its threshold it is blocked, and every further
+ * failure doubles the block. Blocked logins are rejected before the password is hashed. A successful login does not
+ * clear the failures of its email, as that would clear them for every email sharing its slots; they expire with the
+ * window instead.
+ * </p>
+ */
+@Component
+public class LoginThrottle {
+    
+    private final SlidingWindowSketch emailFailures;
+    private final SlidingWindowSketch ipFailures;
+    private final int maxEmailFailures;
+    private final int maxIpFailures;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final LongSupplier clock;
+    
+    @Autowired
+    public LoginThrottle(@Value("${auth.throttle.email.max-failures:5}") int maxEmailFailures,
+                         @Value("${auth.throttle.ip.max-failures:20}") int maxIpFailures,
+                         @Value("${auth.throttle.window:PT15M}") Duration window,
+                         @Value("${auth.throttle.base-backoff:PT1S}") Duration baseBackoff,
+                         @Value("${auth.throttle.max-backoff:PT15M}") Duration maxBackoff,
+                         @Value("${auth.throttle.slots:16384}") int slots) {
+        this(maxEmailFailures, maxIpFailures, window, baseBackoff, maxBackoff, slots, System::currentTimeMillis);
+    }
+    
+    LoginThrottle(int maxEmailFailures, int maxIpFailures, Duration window, Duration baseBackoff, Duration maxBackoff,
+                  int slots, LongSupplier clock) {
+        this.emailFailures = new SlidingWindowSketch(slots, window.toMillis());
+        this.ipFailures = new SlidingWindowSketch(slots, window.toMillis());
+        this.maxEmailFailures = maxEmailFailures;
+        this.maxIpFailures = maxIpFailures;
+        this.baseBackoffMillis = baseBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.clock = clock;
+    }
+    
+    /**
+     * Rejects a login attempt while its email or IP address is blocked.
+     *
+     * @param email    the email of the attempt
+     * @param clientIp the IP address of the client
+     * @throws TooManyRequestsException if the email or the IP address is blocked
+     */
+    public void assertAllowed(String email, String clientIp) {
+        long now = clock.getAsLong();
+        long until = Math.max(emailFailures.blockedUntil(normalize(email)), ipFailures.blockedUntil(normalize(clientIp)));
+        if (until > now) {
+            long retryAfter = Math.max(1, (until - now + 999) / 1000);
+            throw new TooManyRequestsException("Too many failed login attempts, retry in " + retryAfter + " seconds",
+                    "LOGIN_THROTTLED", retryAfter);
+        }
+    }
+    
+    /**
+     * Counts a failed login attempt, blocking its email or IP address once over the threshold.
+     *
+     * @param email    the email of the attempt
+     * @param clientIp the IP address of the client
+     */
+    public void recordFailure(String email, String clientIp) {
+        long now = clock.getAsLong();
+        recordFailure(emailFailures, normalize(email), maxEmailFailures, now);
+        recordFailure(ipFailures, normalize(clientIp), maxIpFailures, now);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Counts a failure of a key and blocks it for a backoff doubling with every failure over the threshold.
+     *
+     * @param failures    the sketch counting the failures
+     * @param key         the email or IP address
+     * @param maxFailures the number of failures allowed in the window
+     * @param now         the current time in milliseconds
+     */
+    private void recordFailure(SlidingWindowSketch failures, String key, int maxFailures, long now) {
+        long count = failures.record(key, now);
+        if (count < maxFailures)
+            return;
+        
+        long excess = Math.min(count - maxFailures, 30);
+        long backoff = Math.min(maxBackoffMillis, baseBackoffMillis << excess);
+        failures.blockUntil(key, now + (backoff < 0 ? maxBackoffMillis : backoff));
+    }
+    
+    private static String normalize(String key) {
+        return key == null ? "" : key.trim().toLowerCase(Locale.ROOT);
+    }
+}
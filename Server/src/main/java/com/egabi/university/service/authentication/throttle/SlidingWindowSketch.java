@@ -0,0 +1,187 @@
+package com.egabi.university.service.authentication.throttle;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free sketch of sliding-window counters.
+ * <p>
+ * Keys are not stored: each key is hashed into one slot of every row, like a count-min sketch, and its count is the
+ * smallest count among its slots. Memory is therefore fixed whatever the number of keys. Every row hashes the UTF-8
+ * bytes of the key with its own random seed, so keys sharing a slot in one row are unlikely to share one in the other
+ * and such keys cannot be chosen in advance. Counts and blocks are never lowered for a single key, as that would
+ * lower them for every key sharing its slots: colliding keys can only overestimate each other. Each slot packs the index of its current window with the counts
+ * of the current and previous windows into one long, and the sliding count weighs the previous window by the part
+ * of it that is still inside the sliding window.
+ * </p>
+ */
+public final class SlidingWindowSketch {
+    
+    private static final int ROWS = 2;
+    private static final long MAX_COUNT = 0xFFFF;
+    
+    private final long[] seeds;
+    private final int mask;
+    private final long windowMillis;
+    private final AtomicLongArray counters;
+    private final AtomicLongArray blockedUntil;
+    
+    /**
+     * Creates an empty sketch.
+     *
+     * @param slots        the number of slots per row, rounded up to a power of two
+     * @param windowMillis the length of the sliding window in milliseconds
+     */
+    public SlidingWindowSketch(int slots, long windowMillis) {
+        this(slots, windowMillis, new SecureRandom().longs(ROWS).toArray());
+    }
+    
+    /**
+     * Creates an empty sketch hashing its rows with the given seeds.
+     *
+     * @param slots        the number of slots per row, rounded up to a power of two
+     * @param windowMillis the length of the sliding window in milliseconds
+     * @param seeds        the seed of the hash of every row
+     */
+    SlidingWindowSketch(int slots, long windowMillis, long[] seeds) {
+        int size = Integer.highestOneBit(Math.max(2, slots - 1)) << 1;
+        this.seeds = seeds.clone();
+        this.mask = size - 1;
+        this.windowMillis = windowMillis;
+        this.counters = new AtomicLongArray(ROWS * size);
+        this.blockedUntil = new AtomicLongArray(ROWS * size);
+    }
+    
+    /**
+     * Counts one event for a key.
+     *
+     * @param key the key
+     * @param now the current time in milliseconds
+     * @return the number of events of the key in the sliding window, including this one
+     */
+    public long record(String key, long now) {
+        byte[] bytes = bytes(key);
+        long window = now / windowMillis;
+        long count = Long.MAX_VALUE;
+        for (int row = 0; row < ROWS; row++) {
+            int slot = slot(bytes, row);
+            long current;
+            long next;
+            do {
+                current = counters.get(slot);
+                next = increment(current, window);
+            } while (!counters.compareAndSet(slot, current, next));
+            count = Math.min(count, slidingCount(next, now));
+        }
+        return count;
+    }
+    
+    /**
+     * Returns the number of events of a key in the sliding window.
+     *
+     * @param key the key
+     * @param now the current time in milliseconds
+     * @return the estimated number of events
+     */
+    public long count(String key, long now) {
+        byte[] bytes = bytes(key);
+        long count = Long.MAX_VALUE;
+        for (int row = 0; row < ROWS; row++)
+            count = Math.min(count, slidingCount(counters.get(slot(bytes, row)), now));
+        return count;
+    }
+    
+    /**
+     * Blocks a key until the given time, unless it is already blocked for longer.
+     *
+     * @param key   the key
+     * @param until the time in milliseconds until which the key is blocked
+     */
+    public void blockUntil(String key, long until) {
+        byte[] bytes = bytes(key);
+        for (int row = 0; row < ROWS; row++)
+            blockedUntil.accumulateAndGet(slot(bytes, row), until, Math::max);
+    }
+    
+    /**
+     * Returns the time until which a key is blocked.
+     *
+     * @param key the key
+     * @return the time in milliseconds, in the past if the key is not blocked
+     */
+    public long blockedUntil(String key) {
+        byte[] bytes = bytes(key);
+        long until = Long.MAX_VALUE;
+        for (int row = 0; row < ROWS; row++)
+            until = Math.min(until, blockedUntil.get(slot(bytes, row)));
+        return until;
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Returns the index of the slot of a key in a row, hashing its bytes with the seed of the row.
+     */
+    private int slot(byte[] key, int row) {
+        long hash = seeds[row];
+        for (byte b : key) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= key.length;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return row * (mask + 1) + ((int) hash & mask);
+    }
+    
+    /**
+     * Adds one event to a packed slot, rolling its windows forward if needed.
+     */
+    private static long increment(long packed, long window) {
+        long slotWindow = packed >>> 32;
+        long previous = (packed >>> 16) & MAX_COUNT;
+        long current = packed & MAX_COUNT;
+        long windowBits = window & 0xFFFFFFFFL;
+        
+        if (slotWindow == windowBits)
+            return pack(windowBits, previous, Math.min(MAX_COUNT, current + 1));
+        if (slotWindow == ((windowBits - 1) & 0xFFFFFFFFL))
+            return pack(windowBits, current, 1);
+        return pack(windowBits, 0, 1);
+    }
+    
+    /**
+     * Returns the sliding count of a packed slot at the given time.
+     */
+    private long slidingCount(long packed, long now) {
+        long windowBits = (now / windowMillis) & 0xFFFFFFFFL;
+        long slotWindow = packed >>> 32;
+        long previous = (packed >>> 16) & MAX_COUNT;
+        long current = packed & MAX_COUNT;
+        
+        if (slotWindow == windowBits) {
+            // Weigh the previous window by the part of it still inside the sliding window
+            long remaining = windowMillis - now % windowMillis;
+            return current + previous * remaining / windowMillis;
+        }
+        if (slotWindow == ((windowBits - 1) & 0xFFFFFFFFL)) {
+            long remaining = windowMillis - now % windowMillis;
+            return current * remaining / windowMillis;
+        }
+        return 0;
+    }
+    
+    private static long pack(long window, long previous, long current) {
+        return window << 32 | previous << 16 | current;
+    }
+}
@@ -0,0 +1,112 @@
+package com.egabi.university.service.counter;
+
+import com.egabi.university.entity.EntityCounter.Counter;
+import com.egabi.university.repository.EntityCounterRepository;
+import com.egabi.university.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Background job that verifies every denormalized counter against a fresh count and repairs any drift.
+ * <p>
+ * The counter table is locked against updates while a counter is checked. A transaction that already updated the
+ * counter is waited for, and one that has not yet done so blocks until the repair commits, so the fresh count and
+ * the counter always describe the same committed state. A drifted counter is replaced by a single exact shard.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EntityCounterRepairJob {
+    
+    private final EntityCounterRepository entityCounterRepository;
+    private final StudentRepository studentRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    public EntityCounterRepairJob(EntityCounterRepository entityCounterRepository,
+                                  StudentRepository studentRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.entityCounterRepository = entityCounterRepository;
+        this.studentRepository = studentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Verifies and repairs every counter, one counter per transaction.
+     * Also runs on startup, which initializes the counters of an existing database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${counters.repair.cron:0 30 3 * * *}")
+    public void repairAll() {
+        for (Counter counter : Counter.values()) {
+            try {
+                Integer repaired = transactionTemplate.execute(status -> repair(counter));
+                if (repaired != null && repaired > 0)
+                    log.warn("Repaired {} drifted {} counters", repaired, counter);
+            } catch (RuntimeException e) {
+                log.warn("Failed to verify the {} counters", counter, e);
+            }
+        }
+    }
+    
+    /**
+     * Compares a counter of every owner with a fresh count and rewrites the drifted ones.
+     *
+     * @param counter the counter to verify
+     * @return the number of repaired owners
+     */
+    int repair(Counter counter) {
+        entityCounterRepository.lockAgainstUpdates();
+        
+        Map<Long, Long> expected = toMap(count(counter));
+        Map<Long, Long> actual = toMap(entityCounterRepository.sumAllGroupedByOwner(counter));
+        
+        Set<Long> owners = new HashSet<>(expected.keySet());
+        owners.addAll(actual.keySet());
+        int repaired = 0;
+        for (Long ownerId : owners) {
+            long expectedValue = expected.getOrDefault(ownerId, 0L);
+            if (expectedValue == actual.getOrDefault(ownerId, 0L))
+                continue;
+            entityCounterRepository.deleteAllByOwner(counter, ownerId);
+            if (expectedValue != 0)
+                entityCounterRepository.increment(counter.name(), ownerId, 0, expectedValue);
+            repaired++;
+        }
+        return repaired;
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Counts the current value of a counter for every owner from the counted table.
+     *
+     * @param counter the counter
+     * @return List of owner IDs with their counts
+     */
+    private List<Object[]> count(Counter counter) {
+        return switch (counter) {
+            case FACULTY_STUDENTS -> studentRepository.countAllGroupedByFacultyId();
+            case DEPARTMENT_STUDENTS -> studentRepository.countAllGroupedByDepartmentId();
+        };
+    }
+    
+    private static Map<Long, Long> toMap(List<Object[]> rows) {
+        Map<Long, Long> values = new HashMap<>();
+        for (Object[] row : rows)
+            values.put((Long) row[0], ((Number) row[1]).longValue());
+        return values;
+    }
+}
@@ -0,0 +1,33 @@
+package com.egabi.university.service.counter;
+
+import com.egabi.university.entity.EntityCounter.Counter;
+
+public interface EntityCounterService {
+    
+    /**
+     * Add a delta to a counter.
+     * Must be called inside the transaction that applies the counted change, so both are committed or rolled back together.
+     *
+     * @param counter the counter
+     * @param ownerId the ID of the entity owning the counter
+     * @param delta   the value to add, negative to subtract
+     */
+    void increment(Counter counter, Long ownerId, long delta);
+    
+    /**
+     * Get the value of a counter.
+     *
+     * @param counter the counter
+     * @param ownerId the ID of the entity owning the counter
+     * @return the counter value, 0 if it was never incremented
+     */
+    long get(Counter counter, Long ownerId);
+    
+    /**
+     * Delete a counter, typically together with the entity owning it.
+     *
+     * @param counter the counter
+     * @param ownerId the ID of the entity owning the counter
+     */
+    void delete(Counter counter, Long ownerId);
+}
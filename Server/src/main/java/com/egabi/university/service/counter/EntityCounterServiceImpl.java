@@ -0,0 +1,56 @@
+package com.egabi.university.service.counter;
+
+import com.egabi.university.entity.EntityCounter.Counter;
+import com.egabi.university.repository.EntityCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Default implementation of {@link EntityCounterService}.
+ * Each increment goes to a random shard of the counter, so concurrent transactions updating the same counter
+ * rarely wait on each other; reads sum the shards.
+ */
+@Service
+public class EntityCounterServiceImpl implements EntityCounterService {
+    
+    private final EntityCounterRepository entityCounterRepository;
+    private final int shards;
+    
+    public EntityCounterServiceImpl(EntityCounterRepository entityCounterRepository,
+                                    @Value("${counters.shards:8}") int shards) {
+        this.entityCounterRepository = entityCounterRepository;
+        this.shards = Math.max(1, shards);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(Counter counter, Long ownerId, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(shards);
+        entityCounterRepository.increment(counter.name(), ownerId, shard, delta);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long get(Counter counter, Long ownerId) {
+        return entityCounterRepository.sumByOwner(counter, ownerId);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(Counter counter, Long ownerId) {
+        entityCounterRepository.deleteAllByOwner(counter, ownerId);
+    }
+}
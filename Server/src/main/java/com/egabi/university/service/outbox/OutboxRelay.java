@@ -0,0 +1,165 @@
+package com.egabi.university.service.outbox;
+
+import com.egabi.university.entity.OutboxCursor;
+import com.egabi.university.entity.OutboxRecord;
+import com.egabi.university.repository.OutboxCursorRepository;
+import com.egabi.university.repository.OutboxRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Background relay that delivers outbox records to every {@link OutboxSubscriber}.
+ * <p>
+ * Each subscriber has its own durable cursor, so a failing subscriber only delays itself. A batch is delivered and
+ * the cursor advanced in one transaction holding the cursor row lock. Record IDs are assigned on insert but become
+ * visible on commit, so a missing ID may belong to a transaction still in flight: delivery stops at such a gap until
+ * it is filled or has been missing for the settle time, after which the ID is assumed rolled back. The settle time
+ * runs from when the relay first saw the ID missing for that subscriber, as the records around the gap say nothing
+ * about how long the transaction holding it has been open.
+ * </p>
+ * <p>
+ * Cursors of {@linkplain OutboxSubscriber#isLocal() local} subscribers are kept in memory, so every instance delivers
+ * every record to its own local subscribers. They do not hold back the purge of delivered records.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    
+    private final OutboxRecordRepository outboxRecordRepository;
+    private final OutboxCursorRepository outboxCursorRepository;
+    private final List<OutboxSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration settleTime;
+    private final Duration retention;
+    
+    /**
+     * When each missing record ID was first seen, by subscriber name.
+     */
+    private final Map<String, NavigableMap<Long, Instant>> gaps = new ConcurrentHashMap<>();
+    
+    /**
+     * Cursors of the local subscribers, by subscriber name.
+     */
+    private final Map<String, OutboxCursor> localCursors = new ConcurrentHashMap<>();
+    
+    public OutboxRelay(OutboxRecordRepository outboxRecordRepository,
+                       OutboxCursorRepository outboxCursorRepository,
+                       List<OutboxSubscriber> subscribers,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.settle-time:PT5S}") Duration settleTime,
+                       @Value("${outbox.retention:P7D}") Duration retention) {
+        this.outboxRecordRepository = outboxRecordRepository;
+        this.outboxCursorRepository = outboxCursorRepository;
+        this.subscribers = List.copyOf(subscribers);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.settleTime = settleTime;
+        this.retention = retention;
+    }
+    
+    /**
+     * Delivers every pending record to every subscriber, then purges the records all of them have processed.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1000}")
+    public void relay() {
+        for (OutboxSubscriber subscriber : subscribers) {
+            try {
+                while (Boolean.TRUE.equals(transactionTemplate.execute(status -> deliverBatch(subscriber, Instant.now())))) {
+                    // A full batch was delivered, more records may be waiting
+                }
+            } catch (RuntimeException e) {
+                log.warn("Outbox subscriber {} failed, its batch will be redelivered", subscriber.name(), e);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> purge());
+    }
+    
+    /**
+     * Delivers the next batch of records to a subscriber and advances its cursor.
+     *
+     * @param subscriber the subscriber to deliver to
+     * @param now        the current time
+     * @return {@code true} if a full batch was delivered
+     */
+    boolean deliverBatch(OutboxSubscriber subscriber, Instant now) {
+        OutboxCursor cursor = subscriber.isLocal()
+                ? localCursors.computeIfAbsent(subscriber.name(), name -> new OutboxCursor(name, 0L))
+                : outboxCursorRepository.findForUpdate(subscriber.name())
+                .orElseGet(() -> outboxCursorRepository.save(new OutboxCursor(subscriber.name(), 0L)));
+        
+        // Take the records up to the first gap that may still be filled by an in-flight transaction
+        List<OutboxRecord> records = outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor.getLastRecordId(), Limit.of(batchSize));
+        NavigableMap<Long, Instant> missing = gaps.computeIfAbsent(subscriber.name(), name -> new TreeMap<>());
+        Instant settled = now.minus(settleTime);
+        long expectedId = cursor.getLastRecordId() + 1;
+        int deliverable = 0;
+        for (OutboxRecord record : records) {
+            if (!isSettled(missing, expectedId, record.getId(), now, settled))
+                break;
+            expectedId = record.getId() + 1;
+            deliverable++;
+        }
+        if (deliverable == 0)
+            return false;
+        
+        // Deliver and move the cursor, both committed or rolled back together
+        List<OutboxRecord> batch = records.subList(0, deliverable);
+        subscriber.onRecords(batch);
+        cursor.setLastRecordId(batch.get(deliverable - 1).getId());
+        if (!subscriber.isLocal())
+            outboxCursorRepository.save(cursor);
+        missing.headMap(cursor.getLastRecordId(), true).clear();
+        return deliverable == batchSize;
+    }
+    
+    /**
+     * Checks whether the IDs missing before a record have all been missing for the settle time, noting when the ones
+     * not seen before were first seen.
+     *
+     * @param missing    when each missing ID was first seen
+     * @param expectedId the first ID not delivered yet
+     * @param recordId   the ID of the next record
+     * @param now        the current time
+     * @param settled    the latest first-seen time of a settled ID
+     * @return {@code true} if no ID is missing or every missing ID is settled
+     */
+    private static boolean isSettled(NavigableMap<Long, Instant> missing, long expectedId, long recordId,
+                                     Instant now, Instant settled) {
+        boolean isSettled = true;
+        for (long id = expectedId; id < recordId; id++)
+            isSettled &= !missing.computeIfAbsent(id, key -> now).isAfter(settled);
+        return isSettled;
+    }
+    
+    /**
+     * Deletes the records older than the retention period that every subscriber has processed.
+     */
+    private void purge() {
+        List<String> durableSubscriberNames = subscribers.stream()
+                .filter(subscriber -> !subscriber.isLocal())
+                .map(OutboxSubscriber::name)
+                .toList();
+        Long maxId = Long.MAX_VALUE;
+        if (!durableSubscriberNames.isEmpty())
+            maxId = outboxCursorRepository.findMinimumLastRecordId(durableSubscriberNames);
+        if (maxId != null)
+            outboxRecordRepository.deleteDelivered(maxId, Instant.now().minus(retention));
+    }
+}
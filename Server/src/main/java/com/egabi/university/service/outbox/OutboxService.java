@@ -0,0 +1,17 @@
+package com.egabi.university.service.outbox;
+
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.ChangeType;
+
+public interface OutboxService {
+    
+    /**
+     * Append a change record to the outbox.
+     * Must be called inside the transaction that applies the change, so the record is committed or rolled back with it.
+     *
+     * @param aggregateType the kind of the changed entity
+     * @param aggregateId   the ID of the changed entity
+     * @param changeType    the kind of change
+     */
+    void record(AggregateType aggregateType, Object aggregateId, ChangeType changeType);
+}
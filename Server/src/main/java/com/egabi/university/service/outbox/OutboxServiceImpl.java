@@ -0,0 +1,37 @@
+package com.egabi.university.service.outbox;
+
+import com.egabi.university.entity.OutboxRecord;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.repository.OutboxRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Default implementation of {@link OutboxService}.
+ * Joins the caller's transaction and refuses to run without one.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+    
+    private final OutboxRecordRepository outboxRecordRepository;
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(AggregateType aggregateType, Object aggregateId, ChangeType changeType) {
+        outboxRecordRepository.save(OutboxRecord.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .changeType(changeType)
+                .createdAt(Instant.now())
+                .build());
+    }
+}
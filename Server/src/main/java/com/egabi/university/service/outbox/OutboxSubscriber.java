@@ -0,0 +1,41 @@
+package com.egabi.university.service.outbox;
+
+import com.egabi.university.entity.OutboxRecord;
+
+import java.util.List;
+
+/**
+ * In-process consumer of outbox records.
+ * <p>
+ * Every Spring bean implementing this interface is picked up by the {@link OutboxRelay}. Delivery is at-least-once:
+ * a batch is redelivered when the subscriber throws or the application stops before the cursor is saved,
+ * so processing must be idempotent.
+ * </p>
+ */
+public interface OutboxSubscriber {
+    
+    /**
+     * The unique, stable name of the subscriber, used as the key of its durable cursor.
+     *
+     * @return the subscriber name
+     */
+    String name();
+    
+    /**
+     * Processes a batch of records, ordered by ID.
+     *
+     * @param records the records to process
+     */
+    void onRecords(List<OutboxRecord> records);
+    
+    /**
+     * Whether the subscriber maintains state of this application instance only, such as an in-memory cache.
+     * A local subscriber gets every record on every instance: its cursor is kept in memory rather than shared through
+     * the database, and starts over from the oldest retained record when the application starts.
+     *
+     * @return {@code true} if the subscriber is local to this instance
+     */
+    default boolean isLocal() {
+        return false;
+    }
+}
@@ -2,17 +2,23 @@ package com.egabi.university.service.validation;
 
 import com.egabi.university.entity.*;
 import com.egabi.university.entity.authentication.User;
+import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 
 /**
  * ValidationService provides methods to validate the existence and uniqueness of various entities
  * in the university system, such as Faculty, Level, Department, Student, Course, Instructor,
- * Enrollment, and User.
+ * Enrollment, Term, and User.
  * It throws appropriate exceptions when validation fails.
  */
 public interface ValidationService {
     
+    /**
+     * Maximum number of keys accepted by a multi-get request.
+     */
+    int MAX_MULTI_GET_KEYS = 500;
+    
     // ============================
     // Faculty
     // ============================
@@ -204,6 +210,29 @@ public interface ValidationService {
      */
     void assertEnrollmentExists(EnrollmentId enrollmentId, boolean shouldExist);
     
+    // ============================
+    // Term
+    // ============================
+    
+    /**
+     * Validates that a Term exists for the given ID.
+     * If not, throws a NotFoundException.
+     *
+     * @param termId the ID of the term to validate
+     * @return the Term entity if found
+     * @throws NotFoundException if the term does not exist
+     */
+    Term getTermByIdOrThrow(Long termId);
+    
+    /**
+     * Validates that a term code is unique.
+     * If not, throws a ConflictException.
+     *
+     * @param code the term code to validate
+     * @throws ConflictException if the code already exists
+     */
+    void assertTermCodeUnique(String code);
+    
     // ============================
     // User
     // ============================
@@ -266,5 +295,13 @@ public interface ValidationService {
      * @throws NotFoundException if the grade is not valid
      */
     void validateGradeInRange(Double grade);
+    
+    /**
+     * Validates the keys of a multi-get request: at least one and at most {@link #MAX_MULTI_GET_KEYS} keys.
+     * If not, throws a BadRequestException.
+     *
+     * @param keyCount the number of distinct requested keys
+     * @throws BadRequestException if the key count is out of range
+     */
+    void assertMultiGetKeyCount(int keyCount);
 }
-
@@ -25,6 +25,7 @@ public class ValidationServiceImpl implements ValidationService {
     private final CourseRepository courseRepository;
     private final InstructorRepository instructorRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final TermRepository termRepository;
     private final UserRepository userRepository;
     
     // ============================
@@ -247,6 +248,29 @@ public class ValidationServiceImpl implements ValidationService {
         }
     }
     
+    // ============================
+    // Term
+    // ============================
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Term getTermByIdOrThrow(Long termId) {
+        return termRepository.findById(termId)
+                .orElseThrow(() -> new NotFoundException("Term with id " + termId + " not found", "TERM_NOT_FOUND"));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertTermCodeUnique(String code) {
+        boolean codeExists = termRepository.existsByCodeIgnoreCase(code);
+        if (codeExists)
+            throw new ConflictException("Term with code " + code + " already exists", "TERM_ALREADY_EXISTS");
+    }
+    
     // ============================
     // User
     // ============================
@@ -326,4 +350,16 @@ public class ValidationServiceImpl implements ValidationService {
                     "Grade " + grade + " is Invalid, grade must be between 0.00 and 100.00",
                     "INVALID_GRADE");
     }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void assertMultiGetKeyCount(int keyCount) {
+        if (keyCount == 0)
+            throw new BadRequestException("At least one key must be requested", "KEYS_NOT_PROVIDED");
+        if (keyCount > MAX_MULTI_GET_KEYS)
+            throw new BadRequestException("At most " + MAX_MULTI_GET_KEYS + " keys can be requested at once, got "
+                    + keyCount, "TOO_MANY_KEYS");
+    }
 }
@@ -63,6 +63,18 @@ public final class ApiPaths {
      */
     public static final String ENROLLMENTS = BASE_API + "/enrollments";
     
+    /**
+     * Path for Term-related endpoints.
+     * Example: /api/terms
+     */
+    public static final String TERMS = BASE_API + "/terms";
+    
+    /**
+     * Path for User account-related endpoints.
+     * Example: /api/users
+     */
+    public static final String USERS = BASE_API + "/users";
+    
     /**
      * Path for Auth-related endpoints.
      * Example: /api/auth
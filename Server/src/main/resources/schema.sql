@@ -0,0 +1,83 @@
+-- ================================
+-- Term-partitioned enrollments
+-- ================================
+-- Hibernate cannot create partitioned tables, so the enrollment table is created here, before the entity manager
+-- starts and updates the rest of the schema. Statements are separated by @@ since function bodies contain semicolons.
+create table if not exists term (
+    id         bigint generated by default as identity primary key,
+    code       varchar(255) not null unique,
+    start_date date         not null,
+    end_date   date         not null,
+    status     varchar(16)  not null
+)@@
+
+create or replace function enrollment_reject_frozen_term() returns trigger
+    language plpgsql as
+$$
+begin
+    raise exception 'Enrollments of term % are frozen', new.term_id using errcode = 'read_only_sql_transaction';
+end
+$$@@
+
+-- Replace an unpartitioned enrollment table by the partitioned one, moving its rows into a LEGACY term
+do
+$$
+declare
+    legacy_term_id bigint;
+begin
+    if exists (select 1 from pg_partitioned_table where partrelid = to_regclass('enrollment')) then
+        return;
+    end if;
+    
+    if to_regclass('enrollment') is not null then
+        alter table enrollment rename to enrollment_unpartitioned;
+    end if;
+    
+    create table enrollment (
+        term_id     bigint       not null,
+        student_id  bigint       not null,
+        course_code varchar(255) not null,
+        grade       float(53),
+        primary key (term_id, student_id, course_code)
+    ) partition by list (term_id);
+    create index idx_enrollment_student_id on enrollment (student_id);
+    create index idx_enrollment_course_code on enrollment (course_code);
+    create table enrollment_default partition of enrollment default;
+    
+    if to_regclass('enrollment_unpartitioned') is not null then
+        insert into term (code, start_date, end_date, status)
+        values ('LEGACY', date '1970-01-01', current_date, 'OPEN')
+        returning id into legacy_term_id;
+        execute format('create table enrollment_term_%s partition of enrollment for values in (%s)',
+                       legacy_term_id, legacy_term_id);
+        insert into enrollment (term_id, student_id, course_code, grade)
+        select legacy_term_id, student_id, course_code, grade from enrollment_unpartitioned;
+        drop table enrollment_unpartitioned;
+    end if;
+end
+$$@@
+
+-- Open a first term on a fresh install, so enrollments have a current term to go into
+do
+$$
+declare
+    initial_term_id bigint;
+begin
+    if exists (select 1 from term) then
+        return;
+    end if;
+    
+    insert into term (code, start_date, end_date, status)
+    values ('INITIAL', current_date, (current_date + interval '1 year')::date, 'OPEN')
+    returning id into initial_term_id;
+    execute format('create table if not exists enrollment_term_%s partition of enrollment for values in (%s)',
+                   initial_term_id, initial_term_id);
+end
+$$@@
+
+-- ================================
+-- Outbox
+-- ================================
+-- Hibernate only creates the check constraint listing the aggregate types along with the table, and never updates
+-- it, so the constraint of an existing table would reject aggregate types added since.
+alter table if exists outbox drop constraint if exists outbox_aggregate_type_check@@
@@ -0,0 +1,176 @@
+package com.egabi.university.benchmark;
+
+import com.egabi.university.config.pool.AdaptivePoolProperties;
+import com.egabi.university.config.pool.AdaptivePoolSizeController;
+import com.egabi.university.config.querylog.SlowQueryLog;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load-test scenario comparing the tail latency of bursty traffic with a fixed and an adaptive connection pool.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark} against the PostgreSQL database of the application. Requests hold a
+ * connection for a short {@code pg_sleep} and arrive at a fixed rate, alternating bursts above the capacity of the
+ * configured pool with quiet periods. Latencies are measured from the time each request was due, so the requests
+ * delayed by the queue are counted as a client would see them. The scenario runs once with the configured maximum
+ * pool size and once with an {@link AdaptivePoolSizeController} adjusting it every {@link #ADJUST_INTERVAL}.
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class AdaptivePoolLoadBenchmarkTest {
+    
+    private static final String QUERY = "select pg_sleep(0.004)";
+    private static final int BURSTS = 5;
+    private static final Duration BURST = Duration.ofSeconds(2);
+    private static final Duration QUIET = Duration.ofSeconds(1);
+    private static final int BURST_RATE = 3_000;
+    private static final int QUIET_RATE = 200;
+    private static final Duration ADJUST_INTERVAL = Duration.ofMillis(250);
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // ================================================================
+    // Benchmarks
+    // ================================================================
+    
+    @Test
+    @DisplayName("Benchmark tail latency of bursts with a fixed and an adaptive pool size")
+    void benchmarkBurstsWithAdaptivePoolSize() throws Exception {
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        int configuredSize = pool.getMaximumPoolSize();
+        int configuredMinimumIdle = pool.getMinimumIdle();
+        
+        AdaptivePoolProperties properties = new AdaptivePoolProperties();
+        properties.setEnabled(true);
+        properties.setMinSize(configuredSize);
+        properties.setMaxSize(configuredSize * 3);
+        properties.setInterval(ADJUST_INTERVAL);
+        
+        try {
+            run(Duration.ofSeconds(1), QUIET_RATE);
+            long[] fixed = run(BURST, BURST_RATE, QUIET, QUIET_RATE);
+            
+            AdaptivePoolSizeController controller = new AdaptivePoolSizeController(List.of(dataSource), slowQueryLog,
+                    meterRegistry, properties);
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            scheduler.scheduleWithFixedDelay(controller::adjust, ADJUST_INTERVAL.toMillis(), ADJUST_INTERVAL.toMillis(),
+                    TimeUnit.MILLISECONDS);
+            long[] adaptive;
+            int adaptedSize;
+            try {
+                adaptive = run(BURST, BURST_RATE, QUIET, QUIET_RATE);
+                adaptedSize = pool.getMaximumPoolSize();
+            } finally {
+                scheduler.shutdownNow();
+            }
+            
+            System.out.printf("%-10s %10s %10s %10s %10s %10s %10s%n",
+                    "pool", "requests", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "size");
+            print("fixed", fixed, configuredSize);
+            print("adaptive", adaptive, adaptedSize);
+            
+            assertThat(percentile(adaptive, 0.99)).isLessThan(percentile(fixed, 0.99));
+        } finally {
+            pool.getHikariConfigMXBean().setMaximumPoolSize(configuredSize);
+            pool.getHikariConfigMXBean().setMinimumIdle(configuredMinimumIdle);
+        }
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Runs {@link #BURSTS} bursts, each followed by a quiet period.
+     *
+     * @return the sorted latencies of every request, in nanoseconds
+     */
+    private long[] run(Duration burst, int burstRate, Duration quiet, int quietRate) throws InterruptedException {
+        long[] latencies = new long[0];
+        for (int i = 0; i < BURSTS; i++) {
+            latencies = concat(latencies, run(burst, burstRate));
+            latencies = concat(latencies, run(quiet, quietRate));
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+    
+    /**
+     * Issues requests at a fixed rate for a duration, each on its own virtual thread, and waits for all of them.
+     *
+     * @return the latency of every request from the time it was due, in nanoseconds
+     */
+    private long[] run(Duration duration, int rate) throws InterruptedException {
+        int requests = (int) (duration.toMillis() * rate / 1000);
+        long period = TimeUnit.SECONDS.toNanos(1) / rate;
+        long[] latencies = new long[requests];
+        AtomicInteger failures = new AtomicInteger();
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                long due = start + i * period;
+                long wait = due - System.nanoTime();
+                if (wait > 0)
+                    LockSupport.parkNanos(wait);
+                int index = i;
+                executor.execute(() -> {
+                    try {
+                        jdbcTemplate.execute(QUERY);
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - due;
+                });
+            }
+        }
+        assertThat(failures.get()).isZero();
+        return latencies;
+    }
+    
+    private static long[] concat(long[] first, long[] second) {
+        long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+    
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+    
+    private static void print(String label, long[] sorted, int size) {
+        System.out.printf("%-10s %10d %10.1f %10.1f %10.1f %10.1f %10d%n", label, sorted.length,
+                percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted[sorted.length - 1] / 1e6, size);
+    }
+}
@@ -0,0 +1,125 @@
+package com.egabi.university.benchmark;
+
+import com.egabi.university.entity.Department;
+import com.egabi.university.entity.Faculty;
+import com.egabi.university.repository.CourseRepository;
+import com.egabi.university.repository.DepartmentRepository;
+import com.egabi.university.repository.FacultyRepository;
+import com.egabi.university.service.validation.ValidationService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the database round trips of catalog lookups with and without the second-level and query caches.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark} against a database holding at least one faculty with a department.
+ * The same lookups are repeated in separate transactions, as successive requests would,
+ * once bypassing the caches and once using them.
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CatalogCacheBenchmarkTest {
+    
+    private static final int REQUESTS = 1_000;
+    
+    @Autowired
+    private FacultyRepository facultyRepository;
+    
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    
+    @Autowired
+    private CourseRepository courseRepository;
+    
+    @Autowired
+    private ValidationService validationService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    // ================================================================
+    // Benchmarks
+    // ================================================================
+    
+    @Test
+    @DisplayName("Benchmark database round trips of catalog lookups")
+    void benchmarkCatalogLookups() {
+        List<Department> departments = departmentRepository.findAll();
+        Assumptions.assumeFalse(departments.isEmpty(), "The benchmark needs at least one department");
+        Department department = departments.get(0);
+        Faculty faculty = department.getFaculty();
+        
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        
+        long uncached = roundTrips(statistics, CacheMode.IGNORE, faculty, department);
+        long cached = roundTrips(statistics, CacheMode.NORMAL, faculty, department);
+        
+        System.out.printf("%-10s %10s %16s%n", "cache", "requests", "statements");
+        System.out.printf("%-10s %10d %16d%n", "ignore", REQUESTS, uncached);
+        System.out.printf("%-10s %10d %16d%n", "normal", REQUESTS, cached);
+        System.out.printf("saved %d round trips (%.1f%%), second-level hit ratio %.3f, query cache hit ratio %.3f%n",
+                uncached - cached, 100.0 * (uncached - cached) / uncached,
+                ratio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()),
+                ratio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()));
+        
+        assertThat(cached).isLessThan(uncached);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Runs the catalog lookups of a request {@link #REQUESTS} times and counts the statements sent to the database.
+     *
+     * @param statistics the Hibernate statistics
+     * @param cacheMode  the cache mode of every session
+     * @param faculty    the faculty to look up
+     * @param department the department to look up
+     * @return the number of prepared statements
+     */
+    private long roundTrips(Statistics statistics, CacheMode cacheMode, Faculty faculty, Department department) {
+        statistics.clear();
+        for (int i = 0; i < REQUESTS; i++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setCacheMode(cacheMode);
+                validationService.getFacultyByIdOrThrow(faculty.getId());
+                validationService.getDepartmentByIdOrThrow(department.getId());
+                facultyRepository.existsByNameIgnoreCase(faculty.getName());
+                departmentRepository.existsByNameIgnoreCase(department.getName());
+                departmentRepository.findAllByFacultyId(faculty.getId());
+                courseRepository.findAllByDepartmentId(department.getId());
+            });
+        }
+        return statistics.getPrepareStatementCount();
+    }
+    
+    private static double ratio(long hits, long misses) {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+}
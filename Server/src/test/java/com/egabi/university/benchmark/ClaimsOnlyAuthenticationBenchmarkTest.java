@@ -0,0 +1,150 @@
+package com.egabi.university.benchmark;
+
+import com.egabi.university.config.jwt.JwtFilter;
+import com.egabi.university.entity.authentication.User;
+import com.egabi.university.repository.UserRepository;
+import com.egabi.university.service.authentication.JwtService;
+import com.egabi.university.service.authentication.UserService;
+import com.egabi.university.service.authentication.revocation.SecurityStampService;
+import com.egabi.university.service.authentication.revocation.TokenRevocationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the throughput of authenticating requests from the token claims alone and by loading the user.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark} against a database holding at least one user. Each mode runs the
+ * {@link JwtFilter} over the same set of tokens on several threads, after a warm-up, and reports the requests
+ * authenticated per second together with the statements sent to the database.
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ClaimsOnlyAuthenticationBenchmarkTest {
+    
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int REQUESTS_PER_THREAD = 20_000;
+    private static final int WARM_UP_REQUESTS = 5_000;
+    
+    @Autowired
+    private JwtService jwtService;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    @Autowired
+    private SecurityStampService securityStampService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    // ================================================================
+    // Benchmarks
+    // ================================================================
+    
+    @Test
+    @DisplayName("Benchmark authenticated request throughput with and without claims-only authentication")
+    void benchmarkAuthentication() throws Exception {
+        List<User> users = userRepository.findAll(PageRequest.of(0, 100)).getContent();
+        Assumptions.assumeFalse(users.isEmpty(), "The benchmark needs at least one user");
+        List<String> tokens = users.stream().map(jwtService::generateToken).toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        
+        System.out.printf("%-12s %8s %12s %14s %12s%n", "mode", "threads", "requests", "requests/s", "statements");
+        double database = run("database", filter(false), tokens, statistics);
+        double claims = run("claims-only", filter(true), tokens, statistics);
+        System.out.printf("claims-only authentication is %.1fx faster%n", claims / database);
+        
+        assertThat(claims).isGreaterThan(database);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private JwtFilter filter(boolean claimsOnly) {
+        return new JwtFilter(jwtService, userService, tokenRevocationService, securityStampService, claimsOnly);
+    }
+    
+    /**
+     * Warms up a filter, then authenticates requests with it on {@link #THREADS} threads.
+     *
+     * @param mode       the name of the mode
+     * @param filter     the filter to run
+     * @param tokens     the tokens to authenticate, used in turn
+     * @param statistics the Hibernate statistics
+     * @return the authenticated requests per second
+     */
+    private double run(String mode, JwtFilter filter, List<String> tokens, Statistics statistics) throws Exception {
+        authenticate(filter, tokens, WARM_UP_REQUESTS);
+        statistics.clear();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++)
+                results.add(executor.submit(() -> authenticate(filter, tokens, REQUESTS_PER_THREAD)));
+            int authenticated = 0;
+            for (Future<Integer> result : results)
+                authenticated += result.get();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            
+            int requests = THREADS * REQUESTS_PER_THREAD;
+            assertThat(authenticated).isEqualTo(requests);
+            double throughput = requests / seconds;
+            System.out.printf("%-12s %8d %12d %14.0f %12d%n", mode, THREADS, requests, throughput,
+                    statistics.getPrepareStatementCount());
+            return throughput;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Runs requests through a filter on the current thread.
+     *
+     * @param filter   the filter to run
+     * @param tokens   the tokens to authenticate, used in turn
+     * @param requests the number of requests
+     * @return the number of authenticated requests
+     */
+    private static int authenticate(JwtFilter filter, List<String> tokens, int requests) throws Exception {
+        int authenticated = 0;
+        for (int i = 0; i < requests; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/faculties");
+            request.addHeader("Authorization", "Bearer " + tokens.get(i % tokens.size()));
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            if (SecurityContextHolder.getContext().getAuthentication() != null)
+                authenticated++;
+            SecurityContextHolder.clearContext();
+        }
+        return authenticated;
+    }
+}
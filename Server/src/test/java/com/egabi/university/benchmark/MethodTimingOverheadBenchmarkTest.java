@@ -0,0 +1,120 @@
+package com.egabi.university.benchmark;
+
+import com.egabi.university.config.timing.MethodTimingConfig;
+import com.egabi.university.config.timing.MethodTimingInterceptor;
+import com.egabi.university.config.timing.MethodTimingProperties;
+import com.egabi.university.config.timing.MethodTimings;
+import com.egabi.university.dto.LevelDTO;
+import com.egabi.university.entity.Level;
+import com.egabi.university.mapper.LevelMapper;
+import com.egabi.university.mapper.LevelMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the cost per call of {@link MethodTimingInterceptor} on a cheap mapper method.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}. The same mapper is called directly, through the proxy with timing switched
+ * off and through the proxy with timing switched on; the median of the measured rounds is reported for each.
+ * The cost of the timing itself is the difference between the last two, and must stay under 100 ns.
+ * </p>
+ */
+@Tag("benchmark")
+public class MethodTimingOverheadBenchmarkTest {
+    
+    private static final int CALLS = 2_000_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 11;
+    
+    /**
+     * Cost of a {@link System#nanoTime()} read on hardware with an invariant TSC. Virtual machines that trap the
+     * clock read are slower, and only the excess over this budget is tolerated on top of the 100 ns target.
+     */
+    private static final double CLOCK_BUDGET_NANOS = 25;
+    
+    private static long sink;
+    
+    // ================================================================
+    // Benchmarks
+    // ================================================================
+    
+    @Test
+    @DisplayName("Benchmark the cost per call of method timing")
+    void benchmarkMethodTiming() {
+        LevelMapper direct = new LevelMapperImpl();
+        MethodTimings methodTimings = new MethodTimings(new SimpleMeterRegistry(), new MethodTimingProperties());
+        ProxyFactory factory = new ProxyFactory(direct);
+        factory.setProxyTargetClass(true);
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(MethodTimingConfig.POINTCUT);
+        factory.addAdvisor(new DefaultPointcutAdvisor(pointcut, new MethodTimingInterceptor(() -> methodTimings)));
+        LevelMapper proxied = (LevelMapper) factory.getProxy();
+        Level level = Level.builder().id(1L).name("Level 1").build();
+        
+        double directNanos = nanosPerCall(direct, level);
+        methodTimings.setEnabled(false);
+        double disabledNanos = nanosPerCall(proxied, level);
+        methodTimings.setEnabled(true);
+        double enabledNanos = nanosPerCall(proxied, level);
+        double clockNanos = clockNanosPerRead();
+        
+        System.out.printf("%-10s %12s%n", "mode", "ns/call");
+        System.out.printf("%-10s %12.1f%n", "direct", directNanos);
+        System.out.printf("%-10s %12.1f%n", "disabled", disabledNanos);
+        System.out.printf("%-10s %12.1f%n", "enabled", enabledNanos);
+        System.out.printf("timing costs %.1f ns per call, of which %.1f ns reading the clock twice%n",
+                enabledNanos - disabledNanos, 2 * clockNanos);
+        
+        assertThat(enabledNanos - disabledNanos).isLessThan(100 + 2 * Math.max(0, clockNanos - CLOCK_BUDGET_NANOS));
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static double nanosPerCall(LevelMapper mapper, Level level) {
+        for (int round = 0; round < WARM_UP_ROUNDS; round++)
+            call(mapper, level);
+        
+        long[] rounds = new long[MEASURED_ROUNDS];
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            call(mapper, level);
+            rounds[round] = System.nanoTime() - start;
+        }
+        Arrays.sort(rounds);
+        return (double) rounds[MEASURED_ROUNDS / 2] / CALLS;
+    }
+    
+    private static double clockNanosPerRead() {
+        long[] rounds = new long[MEASURED_ROUNDS];
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            long sum = 0;
+            for (int i = 0; i < CALLS; i++)
+                sum += System.nanoTime();
+            rounds[round] = System.nanoTime() - start;
+            sink += sum;
+        }
+        Arrays.sort(rounds);
+        return (double) rounds[MEASURED_ROUNDS / 2] / CALLS;
+    }
+    
+    private static void call(LevelMapper mapper, Level level) {
+        long sum = 0;
+        for (int i = 0; i < CALLS; i++) {
+            LevelDTO dto = mapper.toDTO(level);
+            sum += dto.getId();
+        }
+        sink += sum;
+    }
+}
@@ -0,0 +1,116 @@
+package com.egabi.university.benchmark;
+
+import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.EnrollmentDTO;
+import com.egabi.university.dto.StudentDTO;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares payload size and serialization time of JSON, Smile and CBOR for 100k-row list responses.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}. Each format is warmed up, then the median of the measured rounds
+ * is reported for writing and reading the whole list.
+ * </p>
+ */
+@Tag("benchmark")
+public class SerializationBenchmarkTest {
+    
+    private static final int ROWS = 100_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    
+    private static Map<String, ObjectMapper> mappers;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeAll
+    static void setUp() {
+        mappers = new LinkedHashMap<>();
+        mappers.put("json", Jackson2ObjectMapperBuilder.json().build());
+        mappers.put("smile", Jackson2ObjectMapperBuilder.smile().build());
+        mappers.put("cbor", Jackson2ObjectMapperBuilder.cbor().build());
+    }
+    
+    // ================================================================
+    // Benchmarks
+    // ================================================================
+    
+    @Test
+    @DisplayName("Benchmark 100k StudentDTO rows")
+    void benchmarkStudents() throws Exception {
+        benchmark(StudentDTO.class, i -> new StudentDTO((long) i, (long) i, "First" + i, "Last" + i,
+                "0100" + (1_000_000 + i), LocalDate.of(2000, 1, 1).plusDays(i % 3650), i % 2 == 0 ? "MALE" : "FEMALE",
+                (long) (i % 5), "Faculty " + (i % 5), (long) (i % 40), "Department " + (i % 40),
+                (long) (i % 4), "Level " + (i % 4), null));
+    }
+    
+    @Test
+    @DisplayName("Benchmark 100k EnrollmentDTO rows")
+    void benchmarkEnrollments() throws Exception {
+        benchmark(EnrollmentDTO.class, i -> new EnrollmentDTO((long) (i / 6), "CS" + (100 + i % 600), 40.0 + i % 61,
+                (long) (i % 8)));
+    }
+    
+    @Test
+    @DisplayName("Benchmark 100k CourseDTO rows")
+    void benchmarkCourses() throws Exception {
+        benchmark(CourseDTO.class, i -> new CourseDTO("CS" + i, "Course number " + i, 2 + i % 3,
+                (long) (i % 40), (long) (i % 4)));
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static <T> void benchmark(Class<T> type, IntFunction<T> row) throws Exception {
+        List<T> rows = IntStream.range(0, ROWS).mapToObj(row).toList();
+        System.out.printf("%n%s x %d%n%-6s %12s %12s %12s%n", type.getSimpleName(), ROWS,
+                "format", "bytes", "write ms", "read ms");
+        
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, type);
+            
+            byte[] payload = null;
+            long[] writes = new long[MEASURED_ROUNDS];
+            long[] reads = new long[MEASURED_ROUNDS];
+            for (int round = -WARM_UP_ROUNDS; round < MEASURED_ROUNDS; round++) {
+                long start = System.nanoTime();
+                payload = mapper.writeValueAsBytes(rows);
+                long written = System.nanoTime();
+                List<T> decoded = mapper.readValue(payload, listType);
+                long read = System.nanoTime();
+                
+                if (round >= 0) {
+                    writes[round] = written - start;
+                    reads[round] = read - written;
+                } else {
+                    assertThat(decoded).isEqualTo(rows);
+                }
+            }
+            System.out.printf("%-6s %12d %12.1f %12.1f%n", entry.getKey(), payload.length,
+                    median(writes) / 1e6, median(reads) / 1e6);
+        }
+    }
+    
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
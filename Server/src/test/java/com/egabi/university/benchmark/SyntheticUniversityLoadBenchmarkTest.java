@@ -0,0 +1,63 @@
+package com.egabi.university.benchmark;
+
+import com.egabi.university.util.synthetic.SyntheticUniversityLoader;
+import com.egabi.university.util.synthetic.SyntheticUniversityLoader.LoadResult;
+import com.egabi.university.util.synthetic.UniversityScale;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads a synthetic university into the PostgreSQL database of the application and measures the throughput of the
+ * {@code COPY} load.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=SyntheticUniversityLoadBenchmarkTest -Dsynthetic.scale=large} against
+ * a dedicated database: every student, course and user is replaced. Other benchmarks and load tests then start from
+ * the same data, given the same {@code synthetic.scale} and {@code synthetic.seed}.
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+public class SyntheticUniversityLoadBenchmarkTest {
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    // ================================================================
+    // Benchmarks
+    // ================================================================
+    
+    @Test
+    @DisplayName("Benchmark loading a synthetic university through COPY")
+    void benchmarkLoadSyntheticUniversity() throws Exception {
+        UniversityScale scale = UniversityScale.fromSystemProperties();
+        
+        LoadResult result = SyntheticUniversityLoader.load(dataSource, scale);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        
+        System.out.printf("%-22s %12s%n", "table", "rows");
+        result.rows().forEach((table, rows) -> System.out.printf("%-22s %12d%n", table, rows));
+        System.out.printf("loaded %d rows in %d ms (%.0f rows/s)%n", result.totalRows(),
+                result.duration().toMillis(), result.totalRows() / (result.duration().toNanos() / 1e9));
+        
+        assertThat(jdbcTemplate.queryForObject("select count(*) from enrollment", Long.class))
+                .isEqualTo(result.rows().get("enrollment"));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from student", Long.class))
+                .isEqualTo(scale.students());
+    }
+}
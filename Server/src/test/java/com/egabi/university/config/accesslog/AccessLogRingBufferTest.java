@@ -0,0 +1,109 @@
+package com.egabi.university.config.accesslog;
+
+import com.egabi.university.config.timing.RequestTimings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AccessLogRingBuffer}.
+ */
+public class AccessLogRingBufferTest {
+    
+    private static final int PRODUCERS = 4;
+    private static final int ENTRIES_PER_PRODUCER = 50_000;
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should hand every published entry to the consumer exactly once across producers")
+    void shouldConsumeEveryEntryOnce_whenProducersRunConcurrently() throws Exception {
+        // Arrange
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(256);
+        RequestTimings timings = RequestTimings.start(System.nanoTime());
+        timings.stop();
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> consumed = new HashSet<>();
+        
+        // Act
+        List<Future<?>> producers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS)) {
+            for (int p = 0; p < PRODUCERS; p++) {
+                int producer = p;
+                producers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ENTRIES_PER_PRODUCER; i++) {
+                        long sequence;
+                        while ((sequence = ringBuffer.tryClaim()) < 0)
+                            Thread.onSpinWait();
+                        ringBuffer.entry(sequence).set(0, "GET", null, 200,
+                                (long) producer * ENTRIES_PER_PRODUCER + i, 0, timings);
+                        ringBuffer.publish(sequence);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            while (consumed.size() < PRODUCERS * ENTRIES_PER_PRODUCER) {
+                AccessLogEntry entry = ringBuffer.poll();
+                if (entry == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                assertThat(consumed.add(entry.bytes)).isTrue();
+                ringBuffer.release();
+            }
+            for (Future<?> producer : producers)
+                producer.get();
+        }
+        
+        // Assert
+        assertThat(consumed).hasSize(PRODUCERS * ENTRIES_PER_PRODUCER);
+        assertThat(ringBuffer.pending()).isZero();
+        assertThat(ringBuffer.poll()).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should round the capacity up to a power of two")
+    void shouldRoundCapacity_toPowerOfTwo() {
+        // Act & Assert
+        assertThat(new AccessLogRingBuffer(1000).capacity()).isEqualTo(1024);
+        assertThat(new AccessLogRingBuffer(1024).capacity()).isEqualTo(1024);
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should drop entries without blocking when the buffer is full")
+    void shouldDropEntries_whenBufferIsFull() {
+        // Arrange
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++)
+            ringBuffer.publish(ringBuffer.tryClaim());
+        
+        // Act
+        long sequence = ringBuffer.tryClaim();
+        ringBuffer.poll();
+        ringBuffer.release();
+        long afterRelease = ringBuffer.tryClaim();
+        
+        // Assert
+        assertThat(sequence).isEqualTo(-1);
+        assertThat(ringBuffer.dropped()).isEqualTo(1);
+        assertThat(afterRelease).isEqualTo(4);
+    }
+}
@@ -0,0 +1,97 @@
+package com.egabi.university.config.accesslog;
+
+import com.egabi.university.config.timing.RequestTimings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AsyncAccessLogAppender}.
+ */
+public class AsyncAccessLogAppenderTest {
+    
+    @TempDir
+    private Path directory;
+    
+    private AccessLogProperties properties;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        properties = new AccessLogProperties();
+        properties.setFile(directory.resolve("logs/access.log").toString());
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should write each request as a JSON line with its phase timings")
+    void shouldWriteJsonLines_withPhaseTimings() throws Exception {
+        // Arrange
+        AsyncAccessLogAppender appender = new AsyncAccessLogAppender(properties, new SimpleMeterRegistry());
+        RequestTimings timings = RequestTimings.start(0);
+        timings.setUserId(42);
+        timings.addAuthentication(95_000);
+        timings.handlerStarted(1_000_000);
+        timings.addStatement(1_300_000);
+        timings.bodyWriteStarted(2_510_000);
+        timings.handlerCompleted(2_650_000);
+        timings.stop();
+        long time = Instant.parse("2025-01-31T09:15:02.123Z").toEpochMilli();
+        
+        // Act
+        boolean logged = appender.append(time, "GET", "/api/courses/{code}", 200, 512, 1_830_000, timings);
+        RequestTimings anonymous = RequestTimings.start(0);
+        anonymous.stop();
+        appender.append(time + 5, "POST", "/api/\"quoted\"/é", 401, 0, 7_000, anonymous);
+        appender.close();
+        
+        // Assert
+        List<String> lines = Files.readAllLines(Path.of(properties.getFile()), StandardCharsets.UTF_8);
+        assertThat(logged).isTrue();
+        assertThat(lines).containsExactly(
+                "{\"time\":\"2025-01-31T09:15:02.123Z\",\"method\":\"GET\",\"route\":\"/api/courses/{code}\","
+                        + "\"status\":200,\"user\":42,\"bytes\":512,\"total_us\":1830,\"auth_us\":95,"
+                        + "\"controller_us\":210,\"db_us\":1300,\"db_statements\":1,\"serialization_us\":140}",
+                "{\"time\":\"2025-01-31T09:15:02.128Z\",\"method\":\"POST\",\"route\":\"/api/\\\"quoted\\\"/é\","
+                        + "\"status\":401,\"user\":null,\"bytes\":0,\"total_us\":7,\"auth_us\":0,"
+                        + "\"controller_us\":0,\"db_us\":0,\"db_statements\":0,\"serialization_us\":0}");
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should neither open the file nor accept entries when the access log is disabled")
+    void shouldIgnoreEntries_whenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+        AsyncAccessLogAppender appender = new AsyncAccessLogAppender(properties, new SimpleMeterRegistry());
+        RequestTimings timings = RequestTimings.start(0);
+        timings.stop();
+        
+        // Act
+        boolean logged = appender.append(0, "GET", null, 404, 0, 0, timings);
+        appender.close();
+        
+        // Assert
+        assertThat(logged).isFalse();
+        assertThat(Path.of(properties.getFile())).doesNotExist();
+    }
+}
@@ -0,0 +1,129 @@
+package com.egabi.university.config.jfr;
+
+import com.egabi.university.config.jfr.JfrRecorder.RecordingStatus;
+import com.egabi.university.entity.Department;
+import com.egabi.university.exception.ConflictException;
+import com.egabi.university.repository.DepartmentRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link JfrRecorder} and the events of {@link JfrEventInterceptor}.
+ */
+public class JfrRecorderTest {
+    
+    @TempDir
+    private Path directory;
+    
+    private JfrProperties properties;
+    private JfrRecorder recorder;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        properties = new JfrProperties();
+        properties.setDirectory(directory.toString());
+        recorder = new JfrRecorder(properties);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        recorder.close();
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should record repository calls with their entity ID and rows")
+    void shouldRecordRepositoryCall_withEntityIdAndRows() throws Throwable {
+        // Arrange
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(DepartmentRepository.class.getMethod("findAllByFacultyId", Long.class));
+        when(invocation.getArguments()).thenReturn(new Object[]{7L});
+        when(invocation.proceed()).thenReturn(List.of(new Department(), new Department(), new Department()));
+        JfrEventInterceptor interceptor = new JfrEventInterceptor(JfrEventInterceptor.Kind.REPOSITORY);
+        
+        // Act
+        recorder.start(Duration.ofMinutes(1));
+        interceptor.invoke(invocation);
+        RecordingStatus status = recorder.stop();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recorder.recordingFile()).stream()
+                .filter(event -> event.getEventType().getName().equals("com.egabi.university.RepositoryCall"))
+                .toList();
+        
+        // Assert
+        assertThat(status.state()).isNotEqualTo("RUNNING");
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("repository")).isEqualTo("DepartmentRepository");
+        assertThat(event.getString("method")).isEqualTo("findAllByFacultyId");
+        assertThat(event.getString("entityId")).isEqualTo("7");
+        assertThat(event.getLong("rows")).isEqualTo(3);
+        assertThat(event.getBoolean("succeeded")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Should not record environment variables, system properties or JVM arguments")
+    void shouldNotRecordSensitiveEvents_withDefaultSettings() throws Exception {
+        // Act
+        recorder.start(Duration.ofMinutes(1));
+        recorder.stop();
+        List<String> eventTypes = RecordingFile.readAllEvents(recorder.recordingFile()).stream()
+                .map(event -> event.getEventType().getName())
+                .distinct()
+                .toList();
+        
+        // Assert
+        assertThat(eventTypes).isNotEmpty().doesNotContainAnyElementsOf(JfrRecorder.SENSITIVE_EVENTS);
+    }
+    
+    @Test
+    @DisplayName("Should shorten recordings longer than the maximum duration")
+    void shouldClampDuration_toMaxDuration() {
+        // Arrange
+        properties.setMaxDuration(Duration.ofMinutes(2));
+        
+        // Act
+        RecordingStatus status = recorder.start(Duration.ofHours(1));
+        
+        // Assert
+        assertThat(status.state()).isEqualTo("RUNNING");
+        assertThat(status.duration()).isEqualTo(Duration.ofMinutes(2));
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should throw ConflictException when a recording is already running")
+    void shouldThrowConflictException_whenRecordingIsRunning() {
+        // Arrange
+        recorder.start(null);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> recorder.start(null))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("already running");
+    }
+}
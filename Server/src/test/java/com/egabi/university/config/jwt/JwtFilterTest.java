@@ -0,0 +1,142 @@
+package com.egabi.university.config.jwt;
+
+import com.egabi.university.entity.authentication.Role;
+import com.egabi.university.entity.authentication.User;
+import com.egabi.university.event.SecurityStampChangedEvent;
+import com.egabi.university.repository.UserRepository;
+import com.egabi.university.service.authentication.JwtServiceImpl;
+import com.egabi.university.service.authentication.UserService;
+import com.egabi.university.service.authentication.revocation.SecurityStampService;
+import com.egabi.university.service.authentication.revocation.TokenRevocationService;
+import com.egabi.university.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link JwtFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class JwtFilterTest {
+    
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1qd3QtZmlsdGVyLTEyMzQ1Njc4OTA=";
+    
+    @Mock
+    private UserService userService;
+    
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private JwtServiceImpl jwtService;
+    
+    private SecurityStampService securityStampService;
+    
+    private User user;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtServiceImpl();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expirationTimeInMillis", 900_000L);
+        securityStampService = new SecurityStampService(userRepository, Duration.ofSeconds(30), 900_000L);
+        user = TestDataFactory.buildUser(Role.STUDENT);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should authenticate from the token claims without loading the user")
+    void shouldAuthenticateFromClaims_whenClaimsOnlyIsEnabled() throws Exception {
+        // Arrange
+        String token = jwtService.generateToken(user);
+        
+        // Act
+        filter(true, token);
+        
+        // Assert
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isInstanceOf(User.class)
+                .extracting("id", "email", "role").containsExactly(user.getId(), user.getEmail(), Role.STUDENT);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("STUDENT");
+        verifyNoInteractions(userService);
+    }
+    
+    @Test
+    @DisplayName("Should load the user when claims-only authentication is disabled")
+    void shouldLoadUser_whenClaimsOnlyIsDisabled() throws Exception {
+        // Arrange
+        String token = jwtService.generateToken(user);
+        when(userService.loadUserByUsername(user.getEmail())).thenReturn(user);
+        
+        // Act
+        filter(false, token);
+        
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(user);
+        verify(userService).loadUserByUsername(user.getEmail());
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should not authenticate a token issued before the security stamp of the user changed")
+    void shouldNotAuthenticate_whenSecurityStampChanged() throws Exception {
+        // Arrange
+        String staleToken = jwtService.generateToken(user);
+        user.setLocked(true);
+        securityStampService.onSecurityStampChanged(
+                new SecurityStampChangedEvent(user.getId(), user.getSecurityStamp(), Instant.now()));
+        
+        // Act
+        filter(true, staleToken);
+        
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userService);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private void filter(boolean claimsOnly, String token) throws Exception {
+        JwtFilter filter = new JwtFilter(jwtService, userService, tokenRevocationService, securityStampService,
+                claimsOnly);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/faculties");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
@@ -0,0 +1,110 @@
+package com.egabi.university.config.pool;
+
+import com.egabi.university.config.pool.PoolSizePolicy.PoolSample;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PoolSizePolicy}.
+ */
+public class PoolSizePolicyTest {
+    
+    private AdaptivePoolProperties properties;
+    private PoolSizePolicy policy;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        properties = new AdaptivePoolProperties();
+        properties.setMinSize(5);
+        properties.setMaxSize(12);
+        properties.setTargetWait(Duration.ofMillis(10));
+        properties.setIncreaseStep(2);
+        properties.setDecreaseStep(1);
+        properties.setIdleIntervals(3);
+        policy = new PoolSizePolicy(properties);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should grow up to the maximum while requests wait and the database keeps up")
+    void shouldGrow_whenRequestsWaitAndLatencyIsStable() {
+        // Act
+        int first = policy.nextSize(8, new PoolSample(25, 4, 8, 2.0));
+        int second = policy.nextSize(first, new PoolSample(25, 4, first, 2.1));
+        int third = policy.nextSize(second, new PoolSample(25, 4, second, 2.0));
+        
+        // Assert
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(12);
+        assertThat(third).isEqualTo(12);
+    }
+    
+    @Test
+    @DisplayName("Should shrink while requests wait if the database latency rises above the tolerance")
+    void shouldShrink_whenLatencyRisesWhileRequestsWait() {
+        // Arrange
+        policy.nextSize(10, new PoolSample(0, 0, 6, 2.0));
+        
+        // Act
+        int size = policy.nextSize(10, new PoolSample(40, 6, 10, 5.0));
+        
+        // Assert
+        assertThat(size).isEqualTo(9);
+        assertThat(policy.baselineLatencyMillis()).isEqualTo(2.1);
+    }
+    
+    @Test
+    @DisplayName("Should shrink a mostly idle pool only after the configured number of intervals")
+    void shouldShrink_afterIdleIntervals() {
+        // Act
+        int first = policy.nextSize(10, new PoolSample(0, 0, 1, 1.0));
+        int second = policy.nextSize(first, new PoolSample(0, 0, 1, 1.0));
+        int third = policy.nextSize(second, new PoolSample(0, 0, 1, 1.0));
+        
+        // Assert
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(10);
+        assertThat(third).isEqualTo(9);
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should keep the size when half of the pool is in use and no request waits")
+    void shouldKeepSize_whenPoolIsBusyWithoutWaiting() {
+        // Act
+        int size = 10;
+        for (int i = 0; i < 5; i++)
+            size = policy.nextSize(size, new PoolSample(1, 0, 5, Double.NaN));
+        
+        // Assert
+        assertThat(size).isEqualTo(10);
+        assertThat(policy.baselineLatencyMillis()).isNaN();
+    }
+    
+    @Test
+    @DisplayName("Should bring a size configured outside the bounds back within them")
+    void shouldClampSize_whenCurrentSizeIsOutOfBounds() {
+        // Act
+        int tooLarge = policy.nextSize(40, new PoolSample(0, 0, 30, 1.0));
+        int tooSmall = policy.nextSize(2, new PoolSample(0, 0, 2, 1.0));
+        
+        // Assert
+        assertThat(tooLarge).isEqualTo(12);
+        assertThat(tooSmall).isEqualTo(5);
+    }
+}
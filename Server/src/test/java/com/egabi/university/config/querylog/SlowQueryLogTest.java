@@ -0,0 +1,124 @@
+package com.egabi.university.config.querylog;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SlowQueryLog}.
+ */
+public class SlowQueryLogTest {
+    
+    private static final long FAST = Duration.ofMillis(2).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+    
+    private SlowQueryProperties properties;
+    
+    private SlowQueryLog slowQueryLog;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        properties = new SlowQueryProperties();
+        slowQueryLog = new SlowQueryLog(properties);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should aggregate statements differing only in literals under one fingerprint")
+    void shouldAggregateByFingerprint() {
+        // Act
+        execute("select * from course where code = 'CS101'", FAST, 0);
+        execute("select * from course where code = 'CS102'", 3 * FAST, 0);
+        execute("update course set credits = 3 where code = ?", FAST, 4);
+        
+        // Assert
+        List<SlowQueryLog.FingerprintSummary> top = slowQueryLog.topByTotalTime(10);
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).fingerprint()).isEqualTo("select * from course where code = ?");
+        assertThat(top.get(0).count()).isEqualTo(2);
+        assertThat(top.get(0).totalMillis()).isEqualTo(8.0);
+        assertThat(top.get(0).maxMillis()).isEqualTo(6.0);
+        assertThat(top.get(1).rows()).isEqualTo(4);
+        assertThat(slowQueryLog.slowQueries()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Should capture a slow statement with its calling method and keep its parameters for explaining")
+    void shouldCaptureSlowStatement_withCaller() {
+        // Act
+        execute("select * from student where department_id = ?", SLOW, 0, 7L);
+        
+        // Assert
+        assertThat(slowQueryLog.slowQueries()).singleElement().satisfies(slow -> {
+            assertThat(slow.fingerprint()).isEqualTo("select * from student where department_id = ?");
+            assertThat(slow.elapsedMillis()).isEqualTo(500.0);
+            assertThat(slow.caller()).isEqualTo("SlowQueryLogTest.execute");
+        });
+        assertThat(slowQueryLog.worstSamples(5)).singleElement()
+                .satisfies(sample -> assertThat(sample.parameters()).containsExactly(7L));
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should aggregate new fingerprints together once the fingerprint limit is reached")
+    void shouldAggregateAsOther_whenFingerprintLimitIsReached() {
+        // Arrange
+        properties.setMaxFingerprints(1);
+        
+        // Act
+        execute("select * from course", FAST, 0);
+        execute("select * from student", FAST, 0);
+        execute("select * from level", FAST, 0);
+        
+        // Assert
+        assertThat(slowQueryLog.topByTotalTime(10)).extracting(SlowQueryLog.FingerprintSummary::fingerprint)
+                .containsExactlyInAnyOrder("select * from course", SlowQueryLog.OTHER_FINGERPRINT);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private void execute(String sql, long elapsedNanos, int updateCount, Object... parameters) {
+        QueryInfo query = new QueryInfo(sql);
+        List<ParameterSetOperation> operations = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++)
+            operations.add(new ParameterSetOperation(setObject(), new Object[]{i + 1, parameters[i]}));
+        query.getParametersList().add(operations);
+        
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedNanos);
+        execution.setSuccess(true);
+        execution.setResult(updateCount);
+        slowQueryLog.afterQuery(execution, List.of(query));
+    }
+    
+    private static Method setObject() {
+        try {
+            return PreparedStatement.class.getMethod("setObject", int.class, Object.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
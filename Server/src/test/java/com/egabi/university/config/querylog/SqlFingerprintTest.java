@@ -0,0 +1,43 @@
+package com.egabi.university.config.querylog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SqlFingerprint}.
+ */
+public class SqlFingerprintTest {
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should replace literals and collapse whitespace, keeping identifiers with digits")
+    void shouldNormalizeLiteralsAndWhitespace() {
+        String fingerprint = SqlFingerprint.of("SELECT s1_0.id,  s1_0.first_name\n FROM student s1_0 "
+                + "WHERE s1_0.department_id = 42 AND s1_0.gender = 'MALE' /* hint */ -- comment\n LIMIT $1;");
+        
+        assertThat(fingerprint).isEqualTo("select s1_0.id, s1_0.first_name from student s1_0 "
+                + "where s1_0.department_id = ? and s1_0.gender = ? limit ?");
+    }
+    
+    @Test
+    @DisplayName("Should give IN lists of any length the same fingerprint")
+    void shouldCollapseInLists() {
+        String short_ = SqlFingerprint.of("select c.code from course c where c.code in (?, ?)");
+        String long_ = SqlFingerprint.of("select c.code from course c where c.code in ('CS101','CS102', 'It''s', 7)");
+        
+        assertThat(short_).isEqualTo("select c.code from course c where c.code in (?+)").isEqualTo(long_);
+    }
+    
+    @Test
+    @DisplayName("Should keep quoted identifiers and function calls as they are")
+    void shouldKeepQuotedIdentifiersAndFunctionCalls() {
+        String fingerprint = SqlFingerprint.of("select count(\"Student\".id), lower(name) from \"Student\"");
+        
+        assertThat(fingerprint).isEqualTo("select count(\"Student\".id), lower(name) from \"Student\"");
+    }
+}
@@ -0,0 +1,155 @@
+package com.egabi.university.config.ratelimit;
+
+import com.egabi.university.config.jwt.JwtFilter;
+import com.egabi.university.config.ratelimit.RateLimiter.ClientType;
+import com.egabi.university.entity.authentication.Role;
+import com.egabi.university.entity.authentication.User;
+import com.egabi.university.repository.UserRepository;
+import com.egabi.university.service.authentication.JwtServiceImpl;
+import com.egabi.university.service.authentication.UserService;
+import com.egabi.university.service.authentication.revocation.SecurityStampService;
+import com.egabi.university.service.authentication.revocation.TokenRevocationService;
+import com.egabi.university.util.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RateLimitFilter}, chained with the {@link JwtFilter} it runs before.
+ */
+@ExtendWith(MockitoExtension.class)
+public class RateLimitFilterTest {
+    
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1qd3QtZmlsdGVyLTEyMzQ1Njc4OTA=";
+    private static final String REMOTE_ADDRESS = "10.0.0.1";
+    
+    @Mock
+    private RateLimiter rateLimiter;
+    
+    @Mock
+    private UserService userService;
+    
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private JwtServiceImpl jwtService;
+    
+    private RateLimitFilter rateLimitFilter;
+    
+    private JwtFilter jwtFilter;
+    
+    private User user;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        JwtServiceImpl target = new JwtServiceImpl();
+        ReflectionTestUtils.setField(target, "secretKey", SECRET);
+        ReflectionTestUtils.setField(target, "expirationTimeInMillis", 900_000L);
+        jwtService = spy(target);
+        
+        rateLimitFilter = new RateLimitFilter(rateLimiter, new RateLimitProperties(), jwtService,
+                new ObjectMapper().findAndRegisterModules());
+        jwtFilter = new JwtFilter(jwtService, userService, tokenRevocationService,
+                new SecurityStampService(userRepository, Duration.ofSeconds(30), 900_000L), true);
+        user = TestDataFactory.buildUser(Role.STUDENT);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should key the bucket by the user ID of the token and verify the token only once")
+    void shouldKeyBucketByUserId_andVerifyTokenOnce() throws Exception {
+        // Arrange
+        String token = jwtService.generateToken(user);
+        when(rateLimiter.tryAcquire(ClientType.USER, user.getId().toString(), 1)).thenReturn(0L);
+        
+        // Act
+        MockHttpServletResponse response = filter("Bearer " + token);
+        
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        verify(jwtService).extractAllClaims(token);
+        verifyNoInteractions(userService);
+    }
+    
+    @Test
+    @DisplayName("Should key the bucket by the IP address of a request without a token")
+    void shouldKeyBucketByIp_whenNoTokenIsPresent() throws Exception {
+        // Arrange
+        when(rateLimiter.tryAcquire(ClientType.IP, REMOTE_ADDRESS, 1)).thenReturn(0L);
+        
+        // Act
+        MockHttpServletResponse response = filter(null);
+        
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        verify(rateLimiter, never()).tryAcquire(eq(ClientType.USER), anyString(), anyLong());
+        verifyNoInteractions(jwtService);
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should answer 429 with Retry-After when the bucket of the user is empty")
+    void shouldRejectRequest_whenBucketIsEmpty() throws Exception {
+        // Arrange
+        String token = jwtService.generateToken(user);
+        when(rateLimiter.tryAcquire(ClientType.USER, user.getId().toString(), 1))
+                .thenReturn(Duration.ofMillis(1500).toNanos());
+        
+        // Act
+        MockHttpServletResponse response = filter("Bearer " + token);
+        
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private MockHttpServletResponse filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/faculties");
+        request.setRemoteAddr(REMOTE_ADDRESS);
+        if (authorization != null)
+            request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response,
+                (req, res) -> jwtFilter.doFilter(req, res, new MockFilterChain()));
+        return response;
+    }
+}
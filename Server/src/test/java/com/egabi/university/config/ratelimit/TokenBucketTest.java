@@ -0,0 +1,77 @@
+package com.egabi.university.config.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TokenBucket}.
+ * <p>
+ * The bucket used by these tests holds 10 tokens and refills one token every 100 ms.
+ * </p>
+ */
+public class TokenBucketTest {
+    
+    private static final long NANOS_PER_TOKEN = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long START = 1_000_000_000L;
+    
+    private TokenBucket bucket;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        bucket = new TokenBucket(10, NANOS_PER_TOKEN, START);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should allow a burst up to the capacity of the bucket")
+    void shouldAllowBurst_whenBucketIsFull() {
+        // Act & Assert
+        for (int i = 0; i < 10; i++)
+            assertThat(bucket.tryConsume(1, START)).isZero();
+        assertThat(bucket.available(START)).isZero();
+        assertThat(bucket.isFull(START)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Should refill tokens over time until the bucket is full again")
+    void shouldRefillTokens_whenTimePasses() {
+        // Arrange
+        assertThat(bucket.tryConsume(10, START)).isZero();
+        
+        // Act & Assert
+        assertThat(bucket.available(START + 3 * NANOS_PER_TOKEN)).isEqualTo(3);
+        assertThat(bucket.tryConsume(3, START + 3 * NANOS_PER_TOKEN)).isZero();
+        assertThat(bucket.isFull(START + 10 * NANOS_PER_TOKEN)).isFalse();
+        assertThat(bucket.isFull(START + 13 * NANOS_PER_TOKEN)).isTrue();
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should reject a request costing more than the available tokens and report the wait")
+    void shouldReturnWaitTime_whenTokensAreMissing() {
+        // Arrange
+        assertThat(bucket.tryConsume(8, START)).isZero();
+        
+        // Act
+        long wait = bucket.tryConsume(5, START);
+        
+        // Assert: 3 tokens are missing, and the rejected request took nothing
+        assertThat(wait).isEqualTo(3 * NANOS_PER_TOKEN);
+        assertThat(bucket.available(START)).isEqualTo(2);
+    }
+}
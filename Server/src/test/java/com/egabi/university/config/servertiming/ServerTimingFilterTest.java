@@ -0,0 +1,79 @@
+package com.egabi.university.config.servertiming;
+
+import com.egabi.university.config.timing.RequestTimings;
+import com.egabi.university.config.timing.RequestTimings.Phase;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ServerTimingFilter}.
+ */
+public class ServerTimingFilterTest {
+    
+    private final ServerTimingFilter filter = new ServerTimingFilter();
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should add the header before the body commits the response, with the time of each phase")
+    void shouldAddHeader_beforeBodyCommitsResponse() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                RequestTimings timings = RequestTimings.current();
+                assertThat(timings).isNotNull();
+                timings.addAuthentication(TimeUnit.MICROSECONDS.toNanos(1_250));
+                timings.addStatement(TimeUnit.MICROSECONDS.toNanos(40));
+                timings.enter(Phase.MAPPING);
+                timings.exit(Phase.MAPPING, TimeUnit.MICROSECONDS.toNanos(61));
+                response.getOutputStream().write("{}".getBytes());
+                response.flushBuffer();
+            }
+        };
+        
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/courses"), response, new MockFilterChain(servlet));
+        
+        // Assert
+        String header = response.getHeader(ServerTimingHeader.NAME);
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(header).startsWith("auth;dur=1.250, validation;dur=0.000, repository;dur=0.000, db;dur=0.040, "
+                + "mapping;dur=0.061, json;dur=0.000, total;dur=");
+        assertThat(RequestTimings.current()).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should add the header when the chain returns for a response without a body")
+    void shouldAddHeader_whenResponseHasNoBody() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doDelete(HttpServletRequest request, HttpServletResponse response) {
+                response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+            }
+        });
+        
+        // Act
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/courses/CS101"), response, chain);
+        
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NO_CONTENT);
+        assertThat(response.getHeader(ServerTimingHeader.NAME)).startsWith("auth;dur=0.000,").contains("total;dur=");
+    }
+}
@@ -0,0 +1,75 @@
+package com.egabi.university.config.timing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+    
+    private static final long WINDOW = 1L << 36;
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should place every latency in a bucket whose range holds it, within the bucket precision")
+    void shouldBucketLatencies_withinPrecision() {
+        for (long value = 0; value < 1L << 36; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.indexOf(value);
+            long highest = LatencyHistogram.highestValueOf(index);
+            
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(highest - value).isLessThanOrEqualTo(value / LatencyHistogram.SUB_BUCKETS);
+            assertThat(index).isBetween(0, LatencyHistogram.BUCKETS - 1);
+            assertThat(LatencyHistogram.indexOf(highest)).isEqualTo(index);
+            assertThat(LatencyHistogram.middleValueOf(index)).isBetween(highest - value / 16.0 - 1, (double) highest);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should compute percentiles over the recorded latencies")
+    void shouldComputePercentiles_whenLatenciesAreRecorded() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram(WINDOW);
+        long now = WINDOW * 10;
+        
+        // Act
+        for (int i = 1; i <= 1_000; i++)
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i), now);
+        
+        // Assert
+        assertThat(histogram.count()).isEqualTo(1_000);
+        assertThat(histogram.totalNanos()).isCloseTo(500_500_000.0, within(500_500_000 * 0.02));
+        assertThat((double) histogram.percentile(0.99, now)).isCloseTo(990_000, within(990_000 / 16.0));
+        assertThat((double) histogram.percentile(1, now)).isCloseTo(1_000_000, within(1_000_000 / 16.0));
+    }
+    
+    @Test
+    @DisplayName("Should drop latencies older than the previous window from the percentiles")
+    void shouldDropOldWindows_whenTimeAdvances() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram(WINDOW);
+        long now = WINDOW * 10;
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(500), now);
+        
+        // Act
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1), now + WINDOW);
+        long previousWindow = histogram.percentile(1, now + WINDOW);
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1), now + 2 * WINDOW);
+        long expired = histogram.percentile(1, now + 2 * WINDOW);
+        
+        // Assert
+        assertThat(previousWindow).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(expired).isLessThan(TimeUnit.MILLISECONDS.toNanos(2));
+        assertThat(histogram.count()).as("Drained windows still count since startup").isEqualTo(3);
+        assertThat(histogram.totalNanos()).isCloseTo(502_000_000.0, within(502_000_000 / 16.0));
+    }
+}
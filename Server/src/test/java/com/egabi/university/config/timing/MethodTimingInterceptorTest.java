@@ -0,0 +1,122 @@
+package com.egabi.university.config.timing;
+
+import com.egabi.university.dto.LevelDTO;
+import com.egabi.university.entity.Level;
+import com.egabi.university.mapper.LevelMapper;
+import com.egabi.university.mapper.LevelMapperImpl;
+import com.egabi.university.util.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link MethodTimingInterceptor} and {@link MethodTimings}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class MethodTimingInterceptorTest {
+    
+    @Mock
+    private LevelMapper levelMapper;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
+    private MethodTimings methodTimings;
+    
+    private LevelMapper timedMapper;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        methodTimings = new MethodTimings(meterRegistry, new MethodTimingProperties());
+        ProxyFactory factory = new ProxyFactory(levelMapper);
+        factory.addAdvice(new MethodTimingInterceptor(() -> methodTimings));
+        timedMapper = (LevelMapper) factory.getProxy();
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should record the latency of a call under its outcome")
+    void shouldRecordLatency_byOutcome() {
+        // Arrange
+        Level level = TestDataFactory.buildLevel(TestDataFactory.buildFaculty());
+        when(levelMapper.toDTO(level)).thenReturn(TestDataFactory.buildLevelDTO());
+        when(levelMapper.toDTO((Level) null)).thenThrow(new IllegalArgumentException("null level"));
+        
+        // Act
+        for (int i = 0; i < 3; i++)
+            timedMapper.toDTO(level);
+        assertThatThrownBy(() -> timedMapper.toDTO((Level) null)).isInstanceOf(IllegalArgumentException.class);
+        
+        // Assert
+        assertThat(meterRegistry.get(MethodTimings.METRIC_NAME).tag("method", "toDTO").tag("outcome", "success")
+                .functionTimer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(MethodTimings.METRIC_NAME).tag("method", "toDTO").tag("outcome", "error")
+                .functionTimer().count()).isEqualTo(1);
+        assertThat(methodTimings.slowest(10)).hasSize(2)
+                .extracting(MethodTimings.MethodLatency::outcome).containsExactlyInAnyOrder("success", "error");
+    }
+    
+    @Test
+    @DisplayName("Should list at most the requested number of methods, slowest first")
+    void shouldListSlowestMethods_slowestFirst() {
+        // Arrange
+        long now = System.nanoTime();
+        LevelMapper target = new LevelMapperImpl();
+        methodTimings.timerFor(method("toDTO"), target).record(Duration.ofMillis(5).toNanos(), now, true);
+        methodTimings.timerFor(method("toEntity"), target).record(Duration.ofMillis(50).toNanos(), now, true);
+        methodTimings.timerFor(method("toDTOs"), target).record(Duration.ofMillis(1).toNanos(), now, true);
+        
+        // Act & Assert
+        assertThat(methodTimings.slowest(2)).extracting(MethodTimings.MethodLatency::method)
+                .containsExactly("LevelMapperImpl.toEntity", "LevelMapperImpl.toDTO");
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should not record anything while timing is switched off")
+    void shouldNotRecord_whenTimingIsDisabled() {
+        // Arrange
+        methodTimings.setEnabled(false);
+        
+        // Act
+        LevelDTO result = timedMapper.toDTO(TestDataFactory.buildLevel(TestDataFactory.buildFaculty()));
+        
+        // Assert
+        assertThat(result).isNull();
+        assertThat(meterRegistry.find(MethodTimings.METRIC_NAME).functionTimers()).isEmpty();
+        assertThat(methodTimings.slowest(10)).isEmpty();
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static Method method(String name) {
+        for (Method method : LevelMapper.class.getMethods())
+            if (method.getName().equals(name))
+                return method;
+        throw new IllegalArgumentException(name);
+    }
+}
@@ -0,0 +1,109 @@
+package com.egabi.university.config.timing;
+
+import com.egabi.university.config.timing.RequestTimings.Phase;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RequestPhaseInterceptor}.
+ */
+public class RequestPhaseInterceptorTest {
+    
+    private static final long SLEEP_NANOS = 2_000_000;
+    
+    private final RequestPhaseInterceptor mappingInterceptor = new RequestPhaseInterceptor(Phase.MAPPING);
+    
+    @AfterEach
+    void tearDown() {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null)
+            timings.stop();
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should count nested calls of a phase once, within the outermost call")
+    void shouldCountOutermostCallOnly_whenCallsAreNested() throws Throwable {
+        // Arrange
+        RequestTimings timings = RequestTimings.start(System.nanoTime());
+        MethodInvocation inner = invocation(() -> {
+            LockSupport.parkNanos(SLEEP_NANOS);
+            return "dto";
+        });
+        MethodInvocation outer = invocation(() -> mappingInterceptor.invoke(inner));
+        
+        // Act
+        long start = System.nanoTime();
+        Object result = mappingInterceptor.invoke(outer);
+        long elapsed = System.nanoTime() - start;
+        
+        // Assert
+        assertThat(result).isEqualTo("dto");
+        assertThat(timings.phaseNanos(Phase.MAPPING)).isBetween(SLEEP_NANOS, elapsed);
+        assertThat(timings.phaseNanos(Phase.VALIDATION)).isZero();
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should leave the phase when the call fails, so the next call is timed again")
+    void shouldLeavePhase_whenCallThrows() throws Throwable {
+        // Arrange
+        RequestTimings timings = RequestTimings.start(System.nanoTime());
+        MethodInvocation failing = invocation(() -> {
+            throw new IllegalStateException("mapping failed");
+        });
+        MethodInvocation slow = invocation(() -> {
+            LockSupport.parkNanos(SLEEP_NANOS);
+            return null;
+        });
+        
+        // Act
+        assertThatThrownBy(() -> mappingInterceptor.invoke(failing)).isInstanceOf(IllegalStateException.class);
+        long afterFailure = timings.phaseNanos(Phase.MAPPING);
+        mappingInterceptor.invoke(slow);
+        
+        // Assert
+        assertThat(timings.phaseNanos(Phase.MAPPING) - afterFailure).isGreaterThanOrEqualTo(SLEEP_NANOS);
+    }
+    
+    @Test
+    @DisplayName("Should pass calls through outside a request")
+    void shouldPassThrough_whenNoRequestIsTimed() throws Throwable {
+        // Act
+        Object result = mappingInterceptor.invoke(invocation(() -> "dto"));
+        
+        // Assert
+        assertThat(result).isEqualTo("dto");
+        assertThat(RequestTimings.current()).isNull();
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static MethodInvocation invocation(Body body) throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.proceed()).thenAnswer(answer -> body.call());
+        return invocation;
+    }
+    
+    @FunctionalInterface
+    private interface Body {
+        Object call() throws Throwable;
+    }
+}
@@ -0,0 +1,449 @@
+package com.egabi.university.repository;
+
+import com.egabi.university.entity.EntityCounter.Counter;
+import com.egabi.university.entity.Term.Status;
+import com.egabi.university.repository.queryplan.CapturedStatement;
+import com.egabi.university.repository.queryplan.QueryPlan;
+import com.egabi.university.repository.queryplan.QueryPlanCase;
+import com.egabi.university.repository.queryplan.StatementCapture;
+import com.egabi.university.repository.queryplan.StatementExplainer;
+import com.egabi.university.repository.queryplan.StatementExplainer.Relation;
+import com.egabi.university.util.synthetic.SyntheticUniversityLoader;
+import com.egabi.university.util.synthetic.SyntheticUniversityLoader.LoadResult;
+import com.egabi.university.util.synthetic.UniversityScale;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan regression checks of the repository methods, run on an embedded PostgreSQL loaded with a
+ * {@link UniversityScale#medium(long) medium} synthetic university.
+ * <p>
+ * Every case calls a repository method in a transaction which is rolled back, captures the statements it executes
+ * and explains them with {@code EXPLAIN (ANALYZE, BUFFERS)} in the same order. A case fails when
+ * </p>
+ * <ul>
+ *     <li>a statement scans a table of at least {@code query-plan.large-table-rows} rows (default 10000)
+ *     sequentially, unless the case reads that table entirely by design;</li>
+ *     <li>a statement takes longer than the budget of the case to execute, scaled by
+ *     {@code query-plan.latency-factor} (default 1) for slower machines;</li>
+ *     <li>the shape of the plans differs from the baseline kept in {@code src/test/resources/query-plans}.</li>
+ * </ul>
+ * <p>
+ * Run with {@code mvn test -Pquery-plans}. After an intended change, such as a new index, review the plans and update
+ * the baselines with {@code -Dquery-plan.update=true}. The full plans with their timings are written to
+ * {@code target/query-plans}.
+ * </p>
+ */
+@Tag("query-plan")
+@SpringBootTest
+@DirtiesContext
+public class RepositoryQueryPlanTest {
+    
+    private static final Path BASELINES = Path.of("src", "test", "resources", "query-plans");
+    private static final Path REPORTS = Path.of("target", "query-plans");
+    private static final long LARGE_TABLE_ROWS = Long.getLong("query-plan.large-table-rows", 10_000);
+    private static final double LATENCY_FACTOR = Double.parseDouble(System.getProperty("query-plan.latency-factor",
+            "1"));
+    private static final boolean UPDATE = Boolean.getBoolean("query-plan.update");
+    private static final Duration STATEMENT_TIMEOUT = Duration.ofSeconds(30);
+    private static final double PASSING_GRADE = 50.0;
+    private static final Duration FULL_SCAN_BUDGET = Duration.ofMillis(200);
+    
+    private static EmbeddedPostgres postgres;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private CourseRepository courseRepository;
+    
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+    
+    @Autowired
+    private EntityCounterRepository entityCounterRepository;
+    
+    @Autowired
+    private FacultyRepository facultyRepository;
+    
+    @Autowired
+    private InstructorRepository instructorRepository;
+    
+    @Autowired
+    private LevelRepository levelRepository;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private TermRepository termRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private final StatementCapture capture = new StatementCapture();
+    private StatementExplainer explainer;
+    private Map<String, Relation> relations;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    /**
+     * Starts the embedded PostgreSQL, with statistics sampling every row so plans do not depend on the sample, and
+     * the random page cost of an SSD rather than of a spinning disk.
+     */
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        if (postgres == null)
+            postgres = EmbeddedPostgres.builder()
+                    .setServerConfig("default_statistics_target", "10000")
+                    .setServerConfig("random_page_cost", "1.1")
+                    .start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("jwt.secret", () -> Base64.getEncoder().encodeToString(new byte[64]));
+    }
+    
+    /**
+     * Loads the university and hooks the capture into the data source proxy.
+     */
+    private void setUp() throws Exception {
+        assertThat(dataSource).as("data source wrapped by the slow query log").isInstanceOf(ProxyDataSource.class);
+        ProxyDataSource proxy = (ProxyDataSource) dataSource;
+        ((ChainListener) proxy.getProxyConfig().getQueryListener()).addListener(capture);
+        explainer = new StatementExplainer(proxy.getDataSource(), STATEMENT_TIMEOUT);
+        
+        LoadResult result = SyntheticUniversityLoader.load(proxy.getDataSource(),
+                UniversityScale.medium(UniversityScale.DEFAULT_SEED));
+        relations = explainer.relations();
+        System.out.printf("loaded %d rows in %d ms%n", result.totalRows(), result.duration().toMillis());
+    }
+    
+    // ================================================================
+    // Query Plan Checks
+    // ================================================================
+    
+    @TestFactory
+    @DisplayName("Should keep the query plans of the repository methods")
+    Stream<DynamicTest> shouldKeepQueryPlans_ofRepositoryMethods() throws Exception {
+        setUp();
+        return cases().stream().map(queryPlanCase -> DynamicTest.dynamicTest(queryPlanCase.name(),
+                () -> check(queryPlanCase)));
+    }
+    
+    /**
+     * Every repository query, with arguments chosen so each query reads as many rows as it can in the synthetic
+     * university: the largest faculty and department, the most popular course, the open term.
+     */
+    private List<QueryPlanCase> cases() {
+        long facultyId = id("select d.faculty_id from student s join department d on d.id = s.department_id "
+                + "group by d.faculty_id order by count(*) desc, d.faculty_id limit 1");
+        long departmentId = id("select department_id from student group by department_id "
+                + "order by count(*) desc, department_id limit 1");
+        long levelId = id("select id from level where faculty_id = ? order by id limit 1", facultyId);
+        // Departments and levels are checked for students before being deleted, when they usually have none
+        long emptyDepartmentId = id("select max(id) + 1 from department");
+        long emptyLevelId = id("select max(id) + 1 from level");
+        long termId = id("select id from term where status = 'OPEN'");
+        long frozenTermId = id("select max(id) from term where status = 'FROZEN'");
+        String courseCode = text("select course_code from enrollment where term_id = ? group by course_code "
+                + "order by count(*) desc, course_code limit 1", frozenTermId);
+        long studentId = id("select student_id from enrollment group by student_id "
+                + "order by count(*) desc, student_id limit 1");
+        String facultyName = text("select name from faculty where id = ?", facultyId);
+        String departmentName = text("select name from department where id = ?", departmentId);
+        String levelName = text("select name from level where id = ?", levelId);
+        String termCode = text("select code from term where id = ?", termId);
+        String email = text("select u.email from student s join _user u on u.id = s.user_id where s.id = ?",
+                studentId);
+        LocalDate today = LocalDate.now();
+        List<Long> studentIds = ids("select id from student where department_id = ? order by id limit 100",
+                departmentId);
+        List<Long> instructorIds = ids("select id from instructor where department_id = ? order by id",
+                departmentId);
+        List<Long> graduateIds = ids("select id from student where graduation_date is not null order by id "
+                + "limit 500");
+        
+        return List.of(
+                // Courses
+                QueryPlanCase.of("CourseRepository.findAll", () -> courseRepository.findAll()),
+                QueryPlanCase.of("CourseRepository.findAllByDepartmentId",
+                        () -> courseRepository.findAllByDepartmentId(departmentId)),
+                QueryPlanCase.of("CourseRepository.countAllByDepartmentId",
+                        () -> courseRepository.countAllByDepartmentId(departmentId)),
+                QueryPlanCase.of("CourseRepository.findAllCodes", () -> courseRepository.findAllCodes()),
+                QueryPlanCase.of("CourseRepository.findAllCodesAndCredits",
+                        () -> courseRepository.findAllCodesAndCredits()),
+                QueryPlanCase.of("CourseRepository.findAllPrerequisiteEdges",
+                        () -> courseRepository.findAllPrerequisiteEdges()),
+                QueryPlanCase.of("CourseRepository.findTreeRows", () -> courseRepository.findTreeRows(facultyId)),
+                QueryPlanCase.of("CourseRepository.findTreeRows.allFaculties",
+                        () -> courseRepository.findTreeRows(null)),
+                QueryPlanCase.of("CourseRepository.findInstructorAssignmentRows",
+                        () -> courseRepository.findInstructorAssignmentRows(facultyId)),
+                QueryPlanCase.of("CourseRepository.existsByDepartmentId",
+                        () -> courseRepository.existsByDepartmentId(departmentId)),
+                QueryPlanCase.of("CourseRepository.existsByLevelId", () -> courseRepository.existsByLevelId(levelId)),
+                
+                // Departments, faculties and levels
+                QueryPlanCase.of("DepartmentRepository.existsByNameIgnoreCase",
+                        () -> departmentRepository.existsByNameIgnoreCase(departmentName)),
+                QueryPlanCase.of("DepartmentRepository.findAllByFacultyId",
+                        () -> departmentRepository.findAllByFacultyId(facultyId)),
+                QueryPlanCase.of("DepartmentRepository.countByFacultyId",
+                        () -> departmentRepository.countByFacultyId(facultyId)),
+                QueryPlanCase.of("DepartmentRepository.findTreeRows",
+                        () -> departmentRepository.findTreeRows(facultyId)),
+                QueryPlanCase.of("FacultyRepository.existsByNameIgnoreCase",
+                        () -> facultyRepository.existsByNameIgnoreCase(facultyName)),
+                QueryPlanCase.of("FacultyRepository.findTreeRows", () -> facultyRepository.findTreeRows(null)),
+                QueryPlanCase.of("LevelRepository.existsByNameAndFacultyId",
+                        () -> levelRepository.existsByNameAndFacultyId(levelName, facultyId)),
+                QueryPlanCase.of("LevelRepository.findTreeRows", () -> levelRepository.findTreeRows(facultyId)),
+                
+                // Enrollments
+                QueryPlanCase.of("EnrollmentRepository.findAllByTermId",
+                                () -> enrollmentRepository.findAllByTermId(termId))
+                        .scanning("enrollment")
+                        .within(FULL_SCAN_BUDGET),
+                QueryPlanCase.of("EnrollmentRepository.findAllByTermIdAndStudentId",
+                        () -> enrollmentRepository.findAllByTermIdAndStudentId(termId, studentId)),
+                QueryPlanCase.of("EnrollmentRepository.findAllByTermIdAndCourseCode",
+                        () -> enrollmentRepository.findAllByTermIdAndCourseCode(frozenTermId, courseCode)),
+                QueryPlanCase.of("EnrollmentRepository.findPassedCourseCodesByStudentId",
+                        () -> enrollmentRepository.findPassedCourseCodesByStudentId(studentId, PASSING_GRADE)),
+                QueryPlanCase.of("EnrollmentRepository.findPassedCourseCodesByFacultyId",
+                                () -> enrollmentRepository.findPassedCourseCodesByFacultyId(facultyId, PASSING_GRADE))
+                        .scanning("enrollment")
+                        .within(Duration.ofSeconds(1)),
+                QueryPlanCase.of("EnrollmentRepository.existsByStudentId",
+                        () -> enrollmentRepository.existsByStudentId(studentId)),
+                QueryPlanCase.of("EnrollmentRepository.findAllIdsByStudentIds",
+                        () -> enrollmentRepository.findAllIdsByStudentIds(graduateIds)),
+                QueryPlanCase.of("EnrollmentRepository.deleteAllByStudentIds",
+                                () -> enrollmentRepository.deleteAllByStudentIds(graduateIds))
+                        .within(FULL_SCAN_BUDGET),
+                
+                // Students and instructors
+                QueryPlanCase.of("StudentRepository.findAllByFacultyId",
+                        () -> studentRepository.findAllByFacultyId(facultyId)),
+                QueryPlanCase.of("StudentRepository.countByFacultyId",
+                        () -> studentRepository.countByFacultyId(facultyId)),
+                QueryPlanCase.of("StudentRepository.findAuditRowsByFacultyId",
+                        () -> studentRepository.findAuditRowsByFacultyId(facultyId)),
+                QueryPlanCase.of("StudentRepository.findAllByIdIn", () -> studentRepository.findAllByIdIn(studentIds)),
+                QueryPlanCase.of("StudentRepository.countAllGroupedByFacultyId",
+                                () -> studentRepository.countAllGroupedByFacultyId())
+                        .scanning("student")
+                        .within(FULL_SCAN_BUDGET),
+                QueryPlanCase.of("StudentRepository.countAllGroupedByDepartmentId",
+                                () -> studentRepository.countAllGroupedByDepartmentId())
+                        .scanning("student")
+                        .within(FULL_SCAN_BUDGET),
+                QueryPlanCase.of("StudentRepository.countAllByIdInGroupedByDepartmentId",
+                        () -> studentRepository.countAllByIdInGroupedByDepartmentId(studentIds)),
+                QueryPlanCase.of("StudentRepository.existsByDepartmentId",
+                        () -> studentRepository.existsByDepartmentId(emptyDepartmentId)),
+                QueryPlanCase.of("StudentRepository.existsByLevelId", () -> studentRepository.existsByLevelId(emptyLevelId)),
+                QueryPlanCase.of("StudentRepository.lockGraduatedBefore",
+                        () -> studentRepository.lockGraduatedBefore(today, 500)),
+                QueryPlanCase.of("StudentRepository.deleteAllByIds", () -> {
+                    enrollmentRepository.deleteAllByStudentIds(graduateIds);
+                    studentRepository.deleteAllByIds(graduateIds);
+                }).within(FULL_SCAN_BUDGET),
+                QueryPlanCase.of("InstructorRepository.findAllByIdIn",
+                        () -> instructorRepository.findAllByIdIn(instructorIds)),
+                
+                // Terms
+                QueryPlanCase.of("TermRepository.findAllByOrderByStartDateDesc",
+                        () -> termRepository.findAllByOrderByStartDateDesc()),
+                QueryPlanCase.of("TermRepository.findFirstByStatusAndStartDateLessThanEqualOrderByStartDateDesc",
+                        () -> termRepository.findFirstByStatusAndStartDateLessThanEqualOrderByStartDateDesc(
+                                Status.OPEN, today)),
+                QueryPlanCase.of("TermRepository.existsByCodeIgnoreCase",
+                        () -> termRepository.existsByCodeIgnoreCase(termCode)),
+                
+                // Users
+                QueryPlanCase.of("UserRepository.findByEmail", () -> userRepository.findByEmail(email)),
+                // Emails are compared ignoring case and a lower(email) index cannot be declared on the entity
+                QueryPlanCase.of("UserRepository.existsByEmailIgnoreCase",
+                                () -> userRepository.existsByEmailIgnoreCase(email))
+                        .scanning("_user"),
+                QueryPlanCase.of("UserRepository.disableAllByStudentIds",
+                        () -> userRepository.disableAllByStudentIds(graduateIds, Instant.now())),
+                QueryPlanCase.of("UserRepository.findSecurityStampsChangedSince",
+                        () -> userRepository.findSecurityStampsChangedSince(Instant.now().minusSeconds(5))),
+                
+                // Counters
+                QueryPlanCase.of("EntityCounterRepository.increment",
+                        () -> entityCounterRepository.increment(Counter.DEPARTMENT_STUDENTS.name(), departmentId, 1,
+                                1)),
+                QueryPlanCase.of("EntityCounterRepository.sumByOwner",
+                        () -> entityCounterRepository.sumByOwner(Counter.DEPARTMENT_STUDENTS, departmentId)),
+                QueryPlanCase.of("EntityCounterRepository.sumAllGroupedByOwner",
+                        () -> entityCounterRepository.sumAllGroupedByOwner(Counter.DEPARTMENT_STUDENTS)),
+                QueryPlanCase.of("EntityCounterRepository.deleteAllByOwner",
+                        () -> entityCounterRepository.deleteAllByOwner(Counter.DEPARTMENT_STUDENTS, departmentId))
+        );
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private void check(QueryPlanCase queryPlanCase) throws Exception {
+        // Act
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        long start = System.nanoTime();
+        List<CapturedStatement> statements = capture(queryPlanCase);
+        Duration callDuration = Duration.ofNanos(System.nanoTime() - start);
+        List<QueryPlan> plans = explainer.explain(statements);
+        String shape = shape(statements, plans);
+        report(queryPlanCase, statements, plans, shape, callDuration);
+        
+        Path baseline = BASELINES.resolve(queryPlanCase.name() + ".plan");
+        if (UPDATE) {
+            Files.createDirectories(BASELINES);
+            Files.writeString(baseline, shape);
+        }
+        
+        // Assert
+        assertThat(statements).as("statements of %s", queryPlanCase).isNotEmpty();
+        double budgetMillis = queryPlanCase.budget().toMillis() * LATENCY_FACTOR;
+        for (int i = 0; i < statements.size(); i++) {
+            QueryPlan plan = plans.get(i);
+            if (plan == null)
+                continue;
+            for (String relation : plan.seqScans()) {
+                Relation scanned = relations.getOrDefault(relation, new Relation(relation, 0));
+                assertThat(scanned.rows() < LARGE_TABLE_ROWS
+                        || queryPlanCase.scannedTables().contains(scanned.table()))
+                        .as("%s scans %s (%d rows) sequentially in%n%s", queryPlanCase, relation, scanned.rows(),
+                                statements.get(i).sql())
+                        .isTrue();
+            }
+            assertThat(plan.executionMillis())
+                    .as("execution time of%n%s", statements.get(i).sql())
+                    .isLessThanOrEqualTo(budgetMillis);
+        }
+        assertThat(baseline).as("baseline of %s, run with -Dquery-plan.update=true", queryPlanCase).exists();
+        assertThat(shape).as("plans of %s, compared with %s", queryPlanCase, baseline)
+                .isEqualTo(Files.readString(baseline));
+    }
+    
+    
+    /**
+     * Runs the call of a case in a transaction which is rolled back, and returns the statements it executed.
+     */
+    private List<CapturedStatement> capture(QueryPlanCase queryPlanCase) {
+        List<CapturedStatement> statements;
+        capture.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    queryPlanCase.call().run();
+                } catch (Exception e) {
+                    throw new IllegalStateException(queryPlanCase + " failed", e);
+                }
+            });
+        } finally {
+            statements = capture.stop();
+        }
+        return statements;
+    }
+    
+    /**
+     * Describes the plans of a case as kept in its baseline: every statement followed by the shape of its plan.
+     */
+    private static String shape(List<CapturedStatement> statements, List<QueryPlan> plans) {
+        StringBuilder shape = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            if (i > 0)
+                shape.append('\n');
+            shape.append("-- ").append(statements.get(i).sql().strip().replaceAll("\\s+", " ")).append('\n');
+            shape.append(plans.get(i) == null ? "(not explainable)\n" : plans.get(i).shape());
+        }
+        return shape.toString();
+    }
+    
+    /**
+     * Writes the full plans of a case to the report directory and prints a summary line.
+     */
+    private static void report(QueryPlanCase queryPlanCase, List<CapturedStatement> statements, List<QueryPlan> plans,
+                               String shape, Duration callDuration) throws IOException {
+        StringBuilder report = new StringBuilder(shape).append('\n');
+        double slowest = 0;
+        int executions = 0;
+        for (int i = 0; i < statements.size(); i++) {
+            QueryPlan plan = plans.get(i);
+            executions += statements.get(i).executions();
+            report.append("-- ").append(statements.get(i).sql()).append('\n')
+                    .append("-- executed ").append(statements.get(i).executions()).append(" time(s) by the call")
+                    .append('\n');
+            if (plan != null) {
+                slowest = Math.max(slowest, plan.executionMillis());
+                report.append(plan.json()).append('\n');
+            }
+        }
+        Files.createDirectories(REPORTS);
+        Files.writeString(REPORTS.resolve(queryPlanCase.name() + ".txt"), report);
+        System.out.printf("%-85s %3d statement(s) %6d execution(s) %9.3f ms slowest %8d ms call%n",
+                queryPlanCase, statements.size(), executions, slowest, callDuration.toMillis());
+    }
+    
+    private long id(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+    
+    private String text(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, String.class, args);
+    }
+    
+    private List<Long> ids(String sql, Object... args) {
+        return new ArrayList<>(jdbcTemplate.queryForList(sql, Long.class, args));
+    }
+}
@@ -0,0 +1,45 @@
+package com.egabi.university.repository.queryplan;
+
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Statement executed by a repository method, with the parameters of its first execution.
+ *
+ * @param sql        the SQL sent to the database
+ * @param parameters the parameter setter calls of the first execution, in order
+ * @param executions the number of times the statement was executed
+ */
+public record CapturedStatement(String sql, List<ParameterSetOperation> parameters, int executions) {
+    
+    /**
+     * Returns this statement counted once more.
+     */
+    public CapturedStatement executedAgain() {
+        return new CapturedStatement(sql, parameters, executions + 1);
+    }
+    
+    /**
+     * Binds the captured parameters to another statement, e.g. the {@code EXPLAIN} of this one.
+     *
+     * @param statement the statement with the same parameter markers
+     * @throws SQLException if a parameter cannot be set
+     */
+    public void bind(PreparedStatement statement) throws SQLException {
+        for (ParameterSetOperation parameter : parameters) {
+            try {
+                parameter.getMethod().invoke(statement, parameter.getArgs());
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException cause)
+                    throw cause;
+                throw new SQLException("Could not bind " + parameter.getMethod().getName(), e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new SQLException("Could not bind " + parameter.getMethod().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.egabi.university.repository.queryplan;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plan of a statement, parsed from the output of {@code EXPLAIN (ANALYZE, FORMAT JSON)}.
+ * <p>
+ * The {@link #shape()} of a plan keeps the nodes, the relations and the indexes, but none of the estimates or
+ * timings, so it only changes when PostgreSQL picks another plan. It is the form in which plans are kept as baselines.
+ * </p>
+ *
+ * @param json            the output of {@code EXPLAIN}
+ * @param planningMillis  the time taken to plan the statement
+ * @param executionMillis the time taken to execute the statement, triggers included
+ * @param shape           the nodes of the plan, one per line and indented by depth
+ * @param seqScans        the relations read by a sequential scan
+ */
+public record QueryPlan(String json, double planningMillis, double executionMillis, String shape,
+                        List<String> seqScans) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Parses the output of {@code EXPLAIN (ANALYZE, FORMAT JSON)}.
+     *
+     * @param json the output
+     * @return the plan
+     * @throws IllegalArgumentException if the output is not a JSON plan
+     */
+    public static QueryPlan parse(String json) {
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(json).path(0);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Not a JSON plan", e);
+        }
+        if (!root.has("Plan"))
+            throw new IllegalArgumentException("Not a JSON plan");
+
+        StringBuilder shape = new StringBuilder();
+        List<String> seqScans = new ArrayList<>();
+        visit(root.get("Plan"), 0, shape, seqScans);
+        return new QueryPlan(json, root.path("Planning Time").asDouble(), root.path("Execution Time").asDouble(),
+                shape.toString(), List.copyOf(seqScans));
+    }
+
+    // ================================================================
+    // Helper methods
+    // ================================================================
+
+    private static void visit(JsonNode node, int depth, StringBuilder shape, List<String> seqScans) {
+        String relation = node.path("Relation Name").asText(null);
+        if (node.path("Node Type").asText().equals("Seq Scan"))
+            seqScans.add(relation);
+
+        shape.append("  ".repeat(depth));
+        String relationship = node.path("Parent Relationship").asText();
+        if (relationship.equals("InitPlan") || relationship.equals("SubPlan"))
+            shape.append(relationship).append(": ");
+        shape.append(name(node));
+        if (node.has("Index Name"))
+            shape.append(" using ").append(node.get("Index Name").asText());
+        if (relation != null)
+            shape.append(" on ").append(relation);
+        shape.append('\n');
+
+        for (JsonNode child : node.path("Plans"))
+            visit(child, depth + 1, shape, seqScans);
+    }
+
+    /**
+     * Names a node the way the text format of {@code EXPLAIN} does, e.g. "Hash Left Join", "HashAggregate" or
+     * "Delete".
+     */
+    private static String name(JsonNode node) {
+        String type = node.path("Node Type").asText();
+        if (type.equals("ModifyTable"))
+            return node.path("Operation").asText(type);
+        String joinType = node.path("Join Type").asText("Inner");
+        if (!joinType.equals("Inner"))
+            return type.replaceFirst(" Join$", "") + " " + joinType + " Join";
+        if (type.equals("Aggregate") || type.equals("SetOp"))
+            return switch (node.path("Strategy").asText()) {
+                case "Hashed" -> "Hash" + type;
+                case "Sorted" -> type.equals("Aggregate") ? "GroupAggregate" : type;
+                case "Mixed" -> "Mixed" + type;
+                default -> type;
+            };
+        return type;
+    }
+}
@@ -0,0 +1,59 @@
+package com.egabi.university.repository.queryplan;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Repository call whose statements are explained and compared with a baseline.
+ *
+ * @param name          the name of the case and of its baseline, e.g. {@code StudentRepository.countByFacultyId}
+ * @param scannedTables the large tables the call reads entirely by design, and which may be scanned sequentially
+ * @param budget        the longest time any statement of the call may take to execute
+ * @param call          the repository call
+ */
+public record QueryPlanCase(String name, Set<String> scannedTables, Duration budget, Call call) {
+    
+    /**
+     * Default budget of a statement.
+     */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(50);
+    
+    /**
+     * Creates a case expected to read its rows through indexes within the default budget.
+     *
+     * @param name the name of the case
+     * @param call the repository call
+     * @return the case
+     */
+    public static QueryPlanCase of(String name, Call call) {
+        return new QueryPlanCase(name, Set.of(), DEFAULT_BUDGET, call);
+    }
+    
+    /**
+     * Returns this case allowed to scan the given tables, or their partitions, sequentially.
+     */
+    public QueryPlanCase scanning(String... tables) {
+        return new QueryPlanCase(name, Set.of(tables), budget, call);
+    }
+    
+    /**
+     * Returns this case with another budget.
+     */
+    public QueryPlanCase within(Duration budget) {
+        return new QueryPlanCase(name, scannedTables, budget, call);
+    }
+    
+    @Override
+    public String toString() {
+        return name;
+    }
+    
+    /**
+     * Repository call of a case.
+     */
+    @FunctionalInterface
+    public interface Call {
+        
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,103 @@
+package com.egabi.university.repository.queryplan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link QueryPlan}.
+ */
+public class QueryPlanTest {
+    
+    private static final String PLAN = """
+            [
+              {
+                "Plan": {
+                  "Node Type": "Aggregate",
+                  "Strategy": "Hashed",
+                  "Total Cost": 1234.5,
+                  "Actual Rows": 6,
+                  "Plans": [
+                    {
+                      "Node Type": "Hash Join",
+                      "Parent Relationship": "Outer",
+                      "Join Type": "Left",
+                      "Plans": [
+                        {
+                          "Node Type": "Seq Scan",
+                          "Parent Relationship": "Outer",
+                          "Relation Name": "student",
+                          "Alias": "s1_0"
+                        },
+                        {
+                          "Node Type": "Hash",
+                          "Parent Relationship": "Inner",
+                          "Plans": [
+                            {
+                              "Node Type": "Index Scan",
+                              "Parent Relationship": "Outer",
+                              "Index Name": "department_pkey",
+                              "Relation Name": "department",
+                              "Alias": "d1_0"
+                            }
+                          ]
+                        }
+                      ]
+                    }
+                  ]
+                },
+                "Planning Time": 0.25,
+                "Triggers": [],
+                "Execution Time": 12.5
+              }
+            ]
+            """;
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should describe the nodes, relations and indexes of a plan without its estimates")
+    void shouldDescribeShape_withoutEstimates() {
+        // Act
+        QueryPlan plan = QueryPlan.parse(PLAN);
+        
+        // Assert
+        assertThat(plan.shape()).isEqualTo("""
+                HashAggregate
+                  Hash Left Join
+                    Seq Scan on student
+                    Hash
+                      Index Scan using department_pkey on department
+                """);
+        assertThat(plan.planningMillis()).isEqualTo(0.25);
+        assertThat(plan.executionMillis()).isEqualTo(12.5);
+    }
+    
+    @Test
+    @DisplayName("Should list the relations read by sequential scans")
+    void shouldListSeqScans() {
+        // Act
+        QueryPlan plan = QueryPlan.parse(PLAN);
+        
+        // Assert
+        assertThat(plan.seqScans()).containsExactly("student");
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the output is not a JSON plan")
+    void shouldThrowIllegalArgumentException_whenOutputIsNotJsonPlan() {
+        // Act & Assert
+        assertThatThrownBy(() -> QueryPlan.parse("Seq Scan on student  (cost=0.00..10.00 rows=1 width=8)"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QueryPlan.parse("[{}]"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
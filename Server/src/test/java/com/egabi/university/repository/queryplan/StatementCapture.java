@@ -0,0 +1,59 @@
+package com.egabi.university.repository.queryplan;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query listener recording the statements the current thread executes between {@link #start()} and {@link #stop()}.
+ * <p>
+ * Statements of other threads, such as scheduled jobs, are ignored. Executions of the same SQL are merged into one
+ * {@link CapturedStatement} keeping the parameters of the first execution, so a lazy load repeated for every row is
+ * explained once.
+ * </p>
+ */
+public class StatementCapture implements QueryExecutionListener {
+    
+    private final ThreadLocal<Map<String, CapturedStatement>> statements = new ThreadLocal<>();
+    
+    /**
+     * Starts recording the statements of the current thread.
+     */
+    public void start() {
+        statements.set(new LinkedHashMap<>());
+    }
+    
+    /**
+     * Stops recording the statements of the current thread.
+     *
+     * @return the distinct statements executed since {@link #start()}, in order of first execution
+     */
+    public List<CapturedStatement> stop() {
+        Map<String, CapturedStatement> captured = statements.get();
+        statements.remove();
+        return captured == null ? List.of() : List.copyOf(captured.values());
+    }
+    
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+    
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Map<String, CapturedStatement> captured = statements.get();
+        if (captured == null)
+            return;
+        for (QueryInfo query : queryInfoList) {
+            List<List<ParameterSetOperation>> parameters = query.getParametersList();
+            CapturedStatement statement = new CapturedStatement(query.getQuery(),
+                    parameters.isEmpty() ? List.of() : new ArrayList<>(parameters.get(0)), 1);
+            captured.merge(query.getQuery(), statement, (first, again) -> first.executedAgain());
+        }
+    }
+}
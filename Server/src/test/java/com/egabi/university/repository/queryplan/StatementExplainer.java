@@ -0,0 +1,116 @@
+package com.egabi.university.repository.queryplan;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)} on captured statements.
+ * <p>
+ * The statements of a repository call are explained in order in a single transaction which is rolled back, so a
+ * statement sees the changes of the previous ones, as in the call, and nothing is left in the database. Utility
+ * statements such as {@code LOCK TABLE} cannot be explained and are skipped.
+ * </p>
+ */
+public class StatementExplainer {
+    
+    private final DataSource dataSource;
+    private final Duration timeout;
+    
+    /**
+     * @param dataSource the data source, not wrapped by the capturing proxy
+     * @param timeout    the longest time a statement may run
+     */
+    public StatementExplainer(DataSource dataSource, Duration timeout) {
+        this.dataSource = dataSource;
+        this.timeout = timeout;
+    }
+    
+    /**
+     * Explains statements in one transaction.
+     *
+     * @param statements the statements to explain
+     * @return the plan of each statement, null for the statements which cannot be explained
+     * @throws SQLException if a statement fails
+     */
+    public List<QueryPlan> explain(List<CapturedStatement> statements) throws SQLException {
+        List<QueryPlan> plans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("set local statement_timeout = " + timeout.toMillis());
+                }
+                for (CapturedStatement captured : statements)
+                    plans.add(isExplainable(captured.sql()) ? explain(connection, captured) : null);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        return plans;
+    }
+    
+    /**
+     * Returns the table of every relation of the public schema, the partitioned table for a partition, and its
+     * estimated number of rows as of the last {@code ANALYZE}.
+     *
+     * @return the table and rows by relation name
+     * @throws SQLException if the catalog cannot be read
+     */
+    public Map<String, Relation> relations() throws SQLException {
+        Map<String, Relation> relations = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select c.relname, coalesce(p.relname, c.relname), "
+                     + "greatest(c.reltuples, 0)::bigint from pg_class c "
+                     + "left join pg_inherits i on i.inhrelid = c.oid "
+                     + "left join pg_class p on p.oid = i.inhparent "
+                     + "where c.relkind in ('r', 'p') and c.relnamespace = 'public'::regnamespace")) {
+            while (resultSet.next())
+                relations.put(resultSet.getString(1), new Relation(resultSet.getString(2), resultSet.getLong(3)));
+        }
+        return relations;
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static QueryPlan explain(Connection connection, CapturedStatement captured) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "explain (analyze, buffers, format json) " + captured.sql())) {
+            captured.bind(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return QueryPlan.parse(resultSet.getString(1));
+            }
+        }
+    }
+    
+    private static boolean isExplainable(String sql) {
+        String keyword = sql.stripLeading().split("\\s", 2)[0].toLowerCase();
+        return switch (keyword) {
+            case "select", "with", "insert", "update", "delete", "merge", "values" -> true;
+            default -> false;
+        };
+    }
+    
+    /**
+     * Relation of the database.
+     *
+     * @param table the table of the relation, itself unless it is a partition
+     * @param rows  the estimated number of rows
+     */
+    public record Relation(String table, long rows) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.DepartmentDTO;
+import com.egabi.university.dto.FacultyDTO;
+import com.egabi.university.dto.LevelDTO;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.service.academic.impl.CatalogSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CatalogSnapshot}.
+ * <p>
+ * The catalog used by these tests has two faculties; the first one has a level, two departments and three courses.
+ * </p>
+ */
+public class CatalogSnapshotTest {
+    
+    private CatalogSnapshot catalog;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        catalog = CatalogSnapshot.build(
+                List.of(new FacultyDTO(2L, "Science"), new FacultyDTO(1L, "Engineering")),
+                List.of(new LevelDTO(1L, "First", 1L)),
+                List.of(new DepartmentDTO(2L, "Electrical", 1L), new DepartmentDTO(1L, "Computer", 1L)),
+                List.of(new CourseDTO("CS201", "Data Structures", 4, 1L, 1L),
+                        new CourseDTO("CS101", "Programming", 3, 1L, 1L),
+                        new CourseDTO("EE101", "Circuits", 3, 2L, null)));
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should list every entity sorted by ID or code")
+    void shouldSortEntities_whenSnapshotIsBuilt() {
+        assertThat(catalog.getFaculties()).extracting(FacultyDTO::getId).containsExactly(1L, 2L);
+        assertThat(catalog.getDepartments()).extracting(DepartmentDTO::getId).containsExactly(1L, 2L);
+        assertThat(catalog.getCourses()).extracting(CourseDTO::getCode).containsExactly("CS101", "CS201", "EE101");
+    }
+    
+    @Test
+    @DisplayName("Should index entities by faculty, department and level")
+    void shouldGroupEntities_whenSnapshotIsBuilt() {
+        assertThat(catalog.getDepartmentsByFaculty(1L)).extracting(DepartmentDTO::getName)
+                .containsExactly("Computer", "Electrical");
+        assertThat(catalog.getDepartmentsByFaculty(2L)).isEmpty();
+        assertThat(catalog.getLevelsByFaculty(1L)).extracting(LevelDTO::getId).containsExactly(1L);
+        assertThat(catalog.getCoursesByDepartment(1L)).extracting(CourseDTO::getCode).containsExactly("CS101", "CS201");
+        assertThat(catalog.getCoursesByLevel(1L)).extracting(CourseDTO::getCode).containsExactly("CS101", "CS201");
+        assertThat(catalog.getCourse("EE101").getLevelId()).isNull();
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should throw NotFoundException when an entity is missing")
+    void shouldThrowNotFound_whenEntityIsMissing() {
+        assertThatThrownBy(() -> catalog.getDepartment(99L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Department with id 99 not found");
+        assertThat(catalog.findCourse("MA101")).isNull();
+        assertThatThrownBy(() -> catalog.getCourses().add(new CourseDTO()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
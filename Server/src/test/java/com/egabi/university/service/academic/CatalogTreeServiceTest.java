@@ -0,0 +1,112 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.dto.CourseDTO;
+import com.egabi.university.dto.DepartmentDTO;
+import com.egabi.university.dto.DepartmentTreeDTO;
+import com.egabi.university.dto.FacultyDTO;
+import com.egabi.university.dto.FacultyTreeDTO;
+import com.egabi.university.dto.LevelDTO;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.service.academic.impl.CatalogSnapshot;
+import com.egabi.university.service.academic.impl.CatalogSnapshotHolder;
+import com.egabi.university.service.academic.impl.CatalogTreeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CatalogTreeServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CatalogTreeServiceTest {
+    
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    
+    private CatalogTreeServiceImpl catalogTreeService;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        catalogTreeService = new CatalogTreeServiceImpl(catalogSnapshotHolder);
+    }
+    
+    private CatalogSnapshot buildCatalog() {
+        return CatalogSnapshot.build(
+                List.of(new FacultyDTO(2L, "Science"), new FacultyDTO(1L, "Engineering")),
+                List.of(new LevelDTO(10L, "First", 1L)),
+                List.of(new DepartmentDTO(100L, "Computer", 1L)),
+                List.of(new CourseDTO("CS201", "Data Structures", 4, 100L, null),
+                        new CourseDTO("CS101", "Programming", 3, 100L, 10L)),
+                List.of(new Object[]{"CS101", 8L}, new Object[]{"CS101", 7L}));
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should assemble the catalog tree from the catalog snapshot")
+    void shouldAssembleTree_whenCatalogIsLoaded() {
+        // Arrange
+        when(catalogSnapshotHolder.current()).thenReturn(buildCatalog());
+        
+        // Act
+        List<FacultyTreeDTO> tree = catalogTreeService.getCatalogTree();
+        
+        // Assert
+        assertThat(tree).extracting("name").containsExactly("Engineering", "Science");
+        FacultyTreeDTO faculty = tree.get(0);
+        assertThat(faculty.getLevels()).extracting("id").containsExactly(10L);
+        DepartmentTreeDTO department = faculty.getDepartments().get(0);
+        assertThat(department.getCourses()).extracting("code").containsExactly("CS101", "CS201");
+        assertThat(department.getCourses().get(0).getInstructorIds()).containsExactly(7L, 8L);
+        assertThat(department.getCourses().get(1).getInstructorIds()).isEmpty();
+        assertThat(tree.get(1).getDepartments()).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Should serve the same tree until the catalog snapshot is replaced")
+    void shouldRebuildTree_whenSnapshotIsReplaced() {
+        // Arrange
+        when(catalogSnapshotHolder.current()).thenReturn(buildCatalog());
+        
+        // Act
+        List<FacultyTreeDTO> first = catalogTreeService.getCatalogTree();
+        FacultyTreeDTO faculty = catalogTreeService.getFacultyTree(1L);
+        when(catalogSnapshotHolder.current()).thenReturn(buildCatalog());
+        List<FacultyTreeDTO> rebuilt = catalogTreeService.getCatalogTree();
+        
+        // Assert
+        assertThat(faculty).isSameAs(first.get(0));
+        assertThat(rebuilt).isNotSameAs(first).isEqualTo(first);
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should throw NotFoundException when the faculty does not exist")
+    void shouldThrowNotFound_whenFacultyDoesNotExist() {
+        // Arrange
+        when(catalogSnapshotHolder.current()).thenReturn(buildCatalog());
+        
+        // Act & Assert
+        assertThatThrownBy(() -> catalogTreeService.getFacultyTree(99L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Faculty with id 99 not found");
+    }
+}
@@ -9,7 +9,10 @@ import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.CourseMapper;
 import com.egabi.university.repository.CourseRepository;
+import com.egabi.university.service.academic.impl.CatalogSnapshot;
+import com.egabi.university.service.academic.impl.CatalogSnapshotHolder;
 import com.egabi.university.service.academic.impl.CourseServiceImpl;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import com.egabi.university.util.TestAssertionUtils;
 import com.egabi.university.util.TestDataFactory;
@@ -22,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -61,12 +65,25 @@ public class CourseServiceTest {
     @Mock
     private ValidationService validationService;
     
+    @Mock
+    private PrerequisiteService prerequisiteService;
+    
+    @Mock
+    private OutboxService outboxService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    
     private CourseServiceImpl courseService;
     
     private Course course;
     private CourseDTO courseDTO;
     private Department department;
     private Level level;
+    private CatalogSnapshot catalog;
     
     // ================================================================
     // Setup : Arrange common test fixtures
@@ -81,7 +98,8 @@ public class CourseServiceTest {
         TestAssertionUtils.setValidationService(validationService);
         
         // Create the service under test with mocked dependencies
-        courseService = new CourseServiceImpl(courseRepository, courseMapper, validationService);
+        courseService = new CourseServiceImpl(courseRepository, courseMapper, validationService, catalogSnapshotHolder, prerequisiteService,
+                outboxService, eventPublisher);
         
         // Prepare test data
         Faculty faculty = TestDataFactory.buildFaculty();
@@ -89,6 +107,8 @@ public class CourseServiceTest {
         level = TestDataFactory.buildLevel(faculty);
         course = TestDataFactory.buildCourse(department, level);
         courseDTO = TestDataFactory.buildCourseDTO();
+        // Prepare a catalog snapshot holding the test data
+        catalog = TestDataFactory.buildCatalogSnapshot(List.of(department.getFaculty()), List.of(level), List.of(department), List.of(course));
     }
     
     // ================================================================
@@ -102,9 +122,8 @@ public class CourseServiceTest {
      * <p>
      * <b>Scenario:</b> When courses exist in the database, the service should:
      * <ul>
-     *   <li>Fetch all course entities via {@link CourseRepository#findAll()}</li>
-     *   <li>Map the entities to {@link CourseDTO} instances correctly</li>
-     *   <li>Return a list containing all mapped DTOs</li>
+     *   <li>Read all courses from the {@link CatalogSnapshot}</li>
+     *   <li>Return the list of DTOs</li>
      * </ul>
      * </p>
      * <p>
@@ -121,7 +140,7 @@ public class CourseServiceTest {
     @DisplayName("Should return all courses when courses exist")
     void shouldReturnAllCourses_whenCoursesExist() {
         // Arrange: Prepare mocks and inputs
-        when(courseRepository.findAll()).thenReturn(List.of(course));
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         List<CourseDTO> result = courseService.getAllCourses();
@@ -137,8 +156,8 @@ public class CourseServiceTest {
                 .containsExactly(course.getCode(), course.getName(), course.getCredits(),
                         department.getId(), level.getId());
         
-        verify(courseRepository).findAll();
-        verifyNoMoreInteractions(validationService, courseRepository);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, courseRepository);
     }
     
     /**
@@ -146,9 +165,8 @@ public class CourseServiceTest {
      * <p>
      * <b>Scenario:</b> When a course with the specified code exists, the service should:
      * <ul>
-     *   <li>Fetch the course entity via {@link ValidationService#getCourseByCodeOrThrow(String)}</li>
-     *   <li>Map the entity to a {@link CourseDTO} instance</li>
-     *   <li>Return the mapped DTO</li>
+     *   <li>Look the course up in the {@link CatalogSnapshot}</li>
+     *   <li>Return its DTO</li>
      * </ul>
      * </p>
      * <p>
@@ -165,7 +183,7 @@ public class CourseServiceTest {
     @DisplayName("Should return course by code when it exists")
     void shouldReturnCourseByCode_whenCourseExists() {
         // Arrange: Prepare mocks and inputs
-        when(validationService.getCourseByCodeOrThrow(course.getCode())).thenReturn(course);
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         CourseDTO result = courseService.getCourseByCode(course.getCode());
@@ -178,8 +196,8 @@ public class CourseServiceTest {
                 .containsExactly(course.getCode(), course.getName(), course.getCredits(),
                         department.getId(), level.getId());
         
-        verify(validationService).getCourseByCodeOrThrow(course.getCode());
-        verifyNoMoreInteractions(validationService);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, courseRepository);
     }
     
     // Create ============================================================
@@ -329,10 +347,9 @@ public class CourseServiceTest {
      * <p>
      * <b>Scenario:</b> When courses exist for a department, the service should:
      * <ul>
-     *   <li>Validate department existence via {@link ValidationService#assertDepartmentExists(Long)}</li>
-     *   <li>Fetch courses by department ID via {@link CourseRepository#findAllByDepartmentId(Long)}</li>
-     *   <li>Map the entities to {@link CourseDTO} instances</li>
-     *   <li>Return a list containing all mapped DTOs</li>
+     *   <li>Validate department existence in the {@link CatalogSnapshot}</li>
+     *   <li>Read the courses of the department from the snapshot</li>
+     *   <li>Return the list of DTOs</li>
      * </ul>
      * </p>
      * <p>
@@ -350,8 +367,7 @@ public class CourseServiceTest {
     void shouldReturnCoursesByDepartmentId_whenCoursesExist() {
         // Arrange: Prepare mocks and inputs
         Long departmentId = department.getId();
-        doNothing().when(validationService).assertDepartmentExists(departmentId);
-        when(courseRepository.findAllByDepartmentId(departmentId)).thenReturn(List.of(course));
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         List<CourseDTO> result = courseService.getCoursesByDepartmentId(departmentId);
@@ -367,9 +383,8 @@ public class CourseServiceTest {
                 .containsExactly(course.getCode(), course.getName(), course.getCredits(),
                         department.getId(), level.getId());
         
-        verify(validationService).assertDepartmentExists(departmentId);
-        verify(courseRepository).findAllByDepartmentId(departmentId);
-        verifyNoMoreInteractions(validationService, courseRepository);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, courseRepository);
     }
     
     /**
@@ -377,8 +392,8 @@ public class CourseServiceTest {
      * <p>
      * <b>Scenario:</b> When counting courses for a department, the service should:
      * <ul>
-     *   <li>Validate department existence via {@link ValidationService#assertDepartmentExists(Long)}</li>
-     *   <li>Count courses by department ID via {@link CourseRepository#countAllByDepartmentId(Long)}</li>
+     *   <li>Validate department existence in the {@link CatalogSnapshot}</li>
+     *   <li>Count the courses of the department in the snapshot</li>
      *   <li>Return the count</li>
      * </ul>
      * </p>
@@ -397,9 +412,8 @@ public class CourseServiceTest {
     void shouldCountCoursesByDepartmentId() {
         // Arrange: Prepare mocks and inputs
         Long departmentId = department.getId();
-        Long expectedCount = 5L;
-        doNothing().when(validationService).assertDepartmentExists(departmentId);
-        when(courseRepository.countAllByDepartmentId(departmentId)).thenReturn(expectedCount);
+        Long expectedCount = 1L;
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         Long result = courseService.countCoursesByDepartmentId(departmentId);
@@ -409,9 +423,8 @@ public class CourseServiceTest {
                 .as("Returned count should match the expected value")
                 .isEqualTo(expectedCount);
         
-        verify(validationService).assertDepartmentExists(departmentId);
-        verify(courseRepository).countAllByDepartmentId(departmentId);
-        verifyNoMoreInteractions(validationService, courseRepository);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, courseRepository);
     }
     
     // ================================================================
@@ -425,7 +438,7 @@ public class CourseServiceTest {
      * <p>
      * <b>Scenario:</b> When a course with the specified code does not exist, the service should:
      * <ul>
-     *   <li>Throw a {@link NotFoundException} via {@link ValidationService#getCourseByCodeOrThrow(String)}</li>
+     *   <li>Look the course up in the {@link CatalogSnapshot}</li>
      * </ul>
      * </p>
      * <p>
@@ -441,8 +454,17 @@ public class CourseServiceTest {
     @Test
     @DisplayName("Should throw NotFoundException when course code does not exist")
     void shouldThrowNotFoundException_whenCourseCodeDoesNotExist() {
-        // Arrange, Act & Assert: Use helper to assert not found behavior
-        TestAssertionUtils.assertCourseNotFound(() -> courseService.getCourseByCode(TestDataFactory.NON_EXISTENT_CODE));
+        // Arrange: The catalog snapshot does not contain the course
+        when(catalogSnapshotHolder.current()).thenReturn(CatalogSnapshot.EMPTY);
+        
+        // Act & Assert: Execute the service call and expect an exception
+        assertThatThrownBy(() -> courseService.getCourseByCode(TestDataFactory.NON_EXISTENT_CODE))
+                .as("Service should throw Not Found Exception when course code does not exist")
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Course with code " + TestDataFactory.NON_EXISTENT_CODE + " not found");
+        
+        // Assert: Verify interactions
+        verifyNoInteractions(validationService, courseRepository);
     }
     
     // Create ============================================================
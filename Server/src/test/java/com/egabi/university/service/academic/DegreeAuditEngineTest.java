@@ -0,0 +1,90 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.dto.DegreeAuditDTO;
+import com.egabi.university.entity.Course;
+import com.egabi.university.entity.DegreeRequirement;
+import com.egabi.university.entity.Department;
+import com.egabi.university.entity.Level;
+import com.egabi.university.service.academic.impl.DegreeAuditEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DegreeAuditEngine}.
+ * <p>
+ * Department 1 requires 6 credits and CS101 at every level, and 9 credits plus CS201 at level 2.
+ * Every course is worth 3 credits.
+ * </p>
+ */
+public class DegreeAuditEngineTest {
+    
+    private DegreeAuditEngine engine;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        Department department = Department.builder().id(1L).build();
+        DegreeRequirement common = DegreeRequirement.builder()
+                .department(department)
+                .minimumCredits(6)
+                .requiredCourses(List.of(Course.builder().code("CS101").build()))
+                .build();
+        DegreeRequirement levelTwo = DegreeRequirement.builder()
+                .department(department)
+                .level(Level.builder().id(2L).build())
+                .minimumCredits(9)
+                .requiredCourses(List.of(Course.builder().code("CS201").build()))
+                .build();
+        engine = DegreeAuditEngine.build(Map.of("CS101", 3, "CS201", 3, "MA101", 3), List.of(common, levelTwo));
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should complete the audit when credits and required courses are met")
+    void shouldCompleteAudit_whenRequirementsAreMet() {
+        // Act
+        DegreeAuditDTO audit = engine.evaluate(10L, 1L, 1L, Set.of("CS101", "MA101"));
+        
+        // Assert
+        assertThat(audit.getEarnedCredits()).isEqualTo(6);
+        assertThat(audit.getRequiredCredits()).isEqualTo(6);
+        assertThat(audit.getMissingCourseCodes()).isEmpty();
+        assertThat(audit.isComplete()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Should complete the audit when the department has no requirements")
+    void shouldCompleteAudit_whenDepartmentHasNoRequirements() {
+        assertThat(engine.evaluate(10L, 2L, 1L, Set.of()).isComplete()).isTrue();
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should combine every requirement that applies to the student's level")
+    void shouldCombineRequirements_whenLevelRequirementApplies() {
+        // Act
+        DegreeAuditDTO audit = engine.evaluate(10L, 1L, 2L, Set.of("MA101"));
+        
+        // Assert
+        assertThat(audit.getRequiredCredits()).isEqualTo(9);
+        assertThat(audit.getMissingCredits()).isEqualTo(6);
+        assertThat(audit.getMissingCourseCodes()).containsExactlyInAnyOrder("CS101", "CS201");
+        assertThat(audit.isComplete()).isFalse();
+    }
+}
@@ -0,0 +1,195 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.dto.DegreeAuditDTO;
+import com.egabi.university.entity.Department;
+import com.egabi.university.entity.DegreeRequirement;
+import com.egabi.university.entity.Faculty;
+import com.egabi.university.entity.Level;
+import com.egabi.university.entity.OutboxRecord;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.entity.Student;
+import com.egabi.university.entity.authentication.Role;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.event.DegreeRequirementChangedEvent;
+import com.egabi.university.event.StudentsArchivedEvent;
+import com.egabi.university.event.TermChangedEvent;
+import com.egabi.university.mapper.DegreeRequirementMapper;
+import com.egabi.university.repository.CourseRepository;
+import com.egabi.university.repository.DegreeRequirementRepository;
+import com.egabi.university.repository.EnrollmentRepository;
+import com.egabi.university.repository.StudentRepository;
+import com.egabi.university.service.academic.impl.DegreeAuditServiceImpl;
+import com.egabi.university.service.outbox.OutboxService;
+import com.egabi.university.service.validation.ValidationService;
+import com.egabi.university.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link DegreeAuditServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class DegreeAuditServiceTest {
+    
+    @Mock
+    private DegreeRequirementRepository degreeRequirementRepository;
+    
+    @Mock
+    private CourseRepository courseRepository;
+    
+    @Mock
+    private StudentRepository studentRepository;
+    
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    
+    @Mock
+    private DegreeRequirementMapper degreeRequirementMapper;
+    
+    @Mock
+    private ValidationService validationService;
+    
+    @Mock
+    private OutboxService outboxService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private DegreeAuditServiceImpl degreeAuditService;
+    
+    private Student student;
+    private DegreeRequirement requirement;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        degreeAuditService = new DegreeAuditServiceImpl(degreeRequirementRepository, courseRepository,
+                studentRepository, enrollmentRepository, degreeRequirementMapper, validationService, outboxService,
+                eventPublisher);
+        
+        Faculty faculty = TestDataFactory.buildFaculty();
+        Department department = TestDataFactory.buildDepartment(faculty);
+        Level level = TestDataFactory.buildLevel(faculty);
+        student = TestDataFactory.buildStudent(TestDataFactory.buildUser(Role.STUDENT), department, level);
+        requirement = DegreeRequirement.builder()
+                .id(1L)
+                .department(department)
+                .minimumCredits(12)
+                .build();
+        
+        lenient().when(validationService.getStudentByIdOrThrow(student.getId())).thenReturn(student);
+        lenient().when(enrollmentRepository.findPassedCourseCodesByStudentId(anyLong(), anyDouble()))
+                .thenReturn(List.of());
+        lenient().when(courseRepository.findAllCodesAndCredits()).thenReturn(List.of());
+        lenient().when(degreeRequirementRepository.findAll()).thenReturn(List.of(requirement));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        degreeAuditService.shutdown();
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should keep the audit model until a requirement change is committed")
+    void shouldReloadAuditModel_onlyAfterRequirementChangeIsCommitted() {
+        // Arrange
+        Long departmentId = student.getDepartment().getId();
+        when(degreeRequirementRepository.findById(requirement.getId())).thenReturn(Optional.of(requirement));
+        DegreeAuditDTO first = degreeAuditService.auditStudent(student.getId());
+        
+        // Act
+        degreeAuditService.deleteRequirement(departmentId, requirement.getId());
+        DegreeAuditDTO beforeCommit = degreeAuditService.auditStudent(student.getId());
+        degreeAuditService.onDegreeRequirementChanged(new DegreeRequirementChangedEvent(departmentId));
+        degreeAuditService.auditStudent(student.getId());
+        
+        // Assert
+        assertThat(beforeCommit).isSameAs(first);
+        verify(degreeRequirementRepository).delete(requirement);
+        verify(eventPublisher).publishEvent(new DegreeRequirementChangedEvent(departmentId));
+        verify(outboxService).record(AggregateType.REQUIREMENT, departmentId, ChangeType.UPDATED);
+        verify(courseRepository, times(2)).findAllCodesAndCredits();
+        verify(enrollmentRepository, times(2)).findPassedCourseCodesByStudentId(anyLong(), anyDouble());
+    }
+    
+    @Test
+    @DisplayName("Should evict the cached audits of archived students")
+    void shouldEvictCachedAudits_whenStudentsAreArchived() {
+        // Arrange
+        DegreeAuditDTO first = degreeAuditService.auditStudent(student.getId());
+        
+        // Act
+        degreeAuditService.onStudentsArchived(new StudentsArchivedEvent(List.of(student.getId())));
+        DegreeAuditDTO second = degreeAuditService.auditStudent(student.getId());
+        
+        // Assert
+        assertThat(second).isNotSameAs(first);
+        verify(enrollmentRepository, times(2)).findPassedCourseCodesByStudentId(anyLong(), anyDouble());
+    }
+    
+    @Test
+    @DisplayName("Should audit students again once a term is closed")
+    void shouldEvictCachedAudits_whenTermChanges() {
+        // Arrange
+        DegreeAuditDTO first = degreeAuditService.auditStudent(student.getId());
+        
+        // Act
+        degreeAuditService.onTermChanged(new TermChangedEvent(1L));
+        DegreeAuditDTO second = degreeAuditService.auditStudent(student.getId());
+        
+        // Assert
+        assertThat(second).isNotSameAs(first);
+        verify(enrollmentRepository, times(2)).findPassedCourseCodesByStudentId(anyLong(), anyDouble());
+        verify(courseRepository).findAllCodesAndCredits();
+    }
+    
+    @Test
+    @DisplayName("Should evict the audits affected by changes committed on other instances")
+    void shouldEvictCachedAudits_whenOutboxRecordsArrive() {
+        // Arrange
+        DegreeAuditDTO first = degreeAuditService.auditStudent(student.getId());
+        
+        // Act
+        degreeAuditService.onRecords(List.of(
+                outboxRecord(1L, AggregateType.ENROLLMENT, student.getId() + "/CS101/1")));
+        DegreeAuditDTO afterEnrollment = degreeAuditService.auditStudent(student.getId());
+        degreeAuditService.onRecords(List.of(outboxRecord(2L, AggregateType.COURSE, "CS101")));
+        degreeAuditService.auditStudent(student.getId());
+        
+        // Assert
+        assertThat(degreeAuditService.isLocal()).isTrue();
+        assertThat(afterEnrollment).isNotSameAs(first);
+        verify(enrollmentRepository, times(3)).findPassedCourseCodesByStudentId(anyLong(), anyDouble());
+        verify(courseRepository, times(2)).findAllCodesAndCredits();
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static OutboxRecord outboxRecord(Long id, AggregateType aggregateType, String aggregateId) {
+        return new OutboxRecord(id, aggregateType, aggregateId, ChangeType.UPDATED, Instant.now());
+    }
+}
@@ -1,16 +1,20 @@
 package com.egabi.university.service.academic;
 
 import com.egabi.university.dto.DepartmentDTO;
-import com.egabi.university.entity.Course;
 import com.egabi.university.entity.Department;
 import com.egabi.university.entity.Faculty;
-import com.egabi.university.entity.Student;
 import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.DepartmentMapper;
+import com.egabi.university.repository.CourseRepository;
 import com.egabi.university.repository.DepartmentRepository;
+import com.egabi.university.repository.StudentRepository;
+import com.egabi.university.service.academic.impl.CatalogSnapshot;
+import com.egabi.university.service.academic.impl.CatalogSnapshotHolder;
 import com.egabi.university.service.academic.impl.DepartmentServiceImpl;
+import com.egabi.university.service.counter.EntityCounterService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import com.egabi.university.util.TestAssertionUtils;
 import com.egabi.university.util.TestDataFactory;
@@ -23,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -57,14 +62,33 @@ public class DepartmentServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
     
+    @Mock
+    private StudentRepository studentRepository;
+    
+    @Mock
+    private CourseRepository courseRepository;
+    
     @Mock
     private ValidationService validationService;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    
+    @Mock
+    private OutboxService outboxService;
+    
+    @Mock
+    private EntityCounterService entityCounterService;
+    
     private DepartmentServiceImpl departmentService;
     
     private Department department;
     private DepartmentDTO departmentDTO;
     private Faculty faculty;
+    private CatalogSnapshot catalog;
     
     // ================================================================
     // Setup : Arrange common test fixtures
@@ -80,7 +104,9 @@ public class DepartmentServiceTest {
         
         
         // Create the service under test with mocked dependencies
-        departmentService = new DepartmentServiceImpl(departmentRepository, departmentMapper, validationService);
+        departmentService = new DepartmentServiceImpl(departmentRepository, studentRepository, courseRepository,
+                departmentMapper, validationService, catalogSnapshotHolder, entityCounterService,
+                outboxService, eventPublisher);
         
         // Prepare a Faculty entity with [id = 1 and name = "Engineering"]
         faculty = TestDataFactory.buildFaculty();
@@ -89,6 +115,8 @@ public class DepartmentServiceTest {
         department = TestDataFactory.buildDepartment(faculty);
         // Prepare a simple DTO  from the entity for input/output tests
         departmentDTO = TestDataFactory.buildDepartmentDTO();
+        // Prepare a catalog snapshot holding the test data
+        catalog = TestDataFactory.buildCatalogSnapshot(List.of(faculty), List.of(), List.of(department), List.of());
     }
     
     // ================================================================
@@ -102,9 +130,8 @@ public class DepartmentServiceTest {
      * <p>
      * <b>Scenario:</b> When departments exist in the database, the service should:
      * <ul>
-     *   <li>Fetch all department entities via {@link DepartmentRepository#findAll()}</li>
-     *   <li>Map the entities to {@link DepartmentDTO} instances correctly</li>
-     *   <li>Return a list containing all mapped DTOs</li>
+     *   <li>Read all departments from the {@link CatalogSnapshot}</li>
+     *   <li>Return the list of DTOs</li>
      * </ul>
      * <p>
      * <b>Verifies:</b>
@@ -119,7 +146,7 @@ public class DepartmentServiceTest {
     @DisplayName("Should return all departments when departments exist")
     void shouldReturnAllDepartments_whenDepartmentsExist() {
         // Arrange: prepare mocks and inputs
-        when(departmentRepository.findAll()).thenReturn(List.of(department));
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         List<DepartmentDTO> result = departmentService.getAllDepartments();
@@ -131,8 +158,8 @@ public class DepartmentServiceTest {
                 .extracting(DepartmentDTO::getId, DepartmentDTO::getName, DepartmentDTO::getFacultyId)
                 .containsExactly(department.getId(), department.getName(), department.getFaculty().getId());
         
-        verify(departmentRepository).findAll();
-        verifyNoMoreInteractions(departmentRepository);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, departmentRepository);
     }
     
     /**
@@ -140,9 +167,8 @@ public class DepartmentServiceTest {
      * <p>
      * <b>Scenario:</b> When a department with the given ID exists, the service should:
      * <ul>
-     *   <li>Fetch the department entity via {@link ValidationService#getDepartmentByIdOrThrow(Long)}</li>
-     *   <li>Map the entity to a {@link DepartmentDTO} instance</li>
-     *   <li>Return the mapped DTO</li>
+     *   <li>Look the department up in the {@link CatalogSnapshot}</li>
+     *   <li>Return its DTO</li>
      * </ul>
      * <p>
      * <b>Verifies:</b>
@@ -157,7 +183,7 @@ public class DepartmentServiceTest {
     @DisplayName("Should return department by ID when it exists")
     void shouldReturnDepartmentById_whenDepartmentExists() {
         // Arrange: prepare mocks and inputs
-        when(validationService.getDepartmentByIdOrThrow(department.getId())).thenReturn(department);
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         DepartmentDTO result = departmentService.getDepartmentById(department.getId());
@@ -168,8 +194,8 @@ public class DepartmentServiceTest {
                 .extracting(DepartmentDTO::getId, DepartmentDTO::getName, DepartmentDTO::getFacultyId)
                 .containsExactly(department.getId(), department.getName(), department.getFaculty().getId());
         
-        verify(validationService).getDepartmentByIdOrThrow(department.getId());
-        verifyNoMoreInteractions(departmentRepository);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, departmentRepository);
     }
     
     // Create =========================================================
@@ -311,6 +337,8 @@ public class DepartmentServiceTest {
     void shouldDeleteDepartmentById_whenDepartmentExistsAndHasNoAssociations() {
         // Arrange: prepare mocks and inputs
         when(validationService.getDepartmentByIdOrThrow(department.getId())).thenReturn(department);
+        when(studentRepository.existsByDepartmentId(department.getId())).thenReturn(false);
+        when(courseRepository.existsByDepartmentId(department.getId())).thenReturn(false);
         // TODO in level and faculty doNothing
         doNothing().when(departmentRepository).delete(any(Department.class));
         
@@ -319,8 +347,10 @@ public class DepartmentServiceTest {
         
         // Assert: Verify the interactions
         verify(validationService).getDepartmentByIdOrThrow(department.getId());
+        verify(studentRepository).existsByDepartmentId(department.getId());
+        verify(courseRepository).existsByDepartmentId(department.getId());
         verify(departmentRepository).delete(department);
-        verifyNoMoreInteractions(departmentRepository, validationService);
+        verifyNoMoreInteractions(departmentRepository, studentRepository, courseRepository, validationService);
     }
     
     // ================================================================
@@ -335,7 +365,7 @@ public class DepartmentServiceTest {
      * <b>Scenario:</b> When attempting to retrieve a department by an ID that does not exist,
      * the service should:
      * <ul>
-     *   <li>Call {@link ValidationService#getDepartmentByIdOrThrow(Long)} to check existence</li>
+     *   <li>Look the department up in the {@link CatalogSnapshot}</li>
      *   <li>Throw a {@link NotFoundException} if the department is not found</li>
      *   <li>Never call {@link DepartmentRepository} since the department does not exist</li>
      * </ul>
@@ -343,7 +373,6 @@ public class DepartmentServiceTest {
      * <b>Verifies:</b>
      * <ul>
      *   <li>The correct exception type is thrown</li>
-     *   <li>The validation service is called with the expected ID</li>
      *   <li>The repository is not interacted with</li>
      * </ul>
      * <p>
@@ -352,8 +381,17 @@ public class DepartmentServiceTest {
     @Test
     @DisplayName("Should throw NotFoundException when department ID does not exist")
     void shouldThrowNotFoundException_whenDepartmentIdDoesNotExist() {
-        // Arrange, Act & Assert: Use helper to assert not found behavior
-        TestAssertionUtils.assertDepartmentNotFound(() -> departmentService.getDepartmentById(TestDataFactory.NON_EXISTENT_ID));
+        // Arrange: The catalog snapshot does not contain the department
+        when(catalogSnapshotHolder.current()).thenReturn(CatalogSnapshot.EMPTY);
+        
+        // Act & Assert: Execute the service call and expect an exception
+        assertThatThrownBy(() -> departmentService.getDepartmentById(TestDataFactory.NON_EXISTENT_ID))
+                .as("Service should throw Not Found Exception when department ID does not exist")
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Department with id " + TestDataFactory.NON_EXISTENT_ID + " not found");
+        
+        // Assert: Verify interactions
+        verifyNoInteractions(validationService, departmentRepository);
     }
     
     // Create =========================================================
@@ -579,11 +617,8 @@ public class DepartmentServiceTest {
     void shouldThrowConflictException_whenDeletingDepartmentWithAssociations() {
         // Arrange: prepare mocks and inputs
         when(validationService.getDepartmentByIdOrThrow(department.getId())).thenReturn(department);
-        // TODO change this to use a real Test Data Factory
-        Student student = new Student();
-        Course course = new Course();
-        department.setStudents(List.of(student));
-        department.setCourses(List.of(course));
+        when(studentRepository.existsByDepartmentId(department.getId())).thenReturn(false);
+        when(courseRepository.existsByDepartmentId(department.getId())).thenReturn(true);
         
         // Act & Assert: Execute the service call and expect an exception
         assertThatThrownBy(() -> departmentService.deleteDepartment(department.getId()))
@@ -593,7 +628,9 @@ public class DepartmentServiceTest {
         
         // Assert: Verify interactions
         verify(validationService).getDepartmentByIdOrThrow(department.getId());
+        verify(studentRepository).existsByDepartmentId(department.getId());
+        verify(courseRepository).existsByDepartmentId(department.getId());
         verifyNoInteractions(departmentRepository);
-        verifyNoMoreInteractions(validationService);
+        verifyNoMoreInteractions(validationService, studentRepository, courseRepository);
     }
 }
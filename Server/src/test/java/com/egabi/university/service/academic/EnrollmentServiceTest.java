@@ -2,6 +2,7 @@ package com.egabi.university.service.academic;
 
 import com.egabi.university.dto.EnrollmentDTO;
 import com.egabi.university.entity.*;
+import com.egabi.university.entity.Term;
 import com.egabi.university.entity.authentication.Role;
 import com.egabi.university.entity.authentication.User;
 import com.egabi.university.exception.BadRequestException;
@@ -9,6 +10,7 @@ import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.EnrollmentMapper;
 import com.egabi.university.repository.EnrollmentRepository;
 import com.egabi.university.service.academic.impl.EnrollmentServiceImpl;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import com.egabi.university.util.TestAssertionUtils;
 import com.egabi.university.util.TestDataFactory;
@@ -21,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -60,9 +63,22 @@ public class EnrollmentServiceTest {
     @Mock
     private ValidationService validationService;
     
+    @Mock
+    private PrerequisiteService prerequisiteService;
+    
+    @Mock
+    private TermService termService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private OutboxService outboxService;
+    
     private EnrollmentServiceImpl enrollmentService;
     
     private Enrollment enrollment;
+    private Term term;
     private EnrollmentDTO enrollmentDTO;
     private Student student;
     private Course course;
@@ -83,7 +99,8 @@ public class EnrollmentServiceTest {
         TestAssertionUtils.setValidationService(validationService);
         
         // Create the service under test with mocked dependencies
-        enrollmentService = new EnrollmentServiceImpl(enrollmentRepository, enrollmentMapper, validationService);
+        enrollmentService = new EnrollmentServiceImpl(enrollmentRepository, enrollmentMapper, validationService, prerequisiteService,
+                termService, eventPublisher, outboxService);
         
         // Prepare test data
         Faculty faculty = TestDataFactory.buildFaculty();
@@ -92,6 +109,7 @@ public class EnrollmentServiceTest {
         user = TestDataFactory.buildUser(Role.STUDENT);
         student = TestDataFactory.buildStudent(user, department, level);
         course = TestDataFactory.buildCourse(department, level);
+        term = TestDataFactory.buildTerm();
         enrollment = TestDataFactory.buildEnrollment(student, course, 85.0);
         enrollmentDTO = TestDataFactory.buildEnrollmentDTO();
     }
@@ -107,7 +125,8 @@ public class EnrollmentServiceTest {
      * <p>
      * <b>Scenario:</b> When enrollments exist in the database, the service should:
      * <ul>
-     *   <li>Fetch all enrollment entities via {@link EnrollmentRepository#findAll()}</li>
+     *   <li>Resolve the current term via {@link TermService#getCurrentTermId()}</li>
+     *   <li>Fetch the enrollments of the term via {@link EnrollmentRepository#findAllByTermId(Long)}</li>
      *   <li>Map the entities to {@link EnrollmentDTO} instances correctly</li>
      *   <li>Return a list containing all mapped DTOs</li>
      * </ul>
@@ -126,7 +145,8 @@ public class EnrollmentServiceTest {
     @DisplayName("Should return all enrollments when enrollments exist")
     void shouldReturnAllEnrollments_whenEnrollmentsExist() {
         // Arrange: Prepare mocks and inputs
-        when(enrollmentRepository.findAll()).thenReturn(List.of(enrollment));
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
+        when(enrollmentRepository.findAllByTermId(term.getId())).thenReturn(List.of(enrollment));
         
         // Act: Call the method under test
         List<EnrollmentDTO> result = enrollmentService.getAllEnrollments();
@@ -140,7 +160,7 @@ public class EnrollmentServiceTest {
                 .extracting(EnrollmentDTO::getStudentId, EnrollmentDTO::getCourseCode, EnrollmentDTO::getGrade)
                 .containsExactly(enrollment.getId().getStudentId(), enrollment.getId().getCourseCode(), enrollment.getGrade());
         
-        verify(enrollmentRepository).findAll();
+        verify(enrollmentRepository).findAllByTermId(term.getId());
         verifyNoMoreInteractions(validationService, enrollmentRepository);
     }
     
@@ -169,6 +189,7 @@ public class EnrollmentServiceTest {
     @DisplayName("Should return enrollment by ID when it exists")
     void shouldReturnEnrollmentById_whenEnrollmentExists() {
         // Arrange: Prepare mocks and inputs
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
         doNothing().when(validationService).assertStudentExists(student.getId());
         doNothing().when(validationService).assertCourseExists(course.getCode(), true);
         when(validationService.getEnrollmentByIdOrThrow(enrollment.getId())).thenReturn(enrollment);
@@ -216,11 +237,13 @@ public class EnrollmentServiceTest {
     @DisplayName("Should create a new enrollment when all required fields are set")
     void shouldCreateEnrollment_whenAllRequiredFieldsExistAndAreSet() {
         // Arrange: Prepare mocks and inputs
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
         doNothing().when(validationService).assertStudentExists(enrollmentDTO.getStudentId());
         doNothing().when(validationService).assertCourseExists(enrollmentDTO.getCourseCode(), true);
         doNothing().when(validationService).assertEnrollmentExists(enrollment.getId(), false);
         when(validationService.getStudentByIdOrThrow(enrollmentDTO.getStudentId())).thenReturn(student);
         when(validationService.getCourseByCodeOrThrow(enrollmentDTO.getCourseCode())).thenReturn(course);
+        when(validationService.getTermByIdOrThrow(term.getId())).thenReturn(term);
         doNothing().when(validationService).validateGradeInRange(enrollmentDTO.getGrade());
         when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
         
@@ -238,6 +261,7 @@ public class EnrollmentServiceTest {
         verify(validationService).assertEnrollmentExists(enrollment.getId(), false);
         verify(validationService).getStudentByIdOrThrow(enrollmentDTO.getStudentId());
         verify(validationService).getCourseByCodeOrThrow(enrollmentDTO.getCourseCode());
+        verify(validationService).getTermByIdOrThrow(term.getId());
         verify(validationService).validateGradeInRange(enrollmentDTO.getGrade());
         verify(enrollmentRepository).save(any(Enrollment.class));
         verifyNoMoreInteractions(validationService, enrollmentRepository);
@@ -271,11 +295,13 @@ public class EnrollmentServiceTest {
     @DisplayName("Should update enrollment when it exists")
     void shouldUpdateEnrollment_whenEnrollmentExistsAndAllRequiredFieldsExistAndAreSet() {
         // Arrange: Prepare mocks and inputs
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
         doNothing().when(validationService).assertStudentExists(student.getId());
         doNothing().when(validationService).assertCourseExists(course.getCode(), true);
         doNothing().when(validationService).assertEnrollmentExists(enrollment.getId(), true);
         when(validationService.getStudentByIdOrThrow(enrollmentDTO.getStudentId())).thenReturn(student);
         when(validationService.getCourseByCodeOrThrow(enrollmentDTO.getCourseCode())).thenReturn(course);
+        when(validationService.getTermByIdOrThrow(term.getId())).thenReturn(term);
         doNothing().when(validationService).validateGradeInRange(enrollmentDTO.getGrade());
         when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(enrollment);
         
@@ -293,6 +319,7 @@ public class EnrollmentServiceTest {
         verify(validationService).assertEnrollmentExists(enrollment.getId(), true);
         verify(validationService).getStudentByIdOrThrow(enrollmentDTO.getStudentId());
         verify(validationService).getCourseByCodeOrThrow(enrollmentDTO.getCourseCode());
+        verify(validationService).getTermByIdOrThrow(term.getId());
         verify(validationService).validateGradeInRange(enrollmentDTO.getGrade());
         verify(enrollmentRepository).save(any(Enrollment.class));
         verifyNoMoreInteractions(validationService, enrollmentRepository);
@@ -324,6 +351,7 @@ public class EnrollmentServiceTest {
     @DisplayName("Should delete enrollment by ID")
     void shouldDeleteEnrollmentById_whenEnrollmentExists() {
         // Arrange: Prepare mocks and inputs
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
         doNothing().when(validationService).assertStudentExists(student.getId());
         doNothing().when(validationService).assertCourseExists(course.getCode(), true);
         doNothing().when(validationService).assertEnrollmentExists(enrollment.getId(), true);
@@ -348,7 +376,7 @@ public class EnrollmentServiceTest {
      * <b>Scenario:</b> When enrollments exist for a student, the service should:
      * <ul>
      *   <li>Validate student existence via {@link ValidationService#assertStudentExists(Long)}</li>
-     *   <li>Fetch enrollments by student ID via {@link EnrollmentRepository#findByStudentId(Long)}</li>
+     *   <li>Fetch enrollments by student ID via {@link EnrollmentRepository#findAllByTermIdAndStudentId(Long, Long)}</li>
      *   <li>Map the entities to {@link EnrollmentDTO} instances</li>
      *   <li>Return a list containing all mapped DTOs</li>
      * </ul>
@@ -369,7 +397,7 @@ public class EnrollmentServiceTest {
 //        // Arrange: Prepare mocks and inputs
 //        Long studentId = student.getId();
 //        doNothing().when(validationService).assertStudentExists(studentId);
-//        when(enrollmentRepository.findByStudentId(studentId)).thenReturn(List.of(enrollment));
+//        when(enrollmentRepository.findAllByTermIdAndStudentId(term.getId(), studentId)).thenReturn(List.of(enrollment));
 //
 //        // Act: Call the method under test
 //        List<EnrollmentDTO> result = enrollmentService.getEnrollmentsByStudentId(studentId);
@@ -384,7 +412,7 @@ public class EnrollmentServiceTest {
 //                .containsExactly(enrollment.getId().getStudentId(), enrollment.getId().getCourseCode(), enrollment.getGrade());
 //
 //        verify(validationService).assertStudentExists(studentId);
-//        verify(enrollmentRepository).findByStudentId(studentId);
+//        verify(enrollmentRepository).findAllByTermIdAndStudentId(term.getId(), studentId);
 //        verifyNoMoreInteractions(validationService, enrollmentRepository);
     }
     
@@ -394,7 +422,7 @@ public class EnrollmentServiceTest {
      * <b>Scenario:</b> When enrollments exist for a course, the service should:
      * <ul>
      *   <li>Validate course existence via {@link ValidationService#assertCourseExists(String, boolean)}</li>
-     *   <li>Fetch enrollments by course code via {@link EnrollmentRepository#findByCourseCode(String)}</li>
+     *   <li>Fetch enrollments by course code via {@link EnrollmentRepository#findAllByTermIdAndCourseCode(Long, String)}</li>
      *   <li>Map the entities to {@link EnrollmentDTO} instances</li>
      *   <li>Return a list containing all mapped DTOs</li>
      * </ul>
@@ -415,7 +443,7 @@ public class EnrollmentServiceTest {
 //        // Arrange: Prepare mocks and inputs
 //        String courseCode = course.getCode();
 //        doNothing().when(validationService).assertCourseExists(courseCode, true);
-//        when(enrollmentRepository.findByCourseCode(courseCode)).thenReturn(List.of(enrollment));
+//        when(enrollmentRepository.findAllByTermIdAndCourseCode(term.getId(), courseCode)).thenReturn(List.of(enrollment));
 //
 //        // Act: Call the method under test
 //        List<EnrollmentDTO> result = enrollmentService.getEnrollmentsByCourseId(courseCode);
@@ -430,7 +458,7 @@ public class EnrollmentServiceTest {
 //                .containsExactly(enrollment.getId().getStudentId(), enrollment.getId().getCourseCode(), enrollment.getGrade());
 //
 //        verify(validationService).assertCourseExists(courseCode, true);
-//        verify(enrollmentRepository).findByCourseCode(courseCode);
+//        verify(enrollmentRepository).findAllByTermIdAndCourseCode(term.getId(), courseCode);
 //        verifyNoMoreInteractions(validationService, enrollmentRepository);
     }
     
@@ -461,7 +489,10 @@ public class EnrollmentServiceTest {
     @Test
     @DisplayName("Should throw NotFoundException when enrollment ID does not exist")
     void shouldThrowNotFoundException_whenEnrollmentIdDoesNotExist() {
-        // Arrange, Act & Assert: Use helper to assert not found behavior
+        // Arrange: The enrollment is looked up in the current term
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
+        
+        // Act & Assert: Use helper to assert not found behavior
         TestAssertionUtils.assertEnrollmentNotFound(() ->
                 enrollmentService.getEnrollmentById(student.getId(), course.getCode())
         );
@@ -491,11 +522,13 @@ public class EnrollmentServiceTest {
     @DisplayName("Should throw BadRequestException when creating enrollment with grade not set")
     void shouldThrowBadRequestException_whenCreatingEnrollmentWithGradeNotSet() {
         // Arrange: Prepare mocks and inputs
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
         enrollmentDTO.setGrade(null);
         doNothing().when(validationService).assertStudentExists(student.getId());
         doNothing().when(validationService).assertCourseExists(course.getCode(), true);
         when(validationService.getStudentByIdOrThrow(student.getId())).thenReturn(student);
         when(validationService.getCourseByCodeOrThrow(course.getCode())).thenReturn(course);
+        when(validationService.getTermByIdOrThrow(term.getId())).thenReturn(term);
         doNothing().when(validationService).assertEnrollmentExists(enrollment.getId(), false);
         
         // Act & Assert: Call the method and verify exception
@@ -508,6 +541,7 @@ public class EnrollmentServiceTest {
         verify(validationService).assertCourseExists(course.getCode(), true);
         verify(validationService).getStudentByIdOrThrow(student.getId());
         verify(validationService).getCourseByCodeOrThrow(course.getCode());
+        verify(validationService).getTermByIdOrThrow(term.getId());
         verify(validationService).assertEnrollmentExists(enrollment.getId(), false);
         verifyNoMoreInteractions(validationService, enrollmentRepository);
     }
@@ -597,7 +631,10 @@ public class EnrollmentServiceTest {
     @Test
     @DisplayName("Should throw NotFoundException when updating enrollment with non-existing ID")
     void shouldThrowNotFoundException_whenUpdatingNonExistingEnrollment() {
-        // Arrange, Act & Assert: Use helper to assert not found behavior
+        // Arrange: The enrollment is looked up in the current term
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
+        
+        // Act & Assert: Use helper to assert not found behavior
         TestAssertionUtils.assertEnrollmentNotFound(() ->
                 enrollmentService.updateEnrollment(student.getId(), course.getCode(), enrollmentDTO));
     }
@@ -624,11 +661,13 @@ public class EnrollmentServiceTest {
     @DisplayName("Should throw BadRequestException when updating enrollment with grade not set")
     void shouldThrowBadRequestException_whenUpdatingEnrollmentWithGradeNotSet() {
         // Arrange: Prepare mocks and inputs
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
         enrollmentDTO.setGrade(null);
         doNothing().when(validationService).assertStudentExists(student.getId());
         doNothing().when(validationService).assertCourseExists(course.getCode(), true);
         when(validationService.getStudentByIdOrThrow(student.getId())).thenReturn(student);
         when(validationService.getCourseByCodeOrThrow(course.getCode())).thenReturn(course);
+        when(validationService.getTermByIdOrThrow(term.getId())).thenReturn(term);
         doNothing().when(validationService).assertEnrollmentExists(enrollment.getId(), true);
         
         // Act & Assert: Call the method and verify exception
@@ -641,6 +680,7 @@ public class EnrollmentServiceTest {
         verify(validationService).assertCourseExists(course.getCode(), true);
         verify(validationService).getStudentByIdOrThrow(student.getId());
         verify(validationService).getCourseByCodeOrThrow(course.getCode());
+        verify(validationService).getTermByIdOrThrow(term.getId());
         verify(validationService).assertEnrollmentExists(enrollment.getId(), true);
         verifyNoMoreInteractions(validationService, enrollmentRepository);
     }
@@ -668,7 +708,10 @@ public class EnrollmentServiceTest {
     @Test
     @DisplayName("Should throw NotFoundException when deleting enrollment with non-existing ID")
     void shouldThrowNotFoundException_whenDeletingNonExistingEnrollment() {
-        // Arrange, Act & Assert: Use helper to assert not found behavior
+        // Arrange: The enrollment is looked up in the current term
+        when(termService.getCurrentTermId()).thenReturn(term.getId());
+        
+        // Act & Assert: Use helper to assert not found behavior
         TestAssertionUtils.assertEnrollmentNotFound(() ->
                 enrollmentService.deleteEnrollment(student.getId(), course.getCode()));
     }
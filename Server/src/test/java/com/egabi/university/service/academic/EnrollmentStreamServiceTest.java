@@ -0,0 +1,202 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.controller.EnrollmentController;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.event.EnrollmentChangedEvent;
+import com.egabi.university.service.academic.impl.EnrollmentStreamServiceImpl;
+import com.egabi.university.service.validation.ValidationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static com.egabi.university.util.ApiPaths.ENROLLMENTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Unit tests for {@link EnrollmentStreamServiceImpl}, subscribing through {@link EnrollmentController}.
+ * <p>
+ * The stream used by these tests retains the last 3 events and lets 8 events wait for each subscriber.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+public class EnrollmentStreamServiceTest {
+    
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    
+    @Mock
+    private ValidationService validationService;
+    
+    @Mock
+    private EnrollmentService enrollmentService;
+    
+    private EnrollmentStreamServiceImpl streamService;
+    private MockMvc mockMvc;
+    private SseEmitter lastEmitter;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        streamService = new EnrollmentStreamServiceImpl(validationService, new ObjectMapper());
+        ReflectionTestUtils.setField(streamService, "replaySize", 3);
+        ReflectionTestUtils.setField(streamService, "queueSize", 8);
+        ReflectionTestUtils.setField(streamService, "heartbeatIntervalInMillis", 60_000L);
+        ReflectionTestUtils.setField(streamService, "timeoutInMillis", 60_000L);
+        ReflectionTestUtils.invokeMethod(streamService, "start");
+        
+        // Keep the emitter of the latest subscription, so a test can hold its monitor
+        EnrollmentStreamService capturing = (courseCode, studentId, lastEventId) ->
+                lastEmitter = streamService.subscribe(courseCode, studentId, lastEventId);
+        mockMvc = MockMvcBuilders.standaloneSetup(new EnrollmentController(enrollmentService, capturing)).build();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(streamService, "stop");
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should stream only the changes matching the filter of a subscriber, in order")
+    void shouldStreamMatchingChanges_whenSubscribedWithFilter() throws Exception {
+        // Arrange
+        MockHttpServletResponse course = subscribe(get(ENROLLMENTS + "/stream").param("courseCode", "CS101"))
+                .getResponse();
+        MockHttpServletResponse all = subscribe(get(ENROLLMENTS + "/stream")).getResponse();
+        
+        // Act: changes are fanned out by a background thread
+        publish(1L, "CS101");
+        publish(1L, "CS102");
+        publish(2L, "CS101");
+        await().atMost(TIMEOUT).until(() -> course.getContentAsString().contains("id:3\n")
+                && all.getContentAsString().contains("id:3\n"));
+        
+        // Assert
+        assertThat(course.getContentAsString())
+                .contains("id:1\n", "event:created\n", "\"courseCode\":\"CS101\"")
+                .doesNotContain("id:2\n", "CS102");
+        assertThat(all.getContentAsString()).containsSubsequence("id:1\n", "id:2\n", "id:3\n");
+    }
+    
+    @Test
+    @DisplayName("Should resume after the Last-Event-ID of a reconnecting subscriber")
+    void shouldResumeAfterLastEventId_whenItIsRetained() throws Exception {
+        // Arrange: 5 changes, of which 3 to 5 are retained
+        publishAndAwait(5);
+        
+        // Act
+        MockHttpServletResponse response = subscribe(get(ENROLLMENTS + "/stream").header("Last-Event-ID", 3))
+                .getResponse();
+        await().atMost(TIMEOUT).until(() -> response.getContentAsString().contains("id:5\n"));
+        
+        // Assert
+        assertThat(response.getContentAsString())
+                .contains("id:4\n")
+                .doesNotContain("id:3\n", "event:reset");
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should send a reset first when the Last-Event-ID is no longer retained")
+    void shouldSendReset_whenLastEventIdIsNotRetained() throws Exception {
+        // Arrange: 5 changes, of which 3 to 5 are retained
+        publishAndAwait(5);
+        
+        // Act
+        MockHttpServletResponse response = subscribe(get(ENROLLMENTS + "/stream").header("Last-Event-ID", 1))
+                .getResponse();
+        await().atMost(TIMEOUT).until(() -> response.getContentAsString().contains("id:5\n"));
+        
+        // Assert
+        assertThat(response.getContentAsString()).startsWith("event:reset\n").contains("id:3\n");
+    }
+    
+    @Test
+    @DisplayName("Should send only a reset when more events were missed than the queue of a subscriber holds")
+    void shouldSendReset_whenMissedEventsOverflowQueue() throws Exception {
+        // Arrange: 3 retained changes after the Last-Event-ID, for a queue of 2
+        publishAndAwait(5);
+        ReflectionTestUtils.setField(streamService, "queueSize", 2);
+        
+        // Act
+        MockHttpServletResponse response = subscribe(get(ENROLLMENTS + "/stream").header("Last-Event-ID", 2))
+                .getResponse();
+        await().atMost(TIMEOUT).until(() -> response.getContentAsString().contains("event:reset\n"));
+        
+        // Assert
+        assertThat(response.getContentAsString()).doesNotContain("id:");
+    }
+    
+    @Test
+    @DisplayName("Should disconnect a subscriber whose queue overflows, so it reconnects and resumes")
+    void shouldDisconnectSubscriber_whenQueueOverflows() throws Exception {
+        // Arrange: a queue of 2
+        ReflectionTestUtils.setField(streamService, "queueSize", 2);
+        MvcResult result = subscribe(get(ENROLLMENTS + "/stream"));
+        Set<?> subscribers = (Set<?>) ReflectionTestUtils.getField(streamService, "subscribers");
+        
+        // Act: hold the emitter, as a client not reading would, while more changes arrive than its queue holds
+        synchronized (lastEmitter) {
+            for (int i = 0; i < 4; i++)
+                publish(1L, "CS101");
+            await().atMost(TIMEOUT).until(subscribers::isEmpty);
+        }
+        // The completed stream is handed back to the container
+        result.getAsyncResult(TIMEOUT.toMillis());
+        publish(1L, "CS101");
+        
+        // Assert
+        assertThat(subscribers).isEmpty();
+        assertThat(result.getResponse().getContentAsString()).doesNotContain("id:4\n", "id:5\n");
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private MvcResult subscribe(MockHttpServletRequestBuilder builder) throws Exception {
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+    }
+    
+    private void publish(Long studentId, String courseCode) {
+        streamService.onEnrollmentChanged(new EnrollmentChangedEvent(ChangeType.CREATED, studentId, courseCode, null));
+    }
+    
+    /**
+     * Publishes changes one at a time, waiting until a subscriber received each, so they are all in the replay buffer.
+     */
+    private void publishAndAwait(int count) throws Exception {
+        MockHttpServletResponse probe = subscribe(get(ENROLLMENTS + "/stream")).getResponse();
+        for (int id = 1; id <= count; id++) {
+            publish(1L, "CS101");
+            String received = "id:" + id + "\n";
+            await().atMost(TIMEOUT).until(() -> probe.getContentAsString().contains(received));
+        }
+    }
+}
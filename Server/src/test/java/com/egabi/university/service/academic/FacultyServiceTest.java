@@ -7,7 +7,10 @@ import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.FacultyMapper;
 import com.egabi.university.repository.FacultyRepository;
+import com.egabi.university.service.academic.impl.CatalogSnapshot;
+import com.egabi.university.service.academic.impl.CatalogSnapshotHolder;
 import com.egabi.university.service.academic.impl.FacultyServiceImpl;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import com.egabi.university.util.TestAssertionUtils;
 import com.egabi.university.util.TestDataFactory;
@@ -20,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -57,10 +61,20 @@ public class FacultyServiceTest {
     @Mock
     private ValidationService validationService;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    
+    @Mock
+    private OutboxService outboxService;
+    
     private FacultyServiceImpl facultyService;
     
     private Faculty faculty;
     private FacultyDTO facultyDTO;
+    private CatalogSnapshot catalog;
     
     // ================================================================
     // Setup : Arrange common test fixtures
@@ -75,12 +89,15 @@ public class FacultyServiceTest {
         TestAssertionUtils.setValidationService(validationService);
         
         // Create the service under test with mocked dependencies
-        facultyService = new FacultyServiceImpl(facultyRepository, facultyMapper, validationService);
+        facultyService = new FacultyServiceImpl(facultyRepository, facultyMapper, validationService, catalogSnapshotHolder,
+                outboxService, eventPublisher);
         
         // Prepare a Faculty entity with [id = 1 and name = "Engineering"]
         faculty = TestDataFactory.buildFaculty();
         // Prepare a simple DTO from the entity for input/output tests
         facultyDTO = TestDataFactory.buildFacultyDTO();
+        // Prepare a catalog snapshot holding the test data
+        catalog = TestDataFactory.buildCatalogSnapshot(List.of(faculty), List.of(), List.of(), List.of());
     }
     
     // ================================================================
@@ -94,9 +111,8 @@ public class FacultyServiceTest {
      * <p>
      * <b>Scenario:</b> When faculties exist in the database, the service should:
      * <ul>
-     *   <li>Fetch all faculty entities via {@link FacultyRepository#findAll()}</li>
-     *   <li>Map the entities to {@link FacultyDTO} instances correctly</li>
-     *   <li>Return a list containing all mapped DTOs</li>
+     *   <li>Read all faculties from the {@link CatalogSnapshot}</li>
+     *   <li>Return the list of DTOs</li>
      * </ul>
      * <p>
      * <b>Verifies:</b>
@@ -111,7 +127,7 @@ public class FacultyServiceTest {
     @DisplayName("Should return all faculties when faculties exist")
     void shouldReturnAllFaculties_whenFacultiesExist() {
         // Arrange: Prepare mocks and inputs
-        when(facultyRepository.findAll()).thenReturn(List.of(faculty));
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         List<FacultyDTO> result = facultyService.getAllFaculties();
@@ -125,8 +141,8 @@ public class FacultyServiceTest {
                 .extracting(FacultyDTO::getId, FacultyDTO::getName)
                 .containsExactly(faculty.getId(), faculty.getName());
         
-        verify(facultyRepository).findAll();
-        verifyNoMoreInteractions(validationService, facultyRepository);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, facultyRepository);
     }
     
     /**
@@ -134,9 +150,8 @@ public class FacultyServiceTest {
      * <p>
      * <b>Scenario:</b> When a faculty with the specified ID exists, the service should:
      * <ul>
-     *   <li>Fetch the faculty entity via {@link ValidationService#getFacultyByIdOrThrow(Long)}</li>
-     *   <li>Map the entity to a {@link FacultyDTO} instance</li>
-     *   <li>Return the mapped DTO</li>
+     *   <li>Look the faculty up in the {@link CatalogSnapshot}</li>
+     *   <li>Return its DTO</li>
      * </ul>
      * <p>
      * <b>Verifies:</b>
@@ -151,7 +166,7 @@ public class FacultyServiceTest {
     @DisplayName("Should return faculty by ID when it exists")
     void shouldReturnFacultyById_whenFacultyExists() {
         // Arrange: Prepare mocks and inputs
-        when(validationService.getFacultyByIdOrThrow(faculty.getId())).thenReturn(faculty);
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         FacultyDTO result = facultyService.getFacultyById(faculty.getId());
@@ -162,8 +177,8 @@ public class FacultyServiceTest {
                 .extracting(FacultyDTO::getId, FacultyDTO::getName)
                 .containsExactly(faculty.getId(), faculty.getName());
         
-        verify(validationService).getFacultyByIdOrThrow(faculty.getId());
-        verifyNoMoreInteractions(validationService);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, facultyRepository);
     }
     
     // Create ============================================================
@@ -344,7 +359,7 @@ public class FacultyServiceTest {
      * <b>Scenario:</b> When attempting to retrieve a faculty by an ID that does not exist,
      * the service should:
      * <ul>
-     *   <li>Call {@link ValidationService#getFacultyByIdOrThrow(Long)} to check existence</li>
+     *   <li>Look the faculty up in the {@link CatalogSnapshot}</li>
      *   <li>Throw a {@link NotFoundException} if the faculty is not found</li>
      *   <li>Never call {@link FacultyRepository} since the faculty does not exist</li>
      * </ul>
@@ -352,7 +367,6 @@ public class FacultyServiceTest {
      * <b>Verifies:</b>
      * <ul>
      *   <li>The correct exception type is thrown</li>
-     *   <li>The validation service is called with the expected ID</li>
      *   <li>The repository is not interacted with</li>
      * </ul>
      * <p>
@@ -361,8 +375,17 @@ public class FacultyServiceTest {
     @Test
     @DisplayName("Should throw NotFoundException when faculty ID does not exist")
     void shouldThrowNotFoundException_whenFacultyIdDoesNotExist() {
-        // Arrange, Act & Assert: Use helper to assert not found behavior
-        TestAssertionUtils.assertFacultyNotFound(() -> facultyService.getFacultyById(TestDataFactory.NON_EXISTENT_ID));
+        // Arrange: The catalog snapshot does not contain the faculty
+        when(catalogSnapshotHolder.current()).thenReturn(CatalogSnapshot.EMPTY);
+        
+        // Act & Assert: Execute the service call and expect an exception
+        assertThatThrownBy(() -> facultyService.getFacultyById(TestDataFactory.NON_EXISTENT_ID))
+                .as("Service should throw Not Found Exception when faculty ID does not exist")
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Faculty with id " + TestDataFactory.NON_EXISTENT_ID + " not found");
+        
+        // Assert: Verify interactions
+        verifyNoInteractions(validationService, facultyRepository);
     }
     
     // Create ============================================================
@@ -0,0 +1,94 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.exception.BadRequestException;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.repository.FieldProjectionRepository;
+import com.egabi.university.service.academic.impl.FieldProjectionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.egabi.university.repository.projection.FieldSets.STUDENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link FieldProjectionServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class FieldProjectionServiceTest {
+    
+    @Mock
+    private FieldProjectionRepository fieldProjectionRepository;
+    
+    private FieldProjectionService fieldProjectionService;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        fieldProjectionService = new FieldProjectionServiceImpl(fieldProjectionRepository);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should request the fields in DTO order")
+    void shouldRequestFieldsInDtoOrder_whenFieldsAreValid() {
+        // Arrange
+        List<Map<String, Object>> rows = List.of(Map.of("id", 1L, "firstName", "Omar", "lastName", "Ali"));
+        when(fieldProjectionRepository.findAll(STUDENT, List.of("id", "firstName", "lastName"))).thenReturn(rows);
+        
+        // Act
+        List<Map<String, Object>> result = fieldProjectionService.getStudents(Set.of("lastName", " id", "firstName"));
+        
+        // Assert
+        assertThat(result).isSameAs(rows);
+        verifyNoMoreInteractions(fieldProjectionRepository);
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should reject unknown fields without querying")
+    void shouldThrowBadRequestException_whenFieldIsUnknown() {
+        assertThatThrownBy(() -> fieldProjectionService.getStudents(Set.of("id", "password")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("password");
+        verifyNoInteractions(fieldProjectionRepository);
+    }
+    
+    @Test
+    @DisplayName("Should reject an empty field list")
+    void shouldThrowBadRequestException_whenNoFieldIsRequested() {
+        assertThatThrownBy(() -> fieldProjectionService.getStudents(Set.of(" ")))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(fieldProjectionRepository);
+    }
+    
+    @Test
+    @DisplayName("Should throw NotFoundException when the student does not exist")
+    void shouldThrowNotFoundException_whenStudentDoesNotExist() {
+        // Arrange
+        when(fieldProjectionRepository.findById(STUDENT, List.of("id"), 99L)).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertThatThrownBy(() -> fieldProjectionService.getStudentById(99L, Set.of("id")))
+                .isInstanceOf(NotFoundException.class);
+    }
+}
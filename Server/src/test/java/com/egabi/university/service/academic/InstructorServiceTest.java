@@ -12,6 +12,7 @@ import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.InstructorMapper;
 import com.egabi.university.repository.InstructorRepository;
 import com.egabi.university.service.academic.impl.InstructorServiceImpl;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import com.egabi.university.util.TestAssertionUtils;
 import com.egabi.university.util.TestDataFactory;
@@ -24,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -64,6 +66,12 @@ public class InstructorServiceTest {
     @Mock
     private ValidationService validationService;
     
+    @Mock
+    private OutboxService outboxService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     private InstructorServiceImpl instructorService;
     
     private Instructor instructor;
@@ -85,7 +93,8 @@ public class InstructorServiceTest {
         TestAssertionUtils.setValidationService(validationService);
         
         // Create the service under test with mocked dependencies
-        instructorService = new InstructorServiceImpl(instructorRepository, instructorMapper, validationService);
+        instructorService = new InstructorServiceImpl(instructorRepository, instructorMapper, validationService,
+                outboxService, eventPublisher);
         
         // Prepare test data
         faculty = TestDataFactory.buildFaculty();
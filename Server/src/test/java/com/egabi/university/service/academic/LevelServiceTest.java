@@ -1,16 +1,19 @@
 package com.egabi.university.service.academic;
 
 import com.egabi.university.dto.LevelDTO;
-import com.egabi.university.entity.Course;
 import com.egabi.university.entity.Faculty;
 import com.egabi.university.entity.Level;
-import com.egabi.university.entity.Student;
 import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.LevelMapper;
+import com.egabi.university.repository.CourseRepository;
 import com.egabi.university.repository.LevelRepository;
+import com.egabi.university.repository.StudentRepository;
+import com.egabi.university.service.academic.impl.CatalogSnapshot;
+import com.egabi.university.service.academic.impl.CatalogSnapshotHolder;
 import com.egabi.university.service.academic.impl.LevelServiceImpl;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import com.egabi.university.util.TestAssertionUtils;
 import com.egabi.university.util.TestDataFactory;
@@ -23,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -57,14 +61,30 @@ public class LevelServiceTest {
     @Mock
     private LevelRepository levelRepository;
     
+    @Mock
+    private StudentRepository studentRepository;
+    
+    @Mock
+    private CourseRepository courseRepository;
+    
     @Mock
     private ValidationService validationService;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    
+    @Mock
+    private OutboxService outboxService;
+    
     private LevelServiceImpl levelService;
     
     private Level level;
     private LevelDTO levelDTO;
     private Faculty faculty;
+    private CatalogSnapshot catalog;
     
     // ================================================================
     // Setup : Arrange common test fixtures
@@ -79,7 +99,8 @@ public class LevelServiceTest {
         TestAssertionUtils.setValidationService(validationService);
         
         // Create the service under test with mocked dependencies
-        levelService = new LevelServiceImpl(levelRepository, levelMapper, validationService);
+        levelService = new LevelServiceImpl(levelRepository, studentRepository, courseRepository, levelMapper, validationService,
+                catalogSnapshotHolder, outboxService, eventPublisher);
         
         // Prepare a Faculty entity with [id = 1 and name = "Engineering"] to be used in tests
         faculty = TestDataFactory.buildFaculty();
@@ -88,6 +109,8 @@ public class LevelServiceTest {
         level = TestDataFactory.buildLevel(faculty);
         // Prepare a simple DTO  from the entity for input/output tests
         levelDTO = TestDataFactory.buildLevelDTO();
+        // Prepare a catalog snapshot holding the test data
+        catalog = TestDataFactory.buildCatalogSnapshot(List.of(faculty), List.of(level), List.of(), List.of());
     }
     
     // ================================================================
@@ -101,8 +124,7 @@ public class LevelServiceTest {
      * <p>
      * <b>Scenario:</b> When levels exist, the service should:
      * <ul>
-     *   <li>Fetch all levels from the repository</li>
-     *   <li>Map them to a list of {@link LevelDTO}</li>
+     *   <li>Read all levels from the {@link CatalogSnapshot}</li>
      *   <li>Return the list of DTOs</li>
      * </ul>
      * <p>
@@ -118,7 +140,7 @@ public class LevelServiceTest {
     @DisplayName("Should return all levels when levels exist")
     void shouldReturnAllLevels_whenLevelsExist() {
         // Arrange: prepare mocks and inputs
-        when(levelRepository.findAll()).thenReturn(List.of(level));
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         List<LevelDTO> result = levelService.getAllLevels();
@@ -130,8 +152,8 @@ public class LevelServiceTest {
                 .extracting(LevelDTO::getId, LevelDTO::getName)
                 .containsExactly(level.getId(), level.getName());
         
-        verify(levelRepository).findAll();
-        verifyNoMoreInteractions(levelRepository);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, levelRepository);
     }
     
     /**
@@ -139,9 +161,8 @@ public class LevelServiceTest {
      * <p>
      * <b>Scenario:</b> When a level with the given ID exists, the service should:
      * <ul>
-     *   <li>Fetch the department entity via {@link ValidationService#getLevelByIdOrThrow(Long)}</li>
-     *   <li>Map the entity to a {@link LevelDTO} instance</li>
-     *   <li>Return the mapped DTO</li>
+     *   <li>Look the level up in the {@link CatalogSnapshot}</li>
+     *   <li>Return its DTO</li>
      * </ul>
      * <p>
      * <b>Verifies:</b>
@@ -156,7 +177,7 @@ public class LevelServiceTest {
     @DisplayName("Should return level by ID when it exists")
     void shouldReturnLevelById_whenLevelExists() {
         // Arrange: prepare mocks and inputs
-        when(validationService.getLevelByIdOrThrow(level.getId())).thenReturn(level);
+        when(catalogSnapshotHolder.current()).thenReturn(catalog);
         
         // Act: Call the method under test
         LevelDTO result = levelService.getLevelById(level.getId());
@@ -167,8 +188,8 @@ public class LevelServiceTest {
                 .extracting(LevelDTO::getId, LevelDTO::getName)
                 .containsExactly(level.getId(), level.getName());
         
-        verify(validationService).getLevelByIdOrThrow(level.getId());
-        verifyNoMoreInteractions(levelRepository);
+        verify(catalogSnapshotHolder).current();
+        verifyNoInteractions(validationService, levelRepository);
     }
     
     // Create =========================================================
@@ -328,14 +349,18 @@ public class LevelServiceTest {
     void shouldDeleteLevelById_whenLevelExistsAndHasNoAssociations() {
         // Arrange: prepare mocks and inputs
         when(validationService.getLevelByIdOrThrow(level.getId())).thenReturn(level);
+        when(studentRepository.existsByLevelId(level.getId())).thenReturn(false);
+        when(courseRepository.existsByLevelId(level.getId())).thenReturn(false);
         
         // Act: Call the method under test
         levelService.deleteLevel(level.getId());
         
         // Assert: Verify the interactions
         verify(validationService).getLevelByIdOrThrow(level.getId());
+        verify(studentRepository).existsByLevelId(level.getId());
+        verify(courseRepository).existsByLevelId(level.getId());
         verify(levelRepository).delete(level);
-        verifyNoMoreInteractions(levelRepository, validationService);
+        verifyNoMoreInteractions(levelRepository, studentRepository, courseRepository, validationService);
     }
     
     // ================================================================
@@ -350,7 +375,7 @@ public class LevelServiceTest {
      * <b>Scenario:</b> When attempting to retrieve a faculty by an ID that does not exist,
      * the service should:
      * <ul>
-     *   <li>Call {@link ValidationService#getLevelByIdOrThrow(Long)} to check existence</li>
+     *   <li>Look the level up in the {@link CatalogSnapshot}</li>
      *   <li>Throw a {@link NotFoundException} if the level is not found</li>
      *   <li>Never call {@link LevelRepository} since the level does not exist</li>
      * </ul>
@@ -358,7 +383,6 @@ public class LevelServiceTest {
      * <b>Verifies:</b>
      * <ul>
      *   <li>The correct exception type is thrown</li>
-     *   <li>The validation service is called with the expected ID</li>
      *   <li>The repository is not interacted with</li>
      * </ul>
      * <p>
@@ -367,8 +391,17 @@ public class LevelServiceTest {
     @Test
     @DisplayName("Should throw NotFoundException when level ID does not exist")
     void shouldThrowNotFoundException_whenLevelIdDoesNotExist() {
-        // Arrange, Act & Assert: Use helper to assert not found behavior
-        TestAssertionUtils.assertLevelNotFound(() -> levelService.getLevelById(TestDataFactory.NON_EXISTENT_ID));
+        // Arrange: The catalog snapshot does not contain the level
+        when(catalogSnapshotHolder.current()).thenReturn(CatalogSnapshot.EMPTY);
+        
+        // Act & Assert: Execute the service call and expect an exception
+        assertThatThrownBy(() -> levelService.getLevelById(TestDataFactory.NON_EXISTENT_ID))
+                .as("Service should throw Not Found Exception when level ID does not exist")
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Level with id " + TestDataFactory.NON_EXISTENT_ID + " not found");
+        
+        // Assert: Verify interactions
+        verifyNoInteractions(validationService, levelRepository);
     }
     
     // Create =========================================================
@@ -583,11 +616,8 @@ public class LevelServiceTest {
     void shouldThrowConflictException_whenDeletingLevelWithAssociations() {
         // Arrange: prepare mocks and inputs
         when(validationService.getLevelByIdOrThrow(level.getId())).thenReturn(level);
-        // TODO change this to use a real Test Data Factory
-        Student student = new Student();
-        Course course = new Course();
-        level.setStudents(List.of(student));
-        level.setCourses(List.of(course));
+        when(studentRepository.existsByLevelId(level.getId())).thenReturn(false);
+        when(courseRepository.existsByLevelId(level.getId())).thenReturn(true);
         
         // Act & Assert: Execute the service call and expect an exception
         assertThatThrownBy(() -> levelService.deleteLevel(level.getId()))
@@ -597,8 +627,10 @@ public class LevelServiceTest {
         
         // Assert: Verify interactions
         verify(validationService).getLevelByIdOrThrow(level.getId());
+        verify(studentRepository).existsByLevelId(level.getId());
+        verify(courseRepository).existsByLevelId(level.getId());
         verifyNoInteractions(levelRepository);
-        verifyNoMoreInteractions(validationService);
+        verifyNoMoreInteractions(validationService, studentRepository, courseRepository);
     }
-    
+
 }
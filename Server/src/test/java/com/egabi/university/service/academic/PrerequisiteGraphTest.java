@@ -0,0 +1,110 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.service.academic.impl.PrerequisiteGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PrerequisiteGraph}.
+ * <p>
+ * The graph used by these tests is the chain {@code CS101 -> CS201 -> CS301} plus the standalone course {@code MA101}:
+ * <ul>
+ *   <li>CS201 requires CS101</li>
+ *   <li>CS301 requires CS201 (and therefore CS101 transitively)</li>
+ * </ul>
+ * </p>
+ */
+public class PrerequisiteGraphTest {
+    
+    private PrerequisiteGraph graph;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        graph = PrerequisiteGraph.build(
+                List.of("CS101", "CS201", "CS301", "MA101"),
+                List.of(new String[]{"CS201", "CS101"}, new String[]{"CS301", "CS201"}));
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should list courses without prerequisites as eligible for a new student")
+    void shouldReturnEntryCourses_whenStudentPassedNothing() {
+        // Act
+        List<String> eligible = graph.eligibleCourses(new BitSet());
+        
+        // Assert
+        assertThat(eligible).containsExactlyInAnyOrder("CS101", "MA101");
+    }
+    
+    @Test
+    @DisplayName("Should require the whole transitive closure before a course is eligible")
+    void shouldReportTransitivePrerequisites_whenOnlyDirectPrerequisiteIsMissing() {
+        // Arrange
+        BitSet passed = graph.toBitSet(List.of("CS201"));
+        
+        // Act
+        List<String> missing = graph.missingPrerequisites("CS301", passed);
+        
+        // Assert
+        assertThat(missing).containsExactly("CS101");
+    }
+    
+    @Test
+    @DisplayName("Should recompute dependent closures when prerequisites change")
+    void shouldUpdateDependentClosures_whenPrerequisitesChange() {
+        // Act: CS101 now requires MA101, so CS201 and CS301 require it transitively
+        PrerequisiteGraph updated = graph.withPrerequisites("CS101", List.of("MA101"));
+        
+        // Assert
+        assertThat(updated.missingPrerequisites("CS301", updated.toBitSet(List.of("CS101", "CS201"))))
+                .containsExactly("MA101");
+        assertThat(graph.missingPrerequisites("CS301", graph.toBitSet(List.of("CS101", "CS201"))))
+                .as("The previous snapshot must not be mutated")
+                .isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Should register new courses with a fresh ordinal")
+    void shouldAddCourse_whenCourseIsUnknown() {
+        // Act
+        PrerequisiteGraph updated = graph.withCourse("PH101");
+        
+        // Assert
+        assertThat(updated.eligibleCourses(new BitSet())).contains("PH101");
+        assertThat(updated.withCourse("PH101")).isSameAs(updated);
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should detect a cycle when a course would require one of its dependents")
+    void shouldDetectCycle_whenPrerequisiteDependsOnCourse() {
+        assertThat(graph.findCycle("CS101", List.of("CS301"))).contains("CS301");
+        assertThat(graph.findCycle("CS101", List.of("CS101"))).contains("CS101");
+        assertThat(graph.findCycle("CS301", List.of("MA101"))).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Should report a course as required while other courses depend on it")
+    void shouldReportRequiredCourse_whenOtherCoursesDependOnIt() {
+        assertThat(graph.isRequiredByAnyCourse("CS101")).isTrue();
+        assertThat(graph.isRequiredByAnyCourse("CS301")).isFalse();
+        assertThat(graph.without("CS301").eligibleCourses(graph.toBitSet(List.of("CS101", "CS201"))))
+                .doesNotContain("CS301");
+    }
+}
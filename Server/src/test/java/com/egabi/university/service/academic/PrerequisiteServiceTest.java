@@ -0,0 +1,185 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.entity.Course;
+import com.egabi.university.entity.Department;
+import com.egabi.university.entity.OutboxRecord;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.event.PrerequisitesChangedEvent;
+import com.egabi.university.exception.ConflictException;
+import com.egabi.university.mapper.CourseMapper;
+import com.egabi.university.repository.CourseRepository;
+import com.egabi.university.repository.EnrollmentRepository;
+import com.egabi.university.service.academic.impl.PrerequisiteServiceImpl;
+import com.egabi.university.service.outbox.OutboxService;
+import com.egabi.university.service.validation.ValidationService;
+import com.egabi.university.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link PrerequisiteServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PrerequisiteServiceTest {
+    
+    @Mock
+    private CourseRepository courseRepository;
+    
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    
+    @Mock
+    private CourseMapper courseMapper;
+    
+    @Mock
+    private ValidationService validationService;
+    
+    @Mock
+    private OutboxService outboxService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private PrerequisiteServiceImpl prerequisiteService;
+    
+    private Course course;
+    private Course prerequisite;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        prerequisiteService = new PrerequisiteServiceImpl(courseRepository, enrollmentRepository, courseMapper,
+                validationService, outboxService, eventPublisher);
+        
+        Department department = TestDataFactory.buildDepartment(TestDataFactory.buildFaculty());
+        course = TestDataFactory.buildCourse("C1", "Course One", department);
+        prerequisite = TestDataFactory.buildCourse("C2", "Course Two", department);
+        
+        lenient().when(courseRepository.findAllCodes()).thenReturn(List.of("C1", "C2"));
+        lenient().when(courseRepository.findAllPrerequisiteEdges()).thenReturn(List.of());
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should apply new prerequisites to the graph only after they are committed")
+    void shouldApplyPrerequisites_onlyAfterCommit() {
+        // Arrange
+        when(validationService.getCourseByCodeOrThrow("C1")).thenReturn(course);
+        when(validationService.getCourseByCodeOrThrow("C2")).thenReturn(prerequisite);
+        
+        // Act
+        List<String> updated = prerequisiteService.updatePrerequisites("C1", List.of("C2"));
+        List<String> beforeCommit = prerequisiteService.getPrerequisites("C1");
+        prerequisiteService.onPrerequisitesChanged(
+                new PrerequisitesChangedEvent(ChangeType.UPDATED, "C1", List.of("C2")));
+        List<String> afterCommit = prerequisiteService.getPrerequisites("C1");
+        
+        // Assert
+        assertThat(updated).containsExactly("C2");
+        assertThat(beforeCommit).isEmpty();
+        assertThat(afterCommit).containsExactly("C2");
+        assertThat(course.getPrerequisites()).containsExactly(prerequisite);
+        verify(eventPublisher).publishEvent(new PrerequisitesChangedEvent(ChangeType.UPDATED, "C1", List.of("C2")));
+    }
+    
+    @Test
+    @DisplayName("Should reload the graph after a transaction that changed prerequisites rolls back")
+    void shouldReloadGraph_whenTransactionRollsBack() {
+        // Arrange
+        prerequisiteService.getPrerequisites("C1");
+        
+        // Act
+        prerequisiteService.addCourse("C3");
+        prerequisiteService.onPrerequisitesRolledBack(
+                new PrerequisitesChangedEvent(ChangeType.CREATED, "C3", List.of()));
+        prerequisiteService.getPrerequisites("C1");
+        
+        // Assert
+        verify(eventPublisher).publishEvent(new PrerequisitesChangedEvent(ChangeType.CREATED, "C3", List.of()));
+        verify(courseRepository, times(2)).findAllCodes();
+    }
+    
+    @Test
+    @DisplayName("Should reload the graph after course changes committed on other instances")
+    void shouldReloadGraph_whenCourseRecordsArrive() {
+        // Arrange
+        prerequisiteService.getPrerequisites("C1");
+        
+        // Act
+        prerequisiteService.onRecords(List.of(
+                new OutboxRecord(1L, AggregateType.STUDENT, "1", ChangeType.UPDATED, Instant.now())));
+        prerequisiteService.getPrerequisites("C1");
+        prerequisiteService.onRecords(List.of(
+                new OutboxRecord(2L, AggregateType.COURSE, "C2", ChangeType.UPDATED, Instant.now())));
+        prerequisiteService.getPrerequisites("C1");
+        
+        // Assert
+        assertThat(prerequisiteService.isLocal()).isTrue();
+        verify(courseRepository, times(2)).findAllPrerequisiteEdges();
+    }
+    
+    @Test
+    @DisplayName("Should leave out prerequisites that close a cycle when loading the graph")
+    void shouldLeaveOutCyclicPrerequisites_whenLoadingGraph() {
+        // Arrange
+        when(courseRepository.findAllPrerequisiteEdges())
+                .thenReturn(List.of(new Object[]{"C1", "C2"}, new Object[]{"C2", "C1"}));
+        
+        // Act
+        List<String> first = prerequisiteService.getPrerequisites("C1");
+        List<String> second = prerequisiteService.getPrerequisites("C2");
+        
+        // Assert
+        assertThat(first).containsExactly("C2");
+        assertThat(second).isEmpty();
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should reject the second of two interleaved updates that together close a cycle")
+    void shouldRejectUpdate_whenInterleavedUpdateClosesCycle() {
+        // Arrange
+        when(validationService.getCourseByCodeOrThrow("C1")).thenReturn(course);
+        when(validationService.getCourseByCodeOrThrow("C2")).thenReturn(prerequisite);
+        prerequisiteService.getPrerequisites("C1");
+        prerequisiteService.updatePrerequisites("C1", List.of("C2"));
+        // The first update has committed, but its change has not reached the in-memory graph yet
+        List<Object[]> committedEdges = List.<Object[]>of(new Object[]{"C1", "C2"});
+        when(courseRepository.findAllPrerequisiteEdges()).thenReturn(committedEdges);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> prerequisiteService.updatePrerequisites("C2", List.of("C1")))
+                .isInstanceOf(ConflictException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "PREREQUISITE_CYCLE");
+        assertThat(prerequisiteService.getPrerequisites("C2")).isEmpty();
+        assertThat(prerequisite.getPrerequisites()).isEmpty();
+        InOrder inOrder = inOrder(courseRepository);
+        inOrder.verify(courseRepository).lockPrerequisitesAgainstUpdates();
+        inOrder.verify(courseRepository).findAllPrerequisiteEdges();
+        inOrder.verify(courseRepository).lockPrerequisitesAgainstUpdates();
+        inOrder.verify(courseRepository).findAllPrerequisiteEdges();
+    }
+}
@@ -0,0 +1,69 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.service.academic.impl.ReplayBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ReplayBuffer}.
+ * <p>
+ * The buffer used by these tests retains 3 items and holds {@code a, b, c, d, e} with ids 1 to 5,
+ * so only {@code c, d, e} are still retained.
+ * </p>
+ */
+public class ReplayBufferTest {
+    
+    private ReplayBuffer<String> buffer;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        buffer = new ReplayBuffer<>(3);
+        for (String item : new String[]{"a", "b", "c", "d", "e"})
+            buffer.append(item);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should replay the items after the last seen id")
+    void shouldReplayItems_whenLastSeenIdIsRetained() {
+        assertThat(buffer.lastId()).isEqualTo(5);
+        assertThat(buffer.covers(3)).isTrue();
+        assertThat(buffer.since(3)).containsExactly("d", "e");
+        assertThat(buffer.since(5)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Should cover the id just before the oldest retained item")
+    void shouldCoverId_whenItPrecedesOldestRetainedItem() {
+        assertThat(buffer.covers(2)).isTrue();
+        assertThat(buffer.since(2)).containsExactly("c", "d", "e");
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should report a gap when items after the last seen id were evicted")
+    void shouldReportGap_whenItemsWereEvicted() {
+        assertThat(buffer.covers(1)).isFalse();
+        assertThat(buffer.since(1)).containsExactly("c", "d", "e");
+    }
+    
+    @Test
+    @DisplayName("Should report a gap when the last seen id is unknown")
+    void shouldReportGap_whenLastSeenIdIsAhead() {
+        assertThat(buffer.covers(9)).isFalse();
+        assertThat(buffer.since(9)).isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.egabi.university.service.academic;
 
+import com.egabi.university.dto.MultiGetDTO;
 import com.egabi.university.dto.StudentDTO;
 import com.egabi.university.entity.*;
 import com.egabi.university.entity.authentication.Role;
@@ -8,8 +9,11 @@ import com.egabi.university.exception.BadRequestException;
 import com.egabi.university.exception.ConflictException;
 import com.egabi.university.exception.NotFoundException;
 import com.egabi.university.mapper.StudentMapper;
+import com.egabi.university.repository.EnrollmentRepository;
 import com.egabi.university.repository.StudentRepository;
 import com.egabi.university.service.academic.impl.StudentServiceImpl;
+import com.egabi.university.service.counter.EntityCounterService;
+import com.egabi.university.service.outbox.OutboxService;
 import com.egabi.university.service.validation.ValidationService;
 import com.egabi.university.util.TestAssertionUtils;
 import com.egabi.university.util.TestDataFactory;
@@ -56,9 +60,18 @@ public class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
     
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    
     @Mock
     private ValidationService validationService;
     
+    @Mock
+    private OutboxService outboxService;
+    
+    @Mock
+    private EntityCounterService entityCounterService;
+    
     private StudentServiceImpl studentService;
     
     private Student student;
@@ -81,7 +94,8 @@ public class StudentServiceTest {
         TestAssertionUtils.setValidationService(validationService);
         
         // Create the service under test with mocked dependencies
-        studentService = new StudentServiceImpl(studentRepository, studentMapper, validationService);
+        studentService = new StudentServiceImpl(studentRepository, enrollmentRepository, studentMapper, validationService, outboxService,
+                entityCounterService);
         
         // Prepare test data
         faculty = TestDataFactory.buildFaculty();
@@ -198,6 +212,35 @@ public class StudentServiceTest {
         verifyNoMoreInteractions(validationService);
     }
     
+    /**
+     * Unit test for {@link StudentService#getStudentsByIds(java.util.Collection)}.
+     * <p>
+     * <b>Scenario:</b> When some of the requested IDs exist, the service should:
+     * <ul>
+     *   <li>Fetch the distinct IDs with a single {@link StudentRepository#findAllByIdIn} query</li>
+     *   <li>Return the found students in request order and the IDs that matched no student</li>
+     * </ul>
+     * <p>
+     * <b>Expected result:</b> The existing student is returned and the unknown ID is reported as missing.
+     */
+    @Test
+    @DisplayName("Should return found students and missing IDs for a multi-get")
+    void shouldReturnFoundAndMissing_whenGettingStudentsByIds() {
+        // Arrange: Prepare mocks and inputs
+        List<Long> ids = List.of(student.getId(), 999L);
+        when(studentRepository.findAllByIdIn(ids)).thenReturn(List.of(student));
+        
+        // Act: Call the method under test
+        MultiGetDTO<StudentDTO, Long> result = studentService.getStudentsByIds(
+                List.of(student.getId(), 999L, student.getId()));
+        
+        // Assert: Verify output and interactions
+        assertThat(result.getItems()).extracting(StudentDTO::getId).containsExactly(student.getId());
+        assertThat(result.getMissing()).containsExactly(999L);
+        verify(validationService).assertMultiGetKeyCount(2);
+        verifyNoMoreInteractions(validationService, studentRepository);
+    }
+    
     // Create ============================================================
     
     /**
@@ -366,7 +409,7 @@ public class StudentServiceTest {
      * <b>Scenario:</b> When deleting a student that exists and has no associations, the service should:
      * <ul>
      *   <li>Fetch the student via {@link ValidationService#getStudentByIdOrThrow(Long)}</li>
-     *
+     *   <li>Check for enrollments via {@link EnrollmentRepository#existsByStudentId(Long)}</li>
      *   <li>Delete the student via {@link StudentRepository#delete(Object)}</li>
      * </ul>
      * <p>
@@ -383,6 +426,7 @@ public class StudentServiceTest {
     void shouldDeleteStudentById_whenStudentExistsAndHasNoEnrollments() {
         // Arrange: Prepare mocks and inputs
         when(validationService.getStudentByIdOrThrow(student.getId())).thenReturn(student);
+        when(enrollmentRepository.existsByStudentId(student.getId())).thenReturn(false);
         doNothing().when(studentRepository).delete(any(Student.class));
         
         // Act: Call the method under test
@@ -390,8 +434,9 @@ public class StudentServiceTest {
         
         // Assert: Verify interactions
         verify(validationService).getStudentByIdOrThrow(student.getId());
+        verify(enrollmentRepository).existsByStudentId(student.getId());
         verify(studentRepository).delete(any(Student.class));
-        verifyNoMoreInteractions(validationService, studentRepository);
+        verifyNoMoreInteractions(validationService, enrollmentRepository, studentRepository);
     }
     
     // ================================================================
@@ -708,9 +753,7 @@ public class StudentServiceTest {
     void shouldThrowConflictException_whenDeletingStudentWithEnrollments() {
         // Arrange: Prepare mocks and inputs
         when(validationService.getStudentByIdOrThrow(student.getId())).thenReturn(student);
-        Course course = TestDataFactory.buildCourse(department, level);
-        Enrollment enrollment = TestDataFactory.buildEnrollment(student, course, 87.6);
-        student.setEnrollments(List.of(enrollment));
+        when(enrollmentRepository.existsByStudentId(student.getId())).thenReturn(true);
         
         // Act & Assert: Verify exception is thrown
         assertThatThrownBy(() -> studentService.deleteStudent(student.getId()))
@@ -721,7 +764,8 @@ public class StudentServiceTest {
         
         // Assert: Verify interactions
         verify(validationService).getStudentByIdOrThrow(student.getId());
+        verify(enrollmentRepository).existsByStudentId(student.getId());
         verifyNoInteractions(studentRepository);
-        verifyNoMoreInteractions(validationService);
+        verifyNoMoreInteractions(validationService, enrollmentRepository);
     }
 }
@@ -0,0 +1,159 @@
+package com.egabi.university.service.academic;
+
+import com.egabi.university.entity.Term;
+import com.egabi.university.entity.Term.Status;
+import com.egabi.university.event.TermChangedEvent;
+import com.egabi.university.exception.ConflictException;
+import com.egabi.university.mapper.TermMapper;
+import com.egabi.university.repository.EnrollmentPartitionRepository;
+import com.egabi.university.repository.TermRepository;
+import com.egabi.university.service.academic.impl.TermServiceImpl;
+import com.egabi.university.service.validation.ValidationService;
+import com.egabi.university.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link TermServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class TermServiceTest {
+    
+    @Mock
+    private TermRepository termRepository;
+    
+    @Mock
+    private EnrollmentPartitionRepository enrollmentPartitionRepository;
+    
+    @Mock
+    private TermMapper termMapper;
+    
+    @Mock
+    private ValidationService validationService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private TermServiceImpl termService;
+    
+    private Term term;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        termService = new TermServiceImpl(termRepository, enrollmentPartitionRepository, termMapper, validationService,
+                eventPublisher);
+        term = TestDataFactory.buildTerm();
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should resolve the current term once until a term changes")
+    void shouldCacheCurrentTerm_untilTermChanges() {
+        // Arrange
+        when(termRepository.findFirstByStatusAndStartDateLessThanEqualOrderByStartDateDesc(eq(Status.OPEN), any(LocalDate.class)))
+                .thenReturn(Optional.of(term));
+        
+        // Act
+        Long first = termService.getCurrentTermId();
+        Long second = termService.getCurrentTermId();
+        termService.onTermChanged(new TermChangedEvent(term.getId()));
+        Long third = termService.getCurrentTermId();
+        
+        // Assert
+        assertThat(first).isEqualTo(term.getId());
+        assertThat(second).isEqualTo(term.getId());
+        assertThat(third).isEqualTo(term.getId());
+        verify(termRepository, times(2))
+                .findFirstByStatusAndStartDateLessThanEqualOrderByStartDateDesc(eq(Status.OPEN), any(LocalDate.class));
+    }
+    
+    @Test
+    @DisplayName("Should freeze the enrollment partition when closing a term as frozen")
+    void shouldFreezePartition_whenClosingTermAsFrozen() {
+        // Arrange
+        when(validationService.getTermByIdOrThrow(term.getId())).thenReturn(term);
+        when(termRepository.save(term)).thenReturn(term);
+        
+        // Act
+        termService.closeTerm(term.getId(), Status.FROZEN);
+        
+        // Assert
+        assertThat(term.getStatus()).isEqualTo(Status.FROZEN);
+        verify(enrollmentPartitionRepository).freezePartition(term.getId());
+        verify(eventPublisher).publishEvent(new TermChangedEvent(term.getId()));
+        verifyNoMoreInteractions(enrollmentPartitionRepository);
+    }
+    
+    @Test
+    @DisplayName("Should detach the enrollment partition of a frozen term once its enrollments are archived")
+    void shouldDetachPartition_whenEnrollmentsAreArchived() {
+        // Arrange
+        term.setStatus(Status.FROZEN);
+        when(validationService.getTermByIdOrThrow(term.getId())).thenReturn(term);
+        when(enrollmentPartitionRepository.isPartitionEmpty(term.getId())).thenReturn(true);
+        when(termRepository.save(term)).thenReturn(term);
+        
+        // Act
+        termService.closeTerm(term.getId(), Status.DETACHED);
+        
+        // Assert
+        assertThat(term.getStatus()).isEqualTo(Status.DETACHED);
+        verify(enrollmentPartitionRepository).detachPartition(term.getId());
+        verify(eventPublisher).publishEvent(new TermChangedEvent(term.getId()));
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should throw ConflictException when detaching a term whose enrollments are not archived")
+    void shouldThrowConflictException_whenDetachingTermWithEnrollments() {
+        // Arrange
+        when(validationService.getTermByIdOrThrow(term.getId())).thenReturn(term);
+        when(enrollmentPartitionRepository.isPartitionEmpty(term.getId())).thenReturn(false);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> termService.closeTerm(term.getId(), Status.DETACHED))
+                .isInstanceOf(ConflictException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "TERM_HAS_ENROLLMENTS");
+        assertThat(term.getStatus()).isEqualTo(Status.OPEN);
+        verify(enrollmentPartitionRepository, never()).detachPartition(any());
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    @Test
+    @DisplayName("Should throw ConflictException when closing a term that is already closed")
+    void shouldThrowConflictException_whenTermIsAlreadyClosed() {
+        // Arrange
+        term.setStatus(Status.DETACHED);
+        when(validationService.getTermByIdOrThrow(term.getId())).thenReturn(term);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> termService.closeTerm(term.getId(), Status.FROZEN))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("already closed");
+        verifyNoInteractions(enrollmentPartitionRepository, eventPublisher);
+    }
+}
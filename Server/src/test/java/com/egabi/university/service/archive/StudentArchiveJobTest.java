@@ -0,0 +1,147 @@
+package com.egabi.university.service.archive;
+
+import com.egabi.university.entity.EnrollmentId;
+import com.egabi.university.entity.EntityCounter.Counter;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.event.EnrollmentChangedEvent;
+import com.egabi.university.event.StudentsArchivedEvent;
+import com.egabi.university.repository.ArchivedEnrollmentRepository;
+import com.egabi.university.repository.ArchivedStudentRepository;
+import com.egabi.university.repository.EnrollmentRepository;
+import com.egabi.university.repository.StudentRepository;
+import com.egabi.university.repository.UserRepository;
+import com.egabi.university.service.counter.EntityCounterService;
+import com.egabi.university.service.outbox.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link StudentArchiveJob}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class StudentArchiveJobTest {
+    
+    private static final LocalDate CUTOFF = LocalDate.of(2024, 9, 1);
+    
+    @Mock
+    private StudentRepository studentRepository;
+    
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    
+    @Mock
+    private ArchivedStudentRepository archivedStudentRepository;
+    
+    @Mock
+    private ArchivedEnrollmentRepository archivedEnrollmentRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private EntityCounterService entityCounterService;
+    
+    @Mock
+    private OutboxService outboxService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private StudentArchiveJob job;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        job = new StudentArchiveJob(studentRepository, enrollmentRepository, archivedStudentRepository,
+                archivedEnrollmentRepository, userRepository, entityCounterService, outboxService, eventPublisher,
+                transactionManager, 2, Period.ofYears(1));
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should copy a chunk of graduates to the archive before deleting them from the live tables")
+    void shouldArchiveChunk_whenGraduatesArePastRetention() {
+        // Arrange: students 4 and 7 graduated, both in department 1 of faculty 10
+        List<Long> ids = List.of(4L, 7L);
+        when(studentRepository.lockGraduatedBefore(CUTOFF, 2)).thenReturn(ids);
+        when(studentRepository.countAllByIdInGroupedByDepartmentId(ids))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 10L, 2L}));
+        
+        // Act
+        int archived = job.archiveChunk(CUTOFF);
+        
+        // Assert
+        assertThat(archived).isEqualTo(2);
+        verify(entityCounterService).increment(Counter.DEPARTMENT_STUDENTS, 1L, -2);
+        verify(entityCounterService).increment(Counter.FACULTY_STUDENTS, 10L, -2);
+        InOrder inOrder = inOrder(archivedStudentRepository, archivedEnrollmentRepository,
+                enrollmentRepository, studentRepository);
+        inOrder.verify(archivedStudentRepository).copyFromStudents(eq(ids), any(Instant.class));
+        inOrder.verify(archivedEnrollmentRepository).copyFromEnrollments(ids);
+        inOrder.verify(enrollmentRepository).deleteAllByStudentIds(ids);
+        inOrder.verify(studentRepository).deleteAllByIds(ids);
+        verify(outboxService).record(AggregateType.STUDENT, 4L, ChangeType.DELETED);
+        verify(outboxService).record(AggregateType.STUDENT, 7L, ChangeType.DELETED);
+        verify(eventPublisher).publishEvent(new StudentsArchivedEvent(ids));
+    }
+    
+    @Test
+    @DisplayName("Should record the deleted enrollments and disable the accounts of archived graduates")
+    void shouldRecordEnrollmentsAndDisableUsers_whenGraduatesAreArchived() {
+        // Arrange: student 4 passed CS101 in term 3
+        List<Long> ids = List.of(4L);
+        when(studentRepository.lockGraduatedBefore(CUTOFF, 2)).thenReturn(ids);
+        when(enrollmentRepository.findAllIdsByStudentIds(ids)).thenReturn(List.of(new EnrollmentId(4L, "CS101", 3L)));
+        
+        // Act
+        job.archiveChunk(CUTOFF);
+        
+        // Assert
+        InOrder inOrder = inOrder(userRepository, studentRepository);
+        inOrder.verify(userRepository).disableAllByStudentIds(eq(ids), any(Instant.class));
+        inOrder.verify(studentRepository).deleteAllByIds(ids);
+        verify(outboxService).record(AggregateType.ENROLLMENT, "4/CS101/3", ChangeType.DELETED);
+        verify(eventPublisher).publishEvent(new EnrollmentChangedEvent(ChangeType.DELETED, 4L, "CS101", null));
+    }
+    
+    @Test
+    @DisplayName("Should do nothing when no graduate is past the retention period")
+    void shouldNotArchive_whenNoGraduateIsPastRetention() {
+        // Arrange
+        when(studentRepository.lockGraduatedBefore(CUTOFF, 2)).thenReturn(List.of());
+        
+        // Act
+        int archived = job.archiveChunk(CUTOFF);
+        
+        // Assert
+        assertThat(archived).isZero();
+        verifyNoInteractions(archivedStudentRepository, archivedEnrollmentRepository, enrollmentRepository,
+                userRepository, entityCounterService, outboxService, eventPublisher);
+    }
+}
@@ -0,0 +1,158 @@
+package com.egabi.university.service.authentication;
+
+import com.egabi.university.dto.authentication.response.AuthenticationResponse;
+import com.egabi.university.entity.authentication.RefreshToken;
+import com.egabi.university.entity.authentication.Role;
+import com.egabi.university.entity.authentication.User;
+import com.egabi.university.exception.UnauthorizedException;
+import com.egabi.university.repository.RefreshTokenRepository;
+import com.egabi.university.service.authentication.revocation.TokenRevocationService;
+import com.egabi.university.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RefreshTokenServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+    
+    private static final String FAMILY_ID = "family";
+    private static final Instant ACCESS_EXPIRY = Instant.now().plus(Duration.ofMinutes(15));
+    
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    
+    @Mock
+    private JwtService jwtService;
+    
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    
+    private RefreshTokenServiceImpl refreshTokenService;
+    
+    private User user;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenServiceImpl(refreshTokenRepository, jwtService, tokenRevocationService,
+                Duration.ofDays(14));
+        user = TestDataFactory.buildUser(Role.STUDENT);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should store only the hash of an issued refresh token")
+    void shouldStoreTokenHash_whenIssuingTokens() {
+        // Arrange
+        when(jwtService.generateToken(user)).thenReturn("access");
+        when(jwtService.extractTokenId("access")).thenReturn("access-id");
+        when(jwtService.extractExpiration("access")).thenReturn(ACCESS_EXPIRY);
+        
+        // Act
+        AuthenticationResponse response = refreshTokenService.issueTokens(user);
+        
+        // Assert
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(response.getToken()).isEqualTo("access");
+        assertThat(response.getRefreshToken()).hasSize(43);
+        assertThat(saved.getValue().getTokenHash()).hasSize(64).isNotEqualTo(response.getRefreshToken());
+        assertThat(saved.getValue().getAccessTokenId()).isEqualTo("access-id");
+    }
+    
+    @Test
+    @DisplayName("Should mark the refresh token as used and issue a new one of the same family")
+    void shouldRotateToken_whenTokenIsValid() {
+        // Arrange
+        RefreshToken current = buildRefreshToken();
+        when(refreshTokenRepository.findByTokenHashForUpdate(anyString())).thenReturn(Optional.of(current));
+        when(jwtService.generateToken(user)).thenReturn("access");
+        when(jwtService.extractTokenId("access")).thenReturn("access-id");
+        when(jwtService.extractExpiration("access")).thenReturn(ACCESS_EXPIRY);
+        
+        // Act
+        AuthenticationResponse response = refreshTokenService.rotate("refresh");
+        
+        // Assert
+        assertThat(current.getUsedAt()).isNotNull();
+        assertThat(response.getToken()).isEqualTo("access");
+        verify(refreshTokenRepository).save(argThat(token -> token != current && FAMILY_ID.equals(token.getFamilyId())));
+        verifyNoInteractions(tokenRevocationService);
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should revoke the whole family when a used refresh token is presented again")
+    void shouldRevokeFamily_whenUsedTokenIsReused() {
+        // Arrange
+        RefreshToken reused = buildRefreshToken();
+        reused.setUsedAt(Instant.now().minusSeconds(60));
+        when(refreshTokenRepository.findByTokenHashForUpdate(anyString())).thenReturn(Optional.of(reused));
+        when(refreshTokenRepository.findAllByFamilyIdAndAccessTokenExpiresAtAfter(eq(FAMILY_ID), any(Instant.class)))
+                .thenReturn(List.of(reused));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenService.rotate("refresh"))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "REFRESH_TOKEN_REUSED");
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+        verify(tokenRevocationService).revoke("access-id", ACCESS_EXPIRY);
+        verify(jwtService, never()).generateToken(any());
+    }
+    
+    @Test
+    @DisplayName("Should throw UnauthorizedException when the refresh token is unknown")
+    void shouldThrowUnauthorizedException_whenTokenIsUnknown() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHashForUpdate(anyString())).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown"))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_REFRESH_TOKEN");
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private RefreshToken buildRefreshToken() {
+        return RefreshToken.builder()
+                .id(1L)
+                .tokenHash("hash")
+                .familyId(FAMILY_ID)
+                .user(user)
+                .expiresAt(Instant.now().plus(Duration.ofDays(1)))
+                .accessTokenId("access-id")
+                .accessTokenExpiresAt(ACCESS_EXPIRY)
+                .build();
+    }
+}
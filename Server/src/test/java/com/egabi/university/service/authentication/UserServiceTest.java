@@ -0,0 +1,188 @@
+package com.egabi.university.service.authentication;
+
+import com.egabi.university.config.jwt.JwtFilter;
+import com.egabi.university.entity.authentication.Role;
+import com.egabi.university.entity.authentication.User;
+import com.egabi.university.event.SecurityStampChangedEvent;
+import com.egabi.university.exception.BadRequestException;
+import com.egabi.university.exception.NotFoundException;
+import com.egabi.university.repository.UserRepository;
+import com.egabi.university.service.authentication.revocation.SecurityStampService;
+import com.egabi.university.service.authentication.revocation.TokenRevocationService;
+import com.egabi.university.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link UserServiceImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class UserServiceTest {
+    
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1qd3QtZmlsdGVyLTEyMzQ1Njc4OTA=";
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    
+    private UserServiceImpl userService;
+    
+    private JwtServiceImpl jwtService;
+    
+    private SecurityStampService securityStampService;
+    
+    private User user;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl(userRepository, eventPublisher);
+        jwtService = new JwtServiceImpl();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expirationTimeInMillis", 900_000L);
+        securityStampService = new SecurityStampService(userRepository, Duration.ofSeconds(30), 900_000L);
+        user = TestDataFactory.buildUser(Role.STUDENT);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should publish the new security stamp and reject older tokens when locking a user")
+    void shouldRejectOldToken_whenUserIsLocked() throws Exception {
+        // Arrange
+        String oldToken = jwtService.generateToken(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        
+        // Act
+        userService.lockUser(user.getId());
+        SecurityStampChangedEvent event = capturePublishedEvent();
+        securityStampService.onSecurityStampChanged(event);
+        
+        // Assert
+        assertThat(user.isLocked()).isTrue();
+        assertThat(event.userId()).isEqualTo(user.getId());
+        assertThat(event.stamp()).isEqualTo(user.getSecurityStamp());
+        verify(userRepository).save(user);
+        assertThat(authenticate(oldToken)).isNull();
+    }
+    
+    @Test
+    @DisplayName("Should publish the new security stamp and accept only tokens issued afterwards when changing a role")
+    void shouldRejectOldToken_whenRoleChanges() throws Exception {
+        // Arrange
+        String oldToken = jwtService.generateToken(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        
+        // Act
+        userService.changeRole(user.getId(), Role.INSTRUCTOR);
+        securityStampService.onSecurityStampChanged(capturePublishedEvent());
+        String newToken = jwtService.generateToken(user);
+        
+        // Assert
+        assertThat(authenticate(oldToken)).isNull();
+        Authentication authentication = authenticate(newToken);
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("INSTRUCTOR");
+    }
+    
+    @Test
+    @DisplayName("Should not publish a security stamp when unlocking a user")
+    void shouldNotPublishStamp_whenUserIsUnlocked() {
+        // Arrange
+        user.setLocked(true);
+        long stamp = user.getSecurityStamp();
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        
+        // Act
+        userService.unlockUser(user.getId());
+        
+        // Assert
+        assertThat(user.isLocked()).isFalse();
+        assertThat(user.getSecurityStamp()).isEqualTo(stamp);
+        verify(userRepository).save(user);
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should throw BadRequestException when changing the role to none")
+    void shouldThrowBadRequestException_whenRoleIsNotProvided() {
+        // Act & Assert
+        assertThatThrownBy(() -> userService.changeRole(user.getId(), null))
+                .isInstanceOf(BadRequestException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "ROLE_NOT_PROVIDED");
+        verifyNoInteractions(userRepository, eventPublisher);
+    }
+    
+    @Test
+    @DisplayName("Should throw NotFoundException when locking a user that does not exist")
+    void shouldThrowNotFoundException_whenUserDoesNotExist() {
+        // Arrange
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertThatThrownBy(() -> userService.lockUser(99L))
+                .isInstanceOf(NotFoundException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "USER_NOT_FOUND");
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private SecurityStampChangedEvent capturePublishedEvent() {
+        ArgumentCaptor<SecurityStampChangedEvent> event = ArgumentCaptor.forClass(SecurityStampChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        return event.getValue();
+    }
+    
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        JwtFilter filter = new JwtFilter(jwtService, userService, tokenRevocationService, securityStampService, true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/faculties");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,58 @@
+package com.egabi.university.service.authentication.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RevocationFilter}.
+ */
+public class RevocationFilterTest {
+    
+    private static final long NOW = 1_700_000_000_000L;
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should contain every added token ID and no other")
+    void shouldContainAddedTokenIds_whenFilterIsBuilt() {
+        // Arrange
+        Map<String, Long> revoked = new HashMap<>();
+        for (int i = 0; i < 1_000; i++)
+            revoked.put(UUID.randomUUID().toString(), NOW + 60_000);
+        
+        // Act
+        RevocationFilter filter = RevocationFilter.EMPTY.with(revoked, NOW);
+        
+        // Assert
+        assertThat(filter.size()).isEqualTo(1_000);
+        assertThat(revoked.keySet()).allMatch(filter::contains);
+        assertThat(filter.contains(UUID.randomUUID().toString())).isFalse();
+        assertThat(RevocationFilter.EMPTY.contains("any")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Should keep unexpired entries and drop expired ones when new token IDs are added")
+    void shouldDropExpiredEntries_whenNewTokenIdsAreAdded() {
+        // Arrange
+        RevocationFilter filter = RevocationFilter.EMPTY.with(Map.of("short", NOW + 1_000, "long", NOW + 60_000), NOW);
+        
+        // Act
+        RevocationFilter next = filter.with(Map.of("new", NOW + 60_000), NOW + 2_000);
+        
+        // Assert
+        assertThat(filter.hasExpired(NOW + 2_000)).isTrue();
+        assertThat(next.contains("short")).isFalse();
+        assertThat(next.contains("long")).isTrue();
+        assertThat(next.contains("new")).isTrue();
+        assertThat(next.hasExpired(NOW + 2_000)).isFalse();
+        assertThat(filter.contains("short")).as("The previous snapshot must not be mutated").isTrue();
+    }
+}
@@ -0,0 +1,107 @@
+package com.egabi.university.service.authentication.throttle;
+
+import com.egabi.university.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link LoginThrottle}.
+ * <p>
+ * The throttle used by these tests allows 3 failures per email and 5 per IP address in a 15-minute window,
+ * then blocks for 1 second, doubling with every further failure.
+ * </p>
+ */
+public class LoginThrottleTest {
+    
+    private static final String EMAIL = "student@university.edu";
+    private static final String IP = "10.0.0.1";
+    
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private LoginThrottle throttle;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        throttle = new LoginThrottle(3, 5, Duration.ofMinutes(15), Duration.ofSeconds(1), Duration.ofMinutes(15),
+                1024, now::get);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should allow logins below the failure threshold")
+    void shouldAllowLogin_whenFailuresAreBelowThreshold() {
+        // Arrange
+        throttle.recordFailure(EMAIL, IP);
+        throttle.recordFailure(EMAIL, IP);
+        
+        // Act & Assert
+        assertThatCode(() -> throttle.assertAllowed(EMAIL, IP)).doesNotThrowAnyException();
+    }
+    
+    @Test
+    @DisplayName("Should unblock an email once its failures leave the window")
+    void shouldAllowLogin_whenFailuresLeaveWindow() {
+        // Arrange
+        for (int i = 0; i < 3; i++)
+            throttle.recordFailure(EMAIL, "10.0.0." + i);
+        
+        // Act
+        now.addAndGet(Duration.ofMinutes(30).toMillis());
+        throttle.recordFailure(EMAIL, "10.0.0.9");
+        
+        // Assert
+        assertThatCode(() -> throttle.assertAllowed(EMAIL, "10.0.0.9")).doesNotThrowAnyException();
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should block an email once over the threshold and double the block on every further failure")
+    void shouldBlockWithExponentialBackoff_whenEmailFailuresCrossThreshold() {
+        // Arrange: the third failure blocks for 1 second
+        for (int i = 0; i < 3; i++)
+            throttle.recordFailure(EMAIL, "10.0.0." + i);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> throttle.assertAllowed(" Student@University.edu", "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 1L);
+        
+        // The fourth failure, once the block is over, blocks for 2 seconds
+        now.addAndGet(1_000);
+        assertThatCode(() -> throttle.assertAllowed(EMAIL, "10.0.0.9")).doesNotThrowAnyException();
+        throttle.recordFailure(EMAIL, "10.0.0.9");
+        assertThatThrownBy(() -> throttle.assertAllowed(EMAIL, "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 2L);
+    }
+    
+    @Test
+    @DisplayName("Should block an IP address trying many emails")
+    void shouldBlockIp_whenFailuresAcrossEmailsCrossThreshold() {
+        // Arrange
+        for (int i = 0; i < 5; i++)
+            throttle.recordFailure("user" + i + "@university.edu", IP);
+        
+        // Act & Assert
+        assertThatThrownBy(() -> throttle.assertAllowed("another@university.edu", IP))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> throttle.assertAllowed("another@university.edu", "10.0.0.2"))
+                .doesNotThrowAnyException();
+    }
+}
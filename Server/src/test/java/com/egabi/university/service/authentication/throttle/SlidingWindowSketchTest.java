@@ -0,0 +1,64 @@
+package com.egabi.university.service.authentication.throttle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SlidingWindowSketch}.
+ * The sketch used by these tests has 1024 slots per row, fixed seeds and a 1-minute window.
+ */
+public class SlidingWindowSketchTest {
+    
+    private static final long NOW = 1_700_000_000_000L;
+    
+    private SlidingWindowSketch sketch;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        sketch = new SlidingWindowSketch(1024, 60_000, new long[]{0x5EED0001L, 0x5EED0002L});
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should count keys with the same String hash code apart")
+    void shouldCountKeysApart_whenStringHashCodesCollide() {
+        // Arrange: "Aa" and "BB" have the same String hash code, and so do both emails
+        String attacker = "Aa@university.edu";
+        String victim = "BB@university.edu";
+        assertThat(attacker.hashCode()).isEqualTo(victim.hashCode());
+        
+        // Act
+        for (int i = 0; i < 3; i++)
+            sketch.record(attacker, NOW);
+        
+        // Assert
+        assertThat(sketch.count(attacker, NOW)).isEqualTo(3);
+        assertThat(sketch.count(victim, NOW)).isZero();
+    }
+    
+    @Test
+    @DisplayName("Should never undercount a key, whatever keys share its slots")
+    void shouldNeverUndercount_whenKeysShareSlots() {
+        // Arrange: 2 slots per row, so every key shares its slots with many others
+        sketch = new SlidingWindowSketch(2, 60_000, new long[]{1L, 2L});
+        for (int i = 0; i < 3; i++)
+            sketch.record("student@university.edu", NOW);
+        
+        // Act
+        for (int i = 0; i < 50; i++)
+            sketch.record("user" + i + "@university.edu", NOW);
+        
+        // Assert
+        assertThat(sketch.count("student@university.edu", NOW)).isGreaterThanOrEqualTo(3);
+    }
+}
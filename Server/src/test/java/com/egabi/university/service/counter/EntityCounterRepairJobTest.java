@@ -0,0 +1,93 @@
+package com.egabi.university.service.counter;
+
+import com.egabi.university.entity.EntityCounter.Counter;
+import com.egabi.university.repository.EntityCounterRepository;
+import com.egabi.university.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link EntityCounterRepairJob}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class EntityCounterRepairJobTest {
+    
+    @Mock
+    private EntityCounterRepository entityCounterRepository;
+    
+    @Mock
+    private StudentRepository studentRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private EntityCounterRepairJob job;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        job = new EntityCounterRepairJob(entityCounterRepository, studentRepository, transactionManager);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should leave counters that match the fresh count untouched")
+    void shouldNotRepair_whenCountersMatch() {
+        // Arrange
+        when(studentRepository.countAllGroupedByFacultyId()).thenReturn(List.<Object[]>of(new Object[]{1L, 3L}));
+        when(entityCounterRepository.sumAllGroupedByOwner(Counter.FACULTY_STUDENTS))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 3L}));
+        
+        // Act
+        int repaired = job.repair(Counter.FACULTY_STUDENTS);
+        
+        // Assert
+        assertThat(repaired).isZero();
+        verify(entityCounterRepository).lockAgainstUpdates();
+        verify(entityCounterRepository, never()).deleteAllByOwner(any(), any());
+    }
+    
+    @Test
+    @DisplayName("Should rewrite drifted counters and drop counters of owners without students")
+    void shouldRepairDriftedCounters_whenCountersDiffer() {
+        // Arrange: department 1 drifted, department 2 has no students left, department 3 was never counted
+        when(studentRepository.countAllGroupedByDepartmentId()).thenReturn(List.of(
+                new Object[]{1L, 5L},
+                new Object[]{3L, 2L}));
+        when(entityCounterRepository.sumAllGroupedByOwner(Counter.DEPARTMENT_STUDENTS)).thenReturn(List.of(
+                new Object[]{1L, 4L},
+                new Object[]{2L, 1L}));
+        
+        // Act
+        int repaired = job.repair(Counter.DEPARTMENT_STUDENTS);
+        
+        // Assert
+        assertThat(repaired).isEqualTo(3);
+        InOrder inOrder = inOrder(entityCounterRepository);
+        inOrder.verify(entityCounterRepository).lockAgainstUpdates();
+        inOrder.verify(entityCounterRepository).sumAllGroupedByOwner(Counter.DEPARTMENT_STUDENTS);
+        verify(entityCounterRepository).deleteAllByOwner(Counter.DEPARTMENT_STUDENTS, 1L);
+        verify(entityCounterRepository).increment("DEPARTMENT_STUDENTS", 1L, 0, 5L);
+        verify(entityCounterRepository).deleteAllByOwner(Counter.DEPARTMENT_STUDENTS, 2L);
+        verify(entityCounterRepository).deleteAllByOwner(Counter.DEPARTMENT_STUDENTS, 3L);
+        verify(entityCounterRepository).increment("DEPARTMENT_STUDENTS", 3L, 0, 2L);
+        verifyNoMoreInteractions(entityCounterRepository);
+    }
+}
@@ -0,0 +1,202 @@
+package com.egabi.university.service.outbox;
+
+import com.egabi.university.entity.OutboxCursor;
+import com.egabi.university.entity.OutboxRecord;
+import com.egabi.university.entity.OutboxRecord.AggregateType;
+import com.egabi.university.event.ChangeType;
+import com.egabi.university.repository.OutboxCursorRepository;
+import com.egabi.university.repository.OutboxRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link OutboxRelay}.
+ * The relay uses batches of 3 records and a settle time of 5 seconds.
+ */
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+    
+    @Mock
+    private OutboxRecordRepository outboxRecordRepository;
+    
+    @Mock
+    private OutboxCursorRepository outboxCursorRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Mock
+    private OutboxSubscriber subscriber;
+    
+    private OutboxRelay relay;
+    private OutboxCursor cursor;
+    private Instant now;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxRecordRepository, outboxCursorRepository, List.of(subscriber),
+                transactionManager, 3, Duration.ofSeconds(5), Duration.ofDays(7));
+        cursor = new OutboxCursor("search-index", 10L);
+        now = Instant.now();
+        when(subscriber.name()).thenReturn("search-index");
+        lenient().when(outboxCursorRepository.findForUpdate("search-index")).thenReturn(Optional.of(cursor));
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should deliver consecutive records and advance the cursor")
+    void shouldDeliverRecordsAndAdvanceCursor_whenRecordsAreConsecutive() {
+        // Arrange
+        List<OutboxRecord> records = List.of(record(11, 60), record(12, 60));
+        when(outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3))).thenReturn(records);
+        
+        // Act
+        boolean more = relay.deliverBatch(subscriber, now);
+        
+        // Assert
+        assertThat(more).isFalse();
+        verify(subscriber).onRecords(records);
+        assertThat(cursor.getLastRecordId()).isEqualTo(12L);
+        verify(outboxCursorRepository).save(cursor);
+    }
+    
+    @Test
+    @DisplayName("Should skip a gap once it has been missing for the settle time")
+    void shouldSkipGap_whenGapIsSettled() {
+        // Arrange: record 11 was rolled back
+        when(outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3)))
+                .thenReturn(List.of(record(12, 60), record(13, 60), record(14, 60)));
+        
+        // Act
+        boolean first = relay.deliverBatch(subscriber, now);
+        boolean settled = relay.deliverBatch(subscriber, now.plusSeconds(6));
+        
+        // Assert
+        assertThat(first).isFalse();
+        assertThat(settled).isTrue();
+        assertThat(cursor.getLastRecordId()).isEqualTo(14L);
+    }
+    
+    @Test
+    @DisplayName("Should keep the cursor of a local subscriber in memory, starting from the first record")
+    void shouldKeepCursorInMemory_whenSubscriberIsLocal() {
+        // Arrange
+        when(subscriber.isLocal()).thenReturn(true);
+        List<OutboxRecord> first = List.of(record(1, 60), record(2, 60));
+        List<OutboxRecord> second = List.of(record(3, 60));
+        when(outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3))).thenReturn(first);
+        when(outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3))).thenReturn(second);
+        
+        // Act
+        relay.deliverBatch(subscriber, now);
+        relay.deliverBatch(subscriber, now);
+        
+        // Assert
+        verify(subscriber).onRecords(first);
+        verify(subscriber).onRecords(second);
+        verify(outboxCursorRepository, never()).findForUpdate(any());
+        verify(outboxCursorRepository, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("Should not hold back the purge for local subscribers")
+    void shouldPurgeRecords_whenOnlyLocalSubscribersRemain() {
+        // Arrange
+        when(subscriber.isLocal()).thenReturn(true);
+        when(outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3))).thenReturn(List.of());
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        verify(outboxRecordRepository).deleteDelivered(eq(Long.MAX_VALUE), any(Instant.class));
+        verify(outboxCursorRepository, never()).findMinimumLastRecordId(any());
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should stop at a recent gap that an in-flight transaction may still fill")
+    void shouldStopAtGap_whenGapIsRecent() {
+        // Arrange: record 13 may still be committed
+        when(outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3)))
+                .thenReturn(List.of(record(11, 60), record(12, 60), record(14, 0)));
+        
+        // Act
+        relay.deliverBatch(subscriber, now);
+        
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxRecord>> delivered = ArgumentCaptor.forClass(List.class);
+        verify(subscriber).onRecords(delivered.capture());
+        assertThat(delivered.getValue()).extracting(OutboxRecord::getId).containsExactly(11L, 12L);
+        assertThat(cursor.getLastRecordId()).isEqualTo(12L);
+    }
+    
+    @Test
+    @DisplayName("Should wait at a gap before older records, as its transaction may still be open")
+    void shouldStopAtGap_whenGapIsFirstSeen() {
+        // Arrange: record 11 belongs to a transaction that has been open for a minute
+        when(outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3)))
+                .thenReturn(List.of(record(12, 60)));
+        
+        // Act
+        relay.deliverBatch(subscriber, now);
+        relay.deliverBatch(subscriber, now.plusSeconds(4));
+        
+        // Assert
+        verify(subscriber, never()).onRecords(any());
+        assertThat(cursor.getLastRecordId()).isEqualTo(10L);
+    }
+    
+    @Test
+    @DisplayName("Should keep the cursor when the subscriber fails, so the batch is redelivered")
+    void shouldKeepCursor_whenSubscriberFails() {
+        // Arrange
+        when(outboxRecordRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3)))
+                .thenReturn(List.of(record(11, 60)));
+        doThrow(new IllegalStateException("index unavailable")).when(subscriber).onRecords(any());
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        assertThat(cursor.getLastRecordId()).isEqualTo(10L);
+        verify(outboxCursorRepository, never()).save(any());
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static OutboxRecord record(long id, long ageInSeconds) {
+        return new OutboxRecord(id, AggregateType.STUDENT, "1", ChangeType.UPDATED,
+                Instant.now().minusSeconds(ageInSeconds));
+    }
+}
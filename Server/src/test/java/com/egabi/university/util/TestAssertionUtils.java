@@ -395,7 +395,8 @@ public class TestAssertionUtils {
         // TODO change the studentId and courseCode to match your test data from TestDataFactory
         Long studentId = 1L;
         String courseCode = "C1";
-        EnrollmentId enrollmentId = new EnrollmentId(studentId, courseCode);
+        Long termId = 1L;
+        EnrollmentId enrollmentId = new EnrollmentId(studentId, courseCode, termId);
         
         lenient().doThrow(new NotFoundException("Enrollment with student ID " + studentId + " and course code " + courseCode + " not found"
                 , "ENROLLMENT_NOT_FOUND")
@@ -7,6 +7,7 @@ import com.egabi.university.dto.authentication.response.AuthenticationResponse;
 import com.egabi.university.entity.*;
 import com.egabi.university.entity.authentication.Role;
 import com.egabi.university.entity.authentication.User;
+import com.egabi.university.service.academic.impl.CatalogSnapshot;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -276,7 +277,7 @@ public final class TestDataFactory {
                 1L, 1L, "Student", "One", "1234567890",
                 LocalDate.of(2002, 2, 2), "Male",
                 1L, "Engineering", 1L, "Computer Engineering", 1L,
-                "Freshman"
+                "Freshman", null
         );
     }
     
@@ -307,7 +308,7 @@ public final class TestDataFactory {
                 phoneNumber, dateOfBirth, gender,
                 facultyId, facultyName,
                 departmentId, departmentName,
-                levelId, levelName);
+                levelId, levelName, null);
     }
     
     // ================================================================
@@ -464,23 +465,68 @@ public final class TestDataFactory {
         return new CourseDTO(code, name, credits, departmentId, levelId);
     }
     
+    // ================================================================
+    // Catalog
+    // ================================================================
+    
+    /**
+     * Builds a catalog snapshot holding the given entities.
+     *
+     * @param faculties   Faculties to include.
+     * @param levels      Levels to include.
+     * @param departments Departments to include.
+     * @param courses     Courses to include.
+     * @return CatalogSnapshot with the entities mapped to DTOs
+     */
+    public static CatalogSnapshot buildCatalogSnapshot(List<Faculty> faculties, List<Level> levels,
+                                                       List<Department> departments, List<Course> courses) {
+        return CatalogSnapshot.build(
+                faculties.stream().map(faculty -> new FacultyDTO(faculty.getId(), faculty.getName())).toList(),
+                levels.stream().map(level -> new LevelDTO(level.getId(), level.getName(), level.getFaculty().getId())).toList(),
+                departments.stream().map(department -> new DepartmentDTO(department.getId(), department.getName(),
+                        department.getFaculty().getId())).toList(),
+                courses.stream().map(course -> new CourseDTO(course.getCode(), course.getName(), course.getCredits(),
+                        course.getDepartment().getId(), course.getLevel() != null ? course.getLevel().getId() : null)).toList());
+    }
+    
+    // ================================================================
+    // Term
+    // ================================================================
+    
+    /**
+     * Builds a default open Term entity.
+     *
+     * @return Term { id : 1, code : "2025-FALL", startDate : "2025-09-01", endDate : "2026-01-31", status : OPEN }
+     */
+    public static Term buildTerm() {
+        return Term.builder()
+                .id(1L)
+                .code("2025-FALL")
+                .startDate(LocalDate.of(2025, 9, 1))
+                .endDate(LocalDate.of(2026, 1, 31))
+                .status(Term.Status.OPEN)
+                .build();
+    }
+    
     // ================================================================
     // Enrollment
     // ================================================================
     
     /**
-     * Builds a default Enrollment entity for given Student and Course.
+     * Builds a default Enrollment entity for given Student and Course in the default term.
      *
      * @param student Student to associate.
      * @param course  Course to associate.
-     * @return Enrollment { id : { studentId : student.id, courseCode : course.code }, student : student, course : course, grade : 85.0 }
+     * @return Enrollment { id : { studentId : student.id, courseCode : course.code, termId : 1 }, student : student, course : course, term : term, grade : 85.0 }
      */
     public static Enrollment buildEnrollment(Student student, Course course, double grade) {
-        EnrollmentId enrollmentId = new EnrollmentId(student.getId(), course.getCode());
+        Term term = buildTerm();
+        EnrollmentId enrollmentId = new EnrollmentId(student.getId(), course.getCode(), term.getId());
         return Enrollment.builder()
                 .id(enrollmentId)
                 .student(student)
                 .course(course)
+                .term(term)
                 .grade(grade)
                 .build();
     }
@@ -493,12 +539,12 @@ public final class TestDataFactory {
      * @param grade      Grade to use.
      * @param student    Student to associate.
      * @param course     Course to associate.
-     * @return Enrollment { id : { studentId : studentId, courseCode : courseCode }, student : student, course : course, grade : grade }
+     * @return Enrollment { id : { studentId : studentId, courseCode : courseCode, termId : 1 }, student : student, course : course, grade : grade }
      */
     public static Enrollment buildEnrollment(Long studentId, String courseCode, Double grade,
                                              Student student, Course course) {
         Enrollment enrollment = new Enrollment();
-        enrollment.setId(new EnrollmentId(studentId, courseCode));
+        enrollment.setId(new EnrollmentId(studentId, courseCode, buildTerm().getId()));
         enrollment.setStudent(student);
         enrollment.setCourse(course);
         enrollment.setGrade(grade);
@@ -511,7 +557,7 @@ public final class TestDataFactory {
      * @return EnrollmentDTO { studentId : 1, courseCode : "CS101", grade : 85.0 }
      */
     public static EnrollmentDTO buildEnrollmentDTO() {
-        return new EnrollmentDTO(1L, "C1", 85.0);
+        return new EnrollmentDTO(1L, "C1", 85.0, null);
     }
     
     /**
@@ -523,7 +569,7 @@ public final class TestDataFactory {
      * @return EnrollmentDTO { studentId : studentId, courseCode : courseCode, grade : grade }
      */
     public static EnrollmentDTO buildEnrollmentDTO(Long studentId, String courseCode, Double grade) {
-        return new EnrollmentDTO(studentId, courseCode, grade);
+        return new EnrollmentDTO(studentId, courseCode, grade, null);
     }
     
     // ================================================================
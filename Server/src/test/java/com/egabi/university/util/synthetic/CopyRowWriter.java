@@ -0,0 +1,73 @@
+package com.egabi.university.util.synthetic;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes rows in the text format of PostgreSQL {@code COPY}: one line per row, tab-separated values, {@code \N} for
+ * null and {@code t} or {@code f} for booleans.
+ */
+public class CopyRowWriter implements Closeable {
+    
+    private final Writer out;
+    private long rows;
+    
+    public CopyRowWriter(Writer out) {
+        this.out = out;
+    }
+    
+    /**
+     * Writes a row.
+     *
+     * @param values the values of the row, in the order of the columns
+     * @throws IOException if the row cannot be written
+     */
+    public void row(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0)
+                out.write('\t');
+            write(values[i]);
+        }
+        out.write('\n');
+        rows++;
+    }
+    
+    /**
+     * Returns the number of rows written so far.
+     */
+    public long rows() {
+        return rows;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private void write(Object value) throws IOException {
+        if (value == null) {
+            out.write("\\N");
+        } else if (value instanceof Boolean bool) {
+            out.write(bool ? 't' : 'f');
+        } else if (value instanceof Number) {
+            out.write(value.toString());
+        } else {
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> out.write("\\\\");
+                    case '\t' -> out.write("\\t");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    default -> out.write(c);
+                }
+            }
+        }
+    }
+}
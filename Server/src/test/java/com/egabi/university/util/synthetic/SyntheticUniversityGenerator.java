@@ -0,0 +1,531 @@
+package com.egabi.university.util.synthetic;
+
+import com.egabi.university.entity.EntityCounter.Counter;
+import com.egabi.university.entity.Term.Status;
+import com.egabi.university.entity.authentication.Role;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a realistic university of a given {@link UniversityScale}, deterministically from its seed.
+ * <p>
+ * The university has faculties with their levels and departments, courses with prerequisites, instructors teaching
+ * them, users, students and their graded enrollments, and the student counters. Its skew follows a real campus:
+ * department sizes and course popularity follow Zipf distributions, students are admitted every fall and take the
+ * courses of their level until they graduate, and grades depend on the ability of the student and the difficulty of
+ * the course. Terms before the last one are frozen, the last one is open and not graded yet.
+ * </p>
+ * <p>
+ * Rows are streamed table by table to a {@link TableSink}, so millions of enrollments never live in memory. IDs are
+ * assigned from 1, and enrollments of a student in a term are drawn from a random stream of their own, so they do
+ * not depend on the order in which rows are written.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * SyntheticUniversityLoader.load(dataSource, UniversityScale.large(42));
+ * }</pre>
+ */
+public class SyntheticUniversityGenerator {
+    
+    /**
+     * Password of the admins and of the first {@link #LOGIN_USERS} instructors and students, e.g.
+     * {@code admin1@university.edu}, {@code instructor1@university.edu} or {@code student1@university.edu}.
+     * Hashing a password for every user would take minutes, so the other users cannot log in.
+     */
+    public static final String PASSWORD = "synthetic";
+    public static final int LOGIN_USERS = 100;
+    public static final int ADMINS = 5;
+    
+    /**
+     * Year of the fall of the first term.
+     */
+    public static final int FIRST_YEAR = 2021;
+    
+    private static final double DEPARTMENT_SKEW = 0.7;
+    private static final double COURSE_SKEW = 1.1;
+    private static final double SKIPPED_TERM_RATE = 0.04;
+    private static final double CO_TEACHING_RATE = 0.25;
+    private static final double MEAN_GRADE = 72;
+    private static final int BCRYPT_COST = 4;
+    
+    private static final String[] SUBJECTS = {"Computer Science", "Mathematics", "Physics", "Chemistry", "Biology",
+            "Civil Engineering", "Mechanical Engineering", "Electrical Engineering", "Economics", "Accounting",
+            "History", "Philosophy", "Linguistics", "Psychology", "Architecture", "Statistics"};
+    private static final String[] FIELDS = {"Engineering", "Science", "Commerce", "Arts", "Medicine", "Law",
+            "Education", "Pharmacy", "Agriculture", "Computing"};
+    private static final String[] TOPICS = {"Foundations", "Methods", "Theory", "Laboratory", "Systems", "Analysis",
+            "Design", "Seminar", "Applications", "Modelling", "Practice", "Project"};
+    private static final String[] MALE_NAMES = {"Omar", "Ahmed", "Mohamed", "Youssef", "Karim", "Ali", "Hassan",
+            "Mostafa", "Tarek", "Khaled", "John", "David", "Adam", "Samir", "Nabil"};
+    private static final String[] FEMALE_NAMES = {"Mariam", "Nour", "Salma", "Hana", "Yasmin", "Laila", "Sara",
+            "Farida", "Dina", "Aya", "Emma", "Sophia", "Mona", "Rana", "Heba"};
+    private static final String[] LAST_NAMES = {"Hassan", "Ibrahim", "Mahmoud", "Abdelrahman", "Saleh", "Fahmy",
+            "Mansour", "Naguib", "Farouk", "Shawky", "Smith", "Brown", "Kamel", "Aziz", "Zaki", "Salem", "Rizk"};
+    
+    private final UniversityScale scale;
+    
+    public SyntheticUniversityGenerator(UniversityScale scale) {
+        this.scale = scale;
+    }
+    
+    /**
+     * Writes every table of the university.
+     *
+     * @param sink the destination of the tables
+     * @return the number of rows of each table, in the order the tables were written
+     * @throws IOException if a table cannot be written
+     */
+    public Map<String, Long> generate(TableSink sink) throws IOException {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        SplittableRandom random = new SplittableRandom(scale.seed());
+        Catalog catalog = new Catalog(random.split());
+        
+        writeFaculties(sink, rows);
+        writeLevels(sink, rows);
+        writeDepartments(sink, rows);
+        writeCourses(sink, rows, catalog);
+        writePrerequisites(sink, rows, catalog, random.split());
+        writeUsers(sink, rows, random.split());
+        writeInstructors(sink, rows, random.split());
+        writeTeaching(sink, rows, catalog, random.split());
+        writeTerms(sink, rows);
+        Cohort cohort = writeStudents(sink, rows, random.split());
+        writeEnrollments(sink, rows, catalog, cohort);
+        writeCounters(sink, rows, cohort);
+        return rows;
+    }
+    
+    /**
+     * Returns the first day of a term. Even terms are falls and odd terms springs; negative terms precede the first.
+     *
+     * @param term the index of the term, 0 for the first
+     * @return the start date
+     */
+    public static LocalDate termStart(int term) {
+        int year = FIRST_YEAR + Math.floorDiv(term, 2);
+        return isFall(term) ? LocalDate.of(year, 9, 1) : LocalDate.of(year + 1, 2, 15);
+    }
+    
+    /**
+     * Returns the last day of a term.
+     *
+     * @param term the index of the term, 0 for the first
+     * @return the end date
+     */
+    public static LocalDate termEnd(int term) {
+        int year = FIRST_YEAR + Math.floorDiv(term, 2);
+        return isFall(term) ? LocalDate.of(year + 1, 1, 31) : LocalDate.of(year + 1, 6, 30);
+    }
+    
+    // ================================================================
+    // Catalog
+    // ================================================================
+    
+    private void writeFaculties(TableSink sink, Map<String, Long> rows) throws IOException {
+        try (CopyRowWriter writer = sink.open("faculty", "id", "name")) {
+            for (int f = 0; f < scale.faculties(); f++)
+                writer.row(f + 1L, "Faculty of " + numbered(FIELDS, f));
+            rows.put("faculty", writer.rows());
+        }
+    }
+    
+    private void writeLevels(TableSink sink, Map<String, Long> rows) throws IOException {
+        try (CopyRowWriter writer = sink.open("level", "id", "name", "faculty_id")) {
+            for (int f = 0; f < scale.faculties(); f++)
+                for (int l = 0; l < scale.levelsPerFaculty(); l++)
+                    writer.row(levelId(f, l), "Level " + (l + 1), f + 1L);
+            rows.put("level", writer.rows());
+        }
+    }
+    
+    private void writeDepartments(TableSink sink, Map<String, Long> rows) throws IOException {
+        try (CopyRowWriter writer = sink.open("department", "id", "name", "faculty_id")) {
+            for (int d = 0; d < scale.departments(); d++)
+                writer.row(d + 1L, numbered(SUBJECTS, d), facultyOf(d) + 1L);
+            rows.put("department", writer.rows());
+        }
+    }
+    
+    private void writeCourses(TableSink sink, Map<String, Long> rows, Catalog catalog) throws IOException {
+        try (CopyRowWriter writer = sink.open("course", "code", "name", "credits", "level_id", "department_id")) {
+            for (int c = 0; c < scale.courses(); c++) {
+                int department = c / scale.coursesPerDepartment();
+                writer.row(catalog.codes[c], catalog.names[c], catalog.credits[c],
+                        levelId(facultyOf(department), catalog.levels[c]), department + 1L);
+            }
+            rows.put("course", writer.rows());
+        }
+    }
+    
+    /**
+     * Gives most courses above the first level one or two prerequisites among the courses of the previous level of
+     * their department.
+     */
+    private void writePrerequisites(TableSink sink, Map<String, Long> rows, Catalog catalog,
+                                    SplittableRandom random) throws IOException {
+        try (CopyRowWriter writer = sink.open("course_prerequisite", "course_code", "prerequisite_code")) {
+            for (int c = 0; c < scale.courses(); c++) {
+                int level = catalog.levels[c];
+                if (level == 0)
+                    continue;
+                int[] previous = catalog.groups[c / scale.coursesPerDepartment()][level - 1];
+                int count = Math.min(random.nextInt(3), previous.length);
+                int first = random.nextInt(previous.length);
+                for (int i = 0; i < count; i++)
+                    writer.row(catalog.codes[c], catalog.codes[previous[(first + i) % previous.length]]);
+            }
+            rows.put("course_prerequisite", writer.rows());
+        }
+    }
+    
+    // ================================================================
+    // People
+    // ================================================================
+    
+    /**
+     * Writes the admins, then a user for every instructor, then a user for every student.
+     */
+    private void writeUsers(TableSink sink, Map<String, Long> rows, SplittableRandom random) throws IOException {
+        try (CopyRowWriter writer = sink.open("_user", "id", "email", "password", "role", "locked", "enabled",
+                "security_stamp")) {
+            long id = 0;
+            for (int i = 1; i <= ADMINS; i++)
+                writer.row(++id, "admin" + i + "@university.edu", hash(random), Role.ADMIN.name(), false, true, 0);
+            for (int i = 1; i <= scale.instructors(); i++)
+                writer.row(++id, "instructor" + i + "@university.edu",
+                        i <= LOGIN_USERS ? hash(random) : unusablePassword(id), Role.INSTRUCTOR.name(), false, true, 0);
+            for (int i = 1; i <= scale.students(); i++)
+                writer.row(++id, "student" + i + "@university.edu",
+                        i <= LOGIN_USERS ? hash(random) : unusablePassword(id), Role.STUDENT.name(), false, true, 0);
+            rows.put("_user", writer.rows());
+        }
+    }
+    
+    private void writeInstructors(TableSink sink, Map<String, Long> rows, SplittableRandom random) throws IOException {
+        try (CopyRowWriter writer = sink.open("instructor", "id", "first_name", "last_name", "phone_number",
+                "date_of_birth", "gender", "department_id", "user_id")) {
+            for (int i = 0; i < scale.instructors(); i++) {
+                boolean male = random.nextBoolean();
+                LocalDate dateOfBirth = LocalDate.of(1955 + random.nextInt(36), 1 + random.nextInt(12),
+                        1 + random.nextInt(28));
+                writer.row(i + 1L, firstName(random, male), pick(random, LAST_NAMES), phoneNumber(random),
+                        dateOfBirth, gender(male), i / scale.instructorsPerDepartment() + 1L, ADMINS + i + 1L);
+            }
+            rows.put("instructor", writer.rows());
+        }
+    }
+    
+    /**
+     * Gives every course an instructor of its department, and a quarter of them a second one.
+     */
+    private void writeTeaching(TableSink sink, Map<String, Long> rows, Catalog catalog,
+                               SplittableRandom random) throws IOException {
+        int perDepartment = scale.instructorsPerDepartment();
+        try (CopyRowWriter writer = sink.open("teaches", "instructor_id", "course_code")) {
+            for (int c = 0; c < scale.courses(); c++) {
+                int first = c / scale.coursesPerDepartment() * perDepartment;
+                int k = c % scale.coursesPerDepartment();
+                writer.row(first + k % perDepartment + 1L, catalog.codes[c]);
+                if (perDepartment > 1 && random.nextDouble() < CO_TEACHING_RATE) {
+                    int other = (k + 1 + random.nextInt(perDepartment - 1)) % perDepartment;
+                    writer.row(first + other + 1L, catalog.codes[c]);
+                }
+            }
+            rows.put("teaches", writer.rows());
+        }
+    }
+    
+    private void writeTerms(TableSink sink, Map<String, Long> rows) throws IOException {
+        try (CopyRowWriter writer = sink.open("term", "id", "code", "start_date", "end_date", "status")) {
+            for (int t = 0; t < scale.terms(); t++) {
+                String code = termStart(t).getYear() + (isFall(t) ? "-FALL" : "-SPRING");
+                Status status = t == scale.terms() - 1 ? Status.OPEN : Status.FROZEN;
+                writer.row(t + 1L, code, termStart(t), termEnd(t), status.name());
+            }
+            rows.put("term", writer.rows());
+        }
+    }
+    
+    /**
+     * Writes the students and keeps what their enrollments and the counters depend on.
+     */
+    private Cohort writeStudents(TableSink sink, Map<String, Long> rows, SplittableRandom random) throws IOException {
+        Cohort cohort = new Cohort(scale.students());
+        ZipfDistribution departments = new ZipfDistribution(scale.departments(), DEPARTMENT_SKEW);
+        int[] departmentByRank = shuffled(scale.departments(), random);
+        int levels = scale.levelsPerFaculty();
+        int firstCohort = -(levels - 1);
+        int cohorts = (scale.terms() - 1) / 2 - firstCohort + 1;
+        
+        try (CopyRowWriter writer = sink.open("student", "id", "first_name", "last_name", "phone_number",
+                "date_of_birth", "gender", "department_id", "level_id", "graduation_date", "user_id")) {
+            for (int s = 0; s < scale.students(); s++) {
+                int department = departmentByRank[departments.sample(random)];
+                int admission = 2 * (firstCohort + random.nextInt(cohorts));
+                int graduation = admission + 2 * levels - 1;
+                cohort.departments[s] = department;
+                cohort.admissions[s] = admission;
+                cohort.abilities[s] = (float) (random.nextGaussian() * 8);
+                
+                boolean male = random.nextBoolean();
+                LocalDate dateOfBirth = LocalDate.of(termStart(admission).getYear() - 18 - random.nextInt(3),
+                        1 + random.nextInt(12), 1 + random.nextInt(28));
+                int level = Math.min(levels - 1, (scale.terms() - 1 - admission) / 2);
+                LocalDate graduationDate = graduation < scale.terms() - 1 ? termEnd(graduation) : null;
+                writer.row(s + 1L, firstName(random, male), pick(random, LAST_NAMES), phoneNumber(random),
+                        dateOfBirth, gender(male), department + 1L, levelId(facultyOf(department), level),
+                        graduationDate, ADMINS + scale.instructors() + s + 1L);
+            }
+            rows.put("student", writer.rows());
+        }
+        return cohort;
+    }
+    
+    // ================================================================
+    // Enrollments and counters
+    // ================================================================
+    
+    /**
+     * Enrolls every student, in each term from their admission to their graduation, in the courses of their level
+     * and department, most often the popular ones. A few students skip a term.
+     */
+    private void writeEnrollments(TableSink sink, Map<String, Long> rows, Catalog catalog,
+                                  Cohort cohort) throws IOException {
+        int[] chosen = new int[scale.coursesPerTerm() + 1];
+        try (CopyRowWriter writer = sink.open("enrollment", "term_id", "student_id", "course_code", "grade")) {
+            for (int t = 0; t < scale.terms(); t++) {
+                boolean graded = t < scale.terms() - 1;
+                for (int s = 0; s < scale.students(); s++) {
+                    int admission = cohort.admissions[s];
+                    if (t < admission || t > admission + 2 * scale.levelsPerFaculty() - 1)
+                        continue;
+                    SplittableRandom random = new SplittableRandom(mix(scale.seed(), s, t));
+                    if (random.nextDouble() < SKIPPED_TERM_RATE)
+                        continue;
+                    
+                    int level = (t - admission) / 2;
+                    int department = cohort.departments[s];
+                    int[] group = catalog.groups[department][level];
+                    ZipfDistribution popularity = catalog.popularity[department][level];
+                    int count = Math.min(group.length, scale.coursesPerTerm() - 1 + random.nextInt(3));
+                    int taken = 0;
+                    for (int attempt = 0; taken < count && attempt < 20 * count; attempt++) {
+                        int course = group[popularity.sample(random)];
+                        if (contains(chosen, taken, course))
+                            continue;
+                        chosen[taken++] = course;
+                        Double grade = graded
+                                ? grade(MEAN_GRADE + cohort.abilities[s] - catalog.difficulties[course]
+                                + random.nextGaussian() * 9) : null;
+                        writer.row(t + 1L, s + 1L, catalog.codes[course], grade);
+                    }
+                }
+            }
+            rows.put("enrollment", writer.rows());
+        }
+    }
+    
+    /**
+     * Writes the exact student counters of the faculties and departments, as a single shard each.
+     */
+    private void writeCounters(TableSink sink, Map<String, Long> rows, Cohort cohort) throws IOException {
+        long[] byDepartment = new long[scale.departments()];
+        for (int department : cohort.departments)
+            byDepartment[department]++;
+        long[] byFaculty = new long[scale.faculties()];
+        for (int d = 0; d < byDepartment.length; d++)
+            byFaculty[facultyOf(d)] += byDepartment[d];
+        
+        try (CopyRowWriter writer = sink.open("entity_counter", "counter", "owner_id", "shard", "total")) {
+            for (int f = 0; f < byFaculty.length; f++)
+                writer.row(Counter.FACULTY_STUDENTS.name(), f + 1L, 0, byFaculty[f]);
+            for (int d = 0; d < byDepartment.length; d++)
+                writer.row(Counter.DEPARTMENT_STUDENTS.name(), d + 1L, 0, byDepartment[d]);
+            rows.put("entity_counter", writer.rows());
+        }
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private int facultyOf(int department) {
+        return department / scale.departmentsPerFaculty();
+    }
+    
+    private long levelId(int faculty, int level) {
+        return (long) faculty * scale.levelsPerFaculty() + level + 1;
+    }
+    
+    /**
+     * Returns the level of the k-th course of a department, spreading the courses evenly over the levels.
+     */
+    private int levelOf(int k) {
+        return k * scale.levelsPerFaculty() / scale.coursesPerDepartment();
+    }
+    
+    private static boolean isFall(int term) {
+        return Math.floorMod(term, 2) == 0;
+    }
+    
+    private static String numbered(String[] names, int index) {
+        String name = names[index % names.length];
+        return index < names.length ? name : name + " " + (index / names.length + 1);
+    }
+    
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+    
+    private static String firstName(SplittableRandom random, boolean male) {
+        return pick(random, male ? MALE_NAMES : FEMALE_NAMES);
+    }
+    
+    private static String gender(boolean male) {
+        return male ? "Male" : "Female";
+    }
+    
+    private static String phoneNumber(SplittableRandom random) {
+        return "01" + random.nextInt(4) + String.format("%08d", random.nextInt(100_000_000));
+    }
+    
+    private static Double grade(double value) {
+        return Math.round(Math.clamp(value, 0, 100) * 10) / 10.0;
+    }
+    
+    /**
+     * Hashes {@link #PASSWORD} with a salt drawn from the random stream, so the hashes are reproducible.
+     */
+    private static String hash(SplittableRandom random) {
+        String alphabet = "./ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+        StringBuilder salt = new StringBuilder(String.format("$2a$%02d$", BCRYPT_COST));
+        for (int i = 0; i < 21; i++)
+            salt.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        // The last character only carries two bits of the 16-byte salt
+        salt.append(".Oeu".charAt(random.nextInt(4)));
+        return BCrypt.hashpw(PASSWORD, salt.toString());
+    }
+    
+    /**
+     * Returns a unique value that is not a BCrypt hash, so no password matches it.
+     */
+    private static String unusablePassword(long userId) {
+        return "{synthetic}" + userId;
+    }
+    
+    private static int[] shuffled(int size, SplittableRandom random) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++)
+            values[i] = i;
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+        return values;
+    }
+    
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++)
+            if (values[i] == value)
+                return true;
+        return false;
+    }
+    
+    private static long mix(long seed, int student, int term) {
+        return (seed * 0x9E3779B97F4A7C15L + student) * 0xBF58476D1CE4E5B9L + term;
+    }
+    
+    /**
+     * Courses of the university, indexed by department then by position within the department.
+     */
+    private class Catalog {
+        
+        /**
+         * Codes such as {@code D007-212}, for the course 12 of the department 7, which belongs to the second level.
+         */
+        final String[] codes = new String[scale.courses()];
+        final String[] names = new String[scale.courses()];
+        final int[] credits = new int[scale.courses()];
+        final int[] levels = new int[scale.courses()];
+        final double[] difficulties = new double[scale.courses()];
+        
+        /**
+         * Courses of each department and level, from the most to the least popular.
+         */
+        final int[][][] groups = new int[scale.departments()][scale.levelsPerFaculty()][];
+        final ZipfDistribution[][] popularity = new ZipfDistribution[scale.departments()][scale.levelsPerFaculty()];
+        
+        Catalog(SplittableRandom random) {
+            int perDepartment = scale.coursesPerDepartment();
+            for (int d = 0; d < scale.departments(); d++) {
+                int[] sizes = new int[scale.levelsPerFaculty()];
+                for (int k = 0; k < perDepartment; k++) {
+                    int c = d * perDepartment + k;
+                    int level = levelOf(k);
+                    codes[c] = String.format("D%03d-%d%02d", d + 1, level + 1, k);
+                    names[c] = numbered(SUBJECTS, d) + " " + TOPICS[k % TOPICS.length] + " " + (level + 1);
+                    credits[c] = 2 + random.nextInt(3);
+                    levels[c] = level;
+                    difficulties[c] = random.nextGaussian() * 5;
+                    sizes[level]++;
+                }
+                for (int l = 0; l < sizes.length; l++) {
+                    int[] order = shuffled(sizes[l], random);
+                    int first = Arrays.stream(sizes, 0, l).sum();
+                    for (int i = 0; i < order.length; i++)
+                        order[i] += d * perDepartment + first;
+                    groups[d][l] = order;
+                    popularity[d][l] = new ZipfDistribution(order.length, COURSE_SKEW);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Attributes of the students their enrollments and counters are derived from.
+     */
+    private static class Cohort {
+        
+        final int[] departments;
+        final int[] admissions;
+        final float[] abilities;
+        
+        Cohort(int students) {
+            departments = new int[students];
+            admissions = new int[students];
+            abilities = new float[students];
+        }
+    }
+    
+    /**
+     * Zipf distribution over ranks 0 to n - 1, where rank k has a weight of 1 / (k + 1)^exponent.
+     */
+    private static class ZipfDistribution {
+        
+        private final double[] cumulative;
+        
+        ZipfDistribution(int n, double exponent) {
+            cumulative = new double[n];
+            double total = 0;
+            for (int k = 0; k < n; k++) {
+                total += 1 / Math.pow(k + 1, exponent);
+                cumulative[k] = total;
+            }
+        }
+        
+        int sample(SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.egabi.university.util.synthetic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SyntheticUniversityGenerator}.
+ */
+public class SyntheticUniversityGeneratorTest {
+    
+    private UniversityScale scale;
+    private Map<String, StringWriter> tables;
+    
+    // ================================================================
+    // Setup : Arrange common test fixtures
+    // ================================================================
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        scale = UniversityScale.small(UniversityScale.DEFAULT_SEED);
+        tables = generate(scale);
+    }
+    
+    // ================================================================
+    // Positive Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should generate the same rows for the same seed and different rows for another seed")
+    void shouldBeDeterministic_forSameSeed() throws IOException {
+        // Act
+        Map<String, StringWriter> again = generate(scale);
+        Map<String, StringWriter> other = generate(UniversityScale.small(scale.seed() + 1));
+        
+        // Assert
+        assertThat(text(again)).isEqualTo(text(tables));
+        assertThat(other.get("enrollment").toString()).isNotEqualTo(tables.get("enrollment").toString());
+    }
+    
+    @Test
+    @DisplayName("Should generate the sizes of the scale with references to existing rows")
+    void shouldGenerateScale_withConsistentReferences() {
+        // Arrange
+        Set<String> courseCodes = column("course", 0).collect(Collectors.toSet());
+        List<String[]> enrollments = rows("enrollment");
+        
+        // Act
+        Set<String> enrollmentKeys = enrollments.stream().map(row -> row[0] + "/" + row[1] + "/" + row[2])
+                .collect(Collectors.toSet());
+        
+        // Assert
+        assertThat(rows("faculty")).hasSize(scale.faculties());
+        assertThat(rows("department")).hasSize(scale.departments());
+        assertThat(courseCodes).hasSize(scale.courses());
+        assertThat(rows("student")).hasSize(scale.students());
+        assertThat(rows("_user")).hasSize(SyntheticUniversityGenerator.ADMINS + scale.instructors() + scale.students());
+        assertThat(column("_user", 1).distinct().count()).isEqualTo(rows("_user").size());
+        assertThat(column("_user", 2).distinct().count()).isEqualTo(rows("_user").size());
+        assertThat(enrollmentKeys).hasSameSizeAs(enrollments);
+        assertThat(enrollments).hasSizeGreaterThan(scale.students() * 10);
+        assertThat(enrollments).allSatisfy(row -> {
+            assertThat(courseCodes).contains(row[2]);
+            assertThat(Long.parseLong(row[1])).isBetween(1L, (long) scale.students());
+        });
+        assertThat(column("teaches", 1).collect(Collectors.toSet())).isEqualTo(courseCodes);
+        assertThat(column("course_prerequisite", 1).collect(Collectors.toSet())).isSubsetOf(courseCodes);
+    }
+    
+    @Test
+    @DisplayName("Should grade past terms and leave the open term ungraded")
+    void shouldGradePastTerms_andNotOpenTerm() {
+        // Arrange
+        String openTerm = String.valueOf(scale.terms());
+        
+        // Act
+        List<String[]> enrollments = rows("enrollment");
+        
+        // Assert
+        assertThat(enrollments).allSatisfy(row -> {
+            if (row[0].equals(openTerm))
+                assertThat(row[3]).isEqualTo("\\N");
+            else
+                assertThat(Double.parseDouble(row[3])).isBetween(0.0, 100.0);
+        });
+        assertThat(column("term", 4).toList()).endsWith("OPEN").containsOnly("FROZEN", "OPEN");
+    }
+    
+    @Test
+    @DisplayName("Should concentrate enrollments on few popular courses")
+    void shouldSkewEnrollments_towardPopularCourses() {
+        // Arrange
+        Map<String, Long> enrollmentsByCourse = column("enrollment", 2)
+                .collect(Collectors.groupingBy(code -> code, Collectors.counting()));
+        
+        // Act
+        long[] counts = enrollmentsByCourse.values().stream().mapToLong(Long::longValue).sorted().toArray();
+        long median = counts[counts.length / 2];
+        // Enrollments of the 10% most popular courses, which would hold 10% of them without skew
+        long top = Arrays.stream(counts, counts.length - counts.length / 10, counts.length).sum();
+        long total = Arrays.stream(counts).sum();
+        
+        // Assert
+        assertThat(counts[counts.length - 1]).isGreaterThan(3 * median);
+        assertThat((double) top / total).isGreaterThan(0.2);
+    }
+    
+    @Test
+    @DisplayName("Should count the students of every faculty and department")
+    void shouldCountStudents_ofFacultiesAndDepartments() {
+        // Arrange
+        Map<String, Long> byDepartment = column("student", 6)
+                .collect(Collectors.groupingBy(id -> id, Collectors.counting()));
+        Map<String, Long> counters = new HashMap<>();
+        for (String[] row : rows("entity_counter"))
+            counters.put(row[0] + "/" + row[1], Long.parseLong(row[3]));
+        
+        // Act & Assert
+        byDepartment.forEach((departmentId, count) ->
+                assertThat(counters).containsEntry("DEPARTMENT_STUDENTS/" + departmentId, count));
+        assertThat(counters.entrySet().stream().filter(entry -> entry.getKey().startsWith("FACULTY_"))
+                .mapToLong(Map.Entry::getValue).sum()).isEqualTo(scale.students());
+    }
+    
+    // ================================================================
+    // Negative Test Cases
+    // ================================================================
+    
+    @Test
+    @DisplayName("Should reject a scale with fewer courses per department than levels")
+    void shouldThrowIllegalArgumentException_whenCoursesAreFewerThanLevels() {
+        // Act & Assert
+        assertThatThrownBy(() -> new UniversityScale(1, 1, 1, 4, 3, 1, 10, 2, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    private static Map<String, StringWriter> generate(UniversityScale scale) throws IOException {
+        Map<String, StringWriter> tables = new LinkedHashMap<>();
+        new SyntheticUniversityGenerator(scale).generate((table, columns) -> {
+            StringWriter writer = new StringWriter();
+            tables.put(table, writer);
+            return new CopyRowWriter(writer);
+        });
+        return tables;
+    }
+    
+    private static Map<String, String> text(Map<String, StringWriter> tables) {
+        Map<String, String> text = new LinkedHashMap<>();
+        tables.forEach((table, writer) -> text.put(table, writer.toString()));
+        return text;
+    }
+    
+    private List<String[]> rows(String table) {
+        return tables.get(table).toString().lines().map(line -> line.split("\t", -1)).toList();
+    }
+    
+    private Stream<String> column(String table, int index) {
+        return rows(table).stream().map(row -> row[index]);
+    }
+}
@@ -0,0 +1,165 @@
+package com.egabi.university.util.synthetic;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the data of a PostgreSQL database by a synthetic university, streamed through the {@code COPY} protocol.
+ * <p>
+ * The schema must already exist, e.g. created by the application. In a single transaction, the loader truncates the
+ * tables of the university and every table referencing them, recreates the enrollment partition of each term, copies
+ * the rows, moves the identity sequences past the generated IDs and freezes the partitions of the frozen terms.
+ * Foreign keys and secondary indexes of the loaded tables are dropped during the copy and recreated afterwards, which
+ * checks and sorts every row once instead of row by row. The tables are analyzed last, so the planner sees the data.
+ * </p>
+ * <p>
+ * <b>Note:</b> this deletes every student, course and user of the database. Caches of a running application, such as
+ * the second-level cache or the current term, must be evicted after loading.
+ * </p>
+ */
+public final class SyntheticUniversityLoader {
+    
+    private static final List<String> TABLES = List.of("faculty", "level", "department", "course",
+            "course_prerequisite", "_user", "instructor", "teaches", "term", "student", "enrollment", "entity_counter");
+    private static final List<String> IDENTITY_TABLES = List.of("faculty", "level", "department", "_user",
+            "instructor", "term", "student");
+    private static final String TABLE_ARRAY = "array['" + String.join("', '", TABLES) + "']::regclass[]";
+    private static final int BUFFER_SIZE = 1 << 16;
+    
+    /**
+     * Prevent instantiation.
+     */
+    private SyntheticUniversityLoader() {
+    }
+    
+    /**
+     * Generates a university and loads it.
+     *
+     * @param dataSource the data source of the PostgreSQL database
+     * @param scale      the scale of the university
+     * @return the number of rows of each table and the time the load took
+     * @throws SQLException if the database rejects the data
+     * @throws IOException  if the rows cannot be streamed
+     */
+    public static LoadResult load(DataSource dataSource, UniversityScale scale) throws SQLException, IOException {
+        long start = System.nanoTime();
+        Map<String, Long> rows;
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set local maintenance_work_mem = '256MB'");
+                statement.execute("truncate table " + String.join(", ", TABLES) + " cascade");
+                for (int t = 1; t <= scale.terms(); t++) {
+                    statement.execute("drop table if exists " + partition(t));
+                    statement.execute("create table " + partition(t) + " partition of enrollment for values in ("
+                            + t + ")");
+                }
+                
+                // Constraints and indexes of the partitions are dropped and recreated along with those of the table
+                List<String[]> foreignKeys = query(statement, "select conrelid::regclass, quote_ident(conname), "
+                        + "pg_get_constraintdef(oid) from pg_constraint where contype = 'f' and conparentid = 0 "
+                        + "and conrelid = any (" + TABLE_ARRAY + ")");
+                List<String[]> indexes = query(statement, "select i.indexrelid::regclass, "
+                        + "pg_get_indexdef(i.indexrelid) from pg_index i where i.indrelid = any (" + TABLE_ARRAY + ") "
+                        + "and not exists (select 1 from pg_constraint c where c.conindid = i.indexrelid)");
+                for (String[] foreignKey : foreignKeys)
+                    statement.execute("alter table " + foreignKey[0] + " drop constraint " + foreignKey[1]);
+                for (String[] index : indexes)
+                    statement.execute("drop index " + index[0]);
+                
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                rows = new SyntheticUniversityGenerator(scale)
+                        .generate((table, columns) -> copyIn(copyManager, table, columns));
+                
+                // The definition of an index of a partitioned table is "ON ONLY" the table, without its partitions
+                for (String[] index : indexes)
+                    statement.execute(index[1].replace(" ON ONLY ", " ON "));
+                for (String[] foreignKey : foreignKeys)
+                    statement.execute("alter table " + foreignKey[0] + " add constraint " + foreignKey[1] + " "
+                            + foreignKey[2]);
+                for (String table : IDENTITY_TABLES)
+                    statement.execute("select setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                            + "(select coalesce(max(id), 0) + 1 from " + table + "), false)");
+                for (String[] term : query(statement, "select id from term where status = 'FROZEN'"))
+                    statement.execute("create trigger " + partition(term[0]) + "_frozen before insert or update on "
+                            + partition(term[0]) + " for each row execute function enrollment_reject_frozen_term()");
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("analyze " + String.join(", ", TABLES));
+            }
+        }
+        return new LoadResult(rows, Duration.ofNanos(System.nanoTime() - start));
+    }
+    
+    // ================================================================
+    // Helper methods
+    // ================================================================
+    
+    /**
+     * Starts copying rows into a table. The copy ends when the returned writer is closed.
+     */
+    private static CopyRowWriter copyIn(CopyManager copyManager, String table, String[] columns) throws IOException {
+        try {
+            PGCopyOutputStream out = new PGCopyOutputStream(copyManager.copyIn("copy " + table + " ("
+                    + String.join(", ", columns) + ") from stdin"), BUFFER_SIZE);
+            return new CopyRowWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                    BUFFER_SIZE));
+        } catch (SQLException e) {
+            throw new IOException("Could not copy into " + table, e);
+        }
+    }
+    
+    private static List<String[]> query(Statement statement, String sql) throws SQLException {
+        List<String[]> rows = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                String[] row = new String[columns];
+                for (int i = 0; i < columns; i++)
+                    row[i] = resultSet.getString(i + 1);
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+    
+    private static String partition(Object termId) {
+        return "enrollment_term_" + termId;
+    }
+    
+    /**
+     * Result of a load.
+     *
+     * @param rows     the number of rows of each table
+     * @param duration the time taken to generate, copy and analyze the data
+     */
+    public record LoadResult(Map<String, Long> rows, Duration duration) {
+        
+        public long totalRows() {
+            return rows.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.egabi.university.util.synthetic;
+
+import java.io.IOException;
+
+/**
+ * Destination of the tables of a synthetic university, such as a PostgreSQL {@code COPY} or an in-memory buffer.
+ * Tables are written one at a time, in an order satisfying their foreign keys.
+ */
+@FunctionalInterface
+public interface TableSink {
+    
+    /**
+     * Opens a table for writing. The generator closes the writer once every row of the table is written.
+     *
+     * @param table   the name of the table
+     * @param columns the columns of every row, in order
+     * @return the writer of the rows
+     * @throws IOException if the table cannot be opened
+     */
+    CopyRowWriter open(String table, String... columns) throws IOException;
+}
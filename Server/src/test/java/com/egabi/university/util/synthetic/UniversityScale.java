@@ -0,0 +1,111 @@
+package com.egabi.university.util.synthetic;
+
+import java.util.Locale;
+
+/**
+ * Size of a synthetic university generated by {@link SyntheticUniversityGenerator}.
+ * <p>
+ * The same scale and seed always produce the same rows. Enrollments grow with the students and terms: every student
+ * takes about {@code coursesPerTerm} courses in each term between their admission and graduation, which gives
+ * roughly 5.5 million enrollments for {@link #large(long)}.
+ * </p>
+ *
+ * @param seed                     the seed of every random choice
+ * @param faculties                the number of faculties
+ * @param departmentsPerFaculty    the number of departments of each faculty
+ * @param levelsPerFaculty         the number of levels of each faculty, one per year of study
+ * @param coursesPerDepartment     the number of courses of each department, spread over the levels
+ * @param instructorsPerDepartment the number of instructors of each department
+ * @param students                 the number of students
+ * @param terms                    the number of terms, two per year, the last one being open and not graded yet
+ * @param coursesPerTerm           the average number of courses a student takes in a term
+ */
+public record UniversityScale(long seed, int faculties, int departmentsPerFaculty, int levelsPerFaculty,
+                              int coursesPerDepartment, int instructorsPerDepartment, int students, int terms,
+                              int coursesPerTerm) {
+
+    /**
+     * Seed used when none is given.
+     */
+    public static final long DEFAULT_SEED = 42;
+
+    public UniversityScale {
+        if (faculties < 1 || departmentsPerFaculty < 1 || levelsPerFaculty < 1 || instructorsPerDepartment < 1
+                || students < 0 || terms < 1 || coursesPerTerm < 1)
+            throw new IllegalArgumentException("Every dimension of the scale must be positive");
+        if (coursesPerDepartment < levelsPerFaculty)
+            throw new IllegalArgumentException("Every level needs at least one course of each department");
+    }
+
+    // ================================================================
+    // Presets
+    // ================================================================
+
+    /**
+     * About 500 students and 7 thousand enrollments, for tests.
+     */
+    public static UniversityScale small(long seed) {
+        return new UniversityScale(seed, 2, 3, 4, 32, 4, 500, 4, 5);
+    }
+
+    /**
+     * About 20 thousand students and 440 thousand enrollments.
+     */
+    public static UniversityScale medium(long seed) {
+        return new UniversityScale(seed, 5, 6, 4, 40, 12, 20_000, 8, 5);
+    }
+
+    /**
+     * About 250 thousand students and 5.5 million enrollments.
+     */
+    public static UniversityScale large(long seed) {
+        return new UniversityScale(seed, 10, 8, 4, 60, 20, 250_000, 8, 5);
+    }
+
+    /**
+     * Returns a preset by name.
+     *
+     * @param name the name of the preset: {@code small}, {@code medium} or {@code large}
+     * @param seed the seed
+     * @return the scale
+     */
+    public static UniversityScale of(String name, long seed) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "small" -> small(seed);
+            case "medium" -> medium(seed);
+            case "large" -> large(seed);
+            default -> throw new IllegalArgumentException("Unknown scale " + name);
+        };
+    }
+
+    /**
+     * Returns the scale selected by the {@code synthetic.scale} (default {@code small}) and {@code synthetic.seed}
+     * system properties, e.g. {@code mvn test -Pbenchmark -Dsynthetic.scale=large}.
+     *
+     * @return the scale
+     */
+    public static UniversityScale fromSystemProperties() {
+        return of(System.getProperty("synthetic.scale", "small"),
+                Long.getLong("synthetic.seed", DEFAULT_SEED));
+    }
+
+    // ================================================================
+    // Derived sizes
+    // ================================================================
+
+    public int departments() {
+        return faculties * departmentsPerFaculty;
+    }
+
+    public int levels() {
+        return faculties * levelsPerFaculty;
+    }
+
+    public int courses() {
+        return departments() * coursesPerDepartment;
+    }
+
+    public int instructors() {
+        return departments() * instructorsPerDepartment;
+    }
+}